@@ -0,0 +1,2 @@
+-- V009: Support keyset pagination of reservation filters ordered by (check_in, id)
+CREATE INDEX IF NOT EXISTS idx_reservations_check_in_id ON reservations(check_in, id);
@@ -0,0 +1,19 @@
+-- V010: Running payment balance per reservation, maintained with each payment and void
+
+CREATE TABLE IF NOT EXISTS reservation_balances (
+    reservation_id VARCHAR(36) PRIMARY KEY,
+    total_paid DECIMAL(10, 2) NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (reservation_id) REFERENCES reservations(id) ON DELETE CASCADE,
+    CONSTRAINT chk_total_paid_not_negative CHECK (total_paid >= 0)
+);
+
+-- Backfill from the existing payment history
+INSERT INTO reservation_balances (reservation_id, total_paid, version, updated_at)
+SELECT reservation_id, SUM(amount), 0, CURRENT_TIMESTAMP
+FROM payments
+WHERE voided = FALSE
+GROUP BY reservation_id;
+
+COMMENT ON TABLE reservation_balances IS 'Sum of non-voided payments per reservation';
@@ -0,0 +1,17 @@
+-- V011: Transactional outbox for domain events, drained by the outbox relay
+
+CREATE TABLE IF NOT EXISTS domain_event_outbox (
+    id VARCHAR(36) PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    delivered_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+-- The relay only ever scans undelivered rows in insertion order
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON domain_event_outbox(created_at) WHERE delivered_at IS NULL;
+
+COMMENT ON TABLE domain_event_outbox IS 'Domain events written with their aggregate, relayed to listeners after commit';
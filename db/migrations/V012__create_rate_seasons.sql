@@ -0,0 +1,25 @@
+-- V012: Rate calendar seasons, compiled into the in-memory nightly rate engine
+
+CREATE TABLE IF NOT EXISTS rate_seasons (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    multiplier DECIMAL(6, 4) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_rate_season_dates CHECK (end_date > start_date),
+    CONSTRAINT chk_rate_season_multiplier CHECK (multiplier > 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_seasons_dates ON rate_seasons(start_date, end_date);
+
+-- Seed the previously hard-coded peak months (December, January, July, August) at +25%
+INSERT INTO rate_seasons (id, name, start_date, end_date, multiplier, created_at)
+SELECT 'season-summer-' || y, 'Summer peak ' || y, make_date(y, 7, 1), make_date(y, 9, 1), 1.25, CURRENT_TIMESTAMP
+FROM generate_series(2024, 2030) AS y;
+
+INSERT INTO rate_seasons (id, name, start_date, end_date, multiplier, created_at)
+SELECT 'season-winter-' || y, 'Winter peak ' || y || '/' || (y + 1), make_date(y, 12, 1), make_date(y + 1, 2, 1), 1.25, CURRENT_TIMESTAMP
+FROM generate_series(2023, 2030) AS y;
+
+COMMENT ON TABLE rate_seasons IS 'Non-overlapping date ranges whose nights are priced at base price times multiplier; end_date is exclusive';
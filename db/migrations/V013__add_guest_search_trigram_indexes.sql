@@ -0,0 +1,11 @@
+-- V013: Trigram indexes for guest search
+-- The application answers typeahead queries from an in-memory n-gram index; these indexes
+-- serve the LOWER(...) LIKE '%term%' queries used before that index is warm and by the
+-- name search on the guest list endpoint.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_guests_first_name_trgm ON guests USING GIN (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_guests_last_name_trgm ON guests USING GIN (LOWER(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_guests_email_trgm ON guests USING GIN (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_guests_document_number_trgm ON guests USING GIN (LOWER(document_number) gin_trgm_ops);
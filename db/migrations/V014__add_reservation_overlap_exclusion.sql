@@ -0,0 +1,16 @@
+-- V014: Let the database refuse double bookings
+-- Two concurrent bookings for the same room and nights can both pass the application's
+-- overlap check; the exclusion constraint makes the second insert fail instead. Stays are
+-- half-open ranges, so a check-out and the next check-in on the same day do not overlap.
+-- Only active reservations take part, matching Reservation.isActive().
+-- Adding the constraint fails if active reservations already overlap; resolve those first.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE reservations
+    ADD COLUMN stay_range DATERANGE GENERATED ALWAYS AS (daterange(check_in, check_out, '[)')) STORED;
+
+ALTER TABLE reservations
+    ADD CONSTRAINT ex_reservations_room_stay
+    EXCLUDE USING GIST (room_id WITH =, stay_range WITH &&)
+    WHERE (status_type IN ('CONFIRMED', 'CHECKED_IN'));
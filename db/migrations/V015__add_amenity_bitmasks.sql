@@ -0,0 +1,26 @@
+-- V015: Amenity filters on room search
+-- Each catalog amenity gets a bit position (0-62, so masks stay positive BIGINTs) and each room
+-- a mask of the catalog amenities it lists; searches then test the mask instead of joining
+-- room_amenities. The application keeps the masks current as amenities and the catalog change.
+
+ALTER TABLE amenity_definitions ADD COLUMN ordinal SMALLINT;
+
+UPDATE amenity_definitions d
+SET ordinal = numbered.position
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY name) - 1 AS position FROM amenity_definitions) numbered
+WHERE d.id = numbered.id;
+
+ALTER TABLE amenity_definitions
+    ALTER COLUMN ordinal SET NOT NULL,
+    ADD CONSTRAINT uq_amenity_definitions_ordinal UNIQUE (ordinal),
+    ADD CONSTRAINT ck_amenity_definitions_ordinal CHECK (ordinal BETWEEN 0 AND 62);
+
+ALTER TABLE rooms ADD COLUMN amenity_mask BIGINT NOT NULL DEFAULT 0;
+
+UPDATE rooms r
+SET amenity_mask = (
+    SELECT COALESCE(SUM(CAST(POWER(2, d.ordinal) AS BIGINT)), 0)
+    FROM room_amenities ra
+    JOIN amenity_definitions d ON d.name = ra.amenity
+    WHERE ra.room_id = r.id
+);
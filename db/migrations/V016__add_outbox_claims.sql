@@ -0,0 +1,6 @@
+-- V016: Outbox claims outlive the claiming transaction
+-- The relay claims a batch, commits, and only then delivers it, so the row locks are gone while
+-- listeners run. claimed_until keeps other relays off the batch until it is marked, and lets a
+-- batch whose relay died be picked up again once the claim expires.
+
+ALTER TABLE domain_event_outbox ADD COLUMN claimed_until TIMESTAMP;
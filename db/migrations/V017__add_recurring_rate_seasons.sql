@@ -0,0 +1,17 @@
+-- V017: Recurring rate seasons
+-- A recurring season repeats every year on the month/day range of its dates, and is expanded
+-- when the rate calendar is compiled. The peak seasons V012 seeded as dated rows up to 2030/31
+-- become two recurring rows, so peak pricing no longer stops after the last seeded year.
+
+ALTER TABLE rate_seasons ADD COLUMN recurring BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE rate_seasons
+    ADD CONSTRAINT chk_rate_season_recurring_span
+    CHECK (NOT recurring OR end_date <= start_date + INTERVAL '1 year');
+
+DELETE FROM rate_seasons WHERE id LIKE 'season-summer-%' OR id LIKE 'season-winter-%';
+
+INSERT INTO rate_seasons (id, name, start_date, end_date, multiplier, created_at, recurring)
+VALUES
+    ('season-summer', 'Summer peak', DATE '2024-07-01', DATE '2024-09-01', 1.25, CURRENT_TIMESTAMP, TRUE),
+    ('season-winter', 'Winter peak', DATE '2024-12-01', DATE '2025-02-01', 1.25, CURRENT_TIMESTAMP, TRUE);
@@ -0,0 +1,6 @@
+-- V018: Optional per document type limit on document number length
+-- NULL keeps the previous behaviour of accepting numbers of any length.
+
+ALTER TABLE document_types ADD COLUMN max_number_length INTEGER;
+ALTER TABLE document_types ADD CONSTRAINT chk_document_types_max_number_length
+    CHECK (max_number_length IS NULL OR max_number_length > 0);
@@ -0,0 +1,38 @@
+package com.daboerp.gestion;
+
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.valueobject.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Shared domain objects for the microbenchmarks.
+ */
+public final class BenchmarkFixtures {
+    
+    private BenchmarkFixtures() {
+    }
+    
+    public static Guest guest() {
+        return Guest.create("John", "Doe", "john@example.com", "+123456789",
+                          LocalDate.of(1990, 1, 1), Nationality.UNITED_STATES,
+                          "PASSPORT123", DocumentType.PASSPORT);
+    }
+    
+    public static Room room() {
+        RoomType roomType = RoomType.create("Standard", "Standard Room",
+                                           2, new BigDecimal("100.00"));
+        return Room.create(101, roomType,
+                          List.of(Amenity.of("WIFI"), Amenity.of("AIR_CONDITIONING")));
+    }
+    
+    public static Reservation reservation(LocalDate checkIn, LocalDate checkOut, Guest guest, Room room) {
+        return Reservation.create(checkIn, checkOut, new BigDecimal("300.00"),
+                                Source.DIRECT, guest, room);
+    }
+}
@@ -0,0 +1,58 @@
+package com.daboerp.gestion.domain.entity;
+
+import com.daboerp.gestion.domain.validation.DocumentNumberValidator;
+import com.daboerp.gestion.domain.validation.DocumentNumberValidatorCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks document number validation against a document type's regex.
+ * The precompiled baseline shows what is left over the bare matcher once the validator is cached;
+ * the pathological case shows how quickly the match budget cuts off catastrophic backtracking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentTypeValidationBenchmark {
+    
+    private static final String PASSPORT_REGEX = "^[A-Z]{1,2}[0-9]{6,9}$";
+    
+    private DocumentTypeEntity documentType;
+    private DocumentNumberValidatorCache validators;
+    private Pattern precompiled;
+    private DocumentNumberValidator pathological;
+    private String nearMatch;
+    
+    @Param({"AB1234567", "ab-12"})
+    public String documentNumber;
+    
+    @Setup
+    public void setUp() {
+        documentType = DocumentTypeEntity.create("PASSPORT", "Passport", "International passport",
+                                                PASSPORT_REGEX, true);
+        validators = new DocumentNumberValidatorCache();
+        precompiled = Pattern.compile(PASSPORT_REGEX);
+        pathological = DocumentNumberValidator.compile("^(A+)+$");
+        nearMatch = "A".repeat(30) + "!";
+    }
+    
+    @Benchmark
+    public boolean isValidDocumentNumber() {
+        return documentType.isValidDocumentNumber(documentNumber, validators);
+    }
+    
+    @Benchmark
+    public boolean precompiledBaseline() {
+        return precompiled.matcher(documentNumber).matches();
+    }
+    
+    @Benchmark
+    public boolean budgetedPathologicalMatch() {
+        return pathological.isValid(nearMatch);
+    }
+}
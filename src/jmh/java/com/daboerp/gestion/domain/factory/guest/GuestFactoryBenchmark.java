@@ -0,0 +1,59 @@
+package com.daboerp.gestion.domain.factory.guest;
+
+import com.daboerp.gestion.domain.valueobject.DocumentType;
+import com.daboerp.gestion.domain.valueobject.Nationality;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks guest validation for accepted and rejected input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuestFactoryBenchmark {
+    
+    private GuestFactory guestFactory;
+    private GuestFactory.GuestBuilder validGuest;
+    private GuestFactory.GuestBuilder invalidEmailGuest;
+    
+    @Setup
+    public void setUp() {
+        guestFactory = new GuestFactory();
+        validGuest = builder("john.doe@example.com");
+        invalidEmailGuest = builder("john.doe@example");
+    }
+    
+    @Benchmark
+    public GuestFactory.GuestBuilder validateValidGuest() {
+        guestFactory.validate(validGuest);
+        return validGuest;
+    }
+    
+    @Benchmark
+    public boolean validateInvalidEmail() {
+        try {
+            guestFactory.validate(invalidEmailGuest);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    private static GuestFactory.GuestBuilder builder(String email) {
+        return GuestFactory.builder()
+            .firstName("John")
+            .lastName("Doe")
+            .email(email)
+            .phone("+123456789")
+            .dateOfBirth(LocalDate.of(1990, 1, 1))
+            .nationality(Nationality.UNITED_STATES)
+            .documentNumber("PASSPORT123")
+            .documentType(DocumentType.PASSPORT);
+    }
+}
@@ -0,0 +1,60 @@
+package com.daboerp.gestion.domain.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks typeahead queries against an index of 300k synthetic guests,
+ * from a single keystroke to a full surname.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuestSearchIndexBenchmark {
+    
+    private static final int GUESTS = 300_000;
+    private static final String[] FIRST_NAMES = {
+        "Maria", "Jose", "Ana", "Luis", "Carmen", "Juan", "Laura", "Pedro", "Lucia", "Diego",
+        "Sofia", "Pablo", "Elena", "Jorge", "Marta", "Mario", "Paula", "Carlos", "Sara", "Martin"
+    };
+    private static final String[] LAST_NAMES = {
+        "Garcia", "Martinez", "Lopez", "Sanchez", "Perez", "Gomez", "Fernandez", "Rodriguez", "Diaz", "Moreno",
+        "Alvarez", "Romero", "Navarro", "Torres", "Dominguez", "Vazquez", "Ramos", "Gil", "Serrano", "Molina"
+    };
+    
+    @Param({"m", "mar", "martinez", "gar@"})
+    public String query;
+    
+    private GuestSearchIndex index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<GuestSearchEntry> entries = new ArrayList<>(GUESTS);
+        for (int i = 0; i < GUESTS; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (i % 97);
+            entries.add(new GuestSearchEntry(
+                "guest-" + i,
+                firstName,
+                lastName,
+                firstName.toLowerCase() + "." + i + "@email.com",
+                String.format("X%08d", i)
+            ));
+        }
+        index = new GuestSearchIndex();
+        index.rebuild(() -> entries);
+    }
+    
+    @Benchmark
+    public List<GuestSearchHit> firstPage() {
+        return index.search(query, null, 11);
+    }
+}
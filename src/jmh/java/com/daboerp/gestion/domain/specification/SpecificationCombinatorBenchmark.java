@@ -0,0 +1,87 @@
+package com.daboerp.gestion.domain.specification;
+
+import com.daboerp.gestion.BenchmarkFixtures;
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.specification.reservation.ActiveReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.DateRangeReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.LongStayReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.SourceReservationSpecification;
+import com.daboerp.gestion.domain.valueobject.Source;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks And/Or/Not specification trees evaluated over an in-memory page of reservations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationCombinatorBenchmark {
+    
+    private static final int PAGE_SIZE = 100;
+    
+    private List<Reservation> reservations;
+    private Specification<Reservation> andSpecification;
+    private Specification<Reservation> orSpecification;
+    private Specification<Reservation> notSpecification;
+    private Specification<Reservation> nestedSpecification;
+    
+    @Setup
+    public void setUp() {
+        Guest guest = BenchmarkFixtures.guest();
+        Room room = BenchmarkFixtures.room();
+        reservations = new ArrayList<>(PAGE_SIZE);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            LocalDate checkIn = start.plusDays(i * 3L);
+            reservations.add(BenchmarkFixtures.reservation(checkIn, checkIn.plusDays(1 + i % 12), guest, room));
+        }
+        
+        Specification<Reservation> active = new ActiveReservationSpecification();
+        Specification<Reservation> longStay = new LongStayReservationSpecification(7);
+        Specification<Reservation> direct = new SourceReservationSpecification(Source.DIRECT);
+        Specification<Reservation> summer = new DateRangeReservationSpecification(
+            LocalDate.of(2024, 6, 1), LocalDate.of(2024, 8, 31));
+        
+        andSpecification = active.and(longStay);
+        orSpecification = longStay.or(summer);
+        notSpecification = longStay.not();
+        nestedSpecification = active.and(direct).and(longStay.or(summer.not()));
+    }
+    
+    @Benchmark
+    public void and(Blackhole blackhole) {
+        evaluate(andSpecification, blackhole);
+    }
+    
+    @Benchmark
+    public void or(Blackhole blackhole) {
+        evaluate(orSpecification, blackhole);
+    }
+    
+    @Benchmark
+    public void not(Blackhole blackhole) {
+        evaluate(notSpecification, blackhole);
+    }
+    
+    @Benchmark
+    public void nested(Blackhole blackhole) {
+        evaluate(nestedSpecification, blackhole);
+    }
+    
+    private void evaluate(Specification<Reservation> specification, Blackhole blackhole) {
+        for (Reservation reservation : reservations) {
+            blackhole.consume(specification.isSatisfiedBy(reservation));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.daboerp.gestion.domain.strategy.pricing;
+
+import com.daboerp.gestion.BenchmarkFixtures;
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.RateSeason;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks strategy selection and price calculation, one reservation per winning strategy.
+ * Peak stays are priced night by night against a calendar of recurring peak seasons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingContextBenchmark {
+    
+    private static final BigDecimal PEAK_MULTIPLIER = new BigDecimal("1.25");
+    
+    private PricingContext pricingContext;
+    private Reservation standardStay;
+    private Reservation longStay;
+    private Reservation peakSeasonStay;
+    
+    @Setup
+    public void setUp() {
+        Guest guest = BenchmarkFixtures.guest();
+        Room room = BenchmarkFixtures.room();
+        NightlyRateEngine rateEngine = new NightlyRateEngine();
+        rateEngine.replaceCalendar(RateCalendar.compile(peakSeasons(), 2020, 2030));
+        pricingContext = new PricingContext(List.of(
+            new SeasonalRatePricingStrategy(rateEngine),
+            new LongStayPricingStrategy(),
+            new StandardPricingStrategy()
+        ));
+        
+        // 3 nights in March, 14 nights in spring, 5 nights in August
+        standardStay = BenchmarkFixtures.reservation(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 18), guest, room);
+        longStay = BenchmarkFixtures.reservation(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 15), guest, room);
+        peakSeasonStay = BenchmarkFixtures.reservation(LocalDate.of(2024, 8, 10), LocalDate.of(2024, 8, 15), guest, room);
+    }
+    
+    @Benchmark
+    public BigDecimal standardPricing() {
+        return pricingContext.calculatePrice(standardStay);
+    }
+    
+    @Benchmark
+    public BigDecimal longStayPricing() {
+        return pricingContext.calculatePrice(longStay);
+    }
+    
+    @Benchmark
+    public BigDecimal peakSeasonPricing() {
+        return pricingContext.calculatePrice(peakSeasonStay);
+    }
+    
+    private static List<RateSeason> peakSeasons() {
+        return List.of(
+            new RateSeason("summer", "Summer peak", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1),
+                           PEAK_MULTIPLIER, LocalDateTime.now(), true),
+            new RateSeason("winter", "Winter peak", LocalDate.of(2024, 12, 1), LocalDate.of(2025, 2, 1),
+                           PEAK_MULTIPLIER, LocalDateTime.now(), true)
+        );
+    }
+}
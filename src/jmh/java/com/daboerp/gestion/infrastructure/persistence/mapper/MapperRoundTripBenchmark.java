@@ -0,0 +1,86 @@
+package com.daboerp.gestion.infrastructure.persistence.mapper;
+
+import com.daboerp.gestion.BenchmarkFixtures;
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks domain to JPA entity round-trips for rooms and reservations.
+ * Repository lookups are answered from memory so only the mapping itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperRoundTripBenchmark {
+    
+    private static final int PAGE_SIZE = 50;
+    
+    private RoomMapper roomMapper;
+    private ReservationMapper reservationMapper;
+    private Room room;
+    private Reservation reservation;
+    private List<ReservationJpaEntity> reservationPage;
+    
+    @Setup
+    public void setUp() {
+        Guest guest = BenchmarkFixtures.guest();
+        room = BenchmarkFixtures.room();
+        reservation = BenchmarkFixtures.reservation(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 18), guest, room);
+        
+        roomMapper = new RoomMapper();
+        reservationMapper = new ReservationMapper(
+            inMemory(GuestRepository.class, List.of(guest)),
+            inMemory(RoomRepository.class, List.of(room))
+        );
+        
+        reservationPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            LocalDate checkIn = LocalDate.of(2024, 3, 1).plusDays(i);
+            reservationPage.add(reservationMapper.toJpaEntity(
+                BenchmarkFixtures.reservation(checkIn, checkIn.plusDays(2), guest, room)));
+        }
+    }
+    
+    @Benchmark
+    public Room roomRoundTrip() {
+        return roomMapper.toDomainEntity(roomMapper.toJpaEntity(room));
+    }
+    
+    @Benchmark
+    public Reservation reservationRoundTrip() {
+        return reservationMapper.toDomainEntity(reservationMapper.toJpaEntity(reservation));
+    }
+    
+    @Benchmark
+    public List<Reservation> reservationPageToDomain() {
+        return reservationMapper.toDomainEntities(reservationPage);
+    }
+    
+    /**
+     * Repository stub whose findAllByIds always returns the given entities.
+     */
+    private static <R> R inMemory(Class<R> repositoryType, List<?> entities) {
+        Object stub = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] {repositoryType},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findAllByIds")) {
+                    return entities;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        return repositoryType.cast(stub);
+    }
+}
@@ -147,6 +147,7 @@ public class DocumentTypeController {
             request.name(),
             request.description(),
             request.validationRegex(),
+            request.maxNumberLength(),
             request.active()
         );
         
@@ -163,6 +164,7 @@ public class DocumentTypeController {
             entity.getName(),
             entity.getDescription(),
             entity.getValidationRegex(),
+            entity.getMaxNumberLength(),
             entity.isActive(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
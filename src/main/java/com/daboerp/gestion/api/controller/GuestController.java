@@ -1,14 +1,24 @@
 package com.daboerp.gestion.api.controller;
 
 import com.daboerp.gestion.api.dto.CreateGuestRequest;
+import com.daboerp.gestion.api.dto.CursorPageResponse;
 import com.daboerp.gestion.api.dto.GuestResponse;
+import com.daboerp.gestion.api.dto.GuestSummaryResponse;
+import com.daboerp.gestion.api.dto.ImportJobResponse;
 import com.daboerp.gestion.api.dto.UpdateGuestRequest;
+import com.daboerp.gestion.application.export.Export;
+import com.daboerp.gestion.application.export.ExportFormat;
+import com.daboerp.gestion.application.imports.ImportJob;
 import com.daboerp.gestion.application.command.guest.CreateGuestCommand;
 import com.daboerp.gestion.application.usecase.guest.CreateGuestUseCase;
+import com.daboerp.gestion.application.usecase.guest.ExportGuestsUseCase;
 import com.daboerp.gestion.application.usecase.guest.GetGuestUseCase;
+import com.daboerp.gestion.application.usecase.guest.ImportGuestsUseCase;
 import com.daboerp.gestion.application.usecase.guest.ListGuestsUseCase;
+import com.daboerp.gestion.application.usecase.guest.SearchGuestsUseCase;
 import com.daboerp.gestion.application.usecase.guest.UpdateGuestUseCase;
 import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,10 +27,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,15 +52,24 @@ public class GuestController {
     private final GetGuestUseCase getGuestUseCase;
     private final ListGuestsUseCase listGuestsUseCase;
     private final UpdateGuestUseCase updateGuestUseCase;
+    private final SearchGuestsUseCase searchGuestsUseCase;
+    private final ExportGuestsUseCase exportGuestsUseCase;
+    private final ImportGuestsUseCase importGuestsUseCase;
     
     public GuestController(CreateGuestUseCase createGuestUseCase,
                           GetGuestUseCase getGuestUseCase,
                           ListGuestsUseCase listGuestsUseCase,
-                          UpdateGuestUseCase updateGuestUseCase) {
+                          UpdateGuestUseCase updateGuestUseCase,
+                          SearchGuestsUseCase searchGuestsUseCase,
+                          ExportGuestsUseCase exportGuestsUseCase,
+                          ImportGuestsUseCase importGuestsUseCase) {
         this.createGuestUseCase = createGuestUseCase;
         this.getGuestUseCase = getGuestUseCase;
         this.listGuestsUseCase = listGuestsUseCase;
         this.updateGuestUseCase = updateGuestUseCase;
+        this.searchGuestsUseCase = searchGuestsUseCase;
+        this.exportGuestsUseCase = exportGuestsUseCase;
+        this.importGuestsUseCase = importGuestsUseCase;
     }
     
     @PostMapping
@@ -73,6 +98,71 @@ public class GuestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(guest));
     }
     
+    @GetMapping("/search")
+    @Operation(summary = "Search guests as you type",
+        description = "Ranked matches on name, email or document number, returned a cursor page at a time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matches retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid query, limit or cursor")
+    })
+    public ResponseEntity<CursorPageResponse<GuestSummaryResponse>> searchGuests(
+            @Parameter(description = "Text to match against name, email or document number")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of matches (1-50)")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Continuation token from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor) {
+        
+        var result = searchGuestsUseCase.execute(q, cursor, limit);
+        
+        List<GuestSummaryResponse> content = result.items().stream()
+            .map(this::toSummaryResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(new CursorPageResponse<>(
+            content,
+            result.pageSize(),
+            result.nextCursor(),
+            result.hasNext(),
+            null
+        ));
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export guests", description = "Stream every guest as CSV or NDJSON, written as rows are read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportGuests(
+            @Parameter(description = "Output format: csv or ndjson")
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        Export export = exportGuestsUseCase.execute(exportFormat);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"guests." + exportFormat.getFileExtension() + "\"")
+            .body(export::writeTo);
+    }
+    
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import guests", description = "Queue a CSV of guests for import, using the export's column names. " +
+        "Rows repeating a known email or document number are rejected. Follow progress at /api/v1/imports/{id}")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import queued",
+            content = @Content(schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty file or missing required columns"),
+        @ApiResponse(responseCode = "409", description = "Too many imports in progress")
+    })
+    public ResponseEntity<ImportJobResponse> importGuests(InputStream csv) throws IOException {
+        ImportJob job = importGuestsUseCase.execute(csv);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/imports/" + job.getId()))
+            .body(ImportJobResponse.of(job));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get guest by ID", description = "Retrieve detailed information about a specific guest")
     @ApiResponses(value = {
@@ -132,6 +222,16 @@ public class GuestController {
         return ResponseEntity.ok(response);
     }
     
+    private GuestSummaryResponse toSummaryResponse(GuestSearchEntry entry) {
+        return new GuestSummaryResponse(
+            entry.guestId(),
+            entry.firstName(),
+            entry.lastName(),
+            entry.email(),
+            entry.documentNumber()
+        );
+    }
+    
     private GuestResponse toResponse(Guest guest) {
         String notes = guest.getNotes() != null ? guest.getNotes().getText() : null;
         return new GuestResponse(
@@ -0,0 +1,63 @@
+package com.daboerp.gestion.api.controller;
+
+import com.daboerp.gestion.api.dto.ImportJobResponse;
+import com.daboerp.gestion.application.imports.ImportJob;
+import com.daboerp.gestion.application.usecase.imports.GetImportJobUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for following bulk CSV imports started from the guest and reservation APIs.
+ */
+@RestController
+@RequestMapping("/api/v1/imports")
+@Tag(name = "Imports", description = "APIs for following bulk CSV imports")
+public class ImportController {
+    
+    private final GetImportJobUseCase getImportJobUseCase;
+    
+    public ImportController(GetImportJobUseCase getImportJobUseCase) {
+        this.getImportJobUseCase = getImportJobUseCase;
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get import progress", description = "Rows read, imported and rejected so far, and the current rate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import found",
+            content = @Content(schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Import not found")
+    })
+    public ResponseEntity<ImportJobResponse> getImport(
+            @Parameter(description = "Import job ID") @PathVariable String id) {
+        return ResponseEntity.ok(ImportJobResponse.of(getImportJobUseCase.execute(id)));
+    }
+    
+    @GetMapping("/{id}/rejects")
+    @Operation(summary = "Download rejected rows",
+        description = "CSV of the rows rejected so far: line number, reason and the original values")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rejected rows returned"),
+        @ApiResponse(responseCode = "404", description = "Import not found")
+    })
+    public ResponseEntity<Resource> getRejects(
+            @Parameter(description = "Import job ID") @PathVariable String id) {
+        ImportJob job = getImportJobUseCase.execute(id);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("text/csv"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + job.getType() + "-rejects-" + job.getId() + ".csv\"")
+            .body(new FileSystemResource(job.getRejectFile()));
+    }
+}
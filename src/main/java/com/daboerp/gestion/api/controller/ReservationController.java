@@ -1,18 +1,29 @@
 package com.daboerp.gestion.api.controller;
 
+import com.daboerp.gestion.api.dto.CreateGroupReservationRequest;
 import com.daboerp.gestion.api.dto.CreateReservationRequest;
+import com.daboerp.gestion.api.dto.GroupReservationConflictResponse;
+import com.daboerp.gestion.api.dto.CursorPageResponse;
+import com.daboerp.gestion.api.dto.ImportJobResponse;
 import com.daboerp.gestion.api.dto.PaginatedResponse;
 import com.daboerp.gestion.api.dto.PaymentResponse;
 import com.daboerp.gestion.api.dto.RegisterPaymentRequest;
+import com.daboerp.gestion.api.dto.ReservationBalanceResponse;
 import com.daboerp.gestion.api.dto.ReservationResponse;
 import com.daboerp.gestion.api.dto.UpdateReservationRequest;
+import com.daboerp.gestion.application.export.Export;
+import com.daboerp.gestion.application.export.ExportFormat;
+import com.daboerp.gestion.application.imports.ImportJob;
+import com.daboerp.gestion.application.usecase.payment.GetReservationBalancesUseCase;
 import com.daboerp.gestion.application.usecase.payment.ListPaymentsUseCase;
 import com.daboerp.gestion.application.usecase.payment.RegisterPaymentUseCase;
 import com.daboerp.gestion.application.usecase.payment.VoidPaymentUseCase;
 import com.daboerp.gestion.application.usecase.reservation.*;
 import com.daboerp.gestion.domain.entity.Payment;
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.ReservationSnapshot;
 import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.listing.ReservationListRow;
 import com.daboerp.gestion.domain.valueobject.Source;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,10 +34,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,6 +54,7 @@ import java.util.stream.Collectors;
 public class ReservationController {
 
     private final CreateReservationUseCase createReservationUseCase;
+    private final CreateGroupReservationUseCase createGroupReservationUseCase;
     private final ListReservationsUseCase listReservationsUseCase;
     private final CheckInReservationUseCase checkInReservationUseCase;
     private final CheckOutReservationUseCase checkOutReservationUseCase;
@@ -47,8 +65,12 @@ public class ReservationController {
     private final RegisterPaymentUseCase registerPaymentUseCase;
     private final ListPaymentsUseCase listPaymentsUseCase;
     private final VoidPaymentUseCase voidPaymentUseCase;
+    private final GetReservationBalancesUseCase getReservationBalancesUseCase;
+    private final ExportReservationsUseCase exportReservationsUseCase;
+    private final ImportReservationsUseCase importReservationsUseCase;
 
     public ReservationController(CreateReservationUseCase createReservationUseCase,
+                                CreateGroupReservationUseCase createGroupReservationUseCase,
                                 ListReservationsUseCase listReservationsUseCase,
                                 CheckInReservationUseCase checkInReservationUseCase,
                                 CheckOutReservationUseCase checkOutReservationUseCase,
@@ -58,8 +80,12 @@ public class ReservationController {
                                 CancelReservationUseCase cancelReservationUseCase,
                                 RegisterPaymentUseCase registerPaymentUseCase,
                                 ListPaymentsUseCase listPaymentsUseCase,
-                                VoidPaymentUseCase voidPaymentUseCase) {
+                                VoidPaymentUseCase voidPaymentUseCase,
+                                GetReservationBalancesUseCase getReservationBalancesUseCase,
+                                ExportReservationsUseCase exportReservationsUseCase,
+                                ImportReservationsUseCase importReservationsUseCase) {
         this.createReservationUseCase = createReservationUseCase;
+        this.createGroupReservationUseCase = createGroupReservationUseCase;
         this.listReservationsUseCase = listReservationsUseCase;
         this.checkInReservationUseCase = checkInReservationUseCase;
         this.checkOutReservationUseCase = checkOutReservationUseCase;
@@ -70,6 +96,9 @@ public class ReservationController {
         this.registerPaymentUseCase = registerPaymentUseCase;
         this.listPaymentsUseCase = listPaymentsUseCase;
         this.voidPaymentUseCase = voidPaymentUseCase;
+        this.getReservationBalancesUseCase = getReservationBalancesUseCase;
+        this.exportReservationsUseCase = exportReservationsUseCase;
+        this.importReservationsUseCase = importReservationsUseCase;
     }
 
     @PostMapping
@@ -97,6 +126,34 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(reservation));
     }
 
+    @PostMapping("/group")
+    @Operation(summary = "Create a group reservation",
+        description = "Book several rooms for the same dates in one go. Either every room is booked or none is; " +
+            "when any room cannot be booked, the response lists each one and why")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All reservations created"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Guest or room not found"),
+        @ApiResponse(responseCode = "409", description = "Some rooms cannot be booked; nothing was created",
+            content = @Content(schema = @Schema(implementation = GroupReservationConflictResponse.class)))
+    })
+    public ResponseEntity<List<ReservationResponse>> createGroupReservation(
+            @Valid @RequestBody CreateGroupReservationRequest request) {
+        var command = new CreateGroupReservationUseCase.CreateGroupReservationCommand(
+            request.checkIn(),
+            request.checkOut(),
+            request.source(),
+            request.guestPrincipalId(),
+            request.rooms().stream()
+                .map(room -> new CreateGroupReservationUseCase.GroupRoom(room.roomId(), room.additionalGuestIds()))
+                .toList()
+        );
+
+        List<Reservation> reservations = createGroupReservationUseCase.execute(command);
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+            reservations.stream().map(this::toResponse).toList());
+    }
+
     @GetMapping
     @Operation(summary = "List reservations", description = "Get all reservations with optional filters")
     @ApiResponses(value = {
@@ -106,7 +163,7 @@ public class ReservationController {
             @Parameter(description = "Start date for filtering (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "End date for filtering (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @Parameter(description = "Filter: 'active' for active reservations only") @RequestParam(required = false) String filter) {
-        List<Reservation> reservations;
+        List<ReservationListRow> reservations;
 
         if ("active".equalsIgnoreCase(filter)) {
             reservations = listReservationsUseCase.executeActive();
@@ -177,7 +234,8 @@ public class ReservationController {
     }
 
     @GetMapping("/filter")
-    @Operation(summary = "Filter reservations", description = "Get reservations filtered by status, source, and stay dates with optional pagination")
+    @Operation(summary = "Filter reservations", description = "Get reservations filtered by status, source, and stay dates with optional pagination. " +
+        "Pass 'cursor' (empty for the first page) to page by (check-in, id) with continuation tokens instead of page numbers")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Filtered reservations retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid filter parameters")
@@ -198,7 +256,11 @@ public class ReservationController {
             @Parameter(description = "Page number (0-based, optional for pagination)")
             @RequestParam(required = false) Integer page,
             @Parameter(description = "Page size (1-100, optional for pagination)")
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Continuation token from the previous page's nextCursor; empty to start cursor pagination")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include the total count in cursor pages (may be cached for a few seconds)")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
         var criteria = FilterReservationsUseCase.FilterCriteria.builder()
             .status(status)
@@ -209,7 +271,23 @@ public class ReservationController {
             .stayEnd(stayEnd)
             .build();
 
-        if (page != null || size != null) {
+        if (cursor != null) {
+            int pageSize = size != null ? size : 10;
+
+            var result = filterReservationsUseCase.executeWithCursor(criteria, cursor, pageSize, includeTotal);
+
+            List<ReservationResponse> content = result.items().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+            return ResponseEntity.ok(new CursorPageResponse<>(
+                content,
+                result.pageSize(),
+                result.nextCursor(),
+                result.hasNext(),
+                result.totalCount()
+            ));
+        } else if (page != null || size != null) {
             int pageNumber = page != null ? page : 0;
             int pageSize = size != null ? size : 10;
 
@@ -229,7 +307,7 @@ public class ReservationController {
 
             return ResponseEntity.ok(response);
         } else {
-            List<Reservation> reservations = filterReservationsUseCase.execute(criteria);
+            List<ReservationListRow> reservations = filterReservationsUseCase.execute(criteria);
 
             List<ReservationResponse> response = reservations.stream()
                 .map(this::toResponse)
@@ -239,6 +317,64 @@ public class ReservationController {
         }
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export reservations", description = "Stream every reservation matching the filters as CSV or NDJSON, " +
+        "ordered by check-in. Rows are written as they are read, so the export can cover the full history")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid format or filter parameters")
+    })
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @Parameter(description = "Output format: csv or ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Filter by reservation status")
+            @RequestParam(required = false) StatusType status,
+            @Parameter(description = "Filter by booking source")
+            @RequestParam(required = false) Source source,
+            @Parameter(description = "Check-in start date (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInStart,
+            @Parameter(description = "Check-in end date (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInEnd,
+            @Parameter(description = "Stay start date (YYYY-MM-DD) - filters overlapping reservations")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stayStart,
+            @Parameter(description = "Stay end date (YYYY-MM-DD) - filters overlapping reservations")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stayEnd) {
+
+        var criteria = FilterReservationsUseCase.FilterCriteria.builder()
+            .status(status)
+            .source(source)
+            .checkInStart(checkInStart)
+            .checkInEnd(checkInEnd)
+            .stayStart(stayStart)
+            .stayEnd(stayEnd)
+            .build();
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        Export export = exportReservationsUseCase.execute(criteria, exportFormat);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reservations." + exportFormat.getFileExtension() + "\"")
+            .body(export::writeTo);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import past reservations", description = "Queue a CSV of finished stays for import. " +
+        "Columns: reservationCode, roomNumber, guestDocumentNumber, checkIn, checkOut, status (CHECKED_OUT, " +
+        "CANCELLED or NO_SHOW), source, quotedAmount, createdAt. Follow progress at /api/v1/imports/{id}")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import queued",
+            content = @Content(schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty file or missing required columns"),
+        @ApiResponse(responseCode = "409", description = "Too many imports in progress")
+    })
+    public ResponseEntity<ImportJobResponse> importReservations(InputStream csv) throws IOException {
+        ImportJob job = importReservationsUseCase.execute(csv);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/imports/" + job.getId()))
+            .body(ImportJobResponse.of(job));
+    }
+
     @PostMapping("/{id}/check-in")
     @Operation(summary = "Check-in a reservation", description = "Mark a reservation as checked in")
     @ApiResponses(value = {
@@ -250,7 +386,7 @@ public class ReservationController {
     public ResponseEntity<ReservationResponse> checkIn(
             @Parameter(description = "Reservation ID") @PathVariable String id) {
         var command = new CheckInReservationUseCase.CheckInCommand(id, LocalDate.now());
-        Reservation reservation = checkInReservationUseCase.execute(command);
+        ReservationSnapshot reservation = checkInReservationUseCase.execute(command);
         return ResponseEntity.ok(toResponse(reservation));
     }
 
@@ -265,10 +401,30 @@ public class ReservationController {
     public ResponseEntity<ReservationResponse> checkOut(
             @Parameter(description = "Reservation ID") @PathVariable String id) {
         var command = new CheckOutReservationUseCase.CheckOutCommand(id, LocalDate.now());
-        Reservation reservation = checkOutReservationUseCase.execute(command);
+        ReservationSnapshot reservation = checkOutReservationUseCase.execute(command);
         return ResponseEntity.ok(toResponse(reservation));
     }
 
+    @GetMapping("/balances")
+    @Operation(summary = "Get payment balances for several reservations",
+               description = "Quoted amount, total paid and remaining balance; unknown IDs are omitted")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Balances returned"),
+        @ApiResponse(responseCode = "400", description = "Too many reservation IDs")
+    })
+    public ResponseEntity<List<ReservationBalanceResponse>> getBalances(
+            @Parameter(description = "Reservation IDs, comma separated") @RequestParam List<String> ids) {
+        List<ReservationBalanceResponse> response = getReservationBalancesUseCase.execute(ids).stream()
+            .map(balance -> new ReservationBalanceResponse(
+                balance.reservationId(),
+                balance.quotedAmount(),
+                balance.totalPaid(),
+                balance.remainingBalance()
+            ))
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}/payments")
     @Operation(summary = "Get payments for a reservation")
     public ResponseEntity<List<PaymentResponse>> listPayments(
@@ -344,4 +500,43 @@ public class ReservationController {
             guestIds
         );
     }
+
+    private ReservationResponse toResponse(ReservationListRow reservation) {
+        return new ReservationResponse(
+            reservation.id(),
+            reservation.reservationCode(),
+            reservation.checkIn(),
+            reservation.checkOut(),
+            reservation.status().name(),
+            reservation.quotedAmount(),
+            reservation.source().name(),
+            reservation.principalGuestId(),
+            reservation.principalGuestName(),
+            reservation.roomId(),
+            reservation.roomNumber(),
+            reservation.createdAt(),
+            reservation.additionalGuestIds()
+        );
+    }
+
+    private ReservationResponse toResponse(ReservationSnapshot reservation) {
+        List<String> guestIds = reservation.guestIds().stream()
+            .filter(guestId -> !guestId.equals(reservation.guestPrincipalId()))
+            .collect(Collectors.toList());
+        return new ReservationResponse(
+            reservation.id(),
+            reservation.reservationCode(),
+            reservation.checkIn(),
+            reservation.checkOut(),
+            reservation.statusType().name(),
+            reservation.quotedAmount(),
+            reservation.source().name(),
+            reservation.guestPrincipalId(),
+            reservation.guestPrincipalName(),
+            reservation.roomId(),
+            reservation.roomNumber(),
+            reservation.createdAt(),
+            guestIds
+        );
+    }
 }
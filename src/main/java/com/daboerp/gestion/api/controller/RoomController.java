@@ -5,6 +5,7 @@ import com.daboerp.gestion.application.usecase.room.*;
 import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.entity.RoomBlock;
 import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.listing.RoomListRow;
 import com.daboerp.gestion.domain.repository.RoomRepository;
 import com.daboerp.gestion.domain.valueobject.Amenity;
 import com.daboerp.gestion.domain.valueobject.RoomId;
@@ -25,7 +26,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -43,12 +46,15 @@ public class RoomController {
     private final DeleteRoomUseCase deleteRoomUseCase;
     private final UpdateRoomTypeUseCase updateRoomTypeUseCase;
     private final DeleteRoomTypeUseCase deleteRoomTypeUseCase;
+    private final AddAmenityToRoomTypeUseCase addAmenityToRoomTypeUseCase;
     private final ReactivateRoomUseCase reactivateRoomUseCase;
     private final RestoreRoomUseCase restoreRoomUseCase;
     private final BlockRoomUseCase blockRoomUseCase;
     private final GetRoomBlocksUseCase getRoomBlocksUseCase;
     private final UnblockRoomUseCase unblockRoomUseCase;
     private final GetAllBlocksUseCase getAllBlocksUseCase;
+    private final GetOccupancyMatrixUseCase getOccupancyMatrixUseCase;
+    private final QuoteStaysUseCase quoteStaysUseCase;
     private final RoomRepository roomRepository;
     public RoomController(CreateRoomTypeUseCase createRoomTypeUseCase,
                          CreateRoomUseCase createRoomUseCase,
@@ -60,12 +66,15 @@ public class RoomController {
                          DeleteRoomUseCase deleteRoomUseCase,
                          UpdateRoomTypeUseCase updateRoomTypeUseCase,
                          DeleteRoomTypeUseCase deleteRoomTypeUseCase,
+                         AddAmenityToRoomTypeUseCase addAmenityToRoomTypeUseCase,
                          ReactivateRoomUseCase reactivateRoomUseCase,
                          RestoreRoomUseCase restoreRoomUseCase,
                           BlockRoomUseCase blockRoomUseCase,
                           GetRoomBlocksUseCase getRoomBlocksUseCase,
                           UnblockRoomUseCase unblockRoomUseCase,
                           GetAllBlocksUseCase getAllBlocksUseCase,
+                          GetOccupancyMatrixUseCase getOccupancyMatrixUseCase,
+                          QuoteStaysUseCase quoteStaysUseCase,
                          RoomRepository roomRepository
                          ) {
         this.createRoomTypeUseCase = createRoomTypeUseCase;
@@ -78,12 +87,15 @@ public class RoomController {
         this.deleteRoomUseCase = deleteRoomUseCase;
         this.updateRoomTypeUseCase = updateRoomTypeUseCase;
         this.deleteRoomTypeUseCase = deleteRoomTypeUseCase;
+        this.addAmenityToRoomTypeUseCase = addAmenityToRoomTypeUseCase;
         this.reactivateRoomUseCase = reactivateRoomUseCase;
         this.restoreRoomUseCase = restoreRoomUseCase;
         this.blockRoomUseCase = blockRoomUseCase;
         this.getRoomBlocksUseCase = getRoomBlocksUseCase;
         this.unblockRoomUseCase = unblockRoomUseCase;
         this.getAllBlocksUseCase = getAllBlocksUseCase;
+        this.getOccupancyMatrixUseCase = getOccupancyMatrixUseCase;
+        this.quoteStaysUseCase = quoteStaysUseCase;
         this.roomRepository = roomRepository;
     }
 
@@ -137,8 +149,8 @@ public class RoomController {
             request.maxOccupancy(),
             request.basePrice()
         );
-        RoomType roomType = updateRoomTypeUseCase.execute(command);
-        return ResponseEntity.ok(toRoomTypeResponse(roomType));
+        var result = updateRoomTypeUseCase.execute(command);
+        return ResponseEntity.ok(toRoomTypeResponse(result.roomType()));
     }
 
     @DeleteMapping("/room-types/{id}")
@@ -154,6 +166,23 @@ public class RoomController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/room-types/{id}/amenities")
+    @Operation(summary = "Add an amenity to a room type",
+        description = "Add an amenity to every active room of the type that does not have it yet")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Amenity added to the rooms of the type",
+            content = @Content(schema = @Schema(implementation = RoomTypeAmenityResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Room type not found")
+    })
+    public ResponseEntity<RoomTypeAmenityResponse> addAmenityToRoomType(
+            @Parameter(description = "Room Type ID") @PathVariable String id,
+            @Valid @RequestBody AddRoomTypeAmenityRequest request) {
+        var command = new AddAmenityToRoomTypeUseCase.AddAmenityToRoomTypeCommand(id, request.amenity());
+        var result = addAmenityToRoomTypeUseCase.execute(command);
+        return ResponseEntity.ok(new RoomTypeAmenityResponse(id, request.amenity(), result.affectedRoomsCount()));
+    }
+
     @PostMapping("/rooms")
     @Operation(summary = "Create a new room", description = "Add a new room to the inventory")
     @ApiResponses(value = {
@@ -281,15 +310,19 @@ public class RoomController {
     }
 
     @GetMapping("/rooms/available")
-    @Operation(summary = "Find available rooms", description = "Search for rooms available in a specific date range with optional capacity filter")
+    @Operation(summary = "Find available rooms", description = "Search for rooms available in a specific date range with optional capacity and amenity filters")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Available rooms found")
+        @ApiResponse(responseCode = "200", description = "Available rooms found"),
+        @ApiResponse(responseCode = "400", description = "Amenity not in the catalog")
     })
     public ResponseEntity<List<RoomResponse>> findAvailableRooms(
             @Parameter(description = "Check-in date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
             @Parameter(description = "Check-out date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
-            @Parameter(description = "Minimum capacity required") @RequestParam(required = false) Integer minCapacity) {
-        var query = new FindAvailableRoomsUseCase.FindAvailableRoomsQuery(checkIn, checkOut, minCapacity);
+            @Parameter(description = "Minimum capacity required") @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "Amenities the room must all have") @RequestParam(required = false) Set<String> allAmenities,
+            @Parameter(description = "Amenities the room must have at least one of") @RequestParam(required = false) Set<String> anyAmenities) {
+        var query = new FindAvailableRoomsUseCase.FindAvailableRoomsQuery(
+            checkIn, checkOut, minCapacity, allAmenities, anyAmenities);
         List<Room> rooms = findAvailableRoomsUseCase.execute(query);
         List<RoomResponse> response = rooms.stream()
             .map(this::toRoomResponse)
@@ -303,9 +336,7 @@ public class RoomController {
             @Parameter(description = "Room ID") @PathVariable String id,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
-        var query = new FindAvailableRoomsUseCase.FindAvailableRoomsQuery(checkIn, checkOut, null);
-        boolean available = findAvailableRoomsUseCase.execute(query).stream()
-            .anyMatch(room -> room.getId().getValue().equals(id));
+        boolean available = findAvailableRoomsUseCase.isRoomAvailable(id, checkIn, checkOut);
         return ResponseEntity.ok(available);
     }
 
@@ -373,6 +404,41 @@ public class RoomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/rooms/occupancy")
+    @Operation(summary = "Get occupancy matrix", description = "Occupancy of every active room for each night in [from, to), combining reservations and blocks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occupancy matrix computed",
+            content = @Content(schema = @Schema(implementation = OccupancyMatrixResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public ResponseEntity<OccupancyMatrixResponse> getOccupancyMatrix(
+            @Parameter(description = "First night (YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Day after the last night (YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        var query = new GetOccupancyMatrixUseCase.OccupancyMatrixQuery(from, to);
+        var calendar = getOccupancyMatrixUseCase.execute(query);
+        return ResponseEntity.ok(toOccupancyMatrixResponse(calendar));
+    }
+
+    @PostMapping("/rooms/quotes")
+    @Operation(summary = "Quote available rooms", description = "Price every available room for each requested date range in one call, cheapest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quotes computed"),
+        @ApiResponse(responseCode = "400", description = "Invalid date ranges or too many combinations")
+    })
+    public ResponseEntity<List<StayQuoteResponse>> quoteStays(@Valid @RequestBody QuoteStaysRequest request) {
+        var query = new QuoteStaysUseCase.QuoteStaysQuery(
+            request.ranges().stream()
+                .map(range -> new QuoteStaysUseCase.StayRange(range.checkIn(), range.checkOut()))
+                .collect(Collectors.toList()),
+            request.roomTypeId(),
+            request.minCapacity()
+        );
+        List<StayQuoteResponse> response = quoteStaysUseCase.execute(query).stream()
+            .map(this::toStayQuoteResponse)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
     private RoomStatus parseRoomStatus(String status) {
         try {
             return RoomStatus.valueOf(status.trim().toUpperCase());
@@ -381,6 +447,25 @@ public class RoomController {
         }
     }
 
+    private OccupancyMatrixResponse toOccupancyMatrixResponse(GetOccupancyMatrixUseCase.OccupancyCalendar calendar) {
+        var matrix = calendar.matrix();
+        Map<String, Integer> roomNumbers = calendar.rooms().stream()
+            .collect(Collectors.toMap(room -> room.getId().getValue(), Room::getRoomNumber));
+        List<RoomOccupancyResponse> rows = matrix.rows().stream()
+            .map(row -> new RoomOccupancyResponse(
+                row.roomId(),
+                roomNumbers.get(row.roomId()),
+                row.nights().stream().map(Enum::name).collect(Collectors.toList())
+            ))
+            .collect(Collectors.toList());
+        return new OccupancyMatrixResponse(
+            matrix.from(),
+            matrix.to(),
+            matrix.from().datesUntil(matrix.to()).collect(Collectors.toList()),
+            rows
+        );
+    }
+
     private RoomResponse toRoomResponse(Room room) {
         return new RoomResponse(
             room.getId().getValue(),
@@ -394,6 +479,25 @@ public class RoomController {
         );
     }
 
+    private RoomResponse toRoomResponse(RoomListRow room) {
+        return new RoomResponse(
+            room.id(),
+            room.roomNumber(),
+            new RoomTypeResponse(
+                room.roomTypeId(),
+                room.roomTypeName(),
+                room.roomTypeDescription(),
+                room.roomTypeMaxOccupancy(),
+                room.roomTypeBasePrice()
+            ),
+            room.roomStatus(),
+            room.amenities(),
+            (int) room.bedCount(),
+            room.imageUrls(),
+            room.createdAt()
+        );
+    }
+
     private RoomTypeResponse toRoomTypeResponse(RoomType roomType) {
         return new RoomTypeResponse(
             roomType.getId().getValue(),
@@ -419,4 +523,18 @@ public class RoomController {
         );
     }
 
+    private StayQuoteResponse toStayQuoteResponse(QuoteStaysUseCase.StayQuote quote) {
+        Room room = quote.room();
+        return new StayQuoteResponse(
+            room.getId().getValue(),
+            room.getRoomNumber(),
+            room.getRoomType().getId().getValue(),
+            room.getRoomType().getName(),
+            room.getRoomType().getMaxOccupancy(),
+            quote.checkIn(),
+            quote.checkOut(),
+            quote.nights(),
+            quote.totalPrice()
+        );
+    }
 }
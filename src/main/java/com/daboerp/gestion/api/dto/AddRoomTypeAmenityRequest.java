@@ -0,0 +1,7 @@
+package com.daboerp.gestion.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record AddRoomTypeAmenityRequest(
+    @NotBlank(message = "Amenity is required") String amenity
+) {}
@@ -3,6 +3,7 @@ package com.daboerp.gestion.api.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -23,6 +24,9 @@ public record CreateDocumentTypeRequest(
     @Pattern(regexp = "^.{0,255}$", message = "Validation regex cannot exceed 255 characters")
     String validationRegex,
     
+    @Positive(message = "Maximum document number length must be positive")
+    Integer maxNumberLength,
+    
     @NotNull(message = "Active status is required")
     Boolean active
 ) {}
\ No newline at end of file
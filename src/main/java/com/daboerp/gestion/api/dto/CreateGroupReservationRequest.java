@@ -0,0 +1,30 @@
+package com.daboerp.gestion.api.dto;
+
+import com.daboerp.gestion.domain.valueobject.Source;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for booking several rooms for one group over the same dates.
+ */
+public record CreateGroupReservationRequest(
+    @NotNull(message = "Check-in date is required")
+    LocalDate checkIn,
+
+    @NotNull(message = "Check-out date is required")
+    LocalDate checkOut,
+
+    @NotNull(message = "Source is required")
+    Source source,
+
+    @NotBlank(message = "Guest principal ID is required")
+    String guestPrincipalId,
+
+    @NotEmpty(message = "At least one room is required")
+    List<@Valid GroupRoomRequest> rooms
+) {}
@@ -0,0 +1,15 @@
+package com.daboerp.gestion.api.dto;
+
+import java.util.List;
+
+/**
+ * Generic DTO for cursor (keyset) paginated responses.
+ * totalElements is null unless explicitly requested.
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    int pageSize,
+    String nextCursor,
+    boolean hasNext,
+    Long totalElements
+) {}
@@ -11,6 +11,7 @@ public record DocumentTypeResponse(
     String name,
     String description,
     String validationRegex,
+    Integer maxNumberLength,
     boolean active,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
@@ -0,0 +1,12 @@
+package com.daboerp.gestion.api.dto;
+
+import java.util.List;
+
+public record GroupReservationConflictResponse(
+    int status,
+    String error,
+    String message,
+    String path,
+    long timestamp,
+    List<UnavailableRoomResponse> conflicts
+) {}
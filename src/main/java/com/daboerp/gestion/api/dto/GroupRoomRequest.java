@@ -0,0 +1,15 @@
+package com.daboerp.gestion.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+/**
+ * One room of a group booking and the guests staying in it besides the principal guest.
+ */
+public record GroupRoomRequest(
+    @NotBlank(message = "Room ID is required")
+    String roomId,
+
+    List<String> additionalGuestIds
+) {}
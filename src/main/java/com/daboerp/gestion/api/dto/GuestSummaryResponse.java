@@ -0,0 +1,12 @@
+package com.daboerp.gestion.api.dto;
+
+/**
+ * Lightweight DTO for guest typeahead results.
+ */
+public record GuestSummaryResponse(
+    String id,
+    String firstName,
+    String lastName,
+    String email,
+    String documentNumber
+) {}
@@ -0,0 +1,39 @@
+package com.daboerp.gestion.api.dto;
+
+import com.daboerp.gestion.application.imports.ImportJob;
+
+import java.time.Instant;
+
+/**
+ * DTO for the progress and outcome of a CSV import.
+ */
+public record ImportJobResponse(
+    String id,
+    String type,
+    String status,
+    long rowsRead,
+    long imported,
+    long rejected,
+    double rowsPerSecond,
+    Instant createdAt,
+    Instant startedAt,
+    Instant finishedAt,
+    String failure
+) {
+
+    public static ImportJobResponse of(ImportJob job) {
+        return new ImportJobResponse(
+            job.getId(),
+            job.getType(),
+            job.getStatus().name(),
+            job.getRowsRead(),
+            job.getImported(),
+            job.getRejected(),
+            Math.round(job.getRowsPerSecond() * 10) / 10.0,
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getFinishedAt(),
+            job.getFailure()
+        );
+    }
+}
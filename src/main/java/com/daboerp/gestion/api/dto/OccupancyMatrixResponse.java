@@ -0,0 +1,11 @@
+package com.daboerp.gestion.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OccupancyMatrixResponse(
+    LocalDate from,
+    LocalDate to,
+    List<LocalDate> nights,
+    List<RoomOccupancyResponse> rooms
+) {}
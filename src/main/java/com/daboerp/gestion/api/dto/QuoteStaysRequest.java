@@ -0,0 +1,12 @@
+package com.daboerp.gestion.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record QuoteStaysRequest(
+    @NotEmpty @Valid List<StayRangeRequest> ranges,
+    String roomTypeId,
+    Integer minCapacity
+) {}
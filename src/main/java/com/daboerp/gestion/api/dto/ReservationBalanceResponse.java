@@ -0,0 +1,10 @@
+package com.daboerp.gestion.api.dto;
+
+import java.math.BigDecimal;
+
+public record ReservationBalanceResponse(
+    String reservationId,
+    BigDecimal quotedAmount,
+    BigDecimal totalPaid,
+    BigDecimal remainingBalance
+) {}
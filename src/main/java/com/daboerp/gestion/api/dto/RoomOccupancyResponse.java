@@ -0,0 +1,9 @@
+package com.daboerp.gestion.api.dto;
+
+import java.util.List;
+
+public record RoomOccupancyResponse(
+    String roomId,
+    Integer roomNumber,
+    List<String> nights
+) {}
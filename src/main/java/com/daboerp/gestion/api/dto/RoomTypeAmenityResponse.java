@@ -0,0 +1,10 @@
+package com.daboerp.gestion.api.dto;
+
+/**
+ * Response DTO for an amenity added to every room of a type.
+ */
+public record RoomTypeAmenityResponse(
+    String roomTypeId,
+    String amenity,
+    int affectedRooms
+) {}
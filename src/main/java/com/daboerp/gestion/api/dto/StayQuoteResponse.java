@@ -0,0 +1,16 @@
+package com.daboerp.gestion.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record StayQuoteResponse(
+    String roomId,
+    Integer roomNumber,
+    String roomTypeId,
+    String roomTypeName,
+    int maxOccupancy,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    long nights,
+    BigDecimal totalPrice
+) {}
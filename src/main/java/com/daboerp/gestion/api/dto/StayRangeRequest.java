@@ -0,0 +1,10 @@
+package com.daboerp.gestion.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record StayRangeRequest(
+    @NotNull LocalDate checkIn,
+    @NotNull LocalDate checkOut
+) {}
@@ -0,0 +1,8 @@
+package com.daboerp.gestion.api.dto;
+
+public record UnavailableRoomResponse(
+    String roomId,
+    Integer roomNumber,
+    String reason,
+    String message
+) {}
@@ -1,11 +1,15 @@
 package com.daboerp.gestion.api.exception;
 
 import com.daboerp.gestion.api.dto.ErrorResponse;
+import com.daboerp.gestion.api.dto.GroupReservationConflictResponse;
 import com.daboerp.gestion.api.dto.RoomConflictResponse;
+import com.daboerp.gestion.api.dto.UnavailableRoomResponse;
 import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceAlreadyExistsException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.application.usecase.reservation.GroupReservationConflictException;
 import com.daboerp.gestion.application.usecase.room.DeletedRoomConflictException;
+import com.daboerp.gestion.domain.exception.ConcurrentUpdateException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -63,6 +67,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    @ExceptionHandler(GroupReservationConflictException.class)
+    public ResponseEntity<GroupReservationConflictResponse> handleGroupReservationConflict(
+            GroupReservationConflictException ex, HttpServletRequest request) {
+        GroupReservationConflictResponse error = new GroupReservationConflictResponse(
+            HttpStatus.CONFLICT.value(),
+            "Group Reservation Conflict",
+            ex.getMessage(),
+            request.getRequestURI(),
+            System.currentTimeMillis(),
+            ex.getConflicts().stream()
+                .map(conflict -> new UnavailableRoomResponse(
+                    conflict.roomId(), conflict.roomNumber(), conflict.reason().name(), conflict.message()))
+                .toList()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(
+            ConcurrentUpdateException ex, HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.CONFLICT.value(),
+            "Concurrent Update",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
     @ExceptionHandler(BusinessRuleViolationException.class)
     public ResponseEntity<ErrorResponse> handleBusinessRuleViolation(
             BusinessRuleViolationException ex, HttpServletRequest request) {
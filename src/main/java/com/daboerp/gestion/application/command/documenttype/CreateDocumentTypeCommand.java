@@ -1,6 +1,7 @@
 package com.daboerp.gestion.application.command.documenttype;
 
 import com.daboerp.gestion.application.command.Command;
+import com.daboerp.gestion.domain.validation.ValidationPatterns;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -15,6 +16,7 @@ public record CreateDocumentTypeCommand(
     String name,
     String description,
     String validationRegex,
+    Integer maxNumberLength,
     boolean active
 ) implements Command {
     
@@ -37,9 +39,12 @@ public record CreateDocumentTypeCommand(
             throw new IllegalArgumentException("Name cannot exceed 100 characters");
         }
         // Validate code format
-        if (!code.matches("^[A-Z0-9_]+$")) {
+        if (!ValidationPatterns.isCode(code)) {
             throw new IllegalArgumentException("Code must contain only uppercase letters, numbers, and underscores");
         }
+        if (maxNumberLength != null && maxNumberLength < 1) {
+            throw new IllegalArgumentException("Maximum document number length must be positive");
+        }
     }
     
     @Override
@@ -56,7 +61,8 @@ public record CreateDocumentTypeCommand(
      * Factory method for creating with generated command ID.
      */
     public static CreateDocumentTypeCommand create(String code, String name, String description,
-                                                  String validationRegex, boolean active) {
-        return new CreateDocumentTypeCommand(UUID.randomUUID(), code, name, description, validationRegex, active);
+                                                  String validationRegex, Integer maxNumberLength, boolean active) {
+        return new CreateDocumentTypeCommand(UUID.randomUUID(), code, name, description, validationRegex,
+                                             maxNumberLength, active);
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.daboerp.gestion.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A validated export that has not run yet. Writing it streams every row to the output.
+ */
+@FunctionalInterface
+public interface Export {
+    
+    /**
+     * Write the export to the output, flushing periodically; the output is not closed.
+     *
+     * @return the number of rows written
+     */
+    long writeTo(OutputStream output) throws IOException;
+}
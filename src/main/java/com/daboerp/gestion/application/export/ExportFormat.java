@@ -0,0 +1,42 @@
+package com.daboerp.gestion.application.export;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the bulk exports.
+ */
+public enum ExportFormat {
+    
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String contentType;
+    private final String fileExtension;
+    
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    /**
+     * Parse a format name case-insensitively; null means CSV.
+     */
+    public static ExportFormat fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name + " (expected csv or ndjson)");
+        }
+    }
+}
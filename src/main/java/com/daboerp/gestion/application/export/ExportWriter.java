@@ -0,0 +1,157 @@
+package com.daboerp.gestion.application.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes export rows as CSV (RFC 4180, with a header line) or NDJSON (one JSON object per line).
+ * Output is buffered and pushed to the underlying stream every {@code flushEvery} rows, so the
+ * client starts receiving data immediately and nothing accumulates beyond one buffer.
+ * Values are written with {@code toString()}, except numbers, which stay unquoted in NDJSON.
+ */
+public class ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final int flushEvery;
+    private long rows;
+
+    public ExportWriter(ExportFormat format, List<String> columns, OutputStream output, int flushEvery) {
+        this.format = Objects.requireNonNull(format, "Export format cannot be null");
+        this.columns = List.copyOf(columns);
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(Objects.requireNonNull(output, "Output cannot be null"), StandardCharsets.UTF_8),
+            BUFFER_SIZE);
+        if (flushEvery < 1) {
+            throw new IllegalArgumentException("Export flush interval must be at least 1 row");
+        }
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Write the CSV header line; NDJSON has none.
+     */
+    public void begin() throws IOException {
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(columns.get(i));
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Write one row with values in column order.
+     * Unchecked so it can be called from a row callback; {@link UncheckedIOException} carries the cause.
+     */
+    public void writeRow(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+        }
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(values);
+            } else {
+                writeJsonRow(values);
+            }
+            if (++rows % flushEvery == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flush whatever is still buffered. The underlying stream is left open.
+     */
+    public long finish() throws IOException {
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(values[i] instanceof BigDecimal decimal ? decimal.toPlainString() : values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonRow(Object[] values) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeJsonString(columns.get(i));
+            writer.write(':');
+            Object value = values[i];
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof BigDecimal decimal) {
+                writer.write(decimal.toPlainString());
+            } else if (value instanceof Number || value instanceof Boolean) {
+                writer.write(value.toString());
+            } else {
+                writeJsonString(value.toString());
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
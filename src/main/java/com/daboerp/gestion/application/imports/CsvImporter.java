@@ -0,0 +1,309 @@
+package com.daboerp.gestion.application.imports;
+
+import com.daboerp.gestion.application.export.ExportFormat;
+import com.daboerp.gestion.application.export.ExportWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs CSV imports in the background. The upload is spooled to a temporary file and its header
+ * checked before the request returns; a worker then reads the file in chunks, parses each chunk in
+ * parallel slices on the validation executor and hands the rows that parsed to the chunk writer,
+ * while the next chunk is already being read and parsed. Rows that fail either step go to the
+ * job's reject file - line number, reason and the original values - and the job's counters are
+ * updated after every chunk.
+ */
+public class CsvImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvImporter.class);
+
+    // Parsing a row takes microseconds; smaller slices cost more in hand-off than they save
+    private static final int MIN_ROWS_PER_SLICE = 128;
+
+    private static final Comparator<Rejection> BY_LINE = Comparator.comparingLong(rejection -> rejection.row().line());
+
+    private final ImportJobRegistry registry;
+    private final Executor jobExecutor;
+    private final Executor validationExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public CsvImporter(ImportJobRegistry registry,
+                       Executor jobExecutor,
+                       Executor validationExecutor,
+                       int chunkSize,
+                       int parallelism) {
+        this.registry = Objects.requireNonNull(registry, "Import job registry cannot be null");
+        this.jobExecutor = Objects.requireNonNull(jobExecutor, "Import job executor cannot be null");
+        this.validationExecutor = Objects.requireNonNull(validationExecutor, "Validation executor cannot be null");
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Import chunk size and parallelism must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Spool the CSV and queue it for import.
+     *
+     * @throws IllegalArgumentException if the file is empty or lacks a required column
+     * @throws IllegalStateException if too many imports are already queued
+     */
+    public <T> ImportJob submit(String type, InputStream csv, List<String> requiredColumns,
+                                RowParser<T> parser, ChunkWriter<T> writer) throws IOException {
+        Objects.requireNonNull(csv, "CSV input cannot be null");
+        Path source = Files.createTempFile(type + "-import-", ".csv");
+        Path rejectFile = null;
+        try {
+            Files.copy(csv, source, StandardCopyOption.REPLACE_EXISTING);
+            checkHeader(source, requiredColumns);
+            rejectFile = Files.createTempFile(type + "-rejects-", ".csv");
+            ImportJob job = new ImportJob(type, rejectFile);
+            jobExecutor.execute(() -> run(job, source, parser, writer));
+            registry.register(job);
+            return job;
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(source);
+            deleteQuietly(rejectFile);
+            throw new IllegalStateException("Too many imports in progress, try again later");
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(source);
+            deleteQuietly(rejectFile);
+            throw e;
+        }
+    }
+
+    private static void checkHeader(Path source, List<String> requiredColumns) throws IOException {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(source, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            List<String> missing = new ArrayList<>(requiredColumns);
+            missing.removeAll(header.stream().map(String::strip).toList());
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV is missing required columns: " + String.join(", ", missing));
+            }
+        }
+    }
+
+    private <T> void run(ImportJob job, Path source, RowParser<T> parser, ChunkWriter<T> writer) {
+        job.start();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(source, StandardCharsets.UTF_8));
+             OutputStream rejectOutput = Files.newOutputStream(job.getRejectFile())) {
+            List<String> header = reader.readRecord().stream().map(String::strip).toList();
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i), i);
+            }
+            List<String> rejectColumns = new ArrayList<>(List.of("line", "error"));
+            rejectColumns.addAll(header);
+            ExportWriter rejects = new ExportWriter(ExportFormat.CSV, rejectColumns, rejectOutput, chunkSize);
+            rejects.begin();
+
+            // Chunk N is written while chunk N+1 is read and parsed
+            ParsedChunk<T> pending = null;
+            while (true) {
+                RowBatch batch = readChunk(reader, columns);
+                ParsedChunk<T> next = batch.rows().isEmpty() ? null : parse(batch.rows(), header.size(), parser);
+                if (pending != null) {
+                    write(job, pending, writer, rejects);
+                }
+                if (batch.malformed() != null) {
+                    // Rows before the malformed record still count; nothing after it can be trusted
+                    if (next != null) {
+                        write(job, next, writer, rejects);
+                    }
+                    throw batch.malformed();
+                }
+                if (next == null) {
+                    break;
+                }
+                pending = next;
+            }
+            job.complete();
+            log.info("Import {} of {} finished: {} imported, {} rejected, {} rows/s", job.getId(), job.getType(),
+                job.getImported(), job.getRejected(), Math.round(job.getRowsPerSecond()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} of {} failed after {} rows", job.getId(), job.getType(), job.getRowsRead(), e);
+            job.fail(reason(e));
+        } finally {
+            deleteQuietly(source);
+        }
+    }
+
+    private RowBatch readChunk(CsvReader reader, Map<String, Integer> columns) throws IOException {
+        List<ImportRow> rows = new ArrayList<>(chunkSize);
+        try {
+            List<String> record;
+            while (rows.size() < chunkSize && (record = reader.readRecord()) != null) {
+                rows.add(new ImportRow(reader.getRecordLine(), record, columns));
+            }
+        } catch (IllegalArgumentException e) {
+            return new RowBatch(rows, e);
+        }
+        return new RowBatch(rows, null);
+    }
+
+    private <T> ParsedChunk<T> parse(List<ImportRow> rows, int columnCount, RowParser<T> parser) {
+        int slices = Math.min(parallelism, (rows.size() + MIN_ROWS_PER_SLICE - 1) / MIN_ROWS_PER_SLICE);
+        int sliceSize = (rows.size() + slices - 1) / slices;
+        List<CompletableFuture<ParsedSlice<T>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<ImportRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> parseSlice(slice, columnCount, parser), validationExecutor));
+        }
+        return new ParsedChunk<>(rows.size(), columnCount, futures);
+    }
+
+    private static <T> ParsedSlice<T> parseSlice(List<ImportRow> rows, int columnCount, RowParser<T> parser) {
+        List<Candidate<T>> candidates = new ArrayList<>(rows.size());
+        List<Rejection> rejections = new ArrayList<>();
+        for (ImportRow row : rows) {
+            if (row.values().size() != columnCount) {
+                rejections.add(new Rejection(row,
+                    "Expected " + columnCount + " values but found " + row.values().size()));
+                continue;
+            }
+            try {
+                candidates.add(new Candidate<>(row, parser.parse(row)));
+            } catch (RuntimeException e) {
+                rejections.add(new Rejection(row, reason(e)));
+            }
+        }
+        return new ParsedSlice<>(candidates, rejections);
+    }
+
+    private <T> void write(ImportJob job, ParsedChunk<T> chunk, ChunkWriter<T> writer, ExportWriter rejects)
+            throws IOException {
+        List<Candidate<T>> candidates = new ArrayList<>(chunk.rows());
+        List<Rejection> rejections = new ArrayList<>();
+        try {
+            for (CompletableFuture<ParsedSlice<T>> future : chunk.slices()) {
+                ParsedSlice<T> slice = future.join();
+                candidates.addAll(slice.candidates());
+                rejections.addAll(slice.rejections());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        List<Rejection> refused = candidates.isEmpty() ? List.of() : writeChunk(candidates, writer);
+        rejections.addAll(refused);
+        rejections.sort(BY_LINE);
+        try {
+            for (Rejection rejection : rejections) {
+                writeRejection(rejects, rejection, chunk.columnCount());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rejects.finish();
+        job.recordChunk(chunk.rows(), candidates.size() - refused.size(), rejections.size());
+    }
+
+    private static <T> List<Rejection> writeChunk(List<Candidate<T>> candidates, ChunkWriter<T> writer) {
+        try {
+            return writer.write(candidates);
+        } catch (RuntimeException e) {
+            // One bad row fails the whole batch; retry row by row so only that row is rejected
+            log.warn("Import chunk of {} rows failed, retrying row by row: {}", candidates.size(), reason(e));
+            List<Rejection> refused = new ArrayList<>();
+            for (Candidate<T> candidate : candidates) {
+                try {
+                    refused.addAll(writer.write(List.of(candidate)));
+                } catch (RuntimeException rowFailure) {
+                    refused.add(new Rejection(candidate.row(), reason(rowFailure)));
+                }
+            }
+            return refused;
+        }
+    }
+
+    private static void writeRejection(ExportWriter rejects, Rejection rejection, int columnCount) {
+        List<String> values = rejection.row().values();
+        Object[] row = new Object[columnCount + 2];
+        row[0] = rejection.row().line();
+        row[1] = rejection.reason();
+        for (int i = 0; i < values.size() && i + 2 < row.length; i++) {
+            row[i + 2] = values.get(i);
+        }
+        rejects.writeRow(row);
+    }
+
+    /**
+     * The innermost cause's message, first line only - driver messages tend to run on.
+     */
+    private static String reason(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage() != null ? cause.getMessage() : failure.getMessage();
+        if (message == null) {
+            return cause.getClass().getSimpleName();
+        }
+        int lineBreak = message.indexOf('\n');
+        return (lineBreak >= 0 ? message.substring(0, lineBreak) : message).strip();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    /**
+     * Turns one CSV row into the value to import; a runtime exception rejects the row with its message.
+     */
+    @FunctionalInterface
+    public interface RowParser<T> {
+        T parse(ImportRow row);
+    }
+
+    /**
+     * Persists one chunk of parsed rows and returns those it refused, such as duplicates.
+     * Called from a single worker thread per job, one chunk at a time.
+     */
+    @FunctionalInterface
+    public interface ChunkWriter<T> {
+        List<Rejection> write(List<Candidate<T>> candidates);
+    }
+
+    public record Candidate<T>(ImportRow row, T value) {}
+
+    public record Rejection(ImportRow row, String reason) {}
+
+    private record ParsedSlice<T>(List<Candidate<T>> candidates, List<Rejection> rejections) {}
+
+    private record RowBatch(List<ImportRow> rows, IllegalArgumentException malformed) {}
+
+    private record ParsedChunk<T>(int rows, int columnCount, List<CompletableFuture<ParsedSlice<T>>> slices) {}
+}
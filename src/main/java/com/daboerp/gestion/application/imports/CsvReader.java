@@ -0,0 +1,127 @@
+package com.daboerp.gestion.application.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streaming RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks;
+ * records end with LF or CRLF. Only the record being read is held in memory, and a record longer
+ * than {@code MAX_RECORD_LENGTH} - usually a stray quote swallowing the rest of the file - is refused.
+ */
+public class CsvReader implements AutoCloseable {
+
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    // Spreadsheet exports often start with one
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    // One character of look-ahead pushed back after a lone CR; NONE when empty
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = NONE;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = Objects.requireNonNull(reader, "Reader cannot be null");
+    }
+
+    /**
+     * The next record's fields, or null at the end of the input. Blank lines are skipped.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (recordLine == 0 && c == BYTE_ORDER_MARK) {
+            c = read();
+        }
+        while (c == '\r' || c == '\n') {
+            consumeLineBreak(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        int length = 0;
+        boolean quoted = false;
+        field.setLength(0);
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    consumeLineBreak(c);
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("Record on line " + recordLine + " exceeds "
+                    + MAX_RECORD_LENGTH + " characters");
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Line on which the record last returned by {@link #readRecord()} starts, counting from 1.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void consumeLineBreak(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pending = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
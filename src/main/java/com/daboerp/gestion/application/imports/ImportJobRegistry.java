@@ -0,0 +1,50 @@
+package com.daboerp.gestion.application.imports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Recent import jobs, kept in memory so their progress and rejects can be fetched.
+ * Once more than {@code retainedJobs} are held, the oldest finished jobs are dropped
+ * along with their reject files; running jobs are never dropped.
+ */
+public class ImportJobRegistry {
+
+    private final int retainedJobs;
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    public ImportJobRegistry(int retainedJobs) {
+        if (retainedJobs < 1) {
+            throw new IllegalArgumentException("Retained import jobs must be at least 1");
+        }
+        this.retainedJobs = retainedJobs;
+    }
+
+    public synchronized void register(ImportJob job) {
+        jobs.put(job.getId(), job);
+        Iterator<ImportJob> oldest = jobs.values().iterator();
+        while (jobs.size() > retainedJobs && oldest.hasNext()) {
+            ImportJob candidate = oldest.next();
+            if (candidate.isFinished()) {
+                oldest.remove();
+                deleteRejectFile(candidate);
+            }
+        }
+    }
+
+    public synchronized Optional<ImportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    private static void deleteRejectFile(ImportJob job) {
+        try {
+            Files.deleteIfExists(job.getRejectFile());
+        } catch (IOException e) {
+            // A leftover temp file is not worth failing a new import over
+        }
+    }
+}
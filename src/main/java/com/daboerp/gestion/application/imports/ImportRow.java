@@ -0,0 +1,91 @@
+package com.daboerp.gestion.application.imports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One CSV record with typed access by column name. Values are stripped and blanks read as absent;
+ * a value that cannot be converted raises {@link IllegalArgumentException} naming the column,
+ * which becomes the row's reject reason.
+ */
+public record ImportRow(
+    long line,
+    List<String> values,
+    Map<String, Integer> columns
+) {
+
+    /**
+     * The stripped value, or null when the column is missing or blank.
+     */
+    public String text(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    public String required(String column) {
+        String value = text(column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    public LocalDate date(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " must be a yyyy-MM-dd date: " + value);
+        }
+    }
+
+    public BigDecimal decimal(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number: " + value);
+        }
+    }
+
+    public Integer integer(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number: " + value);
+        }
+    }
+
+    /**
+     * Enum constant by name, ignoring case.
+     */
+    public <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + column + ": " + value);
+        }
+    }
+}
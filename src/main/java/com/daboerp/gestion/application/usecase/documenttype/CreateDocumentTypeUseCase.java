@@ -3,6 +3,7 @@ package com.daboerp.gestion.application.usecase.documenttype;
 import com.daboerp.gestion.application.command.documenttype.CreateDocumentTypeCommand;
 import com.daboerp.gestion.domain.entity.DocumentTypeEntity;
 import com.daboerp.gestion.domain.repository.DocumentTypeRepository;
+import com.daboerp.gestion.domain.validation.RegexPolicy;
 
 import java.util.Objects;
 
@@ -25,12 +26,18 @@ public class CreateDocumentTypeUseCase {
             throw new IllegalArgumentException("Document type with code '" + command.code() + "' already exists");
         }
         
+        // Reject patterns that do not compile or could backtrack catastrophically
+        if (command.validationRegex() != null && !command.validationRegex().isBlank()) {
+            RegexPolicy.requireSafe(command.validationRegex());
+        }
+        
         // Create new document type entity
         DocumentTypeEntity documentType = DocumentTypeEntity.create(
             command.code(),
             command.name(),
             command.description(),
             command.validationRegex(),
+            command.maxNumberLength(),
             command.active()
         );
         
@@ -0,0 +1,37 @@
+package com.daboerp.gestion.application.usecase.documenttype;
+
+import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.domain.entity.DocumentTypeEntity;
+import com.daboerp.gestion.domain.repository.DocumentTypeRepository;
+import com.daboerp.gestion.domain.validation.DocumentNumberValidatorCache;
+
+import java.util.Objects;
+
+/**
+ * Validates document numbers against their document type.
+ * Owns the compiled validator cache, so every check for the same document type
+ * reuses one compiled pattern until the type changes.
+ */
+public class DocumentNumberValidationService {
+    
+    private final DocumentTypeRepository documentTypeRepository;
+    private final DocumentNumberValidatorCache validators;
+    
+    public DocumentNumberValidationService(DocumentTypeRepository documentTypeRepository,
+                                           DocumentNumberValidatorCache validators) {
+        this.documentTypeRepository = Objects.requireNonNull(documentTypeRepository, "Document type repository cannot be null");
+        this.validators = Objects.requireNonNull(validators, "Validator cache cannot be null");
+    }
+    
+    public boolean isValid(DocumentTypeEntity documentType, String documentNumber) {
+        Objects.requireNonNull(documentType, "Document type cannot be null");
+        return documentType.isValidDocumentNumber(documentNumber, validators);
+    }
+    
+    public boolean isValid(String documentTypeCode, String documentNumber) {
+        Objects.requireNonNull(documentTypeCode, "Document type code cannot be null");
+        DocumentTypeEntity documentType = documentTypeRepository.findByCode(documentTypeCode)
+            .orElseThrow(() -> new ResourceNotFoundException("Document type", documentTypeCode));
+        return isValid(documentType, documentNumber);
+    }
+}
@@ -4,7 +4,6 @@ import com.daboerp.gestion.application.command.CommandHandler;
 import com.daboerp.gestion.application.command.guest.CreateGuestCommand;
 import com.daboerp.gestion.application.exception.ResourceAlreadyExistsException;
 import com.daboerp.gestion.domain.entity.Guest;
-import com.daboerp.gestion.domain.event.DomainEventPublisher;
 import com.daboerp.gestion.domain.repository.GuestRepository;
 
 import java.util.Objects;
@@ -17,11 +16,9 @@ import java.util.Objects;
 public class CreateGuestUseCase implements CommandHandler<CreateGuestCommand, Guest> {
     
     private final GuestRepository guestRepository;
-    private final DomainEventPublisher eventPublisher;
     
-    public CreateGuestUseCase(GuestRepository guestRepository, DomainEventPublisher eventPublisher) {
+    public CreateGuestUseCase(GuestRepository guestRepository) {
         this.guestRepository = Objects.requireNonNull(guestRepository, "Guest repository cannot be null");
-        this.eventPublisher = Objects.requireNonNull(eventPublisher, "Event publisher cannot be null");
     }
     
     @Override
@@ -45,14 +42,8 @@ public class CreateGuestUseCase implements CommandHandler<CreateGuestCommand, Gu
             command.documentType()
         );
         
-        // Persist guest
-        Guest savedGuest = guestRepository.save(guest);
-        
-        // Publish domain events
-        eventPublisher.publishAll(savedGuest.getDomainEvents());
-        savedGuest.clearDomainEvents();
-        
-        return savedGuest;
+        // Persist guest; its domain events go to the outbox in the same transaction
+        return guestRepository.save(guest);
     }
     
     @Override
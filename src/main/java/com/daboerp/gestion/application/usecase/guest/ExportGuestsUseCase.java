@@ -0,0 +1,66 @@
+package com.daboerp.gestion.application.usecase.guest;
+
+import com.daboerp.gestion.application.export.Export;
+import com.daboerp.gestion.application.export.ExportFormat;
+import com.daboerp.gestion.application.export.ExportWriter;
+import com.daboerp.gestion.domain.export.GuestExportRow;
+import com.daboerp.gestion.domain.repository.ExportRepository;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use case for exporting every guest as CSV or NDJSON.
+ * Rows are written as the database cursor yields them, so memory use is flat however many guests exist.
+ */
+public class ExportGuestsUseCase {
+    
+    private static final List<String> COLUMNS = List.of(
+        "id", "firstName", "lastName", "email", "phone", "dateOfBirth",
+        "nationality", "documentType", "documentNumber", "createdAt"
+    );
+    
+    private final ExportRepository exportRepository;
+    private final int fetchSize;
+    private final int flushEvery;
+    
+    public ExportGuestsUseCase(ExportRepository exportRepository, int fetchSize, int flushEvery) {
+        this.exportRepository = Objects.requireNonNull(exportRepository, "Export repository cannot be null");
+        if (fetchSize < 1 || flushEvery < 1) {
+            throw new IllegalArgumentException("Export fetch size and flush interval must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+    
+    public Export execute(ExportFormat format) {
+        Objects.requireNonNull(format, "Export format cannot be null");
+        
+        return output -> {
+            ExportWriter writer = new ExportWriter(format, COLUMNS, output, flushEvery);
+            writer.begin();
+            try {
+                exportRepository.streamGuests(fetchSize, row -> write(writer, row));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return writer.finish();
+        };
+    }
+    
+    private static void write(ExportWriter writer, GuestExportRow row) {
+        writer.writeRow(
+            row.id(),
+            row.firstName(),
+            row.lastName(),
+            row.email(),
+            row.phone(),
+            row.dateOfBirth(),
+            row.nationality(),
+            row.documentType(),
+            row.documentNumber(),
+            row.createdAt()
+        );
+    }
+}
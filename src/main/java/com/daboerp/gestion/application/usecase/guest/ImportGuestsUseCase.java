@@ -0,0 +1,94 @@
+package com.daboerp.gestion.application.usecase.guest;
+
+import com.daboerp.gestion.application.imports.CsvImporter;
+import com.daboerp.gestion.application.imports.CsvImporter.Candidate;
+import com.daboerp.gestion.application.imports.CsvImporter.Rejection;
+import com.daboerp.gestion.application.imports.ImportJob;
+import com.daboerp.gestion.application.imports.ImportRow;
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.factory.guest.GuestFactory;
+import com.daboerp.gestion.domain.repository.ImportRepository;
+import com.daboerp.gestion.domain.valueobject.DocumentType;
+import com.daboerp.gestion.domain.valueobject.Nationality;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Use case for loading guests in bulk from CSV, with the same column names as the guest export.
+ * Rows are validated in parallel through {@link GuestFactory}; each chunk is then checked against
+ * existing emails and document numbers with one lookup per field and inserted as one batch.
+ * Rows repeating an email or document number, already stored or earlier in the file, are rejected.
+ */
+public class ImportGuestsUseCase {
+
+    public static final List<String> REQUIRED_COLUMNS =
+        List.of("firstName", "lastName", "nationality", "documentType", "documentNumber");
+
+    private final CsvImporter importer;
+    private final ImportRepository importRepository;
+    private final GuestFactory guestFactory;
+
+    public ImportGuestsUseCase(CsvImporter importer, ImportRepository importRepository, GuestFactory guestFactory) {
+        this.importer = Objects.requireNonNull(importer, "CSV importer cannot be null");
+        this.importRepository = Objects.requireNonNull(importRepository, "Import repository cannot be null");
+        this.guestFactory = Objects.requireNonNull(guestFactory, "Guest factory cannot be null");
+    }
+
+    /**
+     * Queue the CSV for import and return its job right away.
+     */
+    public ImportJob execute(InputStream csv) throws IOException {
+        return importer.submit("guests", csv, REQUIRED_COLUMNS, this::parse, this::write);
+    }
+
+    private Guest parse(ImportRow row) {
+        return guestFactory.create(GuestFactory.builder()
+            .firstName(row.required("firstName"))
+            .lastName(row.required("lastName"))
+            .email(row.text("email"))
+            .phone(row.text("phone"))
+            .dateOfBirth(row.date("dateOfBirth"))
+            .nationality(row.enumValue("nationality", Nationality.class))
+            .documentType(row.enumValue("documentType", DocumentType.class))
+            .documentNumber(row.required("documentNumber")));
+    }
+
+    private List<Rejection> write(List<Candidate<Guest>> candidates) {
+        Set<String> emails = new HashSet<>();
+        Set<String> documentNumbers = new HashSet<>();
+        for (Candidate<Guest> candidate : candidates) {
+            if (candidate.value().getEmail() != null) {
+                emails.add(candidate.value().getEmail());
+            }
+            documentNumbers.add(candidate.value().getDocumentNumber());
+        }
+        Set<String> takenEmails = new HashSet<>(importRepository.findExistingGuestEmails(emails));
+        Set<String> takenDocumentNumbers = new HashSet<>(importRepository.findExistingGuestDocumentNumbers(documentNumbers));
+
+        List<Guest> accepted = new ArrayList<>(candidates.size());
+        List<Rejection> rejected = new ArrayList<>();
+        for (Candidate<Guest> candidate : candidates) {
+            Guest guest = candidate.value();
+            if (guest.getEmail() != null && takenEmails.contains(guest.getEmail())) {
+                rejected.add(new Rejection(candidate.row(), "Duplicate email: " + guest.getEmail()));
+            } else if (takenDocumentNumbers.contains(guest.getDocumentNumber())) {
+                rejected.add(new Rejection(candidate.row(), "Duplicate document number: " + guest.getDocumentNumber()));
+            } else {
+                accepted.add(guest);
+                if (guest.getEmail() != null) {
+                    takenEmails.add(guest.getEmail());
+                }
+                takenDocumentNumbers.add(guest.getDocumentNumber());
+            }
+        }
+
+        importRepository.insertGuests(accepted);
+        return rejected;
+    }
+}
@@ -0,0 +1,111 @@
+package com.daboerp.gestion.application.usecase.guest;
+
+import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
+import com.daboerp.gestion.domain.search.GuestSearchHit;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for the guest typeahead: ranked matches on name, email or document number,
+ * one cursor page at a time. Served from the in-memory search index; until the index is
+ * warmed, a bounded database search is ranked the same way.
+ */
+public class SearchGuestsUseCase {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    // Upper bound on rows pulled from the database while the index is cold
+    private static final int FALLBACK_ROWS = 500;
+
+    private final GuestSearchIndex searchIndex;
+    private final GuestRepository guestRepository;
+
+    public SearchGuestsUseCase(GuestSearchIndex searchIndex, GuestRepository guestRepository) {
+        this.searchIndex = Objects.requireNonNull(searchIndex, "Search index cannot be null");
+        this.guestRepository = Objects.requireNonNull(guestRepository, "Guest repository cannot be null");
+    }
+
+    /**
+     * Search guests. A null or blank cursor starts from the best match.
+     */
+    public SearchPage execute(String query, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        GuestSearchHit.Position after = Cursor.decode(cursor);
+        // One extra hit tells whether another page exists
+        List<GuestSearchHit> hits = indexFor(query).search(query, after, limit + 1);
+        boolean hasNext = hits.size() > limit;
+        List<GuestSearchHit> page = hasNext ? hits.subList(0, limit) : hits;
+        String nextCursor = hasNext ? Cursor.encode(page.get(page.size() - 1).position()) : null;
+
+        List<GuestSearchEntry> entries = page.stream()
+            .map(GuestSearchHit::entry)
+            .collect(Collectors.toList());
+        return new SearchPage(entries, limit, nextCursor, hasNext);
+    }
+
+    private GuestSearchIndex indexFor(String query) {
+        if (searchIndex.isReady()) {
+            return searchIndex;
+        }
+        GuestSearchIndex matches = new GuestSearchIndex();
+        matches.rebuild(() -> guestRepository.findSearchEntries(query.strip(), FALLBACK_ROWS));
+        return matches;
+    }
+
+    /**
+     * One page of search results.
+     */
+    public record SearchPage(
+        List<GuestSearchEntry> items,
+        int pageSize,
+        String nextCursor,
+        boolean hasNext
+    ) {}
+
+    /**
+     * Ranking position exchanged with clients as an opaque URL-safe token.
+     */
+    static final class Cursor {
+
+        private Cursor() {
+        }
+
+        static String encode(GuestSearchHit.Position position) {
+            String raw = position.rank() + "|" + position.guestId() + "|" + position.sortKey();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static GuestSearchHit.Position decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                if (parts.length != 3 || parts[1].isEmpty()) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                return new GuestSearchHit.Position(Integer.parseInt(parts[0]), parts[2], parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+}
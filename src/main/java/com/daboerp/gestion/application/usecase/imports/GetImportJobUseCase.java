@@ -0,0 +1,27 @@
+package com.daboerp.gestion.application.usecase.imports;
+
+import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.application.imports.ImportJob;
+import com.daboerp.gestion.application.imports.ImportJobRegistry;
+
+import java.util.Objects;
+
+/**
+ * Use case for following a CSV import: its progress while it runs, its outcome and its rejects once done.
+ * Only recent jobs are kept.
+ */
+public class GetImportJobUseCase {
+
+    private final ImportJobRegistry registry;
+
+    public GetImportJobUseCase(ImportJobRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "Import job registry cannot be null");
+    }
+
+    public ImportJob execute(String jobId) {
+        Objects.requireNonNull(jobId, "Import job ID cannot be null");
+
+        return registry.find(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Import job", jobId));
+    }
+}
@@ -0,0 +1,75 @@
+package com.daboerp.gestion.application.usecase.payment;
+
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.repository.ReservationBalanceRepository;
+import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Returns the payment balance of several reservations at once, for the cashier screen.
+ * Uses two set-based lookups regardless of how many reservations are requested.
+ */
+public class GetReservationBalancesUseCase {
+
+    static final int MAX_RESERVATIONS = 200;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationBalanceRepository balanceRepository;
+
+    public GetReservationBalancesUseCase(ReservationRepository reservationRepository,
+                                         ReservationBalanceRepository balanceRepository) {
+        this.reservationRepository = Objects.requireNonNull(reservationRepository);
+        this.balanceRepository = Objects.requireNonNull(balanceRepository);
+    }
+
+    /**
+     * Balances in the requested order; unknown reservation ids are left out.
+     */
+    public List<BalanceSummary> execute(List<String> reservationIds) {
+        Objects.requireNonNull(reservationIds, "Reservation IDs cannot be null");
+        Set<ReservationId> ids = reservationIds.stream()
+            .map(ReservationId::of)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.size() > MAX_RESERVATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_RESERVATIONS + " reservations can be requested at once");
+        }
+
+        Map<ReservationId, BigDecimal> quotedAmounts = reservationRepository.findQuotedAmounts(ids);
+        Map<ReservationId, ReservationBalance> balances = balanceRepository.findByReservationIds(quotedAmounts.keySet())
+            .stream()
+            .collect(Collectors.toMap(ReservationBalance::getReservationId, Function.identity()));
+
+        List<BalanceSummary> summaries = new ArrayList<>(quotedAmounts.size());
+        for (ReservationId id : ids) {
+            BigDecimal quoted = quotedAmounts.get(id);
+            if (quoted == null) {
+                continue;
+            }
+            ReservationBalance balance = balances.getOrDefault(id, ReservationBalance.empty(id));
+            summaries.add(new BalanceSummary(
+                id.getValue(),
+                quoted,
+                balance.getTotalPaid(),
+                balance.remainingAgainst(quoted)
+            ));
+        }
+        return summaries;
+    }
+
+    public record BalanceSummary(
+        String reservationId,
+        BigDecimal quotedAmount,
+        BigDecimal totalPaid,
+        BigDecimal remainingBalance
+    ) {}
+}
@@ -4,22 +4,35 @@ import com.daboerp.gestion.application.exception.ResourceNotFoundException;
 import com.daboerp.gestion.domain.entity.Payment;
 import com.daboerp.gestion.domain.entity.PaymentMethod;
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.exception.ConcurrentUpdateException;
 import com.daboerp.gestion.domain.repository.PaymentRepository;
+import com.daboerp.gestion.domain.repository.ReservationBalanceRepository;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 
 import java.math.BigDecimal;
 import java.util.Objects;
 
+/**
+ * Registers a payment against the reservation's running balance.
+ * A payment that loses a race with another one for the same reservation is re-checked
+ * against the fresh balance, so two payments can never jointly exceed the quoted amount.
+ */
 public class RegisterPaymentUseCase {
 
+    static final int MAX_ATTEMPTS = 3;
+
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationBalanceRepository balanceRepository;
 
     public RegisterPaymentUseCase(PaymentRepository paymentRepository,
-                                  ReservationRepository reservationRepository) {
+                                  ReservationRepository reservationRepository,
+                                  ReservationBalanceRepository balanceRepository) {
         this.paymentRepository = Objects.requireNonNull(paymentRepository);
         this.reservationRepository = Objects.requireNonNull(reservationRepository);
+        this.balanceRepository = Objects.requireNonNull(balanceRepository);
     }
 
     public Payment execute(RegisterPaymentCommand command) {
@@ -29,12 +42,24 @@ public class RegisterPaymentUseCase {
         Reservation reservation = reservationRepository.findById(reservationId)
             .orElseThrow(() -> new ResourceNotFoundException("Reservation", command.reservationId()));
 
-        BigDecimal totalPaid = paymentRepository.findByReservationId(reservationId).stream()
-            .filter(p -> !p.isVoided())
-            .map(Payment::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return register(reservation, command);
+            } catch (ConcurrentUpdateException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new ConcurrentUpdateException(
+                        "Reservation " + reservation.getReservationCode() +
+                        " is receiving concurrent payments, please retry", e);
+                }
+            }
+        }
+    }
+
+    private Payment register(Reservation reservation, RegisterPaymentCommand command) {
+        ReservationBalance balance = balanceRepository.findByReservationId(reservation.getId())
+            .orElseGet(() -> ReservationBalance.empty(reservation.getId()));
 
-        BigDecimal newTotal = totalPaid.add(command.amount());
+        BigDecimal newTotal = balance.getTotalPaid().add(command.amount());
         if (newTotal.compareTo(reservation.getQuotedAmount()) > 0) {
             throw new IllegalArgumentException(
                 "Payment exceeds remaining balance. Total paid would be " + newTotal +
@@ -42,13 +67,14 @@ public class RegisterPaymentUseCase {
         }
 
         Payment payment = Payment.create(
-            reservationId,
+            reservation.getId(),
             command.amount(),
             command.method(),
             command.note()
         );
+        balance.recordPayment(command.amount());
 
-        return paymentRepository.save(payment);
+        return paymentRepository.save(payment, balance);
     }
 
     public record RegisterPaymentCommand(
@@ -3,28 +3,50 @@ package com.daboerp.gestion.application.usecase.payment;
 import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
 import com.daboerp.gestion.domain.entity.Payment;
+import com.daboerp.gestion.domain.entity.ReservationBalance;
 import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.exception.ConcurrentUpdateException;
 import com.daboerp.gestion.domain.repository.PaymentRepository;
+import com.daboerp.gestion.domain.repository.ReservationBalanceRepository;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.valueobject.PaymentId;
-import com.daboerp.gestion.domain.valueobject.ReservationId;
 
 import java.util.Objects;
 
+/**
+ * Voids a payment and takes it off the reservation's running balance.
+ */
 public class VoidPaymentUseCase {
 
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationBalanceRepository balanceRepository;
 
     public VoidPaymentUseCase(PaymentRepository paymentRepository,
-                              ReservationRepository reservationRepository) {
+                              ReservationRepository reservationRepository,
+                              ReservationBalanceRepository balanceRepository) {
         this.paymentRepository = Objects.requireNonNull(paymentRepository);
         this.reservationRepository = Objects.requireNonNull(reservationRepository);
+        this.balanceRepository = Objects.requireNonNull(balanceRepository);
     }
 
     public void execute(String paymentId) {
         Objects.requireNonNull(paymentId);
 
+        for (int attempt = 1; ; attempt++) {
+            try {
+                voidPayment(paymentId);
+                return;
+            } catch (ConcurrentUpdateException e) {
+                if (attempt == RegisterPaymentUseCase.MAX_ATTEMPTS) {
+                    throw new ConcurrentUpdateException(
+                        "Payment " + paymentId + " was modified concurrently, please retry", e);
+                }
+            }
+        }
+    }
+
+    private void voidPayment(String paymentId) {
         PaymentId id = PaymentId.of(paymentId);
         Payment payment = paymentRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Payment", paymentId));
@@ -39,7 +61,12 @@ public class VoidPaymentUseCase {
                 " is already " + reservation.getStatus().getStatusType().getDisplayName());
         }
 
+        ReservationBalance balance = balanceRepository.findByReservationId(payment.getReservationId())
+            .orElseThrow(() -> new IllegalStateException(
+                "No balance recorded for reservation " + payment.getReservationId().getValue()));
+
         payment.markAsVoided();
-        paymentRepository.save(payment);
+        balance.reversePayment(payment.getAmount());
+        paymentRepository.save(payment, balance);
     }
 }
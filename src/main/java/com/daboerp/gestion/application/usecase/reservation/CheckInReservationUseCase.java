@@ -2,11 +2,10 @@ package com.daboerp.gestion.application.usecase.reservation;
 
 import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
-import com.daboerp.gestion.domain.entity.Payment;
-import com.daboerp.gestion.domain.entity.Reservation;
-import com.daboerp.gestion.domain.entity.Room;
-import com.daboerp.gestion.domain.repository.PaymentRepository;
-import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.entity.ReservationSnapshot;
+import com.daboerp.gestion.domain.entity.ReservationTransition;
+import com.daboerp.gestion.domain.repository.ReservationBalanceRepository;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 
@@ -16,35 +15,34 @@ import java.util.Objects;
 
 /**
  * Use case for checking in a reservation.
+ * Works on a {@link ReservationSnapshot} rather than the full aggregate: the reservation and its room
+ * are moved with conditional updates, so a concurrent change to either is refused, not overwritten.
  */
 public class CheckInReservationUseCase {
     
     private final ReservationRepository reservationRepository;
-    private final RoomRepository roomRepository;
-    private final PaymentRepository paymentRepository;
+    private final ReservationBalanceRepository balanceRepository;
     
     public CheckInReservationUseCase(ReservationRepository reservationRepository,
-                                    RoomRepository roomRepository,
-                                    PaymentRepository paymentRepository) {
+                                    ReservationBalanceRepository balanceRepository) {
         this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
-        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
-        this.paymentRepository = Objects.requireNonNull(paymentRepository, "Payment repository cannot be null");
+        this.balanceRepository = Objects.requireNonNull(balanceRepository, "Balance repository cannot be null");
     }
     
-    public Reservation execute(CheckInCommand command) {
+    public ReservationSnapshot execute(CheckInCommand command) {
         Objects.requireNonNull(command, "Command cannot be null");
         
         ReservationId id = ReservationId.of(command.reservationId());
-        Reservation reservation = reservationRepository.findById(id)
+        ReservationSnapshot reservation = reservationRepository.findSnapshot(id)
             .orElseThrow(() -> new ResourceNotFoundException("Reservation", command.reservationId()));
+        ReservationTransition.CHECK_IN.requireAllowedFrom(reservation.statusType());
 
-        BigDecimal totalPaid = paymentRepository.findByReservationId(id).stream()
-            .filter(p -> !p.isVoided())
-            .map(Payment::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalPaid = balanceRepository.findByReservationId(id)
+            .map(ReservationBalance::getTotalPaid)
+            .orElse(BigDecimal.ZERO);
 
-        if (totalPaid.compareTo(reservation.getQuotedAmount()) < 0) {
-            BigDecimal remaining = reservation.getQuotedAmount().subtract(totalPaid);
+        if (totalPaid.compareTo(reservation.quotedAmount()) < 0) {
+            BigDecimal remaining = reservation.quotedAmount().subtract(totalPaid);
             throw new BusinessRuleViolationException(
                 "Cannot check-in: outstanding balance of " + remaining +
                 " must be paid first");
@@ -53,13 +51,8 @@ public class CheckInReservationUseCase {
         LocalDate checkInDate = command.actualCheckInDate() != null ? 
             command.actualCheckInDate() : LocalDate.now();
 
-        Room roomToUpdate = reservation.getRoom();
-        reservation.checkIn(checkInDate);
-        if (roomToUpdate != null) {
-            roomRepository.save(roomToUpdate);
-        }
-
-        return reservationRepository.save(reservation);
+        return reservationRepository.transition(
+            reservation, ReservationTransition.CHECK_IN, "Guest checked in", checkInDate);
     }
     
     public record CheckInCommand(
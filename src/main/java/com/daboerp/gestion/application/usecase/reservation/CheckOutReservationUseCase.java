@@ -1,9 +1,8 @@
 package com.daboerp.gestion.application.usecase.reservation;
 
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
-import com.daboerp.gestion.domain.entity.Reservation;
-import com.daboerp.gestion.domain.entity.Room;
-import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.entity.ReservationSnapshot;
+import com.daboerp.gestion.domain.entity.ReservationTransition;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 
@@ -12,35 +11,29 @@ import java.util.Objects;
 
 /**
  * Use case for checking out a reservation.
+ * Works on a {@link ReservationSnapshot}: one read, then conditional updates of the reservation and room.
  */
 public class CheckOutReservationUseCase {
     
     private final ReservationRepository reservationRepository;
-    private final RoomRepository roomRepository;
     
-    public CheckOutReservationUseCase(ReservationRepository reservationRepository,
-                                     RoomRepository roomRepository) {
+    public CheckOutReservationUseCase(ReservationRepository reservationRepository) {
         this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
-        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
     }
     
-    public Reservation execute(CheckOutCommand command) {
+    public ReservationSnapshot execute(CheckOutCommand command) {
         Objects.requireNonNull(command, "Command cannot be null");
         
         ReservationId id = ReservationId.of(command.reservationId());
-        Reservation reservation = reservationRepository.findById(id)
+        ReservationSnapshot reservation = reservationRepository.findSnapshot(id)
             .orElseThrow(() -> new ResourceNotFoundException("Reservation", command.reservationId()));
+        ReservationTransition.CHECK_OUT.requireAllowedFrom(reservation.statusType());
         
         LocalDate checkOutDate = command.actualCheckOutDate() != null ? 
             command.actualCheckOutDate() : LocalDate.now();
 
-        Room roomToUpdate = reservation.getRoom();
-        reservation.checkOut(checkOutDate);
-        if (roomToUpdate != null) {
-            roomRepository.save(roomToUpdate);
-        }
-
-        return reservationRepository.save(reservation);
+        return reservationRepository.transition(
+            reservation, ReservationTransition.CHECK_OUT, "Guest checked out", checkOutDate);
     }
     
     public record CheckOutCommand(
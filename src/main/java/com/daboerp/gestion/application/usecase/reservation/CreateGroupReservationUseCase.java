@@ -0,0 +1,196 @@
+package com.daboerp.gestion.application.usecase.reservation;
+
+import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.application.usecase.reservation.GroupReservationConflictException.Reason;
+import com.daboerp.gestion.application.usecase.reservation.GroupReservationConflictException.RoomConflict;
+import com.daboerp.gestion.domain.availability.OccupancyEngine;
+import com.daboerp.gestion.domain.availability.OccupancyInterval;
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
+import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.strategy.pricing.PricingContext;
+import com.daboerp.gestion.domain.valueobject.GuestId;
+import com.daboerp.gestion.domain.valueobject.RoomId;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for booking several rooms for one group over the same dates.
+ * Guests and rooms are loaded with one query each and availability is checked for all rooms with
+ * a single overlap query. Every problem is collected before anything is written, so the caller
+ * gets one report naming each room that cannot be booked; otherwise all reservations are priced
+ * and inserted together in one transaction. Either the whole group is booked or none of it.
+ */
+public class CreateGroupReservationUseCase {
+
+    public static final int MAX_ROOMS = 50;
+
+    private final ReservationRepository reservationRepository;
+    private final GuestRepository guestRepository;
+    private final RoomRepository roomRepository;
+    private final OccupancyRepository occupancyRepository;
+    private final OccupancyEngine occupancyEngine;
+    private final PricingContext pricingContext;
+
+    public CreateGroupReservationUseCase(ReservationRepository reservationRepository,
+                                         GuestRepository guestRepository,
+                                         RoomRepository roomRepository,
+                                         OccupancyRepository occupancyRepository,
+                                         OccupancyEngine occupancyEngine,
+                                         PricingContext pricingContext) {
+        this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
+        this.guestRepository = Objects.requireNonNull(guestRepository, "Guest repository cannot be null");
+        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.occupancyRepository = Objects.requireNonNull(occupancyRepository, "Occupancy repository cannot be null");
+        this.occupancyEngine = Objects.requireNonNull(occupancyEngine, "Occupancy engine cannot be null");
+        this.pricingContext = Objects.requireNonNull(pricingContext, "Pricing context cannot be null");
+    }
+
+    public List<Reservation> execute(CreateGroupReservationCommand command) {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        Map<String, Guest> guests = loadGuests(command);
+        Guest principal = guests.get(command.guestPrincipalId());
+        Map<String, Room> rooms = loadRooms(command);
+
+        List<OccupancyInterval> intervals = occupancyRepository.findOverlapping(
+            rooms.keySet(), command.checkIn(), command.checkOut());
+        List<RoomConflict> conflicts = new ArrayList<>();
+        for (GroupRoom groupRoom : command.rooms()) {
+            RoomConflict conflict = findConflict(rooms.get(groupRoom.roomId()), groupRoom, intervals, command);
+            if (conflict != null) {
+                conflicts.add(conflict);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new GroupReservationConflictException(command.rooms().size(), conflicts);
+        }
+
+        List<Reservation> reservations = new ArrayList<>(command.rooms().size());
+        for (GroupRoom groupRoom : command.rooms()) {
+            Room room = rooms.get(groupRoom.roomId());
+            BigDecimal price = pricingContext.calculatePrice(room, command.checkIn(), command.checkOut());
+            Reservation reservation = Reservation.create(
+                command.checkIn(), command.checkOut(), price, command.source(), principal, room);
+            for (String guestId : groupRoom.additionalGuestIds()) {
+                reservation.addGuest(guests.get(guestId));
+            }
+            reservations.add(reservation);
+        }
+        return reservationRepository.insertAll(reservations);
+    }
+
+    private Map<String, Guest> loadGuests(CreateGroupReservationCommand command) {
+        Set<String> ids = new LinkedHashSet<>();
+        ids.add(command.guestPrincipalId());
+        command.rooms().forEach(room -> ids.addAll(room.additionalGuestIds()));
+
+        Map<String, Guest> guests = guestRepository.findAllByIds(ids.stream().map(GuestId::of).toList()).stream()
+            .collect(Collectors.toMap(guest -> guest.getId().getValue(), Function.identity()));
+        for (String id : ids) {
+            if (!guests.containsKey(id)) {
+                throw new ResourceNotFoundException("Guest", id);
+            }
+        }
+        return guests;
+    }
+
+    private Map<String, Room> loadRooms(CreateGroupReservationCommand command) {
+        List<RoomId> ids = command.rooms().stream().map(room -> RoomId.of(room.roomId())).toList();
+        Map<String, Room> rooms = roomRepository.findAllByIds(ids).stream()
+            .collect(Collectors.toMap(room -> room.getId().getValue(), Function.identity()));
+        for (GroupRoom groupRoom : command.rooms()) {
+            if (!rooms.containsKey(groupRoom.roomId())) {
+                throw new ResourceNotFoundException("Room", groupRoom.roomId());
+            }
+        }
+        return rooms;
+    }
+
+    private RoomConflict findConflict(Room room, GroupRoom groupRoom, List<OccupancyInterval> intervals,
+                                      CreateGroupReservationCommand command) {
+        if (!room.isAvailable()) {
+            return conflict(room, Reason.NOT_AVAILABLE, "Room " + room.getRoomNumber() + " is not available");
+        }
+        List<OccupancyInterval> overlapping = occupancyEngine.findConflicts(
+            intervals, groupRoom.roomId(), command.checkIn(), command.checkOut(), null);
+        if (!overlapping.isEmpty()) {
+            boolean blocked = overlapping.stream()
+                .anyMatch(interval -> interval.kind() == OccupancyInterval.Kind.BLOCK);
+            return blocked
+                ? conflict(room, Reason.BLOCKED, "Room " + room.getRoomNumber() + " is blocked for the selected dates")
+                : conflict(room, Reason.RESERVED, "Room " + room.getRoomNumber() + " is already reserved for the selected dates");
+        }
+        int guestCount = 1 + groupRoom.additionalGuestIds().size();
+        if (!room.canAccommodate(guestCount)) {
+            return conflict(room, Reason.CAPACITY_EXCEEDED, "Room " + room.getRoomNumber() + " capacity exceeded. Maximum: "
+                + room.getRoomType().getMaxOccupancy() + ", Requested: " + guestCount);
+        }
+        return null;
+    }
+
+    private static RoomConflict conflict(Room room, Reason reason, String message) {
+        return new RoomConflict(room.getId().getValue(), room.getRoomNumber(), reason, message);
+    }
+
+    /**
+     * One room of the group and the guests staying in it besides the group's principal guest.
+     */
+    public record GroupRoom(
+        String roomId,
+        List<String> additionalGuestIds
+    ) {
+        public GroupRoom {
+            Objects.requireNonNull(roomId, "Room ID cannot be null");
+            additionalGuestIds = additionalGuestIds != null ? List.copyOf(additionalGuestIds) : List.of();
+        }
+    }
+
+    public record CreateGroupReservationCommand(
+        LocalDate checkIn,
+        LocalDate checkOut,
+        Source source,
+        String guestPrincipalId,
+        List<GroupRoom> rooms
+    ) {
+        public CreateGroupReservationCommand {
+            Objects.requireNonNull(checkIn, "Check-in date cannot be null");
+            Objects.requireNonNull(checkOut, "Check-out date cannot be null");
+            Objects.requireNonNull(source, "Source cannot be null");
+            Objects.requireNonNull(guestPrincipalId, "Guest principal ID cannot be null");
+            Objects.requireNonNull(rooms, "Rooms cannot be null");
+
+            if (!checkIn.isBefore(checkOut)) {
+                throw new IllegalArgumentException("Check-in date must be before check-out date");
+            }
+            if (rooms.isEmpty()) {
+                throw new IllegalArgumentException("At least one room is required");
+            }
+            if (rooms.size() > MAX_ROOMS) {
+                throw new IllegalArgumentException("Cannot book more than " + MAX_ROOMS + " rooms at once");
+            }
+            Set<String> roomIds = new HashSet<>();
+            for (GroupRoom room : rooms) {
+                if (!roomIds.add(room.roomId())) {
+                    throw new IllegalArgumentException("Room " + room.roomId() + " is requested more than once");
+                }
+            }
+            rooms = List.copyOf(rooms);
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.daboerp.gestion.application.usecase.reservation;
 
 import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.domain.availability.OccupancyEngine;
+import com.daboerp.gestion.domain.availability.OccupancyInterval;
 import com.daboerp.gestion.domain.entity.Guest;
 import com.daboerp.gestion.domain.entity.Reservation;
 import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.repository.RoomBlockRepository;
 import com.daboerp.gestion.domain.repository.RoomRepository;
 import com.daboerp.gestion.domain.strategy.pricing.PricingContext;
 import com.daboerp.gestion.domain.valueobject.GuestId;
@@ -20,22 +24,37 @@ import java.util.Objects;
 
 /**
  * Use case for creating a new reservation.
+ * Overlapping reservations are checked here unless the database has been confirmed at startup to
+ * enforce non-overlapping stays per room; then a double booking is refused by the insert itself.
+ * Room blocks are not covered by that constraint and are always checked here.
  */
 public class CreateReservationUseCase {
     
     private final ReservationRepository reservationRepository;
     private final GuestRepository guestRepository;
     private final RoomRepository roomRepository;
+    private final OccupancyRepository occupancyRepository;
+    private final RoomBlockRepository roomBlockRepository;
+    private final OccupancyEngine occupancyEngine;
     private final PricingContext pricingContext;
+    private final boolean overlapEnforcedByDatabase;
     
     public CreateReservationUseCase(ReservationRepository reservationRepository,
                                    GuestRepository guestRepository,
                                    RoomRepository roomRepository,
-                                   PricingContext pricingContext) {
+                                   OccupancyRepository occupancyRepository,
+                                   RoomBlockRepository roomBlockRepository,
+                                   OccupancyEngine occupancyEngine,
+                                   PricingContext pricingContext,
+                                   boolean overlapEnforcedByDatabase) {
         this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
         this.guestRepository = Objects.requireNonNull(guestRepository, "Guest repository cannot be null");
         this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.occupancyRepository = Objects.requireNonNull(occupancyRepository, "Occupancy repository cannot be null");
+        this.roomBlockRepository = Objects.requireNonNull(roomBlockRepository, "Room block repository cannot be null");
+        this.occupancyEngine = Objects.requireNonNull(occupancyEngine, "Occupancy engine cannot be null");
         this.pricingContext = Objects.requireNonNull(pricingContext, "Pricing context cannot be null");
+        this.overlapEnforcedByDatabase = overlapEnforcedByDatabase;
     }
     
     public Reservation execute(CreateReservationCommand command) {
@@ -56,14 +75,22 @@ public class CreateReservationUseCase {
             throw new BusinessRuleViolationException("Room " + room.getRoomNumber() + " is not available");
         }
         
-        // Check for overlapping reservations
-        List<Reservation> overlapping = reservationRepository.findOverlappingReservations(
-            roomId, command.checkIn(), command.checkOut()
-        );
-        if (!overlapping.isEmpty()) {
-            throw new BusinessRuleViolationException(
-                "Room " + room.getRoomNumber() + " is already reserved for the selected dates"
+        if (overlapEnforcedByDatabase) {
+            // Overlapping reservations are refused on insert; only blocks need checking
+            if (!roomBlockRepository.findOverlapping(command.roomId(), command.checkIn(), command.checkOut()).isEmpty()) {
+                throw new BusinessRuleViolationException(
+                    "Room " + room.getRoomNumber() + " is blocked for the selected dates"
+                );
+            }
+        } else {
+            // Check for overlapping reservations and blocks
+            List<OccupancyInterval> conflicts = occupancyEngine.findConflicts(
+                occupancyRepository.findOverlapping(command.roomId(), command.checkIn(), command.checkOut()),
+                command.roomId(), command.checkIn(), command.checkOut(), null
             );
+            if (!conflicts.isEmpty()) {
+                throw conflictException(room, conflicts);
+            }
         }
         
         // Validate capacity
@@ -100,6 +127,19 @@ public class CreateReservationUseCase {
         return reservationRepository.save(reservation);
     }
     
+    static BusinessRuleViolationException conflictException(Room room, List<OccupancyInterval> conflicts) {
+        boolean blocked = conflicts.stream()
+            .anyMatch(conflict -> conflict.kind() == OccupancyInterval.Kind.BLOCK);
+        if (blocked) {
+            return new BusinessRuleViolationException(
+                "Room " + room.getRoomNumber() + " is blocked for the selected dates"
+            );
+        }
+        return new BusinessRuleViolationException(
+            "Room " + room.getRoomNumber() + " is already reserved for the selected dates"
+        );
+    }
+    
     public record CreateReservationCommand(
         LocalDate checkIn,
         LocalDate checkOut,
@@ -0,0 +1,80 @@
+package com.daboerp.gestion.application.usecase.reservation;
+
+import com.daboerp.gestion.application.export.Export;
+import com.daboerp.gestion.application.export.ExportFormat;
+import com.daboerp.gestion.application.export.ExportWriter;
+import com.daboerp.gestion.domain.export.ReservationExportRow;
+import com.daboerp.gestion.domain.repository.ExportRepository;
+
+import java.io.UncheckedIOException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use case for exporting reservations matching the search filters as CSV or NDJSON.
+ * Rows are written as the database cursor yields them, so memory use is flat however
+ * many reservations match. Criteria are validated up front; nothing is read until the
+ * returned export is written.
+ */
+public class ExportReservationsUseCase {
+    
+    private static final List<String> COLUMNS = List.of(
+        "id", "reservationCode", "roomId", "principalGuestId", "checkIn", "checkOut",
+        "nights", "status", "source", "quotedAmount", "createdAt"
+    );
+    
+    private final ExportRepository exportRepository;
+    private final int fetchSize;
+    private final int flushEvery;
+    
+    public ExportReservationsUseCase(ExportRepository exportRepository, int fetchSize, int flushEvery) {
+        this.exportRepository = Objects.requireNonNull(exportRepository, "Export repository cannot be null");
+        if (fetchSize < 1 || flushEvery < 1) {
+            throw new IllegalArgumentException("Export fetch size and flush interval must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+    
+    public Export execute(FilterReservationsUseCase.FilterCriteria criteria, ExportFormat format) {
+        FilterReservationsUseCase.validateCriteria(criteria);
+        Objects.requireNonNull(format, "Export format cannot be null");
+        
+        return output -> {
+            ExportWriter writer = new ExportWriter(format, COLUMNS, output, flushEvery);
+            writer.begin();
+            try {
+                exportRepository.streamReservations(
+                    criteria.status(),
+                    criteria.source(),
+                    criteria.checkInStart(),
+                    criteria.checkInEnd(),
+                    criteria.stayStart(),
+                    criteria.stayEnd(),
+                    fetchSize,
+                    row -> write(writer, row)
+                );
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return writer.finish();
+        };
+    }
+    
+    private static void write(ExportWriter writer, ReservationExportRow row) {
+        writer.writeRow(
+            row.id(),
+            row.reservationCode(),
+            row.roomId(),
+            row.principalGuestId(),
+            row.checkIn(),
+            row.checkOut(),
+            ChronoUnit.DAYS.between(row.checkIn(), row.checkOut()),
+            row.status(),
+            row.source(),
+            row.quotedAmount(),
+            row.createdAt()
+        );
+    }
+}
@@ -1,32 +1,46 @@
 package com.daboerp.gestion.application.usecase.reservation;
 
-import com.daboerp.gestion.domain.entity.Reservation;
 import com.daboerp.gestion.domain.entity.StatusType;
-import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.listing.ReservationListRow;
+import com.daboerp.gestion.domain.repository.ListingRepository;
 import com.daboerp.gestion.domain.valueobject.Source;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Use case for filtering reservations with optional pagination.
  * Supports filtering by status, source, and stay dates.
+ * Offset pagination is kept for small result sets; cursor pagination seeks on (check-in, id)
+ * so deep pages cost the same as the first one.
+ * Results are list rows read by projection, not aggregates.
  */
 public class FilterReservationsUseCase {
     
-    private final ReservationRepository reservationRepository;
+    private static final int MAX_CACHED_TOTALS = 1000;
     
-    public FilterReservationsUseCase(ReservationRepository reservationRepository) {
-        this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
+    private final ListingRepository listingRepository;
+    private final Duration totalCountTtl;
+    private final Map<FilterCriteria, CachedCount> cachedTotals = new ConcurrentHashMap<>();
+    
+    public FilterReservationsUseCase(ListingRepository listingRepository, Duration totalCountTtl) {
+        this.listingRepository = Objects.requireNonNull(listingRepository, "Listing repository cannot be null");
+        this.totalCountTtl = Objects.requireNonNull(totalCountTtl, "Total count TTL cannot be null");
     }
     
     /**
      * Execute reservation filtering without pagination.
      */
-    public List<Reservation> execute(FilterCriteria criteria) {
+    public List<ReservationListRow> execute(FilterCriteria criteria) {
         validateCriteria(criteria);
-        return reservationRepository.findByFilters(
+        return listingRepository.findReservations(
             criteria.status(),
             criteria.source(),
             criteria.checkInStart(),
@@ -43,7 +57,7 @@ public class FilterReservationsUseCase {
         validateCriteria(criteria);
         validatePaginationParams(page, size);
         
-        List<Reservation> items = reservationRepository.findByFiltersWithPagination(
+        List<ReservationListRow> items = listingRepository.findReservationsPage(
             criteria.status(),
             criteria.source(),
             criteria.checkInStart(),
@@ -54,7 +68,7 @@ public class FilterReservationsUseCase {
             size
         );
         
-        long totalCount = reservationRepository.countByFilters(
+        long totalCount = listingRepository.countReservations(
             criteria.status(),
             criteria.source(),
             criteria.checkInStart(),
@@ -68,7 +82,63 @@ public class FilterReservationsUseCase {
         return new PaginationResult(items, page, size, totalPages, totalCount);
     }
     
-    private void validateCriteria(FilterCriteria criteria) {
+    /**
+     * Execute reservation filtering with keyset pagination.
+     * A null or blank cursor starts from the beginning. The total is only computed when requested,
+     * and is then cached per criteria for a short time, so it may lag recent writes.
+     */
+    public CursorPage executeWithCursor(FilterCriteria criteria, String cursor, int size, boolean includeTotal) {
+        validateCriteria(criteria);
+        validatePaginationParams(0, size);
+        
+        Cursor position = Cursor.decode(cursor);
+        List<ReservationListRow> fetched = listingRepository.findReservationsAfter(
+            criteria.status(),
+            criteria.source(),
+            criteria.checkInStart(),
+            criteria.checkInEnd(),
+            criteria.stayStart(),
+            criteria.stayEnd(),
+            position != null ? position.checkIn() : null,
+            position != null ? position.id() : null,
+            size + 1
+        );
+        
+        // One extra row tells whether another page exists without counting
+        boolean hasNext = fetched.size() > size;
+        List<ReservationListRow> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = null;
+        if (hasNext) {
+            ReservationListRow last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.checkIn(), last.id()).encode();
+        }
+        
+        Long totalCount = includeTotal ? cachedTotal(criteria) : null;
+        return new CursorPage(List.copyOf(items), size, nextCursor, hasNext, totalCount);
+    }
+    
+    private long cachedTotal(FilterCriteria criteria) {
+        long now = System.nanoTime();
+        CachedCount cached = cachedTotals.get(criteria);
+        if (cached != null && now - cached.computedAt() < totalCountTtl.toNanos()) {
+            return cached.count();
+        }
+        long count = listingRepository.countReservations(
+            criteria.status(),
+            criteria.source(),
+            criteria.checkInStart(),
+            criteria.checkInEnd(),
+            criteria.stayStart(),
+            criteria.stayEnd()
+        );
+        if (cachedTotals.size() >= MAX_CACHED_TOTALS) {
+            cachedTotals.clear();
+        }
+        cachedTotals.put(criteria, new CachedCount(count, now));
+        return count;
+    }
+    
+    static void validateCriteria(FilterCriteria criteria) {
         if (criteria == null) {
             throw new IllegalArgumentException("Filter criteria cannot be null");
         }
@@ -159,11 +229,52 @@ public class FilterReservationsUseCase {
         }
     }
     
+    /**
+     * Result object for cursor-paginated queries.
+     * The total count is null unless requested.
+     */
+    public record CursorPage(
+        List<ReservationListRow> items,
+        int pageSize,
+        String nextCursor,
+        boolean hasNext,
+        Long totalCount
+    ) {}
+    
+    /**
+     * Keyset position, exchanged with clients as an opaque URL-safe token.
+     */
+    record Cursor(LocalDate checkIn, String id) {
+        
+        String encode() {
+            String raw = checkIn + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator <= 0 || separator == raw.length() - 1) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                return new Cursor(LocalDate.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+    
+    private record CachedCount(long count, long computedAt) {}
+    
     /**
      * Result object for paginated queries.
      */
     public record PaginationResult(
-        List<Reservation> items,
+        List<ReservationListRow> items,
         int currentPage,
         int pageSize,
         long totalPages,
@@ -0,0 +1,37 @@
+package com.daboerp.gestion.application.usecase.reservation;
+
+import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
+
+import java.util.List;
+
+/**
+ * Raised when a group booking cannot be made as a whole; lists every room that stands in the way.
+ */
+public class GroupReservationConflictException extends BusinessRuleViolationException {
+
+    private final List<RoomConflict> conflicts;
+
+    public GroupReservationConflictException(int requestedRooms, List<RoomConflict> conflicts) {
+        super(String.format("%d of %d requested rooms cannot be booked; no reservation was made",
+            conflicts.size(), requestedRooms));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public List<RoomConflict> getConflicts() {
+        return conflicts;
+    }
+
+    public enum Reason {
+        NOT_AVAILABLE,
+        RESERVED,
+        BLOCKED,
+        CAPACITY_EXCEEDED
+    }
+
+    public record RoomConflict(
+        String roomId,
+        Integer roomNumber,
+        Reason reason,
+        String message
+    ) {}
+}
@@ -0,0 +1,143 @@
+package com.daboerp.gestion.application.usecase.reservation;
+
+import com.daboerp.gestion.application.imports.CsvImporter;
+import com.daboerp.gestion.application.imports.CsvImporter.Candidate;
+import com.daboerp.gestion.application.imports.CsvImporter.Rejection;
+import com.daboerp.gestion.application.imports.ImportJob;
+import com.daboerp.gestion.application.imports.ImportRow;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.imports.HistoricalReservation;
+import com.daboerp.gestion.domain.repository.ImportRepository;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case for loading past stays in bulk from CSV.
+ * Rows name their room by number and their principal guest by document number; each chunk
+ * resolves both, and checks its reservation codes, with one lookup each before a batch insert.
+ * Only finished stays are accepted, so no availability check is needed and no booking events
+ * are raised. Rows without a reservation code get a generated one.
+ */
+public class ImportReservationsUseCase {
+
+    public static final List<String> REQUIRED_COLUMNS = List.of(
+        "roomNumber", "guestDocumentNumber", "checkIn", "checkOut", "status", "source", "quotedAmount"
+    );
+
+    private final CsvImporter importer;
+    private final ImportRepository importRepository;
+
+    public ImportReservationsUseCase(CsvImporter importer, ImportRepository importRepository) {
+        this.importer = Objects.requireNonNull(importer, "CSV importer cannot be null");
+        this.importRepository = Objects.requireNonNull(importRepository, "Import repository cannot be null");
+    }
+
+    /**
+     * Queue the CSV for import and return its job right away.
+     */
+    public ImportJob execute(InputStream csv) throws IOException {
+        return importer.submit("reservations", csv, REQUIRED_COLUMNS, ImportReservationsUseCase::parse, this::write);
+    }
+
+    private static ReservationLine parse(ImportRow row) {
+        return new ReservationLine(
+            row.text("reservationCode"),
+            row.integer("roomNumber"),
+            row.required("guestDocumentNumber"),
+            row.date("checkIn"),
+            row.date("checkOut"),
+            row.enumValue("status", StatusType.class),
+            row.enumValue("source", Source.class),
+            row.decimal("quotedAmount"),
+            row.date("createdAt")
+        );
+    }
+
+    private List<Rejection> write(List<Candidate<ReservationLine>> candidates) {
+        Set<Integer> roomNumbers = new HashSet<>();
+        Set<String> documentNumbers = new HashSet<>();
+        Set<String> codes = new HashSet<>();
+        for (Candidate<ReservationLine> candidate : candidates) {
+            roomNumbers.add(candidate.value().roomNumber());
+            documentNumbers.add(candidate.value().guestDocumentNumber());
+            if (candidate.value().reservationCode() != null) {
+                codes.add(candidate.value().reservationCode());
+            }
+        }
+        Map<Integer, String> roomIds = importRepository.findRoomIdsByNumbers(roomNumbers);
+        Map<String, String> guestIds = importRepository.findGuestIdsByDocumentNumbers(documentNumbers);
+        Set<String> takenCodes = new HashSet<>(importRepository.findExistingReservationCodes(codes));
+
+        List<HistoricalReservation> accepted = new ArrayList<>(candidates.size());
+        List<Rejection> rejected = new ArrayList<>();
+        for (Candidate<ReservationLine> candidate : candidates) {
+            ReservationLine line = candidate.value();
+            String roomId = roomIds.get(line.roomNumber());
+            String guestId = guestIds.get(line.guestDocumentNumber());
+            if (roomId == null) {
+                rejected.add(new Rejection(candidate.row(), "Unknown room number: " + line.roomNumber()));
+            } else if (guestId == null) {
+                rejected.add(new Rejection(candidate.row(),
+                    "No single guest with document number: " + line.guestDocumentNumber()));
+            } else if (line.reservationCode() != null && takenCodes.contains(line.reservationCode())) {
+                rejected.add(new Rejection(candidate.row(), "Duplicate reservation code: " + line.reservationCode()));
+            } else {
+                HistoricalReservation reservation = line.toReservation(roomId, guestId);
+                takenCodes.add(reservation.reservationCode());
+                accepted.add(reservation);
+            }
+        }
+
+        importRepository.insertReservations(accepted);
+        return rejected;
+    }
+
+    /**
+     * A parsed row whose room and guest are not resolved yet.
+     * Validated here so bad rows are rejected during the parallel parse, not after the lookups.
+     */
+    record ReservationLine(
+        String reservationCode,
+        Integer roomNumber,
+        String guestDocumentNumber,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        StatusType status,
+        Source source,
+        BigDecimal quotedAmount,
+        LocalDate createdAt
+    ) {
+        ReservationLine {
+            Objects.requireNonNull(roomNumber, "Room number cannot be null");
+            Objects.requireNonNull(guestDocumentNumber, "Guest document number cannot be null");
+            HistoricalReservation.validate(reservationCode, checkIn, checkOut, status, source, quotedAmount);
+        }
+
+        HistoricalReservation toReservation(String roomId, String guestId) {
+            return new HistoricalReservation(
+                UUID.randomUUID().toString(),
+                reservationCode != null ? reservationCode : Reservation.generateReservationCode(),
+                roomId,
+                guestId,
+                checkIn,
+                checkOut,
+                status,
+                source,
+                quotedAmount,
+                createdAt != null ? createdAt : LocalDate.now()
+            );
+        }
+    }
+}
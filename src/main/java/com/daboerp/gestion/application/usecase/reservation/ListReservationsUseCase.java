@@ -1,7 +1,7 @@
 package com.daboerp.gestion.application.usecase.reservation;
 
-import com.daboerp.gestion.domain.entity.Reservation;
-import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.listing.ReservationListRow;
+import com.daboerp.gestion.domain.repository.ListingRepository;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,32 +9,33 @@ import java.util.Objects;
 
 /**
  * Use case for listing reservations.
+ * Returns list rows rather than aggregates; nothing listed here is loaded for change.
  */
 public class ListReservationsUseCase {
     
-    private final ReservationRepository reservationRepository;
+    private final ListingRepository listingRepository;
     
-    public ListReservationsUseCase(ReservationRepository reservationRepository) {
-        this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
+    public ListReservationsUseCase(ListingRepository listingRepository) {
+        this.listingRepository = Objects.requireNonNull(listingRepository, "Listing repository cannot be null");
     }
     
-    public List<Reservation> execute() {
-        return reservationRepository.findAll();
+    public List<ReservationListRow> execute() {
+        return listingRepository.findReservations(null, null, null, null, null, null);
     }
     
-    public List<Reservation> executeActive() {
-        return reservationRepository.findActiveReservations();
+    public List<ReservationListRow> executeActive() {
+        return listingRepository.findActiveReservations();
     }
     
-    public List<Reservation> executeCheckInsForDate(LocalDate date) {
-        return reservationRepository.findCheckInsForDate(date);
+    public List<ReservationListRow> executeCheckInsForDate(LocalDate date) {
+        return listingRepository.findReservationsCheckingIn(date);
     }
     
-    public List<Reservation> executeCheckOutsForDate(LocalDate date) {
-        return reservationRepository.findCheckOutsForDate(date);
+    public List<ReservationListRow> executeCheckOutsForDate(LocalDate date) {
+        return listingRepository.findReservationsCheckingOut(date);
     }
     
-    public List<Reservation> executeByDateRange(LocalDate startDate, LocalDate endDate) {
-        return reservationRepository.findByDateRange(startDate, endDate);
+    public List<ReservationListRow> executeByDateRange(LocalDate startDate, LocalDate endDate) {
+        return listingRepository.findReservationsByDateRange(startDate, endDate);
     }
 }
@@ -2,10 +2,13 @@ package com.daboerp.gestion.application.usecase.reservation;
 
 import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.domain.availability.OccupancyEngine;
+import com.daboerp.gestion.domain.availability.OccupancyInterval;
 import com.daboerp.gestion.domain.entity.Guest;
 import com.daboerp.gestion.domain.entity.Reservation;
 import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.repository.RoomRepository;
 import com.daboerp.gestion.domain.valueobject.GuestId;
@@ -25,13 +28,19 @@ public class UpdateReservationUseCase {
     private final ReservationRepository reservationRepository;
     private final GuestRepository guestRepository;
     private final RoomRepository roomRepository;
+    private final OccupancyRepository occupancyRepository;
+    private final OccupancyEngine occupancyEngine;
 
     public UpdateReservationUseCase(ReservationRepository reservationRepository,
                                     GuestRepository guestRepository,
-                                    RoomRepository roomRepository) {
+                                    RoomRepository roomRepository,
+                                    OccupancyRepository occupancyRepository,
+                                    OccupancyEngine occupancyEngine) {
         this.reservationRepository = Objects.requireNonNull(reservationRepository, "Reservation repository cannot be null");
         this.guestRepository = Objects.requireNonNull(guestRepository, "Guest repository cannot be null");
         this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.occupancyRepository = Objects.requireNonNull(occupancyRepository, "Occupancy repository cannot be null");
+        this.occupancyEngine = Objects.requireNonNull(occupancyEngine, "Occupancy engine cannot be null");
     }
 
     public Reservation execute(UpdateReservationCommand command) {
@@ -41,7 +50,10 @@ public class UpdateReservationUseCase {
         Reservation reservation = reservationRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Reservation", command.reservationId()));
 
+        boolean datesChanged = false;
         if (command.checkIn() != null && command.checkOut() != null) {
+            datesChanged = !command.checkIn().equals(reservation.getCheckIn())
+                || !command.checkOut().equals(reservation.getCheckOut());
             reservation.updateDates(command.checkIn(), command.checkOut());
         }
 
@@ -69,18 +81,10 @@ public class UpdateReservationUseCase {
                 throw new BusinessRuleViolationException("Room " + room.getRoomNumber() + " is not available");
             }
 
-            List<Reservation> overlapping = reservationRepository.findOverlappingReservations(
-                roomId, reservation.getCheckIn(), reservation.getCheckOut()
-            );
-            boolean selfOverlap = overlapping.stream()
-                .anyMatch(r -> !r.getId().equals(reservation.getId()));
-            if (!overlapping.isEmpty() && selfOverlap) {
-                throw new BusinessRuleViolationException(
-                    "Room " + room.getRoomNumber() + " is already reserved for the selected dates"
-                );
-            }
-
+            ensureNoConflicts(reservation, room);
             reservation.updateRoom(room);
+        } else if (datesChanged && reservation.isActive()) {
+            ensureNoConflicts(reservation, reservation.getRoom());
         }
 
         if (command.additionalGuestIds() != null) {
@@ -110,6 +114,17 @@ public class UpdateReservationUseCase {
         return reservationRepository.save(reservation);
     }
 
+    private void ensureNoConflicts(Reservation reservation, Room room) {
+        String roomId = room.getId().getValue();
+        List<OccupancyInterval> conflicts = occupancyEngine.findConflicts(
+            occupancyRepository.findOverlapping(roomId, reservation.getCheckIn(), reservation.getCheckOut()),
+            roomId, reservation.getCheckIn(), reservation.getCheckOut(), reservation.getId().getValue()
+        );
+        if (!conflicts.isEmpty()) {
+            throw CreateReservationUseCase.conflictException(room, conflicts);
+        }
+    }
+
     public record UpdateReservationCommand(
         String reservationId,
         LocalDate checkIn,
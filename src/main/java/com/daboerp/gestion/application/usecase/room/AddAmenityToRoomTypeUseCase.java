@@ -0,0 +1,42 @@
+package com.daboerp.gestion.application.usecase.room;
+
+import com.daboerp.gestion.application.exception.ResourceNotFoundException;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.repository.RoomTypeRepository;
+import com.daboerp.gestion.domain.valueobject.Amenity;
+import com.daboerp.gestion.domain.valueobject.RoomTypeId;
+
+import java.util.Objects;
+
+public class AddAmenityToRoomTypeUseCase {
+
+    private final RoomTypeRepository roomTypeRepository;
+    private final RoomRepository roomRepository;
+
+    public AddAmenityToRoomTypeUseCase(RoomTypeRepository roomTypeRepository, RoomRepository roomRepository) {
+        this.roomTypeRepository = Objects.requireNonNull(roomTypeRepository, "Room type repository cannot be null");
+        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+    }
+
+    public AddResult execute(AddAmenityToRoomTypeCommand command) {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        RoomTypeId roomTypeId = RoomTypeId.of(command.roomTypeId());
+        roomTypeRepository.findById(roomTypeId)
+            .orElseThrow(() -> new ResourceNotFoundException("RoomType", command.roomTypeId()));
+
+        Amenity amenity = Amenity.of(command.amenity());
+        int affectedRooms = roomRepository.addAmenityToActiveRoomsOfType(roomTypeId, amenity);
+
+        return new AddResult(affectedRooms);
+    }
+
+    public record AddAmenityToRoomTypeCommand(String roomTypeId, String amenity) {
+        public AddAmenityToRoomTypeCommand {
+            Objects.requireNonNull(roomTypeId, "Room type ID cannot be null");
+            Objects.requireNonNull(amenity, "Amenity cannot be null");
+        }
+    }
+
+    public record AddResult(int affectedRoomsCount) {}
+}
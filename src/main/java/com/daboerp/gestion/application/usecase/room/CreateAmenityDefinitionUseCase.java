@@ -1,17 +1,23 @@
 package com.daboerp.gestion.application.usecase.room;
 
+import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
 import com.daboerp.gestion.application.exception.ResourceAlreadyExistsException;
 import com.daboerp.gestion.domain.entity.AmenityDefinition;
 import com.daboerp.gestion.domain.repository.AmenityDefinitionRepository;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.valueobject.Amenity;
 
+import java.util.BitSet;
 import java.util.Objects;
 
 public class CreateAmenityDefinitionUseCase {
 
     private final AmenityDefinitionRepository repository;
+    private final RoomRepository roomRepository;
 
-    public CreateAmenityDefinitionUseCase(AmenityDefinitionRepository repository) {
+    public CreateAmenityDefinitionUseCase(AmenityDefinitionRepository repository, RoomRepository roomRepository) {
         this.repository = Objects.requireNonNull(repository);
+        this.roomRepository = Objects.requireNonNull(roomRepository);
     }
 
     public AmenityDefinition execute(CreateAmenityDefinitionCommand command) {
@@ -21,8 +27,24 @@ public class CreateAmenityDefinitionUseCase {
             throw new ResourceAlreadyExistsException("AmenityDefinition", command.name);
         }
 
-        AmenityDefinition definition = AmenityDefinition.create(command.name);
-        return repository.save(definition);
+        AmenityDefinition definition = repository.save(AmenityDefinition.create(command.name, nextFreeOrdinal()));
+        // Rooms may already list the amenity by name; give them its bit
+        roomRepository.refreshAmenityMasks(Amenity.of(definition.getName()));
+        return definition;
+    }
+
+    /**
+     * Lowest bit position not held by another definition; positions of deleted definitions are reused.
+     */
+    private int nextFreeOrdinal() {
+        BitSet used = new BitSet();
+        repository.findAll().forEach(existing -> used.set(existing.getOrdinal()));
+        int ordinal = used.nextClearBit(0);
+        if (ordinal > AmenityDefinition.MAX_ORDINAL) {
+            throw new BusinessRuleViolationException(
+                "The amenity catalog is full: at most " + (AmenityDefinition.MAX_ORDINAL + 1) + " amenities can be defined");
+        }
+        return ordinal;
     }
 
     public record CreateAmenityDefinitionCommand(String name) {
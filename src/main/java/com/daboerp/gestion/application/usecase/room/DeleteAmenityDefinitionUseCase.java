@@ -1,24 +1,18 @@
 package com.daboerp.gestion.application.usecase.room;
 
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
-import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.repository.AmenityDefinitionRepository;
-import com.daboerp.gestion.domain.repository.RoomRepository;
 import com.daboerp.gestion.domain.valueobject.AmenityDefinitionId;
 import com.daboerp.gestion.domain.valueobject.Amenity;
 
-import java.util.List;
 import java.util.Objects;
 
 public class DeleteAmenityDefinitionUseCase {
 
     private final AmenityDefinitionRepository amenityDefinitionRepository;
-    private final RoomRepository roomRepository;
 
-    public DeleteAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository,
-                                         RoomRepository roomRepository) {
+    public DeleteAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository) {
         this.amenityDefinitionRepository = Objects.requireNonNull(amenityDefinitionRepository);
-        this.roomRepository = Objects.requireNonNull(roomRepository);
     }
 
     public DeleteResult execute(DeleteAmenityDefinitionCommand command) {
@@ -31,18 +25,9 @@ public class DeleteAmenityDefinitionUseCase {
         String amenityName = definition.getName();
         Amenity amenity = Amenity.of(amenityName);
 
-        List<Room> affectedRooms = roomRepository.findAllActive().stream()
-            .filter(room -> room.getAmenities().contains(amenity))
-            .toList();
+        int affectedRooms = amenityDefinitionRepository.deleteAndRemoveFromRooms(id, amenity);
 
-        for (Room room : affectedRooms) {
-            room.removeAmenity(amenity);
-            roomRepository.save(room);
-        }
-
-        amenityDefinitionRepository.delete(id);
-
-        return new DeleteResult(affectedRooms.size());
+        return new DeleteResult(affectedRooms);
     }
 
     public record DeleteAmenityDefinitionCommand(String definitionId) {
@@ -1,55 +1,211 @@
 package com.daboerp.gestion.application.usecase.room;
 
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
+import com.daboerp.gestion.domain.entity.AmenityDefinition;
 import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.repository.AmenityDefinitionRepository;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
 import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.valueobject.AmenityFilter;
+import com.daboerp.gestion.domain.valueobject.RoomId;
 import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+/**
+ * Use case for finding rooms available in a date range.
+ * Date-range searches are answered from the in-memory availability index once it is warm;
+ * in verification mode every answer is also computed in the database and mismatches are logged.
+ * Amenity filters are translated to catalog bitmasks and applied by the room query itself.
+ */
 public class FindAvailableRoomsUseCase {
 
+    private static final Logger logger = LoggerFactory.getLogger(FindAvailableRoomsUseCase.class);
+
     private final RoomRepository roomRepository;
+    private final OccupancyRepository occupancyRepository;
+    private final AmenityDefinitionRepository amenityDefinitionRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final boolean verifyAgainstDatabase;
 
-    public FindAvailableRoomsUseCase(RoomRepository roomRepository) {
+    public FindAvailableRoomsUseCase(RoomRepository roomRepository,
+                                     OccupancyRepository occupancyRepository,
+                                     AmenityDefinitionRepository amenityDefinitionRepository,
+                                     RoomAvailabilityIndex availabilityIndex,
+                                     boolean verifyAgainstDatabase) {
         this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.occupancyRepository = Objects.requireNonNull(occupancyRepository, "Occupancy repository cannot be null");
+        this.amenityDefinitionRepository = Objects.requireNonNull(amenityDefinitionRepository,
+            "Amenity definition repository cannot be null");
+        this.availabilityIndex = Objects.requireNonNull(availabilityIndex, "Availability index cannot be null");
+        this.verifyAgainstDatabase = verifyAgainstDatabase;
     }
 
     public List<Room> execute(FindAvailableRoomsQuery query) {
         Objects.requireNonNull(query, "Query cannot be null");
+        AmenityFilter amenities = resolveAmenities(query);
 
-        List<Room> candidateRooms;
         if (query.checkIn() != null && query.checkOut() != null) {
-            if (query.minCapacity() != null && query.minCapacity() > 0) {
-                candidateRooms = roomRepository.findAvailableByCapacity(
-                    query.minCapacity(),
-                    query.checkIn(),
-                    query.checkOut()
-                );
-            } else {
-                candidateRooms = roomRepository.findAvailableRooms(query.checkIn(), query.checkOut());
+            if (!availabilityIndex.isReady()) {
+                return findInDatabase(query, amenities);
+            }
+            List<Room> fromIndex = findInIndex(query, amenities);
+            if (verifyAgainstDatabase) {
+                List<Room> fromDatabase = findInDatabase(query, amenities);
+                ConsistencyReport report = compare(fromIndex, fromDatabase);
+                if (!report.isConsistent()) {
+                    logger.warn("Availability index mismatch for {} - {}: missing from index {}, unexpected in index {}",
+                        query.checkIn(), query.checkOut(), report.missingFromIndex(), report.unexpectedInIndex());
+                    return fromDatabase;
+                }
             }
-            return candidateRooms;
+            return fromIndex;
         }
 
-        List<Room> available = roomRepository.findByStatus(RoomStatus.AVAILABLE);
+        List<Room> available = amenities.isEmpty()
+            ? roomRepository.findByStatus(RoomStatus.AVAILABLE)
+            : roomRepository.findActiveByStatus(RoomStatus.AVAILABLE, amenities);
         if (query.minCapacity() != null && query.minCapacity() > 0) {
             int minCapacity = query.minCapacity();
             available = available.stream()
                 .filter(room -> room.getRoomType().getMaxOccupancy() >= minCapacity)
                 .collect(Collectors.toList());
         }
-        if (query.checkIn() != null && query.checkOut() != null) {
-            return available;
-        }
         return available;
     }
 
+    /**
+     * Check a single room without loading every available room.
+     */
+    public boolean isRoomAvailable(String roomId, LocalDate checkIn, LocalDate checkOut) {
+        Objects.requireNonNull(roomId, "Room ID cannot be null");
+        Objects.requireNonNull(checkIn, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOut, "Check-out date cannot be null");
+
+        Room room = roomRepository.findById(RoomId.of(roomId)).orElse(null);
+        if (room == null || room.isDeleted() || room.getRoomStatus() != RoomStatus.AVAILABLE) {
+            return false;
+        }
+
+        if (!availabilityIndex.isReady()) {
+            return isFreeInDatabase(room, checkIn, checkOut);
+        }
+        boolean indexAnswer = availabilityIndex.isFree(roomId, checkIn, checkOut);
+        if (verifyAgainstDatabase) {
+            boolean databaseAnswer = isFreeInDatabase(room, checkIn, checkOut);
+            if (indexAnswer != databaseAnswer) {
+                logger.warn("Availability index mismatch for room {} {} - {}: index {}, database {}",
+                    roomId, checkIn, checkOut, indexAnswer, databaseAnswer);
+            }
+            return databaseAnswer;
+        }
+        return indexAnswer;
+    }
+
+    private boolean isFreeInDatabase(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return occupancyRepository.findOverlapping(room.getId().getValue(), checkIn, checkOut).isEmpty();
+    }
+
+    private List<Room> findInIndex(FindAvailableRoomsQuery query, AmenityFilter amenities) {
+        List<Room> candidates = amenities.isEmpty()
+            ? roomRepository.findActiveByStatus(RoomStatus.AVAILABLE)
+            : roomRepository.findActiveByStatus(RoomStatus.AVAILABLE, amenities);
+        return candidates.stream()
+            .filter(room -> query.minCapacity() == null || query.minCapacity() <= 0
+                || room.getRoomType().getMaxOccupancy() >= query.minCapacity())
+            .filter(room -> availabilityIndex.isFree(room.getId().getValue(), query.checkIn(), query.checkOut()))
+            .collect(Collectors.toList());
+    }
+
+    private List<Room> findInDatabase(FindAvailableRoomsQuery query, AmenityFilter amenities) {
+        if (!amenities.isEmpty()) {
+            int minCapacity = query.minCapacity() != null ? Math.max(query.minCapacity(), 0) : 0;
+            return roomRepository.findAvailableRooms(query.checkIn(), query.checkOut(), minCapacity, amenities);
+        }
+        if (query.minCapacity() != null && query.minCapacity() > 0) {
+            return roomRepository.findAvailableByCapacity(
+                query.minCapacity(),
+                query.checkIn(),
+                query.checkOut()
+            );
+        }
+        return roomRepository.findAvailableRooms(query.checkIn(), query.checkOut());
+    }
+
+    /**
+     * Translate the requested amenity names to catalog bitmasks. Only catalog amenities have a bit,
+     * so any other name is rejected rather than silently matching nothing.
+     */
+    private AmenityFilter resolveAmenities(FindAvailableRoomsQuery query) {
+        if (query.allAmenities().isEmpty() && query.anyAmenities().isEmpty()) {
+            return AmenityFilter.NONE;
+        }
+        Map<String, Long> bitsByName = amenityDefinitionRepository.findAll().stream()
+            .collect(Collectors.toMap(AmenityDefinition::getName, AmenityDefinition::bit));
+        return new AmenityFilter(maskOf(query.allAmenities(), bitsByName), maskOf(query.anyAmenities(), bitsByName));
+    }
+
+    private static long maskOf(Set<String> names, Map<String, Long> bitsByName) {
+        long mask = 0L;
+        for (String name : names) {
+            Long bit = bitsByName.get(name);
+            if (bit == null) {
+                throw new IllegalArgumentException("Unknown amenity: " + name);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    private static ConsistencyReport compare(List<Room> fromIndex, List<Room> fromDatabase) {
+        Set<String> indexIds = fromIndex.stream()
+            .map(room -> room.getId().getValue())
+            .collect(Collectors.toCollection(TreeSet::new));
+        Set<String> databaseIds = fromDatabase.stream()
+            .map(room -> room.getId().getValue())
+            .collect(Collectors.toCollection(TreeSet::new));
+
+        Set<String> missingFromIndex = new TreeSet<>(databaseIds);
+        missingFromIndex.removeAll(indexIds);
+        Set<String> unexpectedInIndex = new TreeSet<>(indexIds);
+        unexpectedInIndex.removeAll(databaseIds);
+        return new ConsistencyReport(missingFromIndex, unexpectedInIndex);
+    }
+
+    /**
+     * {@code allAmenities}: rooms must have every one; {@code anyAmenities}: rooms must have at least one.
+     */
     public record FindAvailableRoomsQuery(
         LocalDate checkIn,
         LocalDate checkOut,
-        Integer minCapacity
-    ) {}
+        Integer minCapacity,
+        Set<String> allAmenities,
+        Set<String> anyAmenities
+    ) {
+        public FindAvailableRoomsQuery {
+            allAmenities = allAmenities != null ? Set.copyOf(allAmenities) : Set.of();
+            anyAmenities = anyAmenities != null ? Set.copyOf(anyAmenities) : Set.of();
+        }
+
+        public FindAvailableRoomsQuery(LocalDate checkIn, LocalDate checkOut, Integer minCapacity) {
+            this(checkIn, checkOut, minCapacity, Set.of(), Set.of());
+        }
+    }
+
+    public record ConsistencyReport(
+        Set<String> missingFromIndex,
+        Set<String> unexpectedInIndex
+    ) {
+        public boolean isConsistent() {
+            return missingFromIndex.isEmpty() && unexpectedInIndex.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.daboerp.gestion.application.usecase.room;
+
+import com.daboerp.gestion.domain.availability.OccupancyEngine;
+import com.daboerp.gestion.domain.availability.OccupancyMatrix;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for the booking calendar: occupancy of every active room for each night of a range,
+ * computed from one occupancy query instead of one call per room.
+ */
+public class GetOccupancyMatrixUseCase {
+
+    public static final int MAX_NIGHTS = 366;
+
+    private final RoomRepository roomRepository;
+    private final OccupancyRepository occupancyRepository;
+    private final OccupancyEngine occupancyEngine;
+
+    public GetOccupancyMatrixUseCase(RoomRepository roomRepository,
+                                     OccupancyRepository occupancyRepository,
+                                     OccupancyEngine occupancyEngine) {
+        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.occupancyRepository = Objects.requireNonNull(occupancyRepository, "Occupancy repository cannot be null");
+        this.occupancyEngine = Objects.requireNonNull(occupancyEngine, "Occupancy engine cannot be null");
+    }
+
+    public OccupancyCalendar execute(OccupancyMatrixQuery query) {
+        Objects.requireNonNull(query, "Query cannot be null");
+
+        List<Room> rooms = roomRepository.findAllActive().stream()
+            .sorted(Comparator.comparing(Room::getRoomNumber))
+            .collect(Collectors.toList());
+        List<String> roomIds = rooms.stream()
+            .map(room -> room.getId().getValue())
+            .collect(Collectors.toList());
+
+        OccupancyMatrix matrix = occupancyEngine.buildMatrix(
+            roomIds,
+            occupancyRepository.findOverlapping(query.from(), query.to()),
+            query.from(),
+            query.to()
+        );
+        return new OccupancyCalendar(matrix, rooms);
+    }
+
+    public record OccupancyMatrixQuery(
+        LocalDate from,
+        LocalDate to
+    ) {
+        public OccupancyMatrixQuery {
+            Objects.requireNonNull(from, "From date cannot be null");
+            Objects.requireNonNull(to, "To date cannot be null");
+            if (!to.isAfter(from)) {
+                throw new IllegalArgumentException("End date must be after start date");
+            }
+            if (ChronoUnit.DAYS.between(from, to) > MAX_NIGHTS) {
+                throw new IllegalArgumentException("Date range cannot exceed " + MAX_NIGHTS + " nights");
+            }
+        }
+    }
+
+    public record OccupancyCalendar(
+        OccupancyMatrix matrix,
+        List<Room> rooms
+    ) {}
+}
@@ -1,7 +1,7 @@
 package com.daboerp.gestion.application.usecase.room;
 
-import com.daboerp.gestion.domain.entity.Room;
-import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.listing.RoomListRow;
+import com.daboerp.gestion.domain.repository.ListingRepository;
 import com.daboerp.gestion.domain.valueobject.RoomStatus;
 
 import java.util.List;
@@ -9,28 +9,26 @@ import java.util.Objects;
 
 /**
  * Use case for listing all rooms.
+ * Returns list rows rather than aggregates, so beds are counted instead of loaded.
  */
 public class ListRoomsUseCase {
     
-    private final RoomRepository roomRepository;
+    private final ListingRepository listingRepository;
     
-    public ListRoomsUseCase(RoomRepository roomRepository) {
-        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+    public ListRoomsUseCase(ListingRepository listingRepository) {
+        this.listingRepository = Objects.requireNonNull(listingRepository, "Listing repository cannot be null");
     }
     
-    public List<Room> execute() {
-        return roomRepository.findAllActive();
+    public List<RoomListRow> execute() {
+        return listingRepository.findRooms(null, false);
     }
 
-    public List<Room> execute(RoomStatus status) {
+    public List<RoomListRow> execute(RoomStatus status) {
         Objects.requireNonNull(status, "Status cannot be null");
-        return roomRepository.findActiveByStatus(status);
+        return listingRepository.findRooms(status, false);
     }
     
-    public List<Room> execute(boolean includeDeleted) {
-        if (includeDeleted) {
-            return roomRepository.findAll();
-        }
-        return roomRepository.findAllActive();
+    public List<RoomListRow> execute(boolean includeDeleted) {
+        return listingRepository.findRooms(null, includeDeleted);
     }
 }
@@ -0,0 +1,205 @@
+package com.daboerp.gestion.application.usecase.room;
+
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.strategy.pricing.PricingContext;
+import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for priced search results: every available room quoted for each requested date range.
+ * Candidate rooms are loaded once, availability is checked per range and the (room, range) pairs
+ * are priced in parallel chunks on the shared pricing executor, at most {@code maxParallelism}
+ * chunks per request. Quotes come back cheapest first.
+ */
+public class QuoteStaysUseCase {
+
+    public static final int MAX_RANGES = 31;
+    public static final int MAX_QUOTES = 20_000;
+
+    // Pricing a pair takes microseconds; smaller chunks cost more in hand-off than they save
+    private static final int MIN_PAIRS_PER_CHUNK = 64;
+
+    private static final Comparator<StayQuote> CHEAPEST_FIRST = Comparator
+        .comparing(StayQuote::totalPrice)
+        .thenComparing(StayQuote::checkIn)
+        .thenComparing(quote -> quote.room().getRoomNumber());
+
+    private final RoomRepository roomRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final PricingContext pricingContext;
+    private final Executor pricingExecutor;
+    private final int maxParallelism;
+    private final Timer requestTimer;
+    private final Timer pricingTimer;
+    private final DistributionSummary quoteCount;
+
+    public QuoteStaysUseCase(RoomRepository roomRepository,
+                             RoomAvailabilityIndex availabilityIndex,
+                             PricingContext pricingContext,
+                             Executor pricingExecutor,
+                             int maxParallelism,
+                             MeterRegistry meterRegistry) {
+        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
+        this.availabilityIndex = Objects.requireNonNull(availabilityIndex, "Availability index cannot be null");
+        this.pricingContext = Objects.requireNonNull(pricingContext, "Pricing context cannot be null");
+        this.pricingExecutor = Objects.requireNonNull(pricingExecutor, "Pricing executor cannot be null");
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("Quote parallelism must be at least 1");
+        }
+        this.maxParallelism = maxParallelism;
+        Objects.requireNonNull(meterRegistry, "Meter registry cannot be null");
+        this.requestTimer = Timer.builder("gestion.quotes.bulk.duration")
+            .description("Time to answer a bulk quote request")
+            .register(meterRegistry);
+        this.pricingTimer = Timer.builder("gestion.quotes.bulk.pricing")
+            .description("Time spent pricing the (room, range) pairs of a bulk quote request")
+            .register(meterRegistry);
+        this.quoteCount = DistributionSummary.builder("gestion.quotes.bulk.size")
+            .description("Quotes returned per bulk quote request")
+            .register(meterRegistry);
+    }
+
+    public List<StayQuote> execute(QuoteStaysQuery query) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        return requestTimer.record(() -> quote(query));
+    }
+
+    private List<StayQuote> quote(QuoteStaysQuery query) {
+        List<Room> candidates = roomRepository.findActiveByStatus(RoomStatus.AVAILABLE).stream()
+            .filter(room -> query.roomTypeId() == null
+                || room.getRoomType().getId().getValue().equals(query.roomTypeId()))
+            .filter(room -> query.minCapacity() == null || query.minCapacity() <= 0
+                || room.getRoomType().getMaxOccupancy() >= query.minCapacity())
+            .collect(Collectors.toList());
+
+        List<StayPair> pairs = new ArrayList<>();
+        for (StayRange range : query.ranges()) {
+            Set<String> freeRoomIds = freeRoomIds(candidates, range);
+            for (Room room : candidates) {
+                if (freeRoomIds.contains(room.getId().getValue())) {
+                    pairs.add(new StayPair(room, range));
+                }
+            }
+            if (pairs.size() > MAX_QUOTES) {
+                throw new IllegalArgumentException("Quote request exceeds " + MAX_QUOTES + " room and date combinations");
+            }
+        }
+
+        List<StayQuote> quotes = pricingTimer.record(() -> price(pairs));
+        quotes.sort(CHEAPEST_FIRST);
+        quoteCount.record(quotes.size());
+        return quotes;
+    }
+
+    private Set<String> freeRoomIds(List<Room> candidates, StayRange range) {
+        if (!availabilityIndex.isReady()) {
+            return roomRepository.findAvailableRooms(range.checkIn(), range.checkOut()).stream()
+                .map(room -> room.getId().getValue())
+                .collect(Collectors.toSet());
+        }
+        return candidates.stream()
+            .map(room -> room.getId().getValue())
+            .filter(roomId -> availabilityIndex.isFree(roomId, range.checkIn(), range.checkOut()))
+            .collect(Collectors.toSet());
+    }
+
+    private List<StayQuote> price(List<StayPair> pairs) {
+        int chunks = Math.min(maxParallelism, (pairs.size() + MIN_PAIRS_PER_CHUNK - 1) / MIN_PAIRS_PER_CHUNK);
+        if (chunks <= 1) {
+            return priceChunk(pairs);
+        }
+
+        int chunkSize = (pairs.size() + chunks - 1) / chunks;
+        List<CompletableFuture<List<StayQuote>>> futures = new ArrayList<>(chunks);
+        for (int from = 0; from < pairs.size(); from += chunkSize) {
+            List<StayPair> chunk = pairs.subList(from, Math.min(from + chunkSize, pairs.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> priceChunk(chunk), pricingExecutor));
+        }
+
+        List<StayQuote> quotes = new ArrayList<>(pairs.size());
+        try {
+            for (CompletableFuture<List<StayQuote>> future : futures) {
+                quotes.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return quotes;
+    }
+
+    private List<StayQuote> priceChunk(List<StayPair> pairs) {
+        List<StayQuote> quotes = new ArrayList<>(pairs.size());
+        for (StayPair pair : pairs) {
+            StayRange range = pair.range();
+            BigDecimal totalPrice = pricingContext.calculatePrice(pair.room(), range.checkIn(), range.checkOut());
+            quotes.add(new StayQuote(pair.room(), range.checkIn(), range.checkOut(), range.nights(), totalPrice));
+        }
+        return quotes;
+    }
+
+    private record StayPair(Room room, StayRange range) {}
+
+    public record StayRange(
+        LocalDate checkIn,
+        LocalDate checkOut
+    ) {
+        public StayRange {
+            Objects.requireNonNull(checkIn, "Check-in date cannot be null");
+            Objects.requireNonNull(checkOut, "Check-out date cannot be null");
+            if (!checkOut.isAfter(checkIn)) {
+                throw new IllegalArgumentException("Check-out date must be after check-in date");
+            }
+        }
+
+        public long nights() {
+            return ChronoUnit.DAYS.between(checkIn, checkOut);
+        }
+    }
+
+    public record QuoteStaysQuery(
+        List<StayRange> ranges,
+        String roomTypeId,
+        Integer minCapacity
+    ) {
+        public QuoteStaysQuery {
+            Objects.requireNonNull(ranges, "Date ranges cannot be null");
+            if (ranges.isEmpty()) {
+                throw new IllegalArgumentException("At least one date range is required");
+            }
+            // Repeated ranges would only produce duplicate quotes
+            ranges = List.copyOf(new LinkedHashSet<>(ranges));
+            if (ranges.size() > MAX_RANGES) {
+                throw new IllegalArgumentException("Cannot quote more than " + MAX_RANGES + " date ranges at once");
+            }
+        }
+    }
+
+    public record StayQuote(
+        Room room,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        long nights,
+        BigDecimal totalPrice
+    ) {}
+}
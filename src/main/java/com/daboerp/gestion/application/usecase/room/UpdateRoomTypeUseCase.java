@@ -3,6 +3,7 @@ package com.daboerp.gestion.application.usecase.room;
 import com.daboerp.gestion.application.exception.ResourceAlreadyExistsException;
 import com.daboerp.gestion.application.exception.ResourceNotFoundException;
 import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.repository.RoomRepository;
 import com.daboerp.gestion.domain.repository.RoomTypeRepository;
 import com.daboerp.gestion.domain.valueobject.RoomTypeId;
 
@@ -12,12 +13,14 @@ import java.util.Objects;
 public class UpdateRoomTypeUseCase {
 
     private final RoomTypeRepository roomTypeRepository;
+    private final RoomRepository roomRepository;
 
-    public UpdateRoomTypeUseCase(RoomTypeRepository roomTypeRepository) {
+    public UpdateRoomTypeUseCase(RoomTypeRepository roomTypeRepository, RoomRepository roomRepository) {
         this.roomTypeRepository = Objects.requireNonNull(roomTypeRepository, "Room type repository cannot be null");
+        this.roomRepository = Objects.requireNonNull(roomRepository, "Room repository cannot be null");
     }
 
-    public RoomType execute(UpdateRoomTypeCommand command) {
+    public UpdateResult execute(UpdateRoomTypeCommand command) {
         Objects.requireNonNull(command, "Command cannot be null");
 
         RoomTypeId roomTypeId = RoomTypeId.of(command.roomTypeId());
@@ -35,7 +38,11 @@ public class UpdateRoomTypeUseCase {
             roomType.updatePricing(command.basePrice());
         }
 
-        return roomTypeRepository.save(roomType);
+        RoomType saved = roomTypeRepository.save(roomType);
+        // Rooms carry a copy of their type's details; refresh them all at once
+        int affectedRooms = roomRepository.applyRoomType(saved);
+
+        return new UpdateResult(saved, affectedRooms);
     }
 
     public record UpdateRoomTypeCommand(
@@ -49,4 +56,6 @@ public class UpdateRoomTypeUseCase {
             Objects.requireNonNull(roomTypeId, "Room type ID cannot be null");
         }
     }
+
+    public record UpdateResult(RoomType roomType, int affectedRoomsCount) {}
 }
@@ -0,0 +1,12 @@
+package com.daboerp.gestion.domain.availability;
+
+/**
+ * Occupancy of a room for a single night.
+ */
+public enum NightState {
+    FREE,
+    RESERVED,
+    BLOCKED,
+    /** More than one reservation or block claims the night. */
+    CONFLICT
+}
@@ -0,0 +1,119 @@
+package com.daboerp.gestion.domain.availability;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates reservations and room blocks together.
+ * Intervals of each room are swept once over the requested nights using difference arrays,
+ * so a whole calendar costs O(rooms × nights + intervals) regardless of how they overlap.
+ * No framework dependencies - pure domain logic.
+ */
+public class OccupancyEngine {
+
+    /**
+     * Intervals of the given room that overlap [from, to), ignoring the given owner
+     * (e.g. the reservation being updated).
+     */
+    public List<OccupancyInterval> findConflicts(Collection<OccupancyInterval> intervals, String roomId,
+                                                 LocalDate from, LocalDate to, String ignoredOwnerId) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+        Objects.requireNonNull(roomId, "Room ID cannot be null");
+        validateRange(from, to);
+
+        return intervals.stream()
+            .filter(interval -> interval.roomId().equals(roomId))
+            .filter(interval -> !interval.ownerId().equals(ignoredOwnerId))
+            .filter(interval -> interval.overlaps(from, to))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Rooms that have at least one reservation or block overlapping [from, to).
+     */
+    public Set<String> occupiedRoomIds(Collection<OccupancyInterval> intervals, LocalDate from, LocalDate to) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+        validateRange(from, to);
+
+        return intervals.stream()
+            .filter(interval -> interval.overlaps(from, to))
+            .map(OccupancyInterval::roomId)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Build the occupancy matrix for the given rooms in one sweep per room.
+     * Rows keep the order of {@code roomIds}; intervals for other rooms are ignored.
+     */
+    public OccupancyMatrix buildMatrix(List<String> roomIds, Collection<OccupancyInterval> intervals,
+                                       LocalDate from, LocalDate to) {
+        Objects.requireNonNull(roomIds, "Room IDs cannot be null");
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+        validateRange(from, to);
+
+        int nights = (int) ChronoUnit.DAYS.between(from, to);
+        Map<String, List<OccupancyInterval>> byRoom = new HashMap<>();
+        for (OccupancyInterval interval : intervals) {
+            if (interval.overlaps(from, to)) {
+                byRoom.computeIfAbsent(interval.roomId(), key -> new ArrayList<>()).add(interval);
+            }
+        }
+
+        List<OccupancyMatrix.Row> rows = new ArrayList<>(roomIds.size());
+        for (String roomId : roomIds) {
+            rows.add(new OccupancyMatrix.Row(roomId, sweep(byRoom.getOrDefault(roomId, List.of()), from, nights)));
+        }
+        return new OccupancyMatrix(from, to, rows);
+    }
+
+    private List<NightState> sweep(List<OccupancyInterval> intervals, LocalDate from, int nights) {
+        int[] reservationDelta = new int[nights + 1];
+        int[] blockDelta = new int[nights + 1];
+        for (OccupancyInterval interval : intervals) {
+            int start = (int) Math.max(0, ChronoUnit.DAYS.between(from, interval.start()));
+            int end = (int) Math.min(nights, ChronoUnit.DAYS.between(from, interval.end()));
+            int[] delta = interval.kind() == OccupancyInterval.Kind.BLOCK ? blockDelta : reservationDelta;
+            delta[start]++;
+            delta[end]--;
+        }
+
+        List<NightState> states = new ArrayList<>(nights);
+        int reservations = 0;
+        int blocks = 0;
+        for (int night = 0; night < nights; night++) {
+            reservations += reservationDelta[night];
+            blocks += blockDelta[night];
+            states.add(stateOf(reservations, blocks));
+        }
+        return states;
+    }
+
+    private static NightState stateOf(int reservations, int blocks) {
+        if (reservations + blocks > 1) {
+            return NightState.CONFLICT;
+        }
+        if (blocks == 1) {
+            return NightState.BLOCKED;
+        }
+        if (reservations == 1) {
+            return NightState.RESERVED;
+        }
+        return NightState.FREE;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "From date cannot be null");
+        Objects.requireNonNull(to, "To date cannot be null");
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.daboerp.gestion.domain.availability;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Half-open interval [start, end) of nights during which a room is taken.
+ * The owner is the reservation or block that produced it.
+ */
+public record OccupancyInterval(
+    String ownerId,
+    String roomId,
+    LocalDate start,
+    LocalDate end,
+    Kind kind
+) {
+
+    public enum Kind {
+        RESERVATION,
+        BLOCK
+    }
+
+    public OccupancyInterval {
+        Objects.requireNonNull(ownerId, "Owner ID cannot be null");
+        Objects.requireNonNull(roomId, "Room ID cannot be null");
+        Objects.requireNonNull(start, "Start date cannot be null");
+        Objects.requireNonNull(end, "End date cannot be null");
+        Objects.requireNonNull(kind, "Kind cannot be null");
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+    }
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return start.isBefore(to) && end.isAfter(from);
+    }
+}
@@ -0,0 +1,33 @@
+package com.daboerp.gestion.domain.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rooms × nights occupancy for the half-open range [from, to).
+ */
+public record OccupancyMatrix(
+    LocalDate from,
+    LocalDate to,
+    List<Row> rows
+) {
+
+    public OccupancyMatrix {
+        Objects.requireNonNull(from, "From date cannot be null");
+        Objects.requireNonNull(to, "To date cannot be null");
+        rows = List.copyOf(rows);
+    }
+
+    public record Row(String roomId, List<NightState> nights) {
+
+        public Row {
+            Objects.requireNonNull(roomId, "Room ID cannot be null");
+            nights = List.copyOf(nights);
+        }
+
+        public boolean isFree() {
+            return nights.stream().allMatch(state -> state == NightState.FREE);
+        }
+    }
+}
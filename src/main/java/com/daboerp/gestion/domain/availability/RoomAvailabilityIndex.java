@@ -0,0 +1,236 @@
+package com.daboerp.gestion.domain.availability;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.RoomBlock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-local index of occupied nights per room.
+ * Each room keeps an immutable timeline of intervals sorted by start date, so reads are
+ * lock-free binary searches. Writers are serialised and replace the affected timeline.
+ * No framework dependencies - pure domain model.
+ */
+public class RoomAvailabilityIndex {
+
+    private final Map<String, RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<String, OccupancyInterval> intervalsByOwner = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Rebuild the whole index from the given sources.
+     * Sources are read while holding the writer lock so no concurrent update is lost.
+     */
+    public synchronized void rebuild(Supplier<List<Reservation>> activeReservations,
+                                     Supplier<List<RoomBlock>> blocks) {
+        Objects.requireNonNull(activeReservations, "Reservation source cannot be null");
+        Objects.requireNonNull(blocks, "Block source cannot be null");
+
+        List<OccupancyInterval> intervals = new ArrayList<>();
+        for (Reservation reservation : activeReservations.get()) {
+            if (reservation.isActive()) {
+                intervals.add(toInterval(reservation));
+            }
+        }
+        for (RoomBlock block : blocks.get()) {
+            intervals.add(toInterval(block));
+        }
+
+        Map<String, List<OccupancyInterval>> byRoom = new HashMap<>();
+        intervalsByOwner.clear();
+        for (OccupancyInterval interval : intervals) {
+            intervalsByOwner.put(interval.ownerId(), interval);
+            byRoom.computeIfAbsent(interval.roomId(), key -> new ArrayList<>()).add(interval);
+        }
+        timelines.clear();
+        byRoom.forEach((roomId, roomIntervals) -> timelines.put(roomId, RoomTimeline.of(roomIntervals)));
+        ready = true;
+    }
+
+    /**
+     * Apply the current state of a reservation: active reservations occupy their dates,
+     * any other status releases them.
+     */
+    public synchronized void record(Reservation reservation) {
+        Objects.requireNonNull(reservation, "Reservation cannot be null");
+        String ownerId = reservation.getId().getValue();
+        remove(ownerId);
+        if (reservation.isActive()) {
+            add(toInterval(reservation));
+        }
+    }
+
+    public synchronized void record(RoomBlock block) {
+        Objects.requireNonNull(block, "Block cannot be null");
+        remove(block.getId());
+        add(toInterval(block));
+    }
+
+    /**
+     * Release whatever interval the given reservation or block held.
+     */
+    public synchronized void remove(String ownerId) {
+        OccupancyInterval previous = intervalsByOwner.remove(ownerId);
+        if (previous == null) {
+            return;
+        }
+        RoomTimeline timeline = timelines.get(previous.roomId());
+        if (timeline != null) {
+            RoomTimeline updated = timeline.without(ownerId);
+            if (updated.isEmpty()) {
+                timelines.remove(previous.roomId());
+            } else {
+                timelines.put(previous.roomId(), updated);
+            }
+        }
+    }
+
+    /**
+     * Check if the room has no reservation or block overlapping [checkIn, checkOut).
+     */
+    public boolean isFree(String roomId, LocalDate checkIn, LocalDate checkOut) {
+        RoomTimeline timeline = timelines.get(roomId);
+        return timeline == null || !timeline.overlaps(checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    /**
+     * Intervals of the room overlapping [from, to), sorted by start date.
+     */
+    public List<OccupancyInterval> intervalsFor(String roomId, LocalDate from, LocalDate to) {
+        RoomTimeline timeline = timelines.get(roomId);
+        if (timeline == null) {
+            return List.of();
+        }
+        return timeline.overlapping(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * True once the index has been warmed; callers should fall back to the database before.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return intervalsByOwner.size();
+    }
+
+    private void add(OccupancyInterval interval) {
+        intervalsByOwner.put(interval.ownerId(), interval);
+        timelines.compute(interval.roomId(), (roomId, timeline) ->
+            timeline == null ? RoomTimeline.of(List.of(interval)) : timeline.with(interval));
+    }
+
+    private static OccupancyInterval toInterval(Reservation reservation) {
+        return new OccupancyInterval(
+            reservation.getId().getValue(),
+            reservation.getRoom().getId().getValue(),
+            reservation.getCheckIn(),
+            reservation.getCheckOut(),
+            OccupancyInterval.Kind.RESERVATION
+        );
+    }
+
+    private static OccupancyInterval toInterval(RoomBlock block) {
+        return new OccupancyInterval(
+            block.getId(),
+            block.getRoomId(),
+            block.getStartDate(),
+            block.getEndDate(),
+            OccupancyInterval.Kind.BLOCK
+        );
+    }
+
+    /**
+     * Immutable per-room timeline. Intervals are sorted by start, and maxEnd[i] holds the
+     * largest end among intervals 0..i, so an overlap query is a single binary search even
+     * when reservations and blocks overlap each other.
+     */
+    private static final class RoomTimeline {
+
+        private final OccupancyInterval[] intervals;
+        private final long[] starts;
+        private final long[] maxEnd;
+
+        private RoomTimeline(OccupancyInterval[] intervals) {
+            this.intervals = intervals;
+            this.starts = new long[intervals.length];
+            this.maxEnd = new long[intervals.length];
+            long runningMax = Long.MIN_VALUE;
+            for (int i = 0; i < intervals.length; i++) {
+                starts[i] = intervals[i].start().toEpochDay();
+                runningMax = Math.max(runningMax, intervals[i].end().toEpochDay());
+                maxEnd[i] = runningMax;
+            }
+        }
+
+        static RoomTimeline of(Collection<OccupancyInterval> intervals) {
+            OccupancyInterval[] sorted = intervals.toArray(new OccupancyInterval[0]);
+            Arrays.sort(sorted, Comparator.comparing(OccupancyInterval::start));
+            return new RoomTimeline(sorted);
+        }
+
+        RoomTimeline with(OccupancyInterval interval) {
+            List<OccupancyInterval> copy = new ArrayList<>(List.of(intervals));
+            copy.add(interval);
+            return of(copy);
+        }
+
+        RoomTimeline without(String ownerId) {
+            List<OccupancyInterval> copy = new ArrayList<>(intervals.length);
+            for (OccupancyInterval interval : intervals) {
+                if (!interval.ownerId().equals(ownerId)) {
+                    copy.add(interval);
+                }
+            }
+            return of(copy);
+        }
+
+        boolean isEmpty() {
+            return intervals.length == 0;
+        }
+
+        boolean overlaps(long from, long to) {
+            int last = lastStartingBefore(to);
+            return last >= 0 && maxEnd[last] > from;
+        }
+
+        List<OccupancyInterval> overlapping(long from, long to) {
+            int last = lastStartingBefore(to);
+            List<OccupancyInterval> result = new ArrayList<>();
+            for (int i = 0; i <= last; i++) {
+                if (intervals[i].end().toEpochDay() > from) {
+                    result.add(intervals[i]);
+                }
+            }
+            return result;
+        }
+
+        // Index of the last interval whose start is strictly before the given day, or -1
+        private int lastStartingBefore(long day) {
+            int low = 0;
+            int high = starts.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < day) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+}
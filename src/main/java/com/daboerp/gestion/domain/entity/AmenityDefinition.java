@@ -4,26 +4,42 @@ import com.daboerp.gestion.domain.valueobject.AmenityDefinitionId;
 
 import java.util.Objects;
 
+/**
+ * Catalog entry for an amenity. Its ordinal is the amenity's bit position in room amenity masks.
+ */
 public class AmenityDefinition {
 
+    // Bits 0-62, so a full mask still fits a positive signed 64-bit column
+    public static final int MAX_ORDINAL = 62;
+
     private final AmenityDefinitionId id;
     private String name;
+    private final int ordinal;
 
-    private AmenityDefinition(AmenityDefinitionId id, String name) {
+    private AmenityDefinition(AmenityDefinitionId id, String name, int ordinal) {
         this.id = Objects.requireNonNull(id, "AmenityDefinition ID cannot be null");
         this.name = Objects.requireNonNull(name, "Name cannot be null");
+        if (ordinal < 0 || ordinal > MAX_ORDINAL) {
+            throw new IllegalArgumentException("Ordinal must be between 0 and " + MAX_ORDINAL);
+        }
+        this.ordinal = ordinal;
     }
 
-    public static AmenityDefinition create(String name) {
-        return new AmenityDefinition(AmenityDefinitionId.generate(), name);
+    public static AmenityDefinition create(String name, int ordinal) {
+        return new AmenityDefinition(AmenityDefinitionId.generate(), name, ordinal);
     }
 
-    public static AmenityDefinition reconstitute(AmenityDefinitionId id, String name) {
-        return new AmenityDefinition(id, name);
+    public static AmenityDefinition reconstitute(AmenityDefinitionId id, String name, int ordinal) {
+        return new AmenityDefinition(id, name, ordinal);
     }
 
     public AmenityDefinitionId getId() { return id; }
     public String getName() { return name; }
+    public int getOrdinal() { return ordinal; }
+
+    public long bit() {
+        return 1L << ordinal;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -1,6 +1,9 @@
 package com.daboerp.gestion.domain.entity;
 
 import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.domain.validation.DocumentNumberValidatorCache;
+import com.daboerp.gestion.domain.validation.RegexPolicy;
+import com.daboerp.gestion.domain.validation.ValidationPatterns;
 import com.daboerp.gestion.domain.valueobject.DocumentTypeId;
 
 import lombok.EqualsAndHashCode;
@@ -12,7 +15,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Document Type aggregate root.
@@ -38,6 +40,9 @@ public class DocumentTypeEntity {
     @Setter
     private String validationRegex;
     
+    // Longest document number accepted; null means no limit
+    private Integer maxNumberLength;
+    
     @Setter
     private boolean active;
     
@@ -51,12 +56,14 @@ public class DocumentTypeEntity {
     
     // Private constructor to enforce creation through factory method
     private DocumentTypeEntity(DocumentTypeId id, String code, String name, String description,
-                              String validationRegex, boolean active, LocalDateTime createdAt) {
+                              String validationRegex, Integer maxNumberLength, boolean active,
+                              LocalDateTime createdAt) {
         this.id = Objects.requireNonNull(id, "Document type ID cannot be null");
         this.code = validateCode(code);
         this.name = validateName(name);
         this.description = Objects.requireNonNull(description, "Description cannot be null");
         this.validationRegex = validationRegex;
+        this.maxNumberLength = validateMaxNumberLength(maxNumberLength);
         this.active = active;
         this.createdAt = Objects.requireNonNull(createdAt, "Created at cannot be null");
         this.updatedAt = createdAt;
@@ -67,12 +74,21 @@ public class DocumentTypeEntity {
      */
     public static DocumentTypeEntity create(String code, String name, String description,
                                            String validationRegex, boolean active) {
+        return create(code, name, description, validationRegex, null, active);
+    }
+    
+    /**
+     * Factory method to create a new document type that limits the length of its document numbers.
+     */
+    public static DocumentTypeEntity create(String code, String name, String description,
+                                           String validationRegex, Integer maxNumberLength, boolean active) {
         return new DocumentTypeEntity(
             DocumentTypeId.generate(),
             code,
             name,
             description,
             validationRegex,
+            maxNumberLength,
             active,
             LocalDateTime.now()
         );
@@ -82,33 +98,27 @@ public class DocumentTypeEntity {
      * Factory method to reconstitute from persistence.
      */
     public static DocumentTypeEntity reconstitute(DocumentTypeId id, String code, String name, String description,
-                                                 String validationRegex, boolean active, 
+                                                 String validationRegex, Integer maxNumberLength, boolean active, 
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         DocumentTypeEntity documentType = new DocumentTypeEntity(id, code, name, description, 
-                                                                validationRegex, active, createdAt);
+                                                                validationRegex, maxNumberLength, active, createdAt);
         documentType.updatedAt = updatedAt;
         return documentType;
     }
     
     /**
-     * Validates a document number against this document type's regex pattern.
+     * Validates a document number against this document type's regex pattern and length limit,
+     * using the validators compiled in the given cache.
      */
-    public boolean isValidDocumentNumber(String documentNumber) {
+    public boolean isValidDocumentNumber(String documentNumber, DocumentNumberValidatorCache validators) {
+        Objects.requireNonNull(validators, "Validator cache cannot be null");
         if (documentNumber == null || documentNumber.isBlank()) {
             return false;
         }
         
-        if (validationRegex == null || validationRegex.isBlank()) {
-            return true; // No validation pattern means any format is valid
-        }
-        
-        try {
-            Pattern pattern = Pattern.compile(validationRegex);
-            return pattern.matcher(documentNumber).matches();
-        } catch (Exception e) {
-            // If regex is invalid, consider document number as invalid
-            return false;
-        }
+        // No validation pattern means any format is valid; an invalid pattern,
+        // or one that exceeds its match budget, makes the number invalid
+        return validators.validatorFor(id, updatedAt, validationRegex, maxNumberLength).isValid(documentNumber);
     }
     
     /**
@@ -131,6 +141,9 @@ public class DocumentTypeEntity {
      * Update document type details.
      */
     public void updateDetails(String name, String description, String validationRegex) {
+        if (validationRegex != null && !validationRegex.isBlank()) {
+            RegexPolicy.requireSafe(validationRegex);
+        }
         this.name = validateName(name);
         this.description = Objects.requireNonNull(description, "Description cannot be null");
         this.validationRegex = validationRegex;
@@ -160,12 +173,19 @@ public class DocumentTypeEntity {
             throw new IllegalArgumentException("Document type code cannot exceed 20 characters");
         }
         // Code should be uppercase alphanumeric
-        if (!code.matches("^[A-Z0-9_]+$")) {
+        if (!ValidationPatterns.isCode(code)) {
             throw new IllegalArgumentException("Document type code must contain only uppercase letters, numbers, and underscores");
         }
         return code;
     }
     
+    private Integer validateMaxNumberLength(Integer maxNumberLength) {
+        if (maxNumberLength != null && maxNumberLength < 1) {
+            throw new IllegalArgumentException("Maximum document number length must be positive");
+        }
+        return maxNumberLength;
+    }
+    
     private String validateName(String name) {
         Objects.requireNonNull(name, "Document type name cannot be null");
         if (name.isBlank()) {
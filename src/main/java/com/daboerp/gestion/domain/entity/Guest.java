@@ -2,6 +2,7 @@ package com.daboerp.gestion.domain.entity;
 
 import com.daboerp.gestion.domain.event.DomainEvent;
 import com.daboerp.gestion.domain.event.guest.GuestCreatedEvent;
+import com.daboerp.gestion.domain.validation.ValidationPatterns;
 import com.daboerp.gestion.domain.valueobject.DocumentType;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 import com.daboerp.gestion.domain.valueobject.Nationality;
@@ -125,7 +126,7 @@ public class Guest {
     }
     
     private void validateEmail(String email) {
-        if (email != null && !email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+        if (email != null && !ValidationPatterns.isEmail(email)) {
             throw new IllegalArgumentException("Invalid email format: " + email);
         }
     }
@@ -0,0 +1,71 @@
+package com.daboerp.gestion.domain.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A date range whose nights are priced at the room type's base price times a multiplier.
+ * The end date is exclusive, as for room blocks: it is the first night outside the season.
+ * A recurring season repeats every year on the same month/day range; its dates give the
+ * first occurrence and may span the turn of the year, but not more than a year.
+ */
+public class RateSeason {
+    private final String id;
+    private final String name;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BigDecimal multiplier;
+    private final LocalDateTime createdAt;
+    private final boolean recurring;
+
+    public RateSeason(String id, String name, LocalDate startDate, LocalDate endDate,
+                      BigDecimal multiplier, LocalDateTime createdAt) {
+        this(id, name, startDate, endDate, multiplier, createdAt, false);
+    }
+
+    public RateSeason(String id, String name, LocalDate startDate, LocalDate endDate,
+                      BigDecimal multiplier, LocalDateTime createdAt, boolean recurring) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.multiplier = multiplier;
+        this.createdAt = createdAt;
+        this.recurring = recurring;
+        validate();
+    }
+
+    private void validate() {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("Season id is required");
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Season name is required");
+        if (startDate == null) throw new IllegalArgumentException("Start date is required");
+        if (endDate == null) throw new IllegalArgumentException("End date is required");
+        if (!endDate.isAfter(startDate)) throw new IllegalArgumentException("End date must be after start date");
+        if (multiplier == null || multiplier.signum() <= 0) throw new IllegalArgumentException("Multiplier must be positive");
+        if (recurring && endDate.isAfter(startDate.plusYears(1))) {
+            throw new IllegalArgumentException("A recurring season cannot last more than a year");
+        }
+    }
+
+    /**
+     * The dated season this recurring season covers in the given year, starting in that year.
+     * A start on 29 February falls on the 28th in other years.
+     */
+    public RateSeason occurrenceIn(int year) {
+        if (!recurring) {
+            throw new IllegalStateException("Season " + name + " does not recur");
+        }
+        long years = year - startDate.getYear();
+        return new RateSeason(id + "-" + year, name + " " + year, startDate.plusYears(years),
+            endDate.plusYears(years), multiplier, createdAt);
+    }
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public BigDecimal getMultiplier() { return multiplier; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public boolean isRecurring() { return recurring; }
+}
@@ -131,19 +131,17 @@ public class Reservation {
     }
     
     public void cancel(String reason) {
-        if (this.status.getStatusType() == StatusType.CHECKED_OUT) {
-            throw new IllegalStateException("Cannot cancel a checked-out reservation");
-        }
+        StatusType previous = this.status.getStatusType();
+        ReservationTransition.CANCEL.requireAllowedFrom(previous);
         this.status = ReservationStatus.create(StatusType.CANCELLED, reason);
-        if (room != null) {
+        // Only a checked-in guest holds the room
+        if (room != null && previous == StatusType.CHECKED_IN) {
             room.markAsAvailable();
         }
     }
     
     public void checkIn(LocalDate actualCheckInDate) {
-        if (this.status.getStatusType() != StatusType.CONFIRMED) {
-            throw new IllegalStateException("Can only check-in confirmed reservations");
-        }
+        ReservationTransition.CHECK_IN.requireAllowedFrom(this.status.getStatusType());
         this.status = ReservationStatus.create(StatusType.CHECKED_IN, "Guest checked in");
         this.stay = Stay.create(actualCheckInDate, null);
         if (room != null) {
@@ -152,9 +150,7 @@ public class Reservation {
     }
     
     public void checkOut(LocalDate actualCheckOutDate) {
-        if (this.status.getStatusType() != StatusType.CHECKED_IN) {
-            throw new IllegalStateException("Can only check-out checked-in reservations");
-        }
+        ReservationTransition.CHECK_OUT.requireAllowedFrom(this.status.getStatusType());
         this.status = ReservationStatus.create(StatusType.CHECKED_OUT, "Guest checked out");
         if (this.stay != null) {
             this.stay = Stay.reconstitute(stay.getId(), stay.getCheckIn(), actualCheckOutDate);
@@ -200,7 +196,10 @@ public class Reservation {
                status.getStatusType() == StatusType.CHECKED_IN;
     }
     
-    private static String generateReservationCode() {
+    /**
+     * New reservation code; also used for imported history that arrives without one.
+     */
+    public static String generateReservationCode() {
         return "RES-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
     
@@ -0,0 +1,89 @@
+package com.daboerp.gestion.domain.entity;
+
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Running total of the non-voided payments of a reservation.
+ * Maintained with every payment and void so balance checks do not have to sum the payment history.
+ * The version guards against two concurrent payments both passing the balance check.
+ */
+public class ReservationBalance {
+
+    private final ReservationId reservationId;
+    private BigDecimal totalPaid;
+    private final Long version;
+
+    private ReservationBalance(ReservationId reservationId, BigDecimal totalPaid, Long version) {
+        this.reservationId = Objects.requireNonNull(reservationId, "Reservation ID cannot be null");
+        this.totalPaid = Objects.requireNonNull(totalPaid, "Total paid cannot be null");
+        this.version = version;
+    }
+
+    /**
+     * Balance of a reservation that has no payments yet.
+     */
+    public static ReservationBalance empty(ReservationId reservationId) {
+        return new ReservationBalance(reservationId, BigDecimal.ZERO, null);
+    }
+
+    public static ReservationBalance reconstitute(ReservationId reservationId, BigDecimal totalPaid, Long version) {
+        return new ReservationBalance(reservationId, totalPaid, version);
+    }
+
+    public void recordPayment(BigDecimal amount) {
+        validateAmount(amount);
+        this.totalPaid = totalPaid.add(amount);
+    }
+
+    public void reversePayment(BigDecimal amount) {
+        validateAmount(amount);
+        if (amount.compareTo(totalPaid) > 0) {
+            throw new IllegalStateException("Cannot reverse more than the total paid for reservation " +
+                reservationId.getValue());
+        }
+        this.totalPaid = totalPaid.subtract(amount);
+    }
+
+    /**
+     * Amount still owed against the given quoted amount (never negative).
+     */
+    public BigDecimal remainingAgainst(BigDecimal quotedAmount) {
+        BigDecimal remaining = quotedAmount.subtract(totalPaid);
+        return remaining.signum() > 0 ? remaining : BigDecimal.ZERO;
+    }
+
+    private void validateAmount(BigDecimal amount) {
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+    }
+
+    public ReservationId getReservationId() {
+        return reservationId;
+    }
+
+    public BigDecimal getTotalPaid() {
+        return totalPaid;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReservationBalance that = (ReservationBalance) o;
+        return Objects.equals(reservationId, that.reservationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.daboerp.gestion.domain.entity;
+
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Flat, read-only view of a reservation as stored: enough to drive a status transition and
+ * describe the result without loading its guests and room.
+ * {@code guestIds} lists every guest on the reservation, the principal included.
+ * No framework dependencies - pure domain model.
+ */
+public record ReservationSnapshot(
+    String id,
+    String reservationCode,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    StatusType statusType,
+    String statusId,
+    String statusNote,
+    BigDecimal quotedAmount,
+    Source source,
+    String guestPrincipalId,
+    String guestPrincipalName,
+    List<String> guestIds,
+    String roomId,
+    Integer roomNumber,
+    String stayId,
+    LocalDate stayCheckIn,
+    LocalDate stayCheckOut,
+    LocalDate createdAt
+) {
+
+    public ReservationSnapshot {
+        Objects.requireNonNull(id, "Reservation ID cannot be null");
+        Objects.requireNonNull(statusType, "Status type cannot be null");
+        Objects.requireNonNull(roomId, "Room ID cannot be null");
+        guestIds = guestIds != null ? List.copyOf(guestIds) : List.of();
+    }
+
+    /**
+     * The reservation as it is after the transition, following the same rules as
+     * {@link Reservation#checkIn}, {@link Reservation#checkOut} and {@link Reservation#cancel}.
+     *
+     * @throws IllegalStateException if the transition may not start from the current status
+     */
+    public ReservationSnapshot apply(ReservationTransition transition, String note, LocalDate date) {
+        Objects.requireNonNull(transition, "Transition cannot be null");
+        transition.requireAllowedFrom(statusType);
+
+        String nextStayId = stayId;
+        LocalDate nextStayCheckIn = stayCheckIn;
+        LocalDate nextStayCheckOut = stayCheckOut;
+        if (transition == ReservationTransition.CHECK_IN) {
+            nextStayId = UUID.randomUUID().toString();
+            nextStayCheckIn = Objects.requireNonNull(date, "Check-in date cannot be null");
+            nextStayCheckOut = null;
+        } else if (transition == ReservationTransition.CHECK_OUT && stayId != null) {
+            nextStayCheckOut = date;
+        }
+
+        return new ReservationSnapshot(id, reservationCode, checkIn, checkOut, transition.getTarget(),
+            UUID.randomUUID().toString(), note, quotedAmount, source, guestPrincipalId, guestPrincipalName,
+            guestIds, roomId, roomNumber, nextStayId, nextStayCheckIn, nextStayCheckOut, createdAt);
+    }
+
+    public boolean isActive() {
+        return statusType == StatusType.CONFIRMED || statusType == StatusType.CHECKED_IN;
+    }
+}
@@ -0,0 +1,77 @@
+package com.daboerp.gestion.domain.entity;
+
+import com.daboerp.gestion.domain.valueobject.RoomStatus;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reservation status changes that also move the room: the statuses each may start from,
+ * the status it ends in and what happens to the room.
+ * {@link Reservation} applies them to a loaded aggregate; the lean transition path turns them into
+ * conditional updates, so a transition whose starting status changed in the meantime is refused.
+ * No framework dependencies - pure domain model.
+ */
+public enum ReservationTransition {
+
+    CHECK_IN(StatusType.CHECKED_IN, EnumSet.of(StatusType.CONFIRMED),
+        "Can only check-in confirmed reservations"),
+    CHECK_OUT(StatusType.CHECKED_OUT, EnumSet.of(StatusType.CHECKED_IN),
+        "Can only check-out checked-in reservations"),
+    CANCEL(StatusType.CANCELLED, EnumSet.complementOf(EnumSet.of(StatusType.CHECKED_OUT)),
+        "Cannot cancel a checked-out reservation");
+
+    private static final RoomMove OCCUPY = new RoomMove(
+        EnumSet.of(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED), RoomStatus.OCCUPIED, true,
+        "Cannot occupy room that is out of service");
+
+    // A room taken out of service during the stay stays out of service
+    private static final RoomMove RELEASE = new RoomMove(
+        EnumSet.of(RoomStatus.OCCUPIED), RoomStatus.AVAILABLE, false, null);
+
+    private final StatusType target;
+    private final Set<StatusType> allowedFrom;
+    private final String refusal;
+
+    ReservationTransition(StatusType target, Set<StatusType> allowedFrom, String refusal) {
+        this.target = target;
+        this.allowedFrom = allowedFrom;
+        this.refusal = refusal;
+    }
+
+    public StatusType getTarget() {
+        return target;
+    }
+
+    public boolean isAllowedFrom(StatusType current) {
+        return allowedFrom.contains(current);
+    }
+
+    /**
+     * @throws IllegalStateException if the transition may not start from the given status
+     */
+    public void requireAllowedFrom(StatusType current) {
+        if (!isAllowedFrom(current)) {
+            throw new IllegalStateException(refusal);
+        }
+    }
+
+    /**
+     * What the transition does to the room when starting from the given status, if anything.
+     * Only a checked-in guest holds the room, so cancelling a booking that never checked in leaves it alone.
+     */
+    public Optional<RoomMove> roomMove(StatusType from) {
+        return switch (this) {
+            case CHECK_IN -> Optional.of(OCCUPY);
+            case CHECK_OUT -> Optional.of(RELEASE);
+            case CANCEL -> from == StatusType.CHECKED_IN ? Optional.of(RELEASE) : Optional.empty();
+        };
+    }
+
+    /**
+     * Move the room to {@code to} if it is in one of the {@code from} statuses. When {@code required},
+     * a room in any other status fails the transition with {@code refusal}; otherwise the room is left as is.
+     */
+    public record RoomMove(Set<RoomStatus> from, RoomStatus to, boolean required, String refusal) {}
+}
@@ -1,5 +1,7 @@
 package com.daboerp.gestion.domain.event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Domain Event Publisher interface.
  * Allows domain entities to publish events without depending on infrastructure.
@@ -11,6 +13,20 @@ public interface DomainEventPublisher {
      */
     void publish(DomainEvent event);
     
+    /**
+     * Publish an event now, even inside a transaction, and report when its listeners have finished.
+     * The future fails if a listener failed. Implementations that hand events to other threads
+     * complete it only once those listeners have run.
+     */
+    default CompletableFuture<Void> publishAndTrack(DomainEvent event) {
+        try {
+            publish(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
     /**
      * Publish multiple domain events.
      */
@@ -4,6 +4,9 @@ import com.daboerp.gestion.domain.event.BaseDomainEvent;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 /**
  * Event published when a new guest is created.
  */
@@ -23,6 +26,18 @@ public class GuestCreatedEvent extends BaseDomainEvent {
         this.lastName = lastName;
     }
     
+    /**
+     * Rebuild a previously raised event, keeping its identity and timestamp.
+     */
+    public GuestCreatedEvent(UUID eventId, LocalDateTime occurredOn, GuestId guestId,
+                             String email, String firstName, String lastName) {
+        super(eventId, occurredOn);
+        this.guestId = guestId;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+    
     @Override
     public String getEventType() {
         return "guest.created";
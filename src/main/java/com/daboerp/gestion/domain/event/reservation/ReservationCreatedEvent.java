@@ -8,6 +8,8 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Event published when a new reservation is created.
@@ -36,6 +38,23 @@ public class ReservationCreatedEvent extends BaseDomainEvent {
         this.quotedAmount = quotedAmount;
     }
     
+    /**
+     * Rebuild a previously raised event, keeping its identity and timestamp.
+     */
+    public ReservationCreatedEvent(UUID eventId, LocalDateTime occurredOn,
+                                 ReservationId reservationId, String reservationCode,
+                                 GuestId guestId, RoomId roomId, LocalDate checkIn,
+                                 LocalDate checkOut, BigDecimal quotedAmount) {
+        super(eventId, occurredOn);
+        this.reservationId = reservationId;
+        this.reservationCode = reservationCode;
+        this.guestId = guestId;
+        this.roomId = roomId;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.quotedAmount = quotedAmount;
+    }
+    
     @Override
     public String getEventType() {
         return "reservation.created";
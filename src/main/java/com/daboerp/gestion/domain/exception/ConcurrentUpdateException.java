@@ -0,0 +1,16 @@
+package com.daboerp.gestion.domain.exception;
+
+/**
+ * Thrown when an aggregate was changed by someone else since it was read,
+ * so the write was refused. Reload it and try again.
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
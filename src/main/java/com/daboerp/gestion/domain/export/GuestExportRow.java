@@ -0,0 +1,22 @@
+package com.daboerp.gestion.domain.export;
+
+import com.daboerp.gestion.domain.valueobject.DocumentType;
+import com.daboerp.gestion.domain.valueobject.Nationality;
+
+import java.time.LocalDate;
+
+/**
+ * Flat guest row for bulk exports, read straight from the database without hydrating the aggregate.
+ */
+public record GuestExportRow(
+    String id,
+    String firstName,
+    String lastName,
+    String email,
+    String phone,
+    LocalDate dateOfBirth,
+    Nationality nationality,
+    DocumentType documentType,
+    String documentNumber,
+    LocalDate createdAt
+) {}
@@ -0,0 +1,24 @@
+package com.daboerp.gestion.domain.export;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat reservation row for bulk exports, read straight from the database without
+ * hydrating the aggregate, its guests or its room.
+ */
+public record ReservationExportRow(
+    String id,
+    String reservationCode,
+    String roomId,
+    String principalGuestId,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    StatusType status,
+    Source source,
+    BigDecimal quotedAmount,
+    LocalDate createdAt
+) {}
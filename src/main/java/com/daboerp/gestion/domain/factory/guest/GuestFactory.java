@@ -2,6 +2,7 @@ package com.daboerp.gestion.domain.factory.guest;
 
 import com.daboerp.gestion.domain.entity.Guest;
 import com.daboerp.gestion.domain.factory.EntityFactory;
+import com.daboerp.gestion.domain.validation.ValidationPatterns;
 import com.daboerp.gestion.domain.valueobject.DocumentType;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 import com.daboerp.gestion.domain.valueobject.Nationality;
@@ -68,7 +69,7 @@ public class GuestFactory implements EntityFactory<Guest, GuestFactory.GuestBuil
     }
     
     private void validateEmailFormat(String email) {
-        if (email != null && !email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+        if (email != null && !ValidationPatterns.isEmail(email)) {
             throw new IllegalArgumentException("Invalid email format: " + email);
         }
     }
@@ -0,0 +1,71 @@
+package com.daboerp.gestion.domain.imports;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Flat row for a past stay loaded in bulk, written without hydrating the aggregate.
+ * Only finished states are accepted: none of them holds a room, so imported history never
+ * changes availability and skips the booking rules a live reservation goes through.
+ */
+public record HistoricalReservation(
+    String id,
+    String reservationCode,
+    String roomId,
+    String principalGuestId,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    StatusType status,
+    Source source,
+    BigDecimal quotedAmount,
+    LocalDate createdAt
+) {
+
+    public static final Set<StatusType> HISTORICAL_STATUSES =
+        Set.of(StatusType.CHECKED_OUT, StatusType.CANCELLED, StatusType.NO_SHOW);
+
+    public static final int MAX_RESERVATION_CODE_LENGTH = 50;
+
+    public HistoricalReservation {
+        Objects.requireNonNull(id, "Reservation ID cannot be null");
+        Objects.requireNonNull(reservationCode, "Reservation code cannot be null");
+        Objects.requireNonNull(roomId, "Room ID cannot be null");
+        Objects.requireNonNull(principalGuestId, "Principal guest ID cannot be null");
+        Objects.requireNonNull(createdAt, "Created at cannot be null");
+        validate(reservationCode, checkIn, checkOut, status, source, quotedAmount);
+    }
+
+    /**
+     * The rules a row must meet before its room and guest are resolved.
+     * A null reservation code is allowed here; one is generated later.
+     */
+    public static void validate(String reservationCode, LocalDate checkIn, LocalDate checkOut,
+                                StatusType status, Source source, BigDecimal quotedAmount) {
+        Objects.requireNonNull(checkIn, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOut, "Check-out date cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        Objects.requireNonNull(source, "Source cannot be null");
+        Objects.requireNonNull(quotedAmount, "Quoted amount cannot be null");
+
+        if (reservationCode != null && reservationCode.length() > MAX_RESERVATION_CODE_LENGTH) {
+            throw new IllegalArgumentException("Reservation code cannot exceed " + MAX_RESERVATION_CODE_LENGTH + " characters");
+        }
+        if (!HISTORICAL_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Only CHECKED_OUT, CANCELLED or NO_SHOW reservations can be imported");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        if (status == StatusType.CHECKED_OUT && checkOut.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("A checked-out stay cannot end in the future");
+        }
+        if (quotedAmount.signum() < 0) {
+            throw new IllegalArgumentException("Quoted amount cannot be negative");
+        }
+    }
+}
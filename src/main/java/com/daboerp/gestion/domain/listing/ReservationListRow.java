@@ -0,0 +1,50 @@
+package com.daboerp.gestion.domain.listing;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reservation as shown in lists: its own columns plus the principal guest's name and the room
+ * number, read with one joined query instead of hydrating the reservation, its guests and its room.
+ * {@code additionalGuestIds} excludes the principal.
+ */
+public record ReservationListRow(
+    String id,
+    String reservationCode,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    StatusType status,
+    BigDecimal quotedAmount,
+    Source source,
+    String principalGuestId,
+    String principalGuestName,
+    String roomId,
+    Integer roomNumber,
+    LocalDate createdAt,
+    List<String> additionalGuestIds
+) {
+
+    public ReservationListRow {
+        additionalGuestIds = additionalGuestIds != null ? List.copyOf(additionalGuestIds) : List.of();
+    }
+
+    /**
+     * The row as selected, before its additional guests are attached.
+     */
+    public ReservationListRow(String id, String reservationCode, LocalDate checkIn, LocalDate checkOut,
+                              StatusType status, BigDecimal quotedAmount, Source source,
+                              String principalGuestId, String principalGuestName,
+                              String roomId, Integer roomNumber, LocalDate createdAt) {
+        this(id, reservationCode, checkIn, checkOut, status, quotedAmount, source,
+            principalGuestId, principalGuestName, roomId, roomNumber, createdAt, List.of());
+    }
+
+    public ReservationListRow withAdditionalGuestIds(List<String> guestIds) {
+        return new ReservationListRow(id, reservationCode, checkIn, checkOut, status, quotedAmount, source,
+            principalGuestId, principalGuestName, roomId, roomNumber, createdAt, guestIds);
+    }
+}
@@ -0,0 +1,47 @@
+package com.daboerp.gestion.domain.listing;
+
+import com.daboerp.gestion.domain.valueobject.RoomStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Room as shown in lists: its columns, room type and bed count, plus its amenity and image values,
+ * read without hydrating the aggregate or its beds.
+ */
+public record RoomListRow(
+    String id,
+    Integer roomNumber,
+    String roomTypeId,
+    String roomTypeName,
+    String roomTypeDescription,
+    Integer roomTypeMaxOccupancy,
+    BigDecimal roomTypeBasePrice,
+    RoomStatus roomStatus,
+    long bedCount,
+    LocalDate createdAt,
+    List<String> amenities,
+    List<String> imageUrls
+) {
+
+    public RoomListRow {
+        amenities = amenities != null ? List.copyOf(amenities) : List.of();
+        imageUrls = imageUrls != null ? List.copyOf(imageUrls) : List.of();
+    }
+
+    /**
+     * The row as selected, before its amenities and images are attached.
+     */
+    public RoomListRow(String id, Integer roomNumber, String roomTypeId, String roomTypeName,
+                       String roomTypeDescription, Integer roomTypeMaxOccupancy, BigDecimal roomTypeBasePrice,
+                       RoomStatus roomStatus, Long bedCount, LocalDate createdAt) {
+        this(id, roomNumber, roomTypeId, roomTypeName, roomTypeDescription, roomTypeMaxOccupancy,
+            roomTypeBasePrice, roomStatus, bedCount, createdAt, List.of(), List.of());
+    }
+
+    public RoomListRow withCollections(List<String> amenities, List<String> imageUrls) {
+        return new RoomListRow(id, roomNumber, roomTypeId, roomTypeName, roomTypeDescription,
+            roomTypeMaxOccupancy, roomTypeBasePrice, roomStatus, bedCount, createdAt, amenities, imageUrls);
+    }
+}
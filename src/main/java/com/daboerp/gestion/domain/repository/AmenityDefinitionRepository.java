@@ -1,6 +1,7 @@
 package com.daboerp.gestion.domain.repository;
 
 import com.daboerp.gestion.domain.entity.AmenityDefinition;
+import com.daboerp.gestion.domain.valueobject.Amenity;
 import com.daboerp.gestion.domain.valueobject.AmenityDefinitionId;
 
 import java.util.List;
@@ -17,4 +18,11 @@ public interface AmenityDefinitionRepository {
     List<AmenityDefinition> findAll();
 
     void delete(AmenityDefinitionId id);
+
+    /**
+     * Delete the definition and take its amenity off every non-deleted room, in one transaction.
+     * Deleted rooms keep the amenity by name but their masks lose its bit.
+     * Returns the number of non-deleted rooms changed.
+     */
+    int deleteAndRemoveFromRooms(AmenityDefinitionId id, Amenity amenity);
 }
@@ -0,0 +1,35 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.export.GuestExportRow;
+import com.daboerp.gestion.domain.export.ReservationExportRow;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Read-only, forward-only access to whole tables for exports.
+ * Rows are handed to the consumer one at a time while the database cursor is open,
+ * and are not retained, so memory use does not depend on how many rows match.
+ */
+public interface ExportRepository {
+
+    /**
+     * Stream reservations matching the filters, ordered by check-in then id.
+     * All filter parameters are optional (can be null).
+     *
+     * @return the number of rows streamed
+     */
+    long streamReservations(StatusType status, Source source,
+                            LocalDate checkInStart, LocalDate checkInEnd,
+                            LocalDate stayStart, LocalDate stayEnd,
+                            int fetchSize, Consumer<ReservationExportRow> consumer);
+
+    /**
+     * Stream all guests, ordered by id.
+     *
+     * @return the number of rows streamed
+     */
+    long streamGuests(int fetchSize, Consumer<GuestExportRow> consumer);
+}
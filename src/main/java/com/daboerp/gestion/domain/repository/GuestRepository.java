@@ -1,8 +1,10 @@
 package com.daboerp.gestion.domain.repository;
 
 import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,11 @@ public interface GuestRepository {
      */
     Optional<Guest> findById(GuestId id);
     
+    /**
+     * Find all guests whose identifiers are in the given collection.
+     */
+    List<Guest> findAllByIds(Collection<GuestId> ids);
+    
     /**
      * Find a guest by email.
      */
@@ -42,6 +49,17 @@ public interface GuestRepository {
      */
     List<Guest> searchByName(String name);
     
+    /**
+     * Search entries of every guest, for warming the typeahead index.
+     */
+    List<GuestSearchEntry> findAllSearchEntries();
+    
+    /**
+     * Search entries of guests whose name, email or document number contains the term,
+     * at most {@code limit} of them.
+     */
+    List<GuestSearchEntry> findSearchEntries(String term, int limit);
+    
     /**
      * Delete a guest.
      */
@@ -0,0 +1,52 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.imports.HistoricalReservation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based lookups and batched inserts for bulk imports.
+ * Each lookup answers for a whole chunk of rows in one query; each insert writes a whole chunk
+ * as JDBC batches in one transaction, so a chunk is either fully stored or not at all.
+ */
+public interface ImportRepository {
+
+    /**
+     * The given emails that already belong to a guest.
+     */
+    Set<String> findExistingGuestEmails(Collection<String> emails);
+
+    /**
+     * The given document numbers that already belong to a guest.
+     */
+    Set<String> findExistingGuestDocumentNumbers(Collection<String> documentNumbers);
+
+    /**
+     * Insert new guests together with their pending domain events.
+     */
+    void insertGuests(List<Guest> guests);
+
+    /**
+     * Guest ids by document number, for numbers held by exactly one guest.
+     */
+    Map<String, String> findGuestIdsByDocumentNumbers(Collection<String> documentNumbers);
+
+    /**
+     * Room ids by room number.
+     */
+    Map<Integer, String> findRoomIdsByNumbers(Collection<Integer> roomNumbers);
+
+    /**
+     * The given reservation codes that are already taken.
+     */
+    Set<String> findExistingReservationCodes(Collection<String> reservationCodes);
+
+    /**
+     * Insert past reservations, each with its principal guest as sole guest.
+     */
+    void insertReservations(List<HistoricalReservation> reservations);
+}
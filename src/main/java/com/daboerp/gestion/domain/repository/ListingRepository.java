@@ -0,0 +1,62 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.listing.ReservationListRow;
+import com.daboerp.gestion.domain.listing.RoomListRow;
+import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only rows for list and filter endpoints, selected column by column rather than
+ * mapped from aggregates. Nothing returned here can be saved back.
+ */
+public interface ListingRepository {
+
+    List<ReservationListRow> findActiveReservations();
+
+    /**
+     * Reservations whose stay touches the range, both ends inclusive.
+     */
+    List<ReservationListRow> findReservationsByDateRange(LocalDate startDate, LocalDate endDate);
+
+    List<ReservationListRow> findReservationsCheckingIn(LocalDate date);
+
+    List<ReservationListRow> findReservationsCheckingOut(LocalDate date);
+
+    /**
+     * Reservations matching the filters; all filter parameters are optional (can be null).
+     */
+    List<ReservationListRow> findReservations(StatusType status, Source source,
+                                              LocalDate checkInStart, LocalDate checkInEnd,
+                                              LocalDate stayStart, LocalDate stayEnd);
+
+    /**
+     * One page of the reservations matching the filters.
+     */
+    List<ReservationListRow> findReservationsPage(StatusType status, Source source,
+                                                  LocalDate checkInStart, LocalDate checkInEnd,
+                                                  LocalDate stayStart, LocalDate stayEnd,
+                                                  int page, int size);
+
+    /**
+     * Up to {@code limit} reservations matching the filters, ordered by check-in then id,
+     * starting after the given (check-in, id) position; a null position starts from the beginning.
+     */
+    List<ReservationListRow> findReservationsAfter(StatusType status, Source source,
+                                                   LocalDate checkInStart, LocalDate checkInEnd,
+                                                   LocalDate stayStart, LocalDate stayEnd,
+                                                   LocalDate afterCheckIn, String afterId,
+                                                   int limit);
+
+    long countReservations(StatusType status, Source source,
+                           LocalDate checkInStart, LocalDate checkInEnd,
+                           LocalDate stayStart, LocalDate stayEnd);
+
+    /**
+     * Rooms ordered by number, optionally only those in the given status.
+     */
+    List<RoomListRow> findRooms(RoomStatus status, boolean includeDeleted);
+}
@@ -0,0 +1,28 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.availability.OccupancyInterval;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only view over everything that takes a room: active reservations and room blocks.
+ */
+public interface OccupancyRepository {
+
+    /**
+     * Find active reservations and blocks of all rooms overlapping [from, to).
+     */
+    List<OccupancyInterval> findOverlapping(LocalDate from, LocalDate to);
+
+    /**
+     * Find active reservations and blocks of one room overlapping [from, to).
+     */
+    List<OccupancyInterval> findOverlapping(String roomId, LocalDate from, LocalDate to);
+
+    /**
+     * Find active reservations and blocks of the given rooms overlapping [from, to), in one query.
+     */
+    List<OccupancyInterval> findOverlapping(Collection<String> roomIds, LocalDate from, LocalDate to);
+}
@@ -1,6 +1,7 @@
 package com.daboerp.gestion.domain.repository;
 
 import com.daboerp.gestion.domain.entity.Payment;
+import com.daboerp.gestion.domain.entity.ReservationBalance;
 import com.daboerp.gestion.domain.valueobject.PaymentId;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 
@@ -11,6 +12,14 @@ public interface PaymentRepository {
 
     Payment save(Payment payment);
 
+    /**
+     * Persist the payment and its reservation's updated balance atomically.
+     *
+     * @throws com.daboerp.gestion.domain.exception.ConcurrentUpdateException if the balance was changed by someone else
+     *         since it was read; reload it and try again
+     */
+    Payment save(Payment payment, ReservationBalance balance);
+
     Optional<Payment> findById(PaymentId id);
 
     List<Payment> findByReservationId(ReservationId reservationId);
@@ -0,0 +1,10 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.entity.RateSeason;
+
+import java.util.List;
+
+public interface RateSeasonRepository {
+    List<RateSeason> findAll();
+    RateSeason save(RateSeason season);
+}
@@ -0,0 +1,22 @@
+package com.daboerp.gestion.domain.repository;
+
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to the reservation payment balances.
+ * Balances are written together with their payment through {@link PaymentRepository#save(com.daboerp.gestion.domain.entity.Payment, ReservationBalance)}.
+ */
+public interface ReservationBalanceRepository {
+
+    /**
+     * Balance of a reservation, empty if no payment was ever recorded for it.
+     */
+    Optional<ReservationBalance> findByReservationId(ReservationId reservationId);
+
+    List<ReservationBalance> findByReservationIds(Collection<ReservationId> reservationIds);
+}
@@ -1,14 +1,18 @@
 package com.daboerp.gestion.domain.repository;
 
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.ReservationSnapshot;
+import com.daboerp.gestion.domain.entity.ReservationTransition;
 import com.daboerp.gestion.domain.entity.StatusType;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 import com.daboerp.gestion.domain.valueobject.RoomId;
-import com.daboerp.gestion.domain.valueobject.Source;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,11 +25,35 @@ public interface ReservationRepository {
      */
     Reservation save(Reservation reservation);
     
+    /**
+     * Insert new reservations all together: either every one is stored or none is.
+     * The given instances are returned as stored, without reloading them.
+     */
+    List<Reservation> insertAll(List<Reservation> reservations);
+    
     /**
      * Find a reservation by its unique identifier.
      */
     Optional<Reservation> findById(ReservationId id);
     
+    /**
+     * Flat view of a reservation with its principal guest's name and room number,
+     * read without hydrating guests or the room.
+     */
+    Optional<ReservationSnapshot> findSnapshot(ReservationId id);
+    
+    /**
+     * Apply a status transition with conditional updates: the reservation only moves if it is still
+     * in the status the snapshot saw, and the room only as the transition's room move allows.
+     * Both change in one transaction, and nothing changes if the reservation moved on in the meantime
+     * or a required room move finds the room in another status.
+     *
+     * @return the reservation after the transition
+     * @throws IllegalStateException if the transition is not allowed from the snapshot's status
+     */
+    ReservationSnapshot transition(ReservationSnapshot current, ReservationTransition transition,
+                                   String note, LocalDate date);
+    
     /**
      * Find a reservation by reservation code.
      */
@@ -36,6 +64,12 @@ public interface ReservationRepository {
      */
     List<Reservation> findAll();
     
+    /**
+     * Quoted amounts of the given reservations, without loading guests or rooms.
+     * Unknown identifiers are absent from the result.
+     */
+    Map<ReservationId, BigDecimal> findQuotedAmounts(Collection<ReservationId> ids);
+    
     /**
      * Find reservations by guest.
      */
@@ -76,31 +110,6 @@ public interface ReservationRepository {
      */
     List<Reservation> findOverlappingReservations(RoomId roomId, LocalDate checkIn, LocalDate checkOut);
     
-    /**
-     * Find reservations by multiple filters.
-     * All parameters are optional (can be null).
-     */
-    List<Reservation> findByFilters(StatusType status, Source source, 
-                                    LocalDate checkInStart, LocalDate checkInEnd,
-                                    LocalDate stayStart, LocalDate stayEnd);
-    
-    /**
-     * Find reservations by multiple filters with pagination.
-     * All filter parameters are optional (can be null).
-     */
-    List<Reservation> findByFiltersWithPagination(StatusType status, Source source,
-                                                  LocalDate checkInStart, LocalDate checkInEnd,
-                                                  LocalDate stayStart, LocalDate stayEnd,
-                                                  int page, int size);
-    
-    /**
-     * Count reservations matching the given filters.
-     * All parameters are optional (can be null).
-     */
-    long countByFilters(StatusType status, Source source,
-                       LocalDate checkInStart, LocalDate checkInEnd,
-                       LocalDate stayStart, LocalDate stayEnd);
-    
     /**
      * Delete a reservation.
      */
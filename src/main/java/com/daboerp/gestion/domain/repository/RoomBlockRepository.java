@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 
 public interface RoomBlockRepository {
+    List<RoomBlock> findAll();
     List<RoomBlock> findByRoomId(String roomId);
     List<RoomBlock> findOverlapping(String roomId, LocalDate start, LocalDate end);
     List<RoomBlock> findAllOverlappingRange(LocalDate start, LocalDate end);
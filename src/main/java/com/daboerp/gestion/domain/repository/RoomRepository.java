@@ -1,10 +1,15 @@
 package com.daboerp.gestion.domain.repository;
 
 import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.valueobject.Amenity;
+import com.daboerp.gestion.domain.valueobject.AmenityFilter;
 import com.daboerp.gestion.domain.valueobject.RoomId;
 import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import com.daboerp.gestion.domain.valueobject.RoomTypeId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,11 @@ public interface RoomRepository {
      */
     Optional<Room> findById(RoomId id);
     
+    /**
+     * Find all rooms whose identifiers are in the given collection.
+     */
+    List<Room> findAllByIds(Collection<RoomId> ids);
+    
     /**
      * Find a room by room number.
      */
@@ -39,7 +49,7 @@ public interface RoomRepository {
     List<Room> findByStatus(RoomStatus status);
     
     /**
-     * Find available rooms for a date range.
+     * Find available rooms for a date range, excluding rooms with overlapping reservations or blocks.
      */
     List<Room> findAvailableRooms(LocalDate checkIn, LocalDate checkOut);
     
@@ -48,6 +58,12 @@ public interface RoomRepository {
      */
     List<Room> findAvailableByCapacity(int minCapacity, LocalDate checkIn, LocalDate checkOut);
     
+    /**
+     * Find available rooms for a date range with at least the given capacity (0 for any)
+     * whose amenities satisfy the filter.
+     */
+    List<Room> findAvailableRooms(LocalDate checkIn, LocalDate checkOut, int minCapacity, AmenityFilter amenities);
+    
     /**
      * Find all non-deleted rooms.
      */
@@ -58,6 +74,35 @@ public interface RoomRepository {
      */
     List<Room> findActiveByStatus(RoomStatus status);
 
+    /**
+     * Find all non-deleted rooms by status whose amenities satisfy the filter.
+     */
+    List<Room> findActiveByStatus(RoomStatus status, AmenityFilter amenities);
+
+    /**
+     * Copy the room type's name, description, capacity and base price onto every room of that type,
+     * deleted rooms included, without loading them. Returns the number of rooms updated.
+     */
+    int applyRoomType(RoomType roomType);
+
+    /**
+     * Remove the amenity from every non-deleted room that has it, without loading them.
+     * Returns the number of rooms changed.
+     */
+    int removeAmenityFromActiveRooms(Amenity amenity);
+
+    /**
+     * Add the amenity to every non-deleted room of the type that lacks it, without loading them.
+     * Returns the number of rooms changed.
+     */
+    int addAmenityToActiveRoomsOfType(RoomTypeId roomTypeId, Amenity amenity);
+
+    /**
+     * Recompute the amenity mask of every room listing the amenity, deleted rooms included,
+     * after the amenity was added to or removed from the catalog. Returns the number of rooms updated.
+     */
+    int refreshAmenityMasks(Amenity amenity);
+
     /**
      * Delete a room.
      */
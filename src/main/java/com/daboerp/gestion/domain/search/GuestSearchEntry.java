@@ -0,0 +1,34 @@
+package com.daboerp.gestion.domain.search;
+
+import com.daboerp.gestion.domain.entity.Guest;
+
+import java.util.Objects;
+
+/**
+ * The few guest fields the typeahead search matches on and returns.
+ * Small enough to keep one per guest in memory and to serialise per keystroke.
+ */
+public record GuestSearchEntry(
+    String guestId,
+    String firstName,
+    String lastName,
+    String email,
+    String documentNumber
+) {
+    public GuestSearchEntry {
+        Objects.requireNonNull(guestId, "Guest ID cannot be null");
+        Objects.requireNonNull(firstName, "First name cannot be null");
+        Objects.requireNonNull(lastName, "Last name cannot be null");
+        Objects.requireNonNull(documentNumber, "Document number cannot be null");
+    }
+
+    public static GuestSearchEntry of(Guest guest) {
+        return new GuestSearchEntry(
+            guest.getId().getValue(),
+            guest.getFirstName(),
+            guest.getLastName(),
+            guest.getEmail(),
+            guest.getDocumentNumber()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.daboerp.gestion.domain.search;
+
+/**
+ * A search result with its place in the ranking.
+ * Lower ranks are better matches; within a rank hits are ordered by name, then guest ID.
+ */
+public record GuestSearchHit(
+    GuestSearchEntry entry,
+    int rank,
+    String sortKey
+) {
+    public Position position() {
+        return new Position(rank, sortKey, entry.guestId());
+    }
+
+    /**
+     * Where a page ended, so the next page can resume strictly after it.
+     */
+    public record Position(int rank, String sortKey, String guestId) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int result = Integer.compare(rank, other.rank);
+            if (result == 0) {
+                result = sortKey.compareTo(other.sortKey);
+            }
+            if (result == 0) {
+                result = guestId.compareTo(other.guestId);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.daboerp.gestion.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Process-local n-gram index over guest names, emails and document numbers for typeahead search.
+ * Each guest occupies a slot; every trigram of its normalised fields, and every one- and two-letter
+ * word prefix, maps to the ascending list of slots containing it. A query scans the shortest list
+ * among its grams and confirms candidates with a substring check, so its cost follows the number
+ * of plausible matches rather than the number of guests.
+ * Reads are lock-free. Writers are serialised; an update appends a new slot and leaves the old one
+ * dead until enough dead slots pile up to compact.
+ * No framework dependencies - pure domain model.
+ */
+public class GuestSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PREFIX_MARK = '\u0001';
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final int MIN_DEAD_SLOTS_TO_COMPACT = 10_000;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Max-heap order, so the worst of the best matches so far is evicted first
+    private static final Comparator<Candidate> WORST_FIRST = Comparator.<Candidate>naturalOrder().reversed();
+
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    /**
+     * Replace the whole index with the given entries.
+     * The source is read while holding the writer lock so no concurrent update is lost.
+     */
+    public synchronized void rebuild(Supplier<List<GuestSearchEntry>> entries) {
+        Objects.requireNonNull(entries, "Guest source cannot be null");
+        Segment rebuilt = new Segment();
+        for (GuestSearchEntry entry : entries.get()) {
+            rebuilt.put(entry);
+        }
+        segment = rebuilt;
+        ready = true;
+    }
+
+    /**
+     * Index a new guest or the current state of an existing one.
+     */
+    public synchronized void record(GuestSearchEntry entry) {
+        Objects.requireNonNull(entry, "Search entry cannot be null");
+        segment.put(entry);
+        compactIfNeeded();
+    }
+
+    public synchronized void remove(String guestId) {
+        segment.remove(guestId);
+        compactIfNeeded();
+    }
+
+    /**
+     * Best matches for the query that rank strictly after the given position, at most {@code limit}.
+     * A null position starts from the best match.
+     */
+    public List<GuestSearchHit> search(String query, GuestSearchHit.Position after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be at least 1");
+        }
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        Segment current = segment;
+        Postings candidates = current.candidatesFor(term);
+        if (candidates == null) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        int count = candidates.size;
+        int[] slots = candidates.slots;
+        Document[] documents = current.documents;
+        for (int i = 0; i < count; i++) {
+            Document document = documents[slots[i]];
+            if (document == null || document.removed) {
+                continue;
+            }
+            int rank = document.rank(term);
+            if (rank < 0 || (after != null && document.compareTo(rank, after) <= 0)) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new Candidate(document, rank));
+            } else {
+                Candidate worst = best.peek();
+                if (rank < worst.rank || (rank == worst.rank && document.compareTo(worst.document) < 0)) {
+                    best.poll();
+                    best.add(new Candidate(document, rank));
+                }
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.naturalOrder());
+        List<GuestSearchHit> hits = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            hits.add(new GuestSearchHit(candidate.document.entry, candidate.rank, candidate.document.sortKey()));
+        }
+        return hits;
+    }
+
+    /**
+     * True once the index has been warmed; callers should fall back to the database before.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return segment.slotsById.size();
+    }
+
+    /**
+     * Lower-case, accent-free, single-spaced form used for both indexing and querying.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private void compactIfNeeded() {
+        Segment current = segment;
+        if (current.deadSlots >= MIN_DEAD_SLOTS_TO_COMPACT && current.deadSlots > current.slotsById.size()) {
+            Segment compacted = new Segment();
+            for (int slot = 0; slot < current.slotCount; slot++) {
+                Document document = current.documents[slot];
+                if (document != null && !document.removed) {
+                    compacted.put(document.entry);
+                }
+            }
+            segment = compacted;
+        }
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '@' || c == '.' || c == '_' || c == '-' || c == FIELD_SEPARATOR;
+    }
+
+    /**
+     * One generation of the index. Only the writer mutates it; a compaction replaces it wholesale.
+     */
+    private static final class Segment {
+
+        private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+        private final Map<String, Integer> slotsById = new ConcurrentHashMap<>();
+        private volatile Document[] documents = new Document[1024];
+        private int slotCount;
+        private int deadSlots;
+
+        void put(GuestSearchEntry entry) {
+            Document document = new Document(entry);
+            if (slotCount == documents.length) {
+                documents = Arrays.copyOf(documents, slotCount * 2);
+            }
+            int slot = slotCount++;
+            documents[slot] = document;
+            for (String key : document.keys()) {
+                postings.computeIfAbsent(key, k -> new Postings()).add(slot);
+            }
+            Integer previous = slotsById.put(entry.guestId(), slot);
+            if (previous != null) {
+                release(previous);
+            }
+        }
+
+        void remove(String guestId) {
+            Integer previous = slotsById.remove(guestId);
+            if (previous != null) {
+                release(previous);
+            }
+        }
+
+        private void release(int slot) {
+            documents[slot].removed = true;
+            documents[slot] = null;
+            deadSlots++;
+        }
+
+        /**
+         * The posting list to scan for the term: the word-prefix list for one or two letters,
+         * otherwise the shortest trigram list. Null when some gram occurs nowhere.
+         */
+        Postings candidatesFor(String term) {
+            if (term.length() < GRAM_LENGTH) {
+                return postings.get(PREFIX_MARK + term);
+            }
+            Postings shortest = null;
+            for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+                Postings gramPostings = postings.get(term.substring(i, i + GRAM_LENGTH));
+                if (gramPostings == null) {
+                    return null;
+                }
+                if (shortest == null || gramPostings.size < shortest.size) {
+                    shortest = gramPostings;
+                }
+            }
+            return shortest;
+        }
+    }
+
+    /**
+     * Append-only list of slots. The writer stores the slot before publishing the new size, and a
+     * grown array before either, so a reader that reads the size first never sees a missing slot.
+     */
+    private static final class Postings {
+
+        private volatile int[] slots = new int[4];
+        private volatile int size;
+
+        void add(int slot) {
+            int[] current = slots;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+                slots = current;
+            }
+            current[size] = slot;
+            size = size + 1;
+        }
+    }
+
+    /**
+     * An entry with its normalised fields packed into one string - name, reversed name, email and
+     * document number, separated by NUL - so matching a candidate touches as little memory as possible.
+     * The reversed name doubles as the sort key.
+     */
+    private static final class Document {
+
+        private final GuestSearchEntry entry;
+        private final String text;
+        private final int reversedNameStart;
+        private final int emailStart;
+        private final int documentNumberStart;
+        private volatile boolean removed;
+
+        Document(GuestSearchEntry entry) {
+            this.entry = entry;
+            String first = normalize(entry.firstName());
+            String last = normalize(entry.lastName());
+            String name = (first + " " + last).strip();
+            String reversedName = (last + " " + first).strip();
+            String email = normalize(entry.email());
+            this.reversedNameStart = name.length() + 1;
+            this.emailStart = reversedNameStart + reversedName.length() + 1;
+            this.documentNumberStart = emailStart + email.length() + 1;
+            this.text = name + FIELD_SEPARATOR + reversedName + FIELD_SEPARATOR + email + FIELD_SEPARATOR
+                + normalize(entry.documentNumber());
+        }
+
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            for (int i = 0; i < text.length(); i++) {
+                if (i + GRAM_LENGTH <= text.length() && isWithinField(i, i + GRAM_LENGTH)) {
+                    keys.add(text.substring(i, i + GRAM_LENGTH));
+                }
+                boolean wordStart = (i == 0 || isWordSeparator(text.charAt(i - 1))) && !isWordSeparator(text.charAt(i));
+                if (wordStart) {
+                    keys.add(PREFIX_MARK + text.substring(i, i + 1));
+                    if (i + 1 < text.length() && !isWordSeparator(text.charAt(i + 1))) {
+                        keys.add(PREFIX_MARK + text.substring(i, i + 2));
+                    }
+                }
+            }
+            return keys;
+        }
+
+        /**
+         * 0 for an exact field match, 1 for a field prefix, 2 for a word prefix,
+         * 3 for a match anywhere else and -1 for no match.
+         */
+        int rank(String term) {
+            int best = -1;
+            for (int at = text.indexOf(term); at >= 0; at = text.indexOf(term, at + 1)) {
+                int rank;
+                if (isFieldStart(at)) {
+                    rank = isFieldEnd(at + term.length()) ? 0 : 1;
+                } else {
+                    rank = isWordSeparator(text.charAt(at - 1)) ? 2 : 3;
+                }
+                if (best < 0 || rank < best) {
+                    best = rank;
+                }
+                if (best == 0) {
+                    break;
+                }
+            }
+            return best;
+        }
+
+        String sortKey() {
+            return text.substring(reversedNameStart, emailStart - 1);
+        }
+
+        int compareTo(Document other) {
+            int result = compareSortKeys(other.text, other.reversedNameStart, other.emailStart - 1);
+            return result != 0 ? result : entry.guestId().compareTo(other.entry.guestId());
+        }
+
+        int compareTo(int rank, GuestSearchHit.Position position) {
+            if (rank != position.rank()) {
+                return Integer.compare(rank, position.rank());
+            }
+            String key = position.sortKey();
+            int result = compareSortKeys(key, 0, key.length());
+            return result != 0 ? result : entry.guestId().compareTo(position.guestId());
+        }
+
+        private int compareSortKeys(String other, int otherStart, int otherEnd) {
+            int end = emailStart - 1;
+            int length = Math.min(end - reversedNameStart, otherEnd - otherStart);
+            for (int i = 0; i < length; i++) {
+                char mine = text.charAt(reversedNameStart + i);
+                char theirs = other.charAt(otherStart + i);
+                if (mine != theirs) {
+                    return mine - theirs;
+                }
+            }
+            return (end - reversedNameStart) - (otherEnd - otherStart);
+        }
+
+        private boolean isWithinField(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (text.charAt(i) == FIELD_SEPARATOR) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isFieldStart(int at) {
+            return at == 0 || at == reversedNameStart || at == emailStart || at == documentNumberStart;
+        }
+
+        private boolean isFieldEnd(int at) {
+            return at == text.length() || text.charAt(at) == FIELD_SEPARATOR;
+        }
+    }
+
+    private record Candidate(Document document, int rank) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            return rank != other.rank ? Integer.compare(rank, other.rank) : document.compareTo(other.document);
+        }
+    }
+}
@@ -19,4 +19,12 @@ public class AndSpecification<T> implements Specification<T> {
     public boolean isSatisfiedBy(T candidate) {
         return left.isSatisfiedBy(candidate) && right.isSatisfiedBy(candidate);
     }
+    
+    public Specification<T> getLeft() {
+        return left;
+    }
+    
+    public Specification<T> getRight() {
+        return right;
+    }
 }
\ No newline at end of file
@@ -17,4 +17,8 @@ public class NotSpecification<T> implements Specification<T> {
     public boolean isSatisfiedBy(T candidate) {
         return !specification.isSatisfiedBy(candidate);
     }
+    
+    public Specification<T> getSpecification() {
+        return specification;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.specification.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Specification for reservations whose check-in falls inside a window.
+ * Either bound may be open (null), but not both.
+ */
+public class CheckInWindowReservationSpecification implements Specification<Reservation> {
+    
+    private final LocalDate from;
+    private final LocalDate to;
+    
+    public CheckInWindowReservationSpecification(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            throw new IllegalArgumentException("At least one check-in bound is required");
+        }
+        this.from = from;
+        this.to = to;
+    }
+    
+    @Override
+    public boolean isSatisfiedBy(Reservation reservation) {
+        LocalDate checkIn = reservation.getCheckIn();
+        return (from == null || !checkIn.isBefore(from)) && (to == null || !checkIn.isAfter(to));
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+}
@@ -31,4 +31,12 @@ public class DateRangeReservationSpecification implements Specification<Reservat
         // Overlaps if: checkIn <= endDate AND checkOut >= startDate
         return !checkIn.isAfter(endDate) && !checkOut.isBefore(startDate);
     }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
 }
\ No newline at end of file
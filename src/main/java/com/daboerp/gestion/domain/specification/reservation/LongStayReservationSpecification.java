@@ -22,6 +22,10 @@ public class LongStayReservationSpecification implements Specification<Reservati
         return reservation.getNightCount() >= minimumNights;
     }
     
+    public long getMinimumNights() {
+        return minimumNights;
+    }
+    
     /**
      * Factory method for standard long stay (7+ nights).
      */
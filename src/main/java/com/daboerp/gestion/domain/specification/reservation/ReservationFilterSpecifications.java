@@ -0,0 +1,47 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.specification.Specification;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the specification for the reservation search filters.
+ * Only the filters that were supplied become part of the specification, so each
+ * combination of filters yields its own narrow predicate instead of a catch-all one.
+ */
+public final class ReservationFilterSpecifications {
+    
+    private ReservationFilterSpecifications() {
+    }
+    
+    /**
+     * Combine the supplied filters with AND.
+     * Returns empty when no filter was supplied (every reservation matches).
+     */
+    public static Optional<Specification<Reservation>> of(StatusType status, Source source,
+                                                          LocalDate checkInStart, LocalDate checkInEnd,
+                                                          LocalDate stayStart, LocalDate stayEnd) {
+        List<Specification<Reservation>> parts = new ArrayList<>();
+        if (status != null) {
+            parts.add(new StatusReservationSpecification(status));
+        }
+        if (source != null) {
+            parts.add(new SourceReservationSpecification(source));
+        }
+        if (checkInStart != null || checkInEnd != null) {
+            parts.add(new CheckInWindowReservationSpecification(checkInStart, checkInEnd));
+        }
+        if (stayStart != null && stayEnd != null && !stayEnd.isBefore(stayStart)) {
+            parts.add(new DateRangeReservationSpecification(stayStart, stayEnd));
+        } else if (stayStart != null || stayEnd != null) {
+            parts.add(new StayWindowReservationSpecification(stayStart, stayEnd));
+        }
+        return parts.stream().reduce(Specification::and);
+    }
+}
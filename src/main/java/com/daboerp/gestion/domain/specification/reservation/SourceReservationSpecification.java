@@ -0,0 +1,28 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.specification.Specification;
+import com.daboerp.gestion.domain.valueobject.Source;
+
+import java.util.Objects;
+
+/**
+ * Specification for reservations booked through a given source.
+ */
+public class SourceReservationSpecification implements Specification<Reservation> {
+    
+    private final Source source;
+    
+    public SourceReservationSpecification(Source source) {
+        this.source = Objects.requireNonNull(source, "Source cannot be null");
+    }
+    
+    @Override
+    public boolean isSatisfiedBy(Reservation reservation) {
+        return reservation.getSource() == source;
+    }
+    
+    public Source getSource() {
+        return source;
+    }
+}
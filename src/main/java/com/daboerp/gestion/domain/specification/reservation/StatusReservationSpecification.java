@@ -0,0 +1,28 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.specification.Specification;
+
+import java.util.Objects;
+
+/**
+ * Specification for reservations in a given status.
+ */
+public class StatusReservationSpecification implements Specification<Reservation> {
+    
+    private final StatusType statusType;
+    
+    public StatusReservationSpecification(StatusType statusType) {
+        this.statusType = Objects.requireNonNull(statusType, "Status type cannot be null");
+    }
+    
+    @Override
+    public boolean isSatisfiedBy(Reservation reservation) {
+        return reservation.getStatus().getStatusType() == statusType;
+    }
+    
+    public StatusType getStatusType() {
+        return statusType;
+    }
+}
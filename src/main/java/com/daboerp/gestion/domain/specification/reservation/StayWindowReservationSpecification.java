@@ -0,0 +1,39 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.specification.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Specification for reservations whose stay touches a window: checks out on or after
+ * {@code from} and checks in on or before {@code to}.
+ * Unlike {@link DateRangeReservationSpecification} either bound may be open (null), but not both.
+ */
+public class StayWindowReservationSpecification implements Specification<Reservation> {
+    
+    private final LocalDate from;
+    private final LocalDate to;
+    
+    public StayWindowReservationSpecification(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            throw new IllegalArgumentException("At least one stay bound is required");
+        }
+        this.from = from;
+        this.to = to;
+    }
+    
+    @Override
+    public boolean isSatisfiedBy(Reservation reservation) {
+        return (from == null || !reservation.getCheckOut().isBefore(from))
+            && (to == null || !reservation.getCheckIn().isAfter(to));
+    }
+    
+    public LocalDate getFrom() {
+        return from;
+    }
+    
+    public LocalDate getTo() {
+        return to;
+    }
+}
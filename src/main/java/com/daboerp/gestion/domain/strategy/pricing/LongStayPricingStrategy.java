@@ -1,8 +1,10 @@
 package com.daboerp.gestion.domain.strategy.pricing;
 
-import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Long stay pricing strategy - discount for stays longer than 7 nights.
@@ -11,17 +13,18 @@ public class LongStayPricingStrategy implements PricingStrategy {
     
     private static final long LONG_STAY_THRESHOLD = 7;
     private static final BigDecimal DISCOUNT_PERCENTAGE = new BigDecimal("0.10"); // 10% discount
+    private static final StandardPricingStrategy STANDARD_PRICING = new StandardPricingStrategy();
     
     @Override
-    public BigDecimal calculatePrice(Reservation reservation) {
-        BigDecimal standardPrice = new StandardPricingStrategy().calculatePrice(reservation);
+    public BigDecimal calculatePrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        BigDecimal standardPrice = STANDARD_PRICING.calculatePrice(room, checkIn, checkOut);
         BigDecimal discount = standardPrice.multiply(DISCOUNT_PERCENTAGE);
         return standardPrice.subtract(discount).setScale(2, RoundingMode.HALF_UP);
     }
     
     @Override
-    public boolean isApplicable(Reservation reservation) {
-        return reservation.getNightCount() >= LONG_STAY_THRESHOLD;
+    public boolean isApplicable(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return ChronoUnit.DAYS.between(checkIn, checkOut) >= LONG_STAY_THRESHOLD;
     }
     
     @Override
@@ -0,0 +1,31 @@
+package com.daboerp.gestion.domain.strategy.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Prices stays night by night against the current rate calendar.
+ * The calendar is replaced as a whole, so readers never lock and always see one consistent calendar.
+ * No framework dependencies - pure domain model.
+ */
+public class NightlyRateEngine {
+
+    private volatile RateCalendar calendar = RateCalendar.empty();
+
+    public RateCalendar getCalendar() {
+        return calendar;
+    }
+
+    public void replaceCalendar(RateCalendar calendar) {
+        this.calendar = Objects.requireNonNull(calendar, "Rate calendar cannot be null");
+    }
+
+    public boolean hasSeasonalNights(LocalDate checkIn, LocalDate checkOut) {
+        return calendar.hasSeasonalNights(checkIn, checkOut);
+    }
+
+    public BigDecimal priceStay(BigDecimal nightlyRate, LocalDate checkIn, LocalDate checkOut) {
+        return calendar.priceStay(nightlyRate, checkIn, checkOut);
+    }
+}
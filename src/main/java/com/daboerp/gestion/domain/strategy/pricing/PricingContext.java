@@ -1,24 +1,33 @@
 package com.daboerp.gestion.domain.strategy.pricing;
 
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Context class for pricing strategy pattern.
  * Selects and executes the appropriate pricing strategy.
+ * Holds no mutable state, so it can price stays from several threads at once.
  */
 public class PricingContext {
     
     private final List<PricingStrategy> strategies;
     
     public PricingContext(List<PricingStrategy> strategies) {
-        this.strategies = Objects.requireNonNull(strategies, "Strategies cannot be null");
+        Objects.requireNonNull(strategies, "Strategies cannot be null");
         if (strategies.isEmpty()) {
             throw new IllegalArgumentException("At least one pricing strategy must be provided");
         }
+        // Highest priority first; the sort is stable so equal priorities keep their configured order
+        this.strategies = strategies.stream()
+            .sorted(Comparator.comparingInt(PricingStrategy::getPriority).reversed())
+            .toList();
     }
     
     /**
@@ -27,13 +36,16 @@ public class PricingContext {
      */
     public BigDecimal calculatePrice(Reservation reservation) {
         Objects.requireNonNull(reservation, "Reservation cannot be null");
-        
-        PricingStrategy selectedStrategy = strategies.stream()
-            .filter(strategy -> strategy.isApplicable(reservation))
-            .max((s1, s2) -> Integer.compare(s1.getPriority(), s2.getPriority()))
-            .orElseThrow(() -> new IllegalStateException("No applicable pricing strategy found"));
-            
-        return selectedStrategy.calculatePrice(reservation);
+        return calculatePrice(reservation.getRoom(), reservation.getCheckIn(), reservation.getCheckOut());
+    }
+    
+    /**
+     * Calculate the price of a stay in a room without creating a reservation.
+     */
+    public BigDecimal calculatePrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return selectStrategy(room, checkIn, checkOut)
+            .orElseThrow(() -> new IllegalStateException("No applicable pricing strategy found"))
+            .calculatePrice(room, checkIn, checkOut);
     }
     
     /**
@@ -42,10 +54,21 @@ public class PricingContext {
     public String getApplicableStrategyName(Reservation reservation) {
         Objects.requireNonNull(reservation, "Reservation cannot be null");
         
-        return strategies.stream()
-            .filter(strategy -> strategy.isApplicable(reservation))
-            .max((s1, s2) -> Integer.compare(s1.getPriority(), s2.getPriority()))
+        return selectStrategy(reservation.getRoom(), reservation.getCheckIn(), reservation.getCheckOut())
             .map(PricingStrategy::getStrategyName)
             .orElse("No applicable strategy");
     }
-}
\ No newline at end of file
+    
+    private Optional<PricingStrategy> selectStrategy(Room room, LocalDate checkIn, LocalDate checkOut) {
+        Objects.requireNonNull(room, "Room cannot be null");
+        Objects.requireNonNull(checkIn, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOut, "Check-out date cannot be null");
+        
+        for (PricingStrategy strategy : strategies) {
+            if (strategy.isApplicable(room, checkIn, checkOut)) {
+                return Optional.of(strategy);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,23 +1,40 @@
 package com.daboerp.gestion.domain.strategy.pricing;
 
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * Strategy pattern for different pricing calculation rules.
  * Allows flexible pricing strategies without modifying existing code.
+ * Strategies price a stay in a room, so a quote does not need a reservation.
  */
 public interface PricingStrategy {
     
+    /**
+     * Calculate the total price for a stay in the given room.
+     */
+    BigDecimal calculatePrice(Room room, LocalDate checkIn, LocalDate checkOut);
+    
+    /**
+     * Check if this strategy applies to the given stay.
+     */
+    boolean isApplicable(Room room, LocalDate checkIn, LocalDate checkOut);
+    
     /**
      * Calculate the total price for a reservation.
      */
-    BigDecimal calculatePrice(Reservation reservation);
+    default BigDecimal calculatePrice(Reservation reservation) {
+        return calculatePrice(reservation.getRoom(), reservation.getCheckIn(), reservation.getCheckOut());
+    }
     
     /**
      * Check if this strategy applies to the given reservation.
      */
-    boolean isApplicable(Reservation reservation);
+    default boolean isApplicable(Reservation reservation) {
+        return isApplicable(reservation.getRoom(), reservation.getCheckIn(), reservation.getCheckOut());
+    }
     
     /**
      * Priority for strategy selection (higher number = higher priority).
@@ -30,4 +47,4 @@ public interface PricingStrategy {
      * Name of the strategy for logging/debugging.
      */
     String getStrategyName();
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.daboerp.gestion.domain.strategy.pricing;
+
+import com.daboerp.gestion.domain.entity.RateSeason;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable, precompiled calendar of rate seasons.
+ * Seasons are held as parallel arrays of epoch days sorted by start, so finding the season
+ * for a night is a binary search and pricing a stay only visits the seasons it overlaps.
+ * No framework dependencies - pure domain model.
+ */
+public final class RateCalendar {
+
+    private static final RateCalendar EMPTY = new RateCalendar(new int[0], new int[0], new BigDecimal[0]);
+
+    private final int[] startDays;
+    private final int[] endDays;
+    private final BigDecimal[] surcharges;
+
+    private RateCalendar(int[] startDays, int[] endDays, BigDecimal[] surcharges) {
+        this.startDays = startDays;
+        this.endDays = endDays;
+        this.surcharges = surcharges;
+    }
+
+    public static RateCalendar empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compile seasons into a calendar, expanding recurring seasons over the given years.
+     * Dated seasons and the expanded occurrences must not overlap.
+     */
+    public static RateCalendar compile(Collection<RateSeason> seasons, int fromYear, int toYear) {
+        Objects.requireNonNull(seasons, "Seasons cannot be null");
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("Calendar years must not be reversed");
+        }
+        if (seasons.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<RateSeason> sorted = new ArrayList<>(seasons.size());
+        for (RateSeason season : seasons) {
+            if (!season.isRecurring()) {
+                sorted.add(season);
+                continue;
+            }
+            for (int year = fromYear; year <= toYear; year++) {
+                sorted.add(season.occurrenceIn(year));
+            }
+        }
+        sorted.sort(Comparator.comparing(RateSeason::getStartDate));
+
+        int size = sorted.size();
+        int[] startDays = new int[size];
+        int[] endDays = new int[size];
+        BigDecimal[] surcharges = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            RateSeason season = sorted.get(i);
+            if (i > 0 && season.getStartDate().isBefore(sorted.get(i - 1).getEndDate())) {
+                throw new IllegalArgumentException("Rate seasons overlap: "
+                    + sorted.get(i - 1).getName() + " and " + season.getName());
+            }
+            startDays[i] = toDay(season.getStartDate());
+            endDays[i] = toDay(season.getEndDate());
+            surcharges[i] = season.getMultiplier().subtract(BigDecimal.ONE);
+        }
+        return new RateCalendar(startDays, endDays, surcharges);
+    }
+
+    /**
+     * Compile seasons into a calendar holding only dated seasons; recurring ones are rejected.
+     */
+    public static RateCalendar compile(Collection<RateSeason> seasons) {
+        Objects.requireNonNull(seasons, "Seasons cannot be null");
+        if (seasons.stream().anyMatch(RateSeason::isRecurring)) {
+            throw new IllegalArgumentException("Recurring seasons need the years to expand them over");
+        }
+        return compile(seasons, 0, 0);
+    }
+
+    public boolean isEmpty() {
+        return startDays.length == 0;
+    }
+
+    public int size() {
+        return startDays.length;
+    }
+
+    /**
+     * Exclusive end of the latest season, empty when there are no seasons.
+     * Nights from this day on are all charged the plain nightly rate.
+     */
+    public Optional<LocalDate> lastSeasonEnd() {
+        if (endDays.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofEpochDay(endDays[endDays.length - 1]));
+    }
+
+    /**
+     * Multiplier applied to the given night, 1 outside every season.
+     */
+    public BigDecimal multiplierOn(LocalDate night) {
+        Objects.requireNonNull(night, "Night cannot be null");
+        int day = toDay(night);
+        int index = firstEndingAfter(day);
+        if (index < startDays.length && startDays[index] <= day) {
+            return BigDecimal.ONE.add(surcharges[index]);
+        }
+        return BigDecimal.ONE;
+    }
+
+    /**
+     * Whether any night from check-in up to, but excluding, check-out falls in a season.
+     */
+    public boolean hasSeasonalNights(LocalDate checkIn, LocalDate checkOut) {
+        int from = toDay(checkIn);
+        int index = firstEndingAfter(from);
+        return index < startDays.length && startDays[index] < toDay(checkOut);
+    }
+
+    /**
+     * Sum of the nightly rate over the stay, each night scaled by its season's multiplier.
+     * Nights outside every season are charged the plain nightly rate.
+     */
+    public BigDecimal priceStay(BigDecimal nightlyRate, LocalDate checkIn, LocalDate checkOut) {
+        Objects.requireNonNull(nightlyRate, "Nightly rate cannot be null");
+        int from = toDay(checkIn);
+        int to = toDay(checkOut);
+        BigDecimal total = nightlyRate.multiply(BigDecimal.valueOf(Math.max(0, to - from)));
+        for (int i = firstEndingAfter(from); i < startDays.length && startDays[i] < to; i++) {
+            int nights = Math.min(endDays[i], to) - Math.max(startDays[i], from);
+            total = total.add(nightlyRate.multiply(surcharges[i]).multiply(BigDecimal.valueOf(nights)));
+        }
+        return total;
+    }
+
+    /**
+     * Index of the first season whose exclusive end is after the given day.
+     * Seasons do not overlap, so end days are sorted like start days.
+     */
+    private int firstEndingAfter(int day) {
+        int low = 0;
+        int high = endDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endDays[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int toDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+}
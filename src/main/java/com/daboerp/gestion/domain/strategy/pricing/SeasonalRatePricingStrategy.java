@@ -0,0 +1,42 @@
+package com.daboerp.gestion.domain.strategy.pricing;
+
+import com.daboerp.gestion.domain.entity.Room;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Seasonal pricing strategy - each night is charged at the rate of the season it falls in.
+ * Seasons come from the rate calendar held by the nightly rate engine.
+ */
+public class SeasonalRatePricingStrategy implements PricingStrategy {
+    
+    private final NightlyRateEngine rateEngine;
+    
+    public SeasonalRatePricingStrategy(NightlyRateEngine rateEngine) {
+        this.rateEngine = Objects.requireNonNull(rateEngine, "Rate engine cannot be null");
+    }
+    
+    @Override
+    public BigDecimal calculatePrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        BigDecimal nightlyRate = room.getRoomType().getBasePrice();
+        return rateEngine.priceStay(nightlyRate, checkIn, checkOut)
+            .setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    @Override
+    public boolean isApplicable(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return rateEngine.hasSeasonalNights(checkIn, checkOut);
+    }
+    
+    @Override
+    public int getPriority() {
+        return 10; // Highest priority
+    }
+    
+    @Override
+    public String getStrategyName() {
+        return "SeasonalRatePricing";
+    }
+}
@@ -1,7 +1,9 @@
 package com.daboerp.gestion.domain.strategy.pricing;
 
-import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Standard pricing strategy - base price per night.
@@ -9,14 +11,14 @@ import java.math.BigDecimal;
 public class StandardPricingStrategy implements PricingStrategy {
     
     @Override
-    public BigDecimal calculatePrice(Reservation reservation) {
-        BigDecimal pricePerNight = reservation.getRoom().getRoomType().getBasePrice();
-        long nightCount = reservation.getNightCount();
+    public BigDecimal calculatePrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        BigDecimal pricePerNight = room.getRoomType().getBasePrice();
+        long nightCount = ChronoUnit.DAYS.between(checkIn, checkOut);
         return pricePerNight.multiply(BigDecimal.valueOf(nightCount));
     }
     
     @Override
-    public boolean isApplicable(Reservation reservation) {
+    public boolean isApplicable(Room room, LocalDate checkIn, LocalDate checkOut) {
         // Standard strategy applies to all reservations as fallback
         return true;
     }
@@ -0,0 +1,112 @@
+package com.daboerp.gestion.domain.validation;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled check of document numbers against a document type's validation pattern.
+ * Each match runs under a budget of character reads, so a pattern that backtracks
+ * catastrophically on some input fails that input instead of holding the thread.
+ * No framework dependencies - pure domain model.
+ */
+public final class DocumentNumberValidator {
+
+    // Character reads allowed per match: a fixed allowance plus a linear share per input character
+    private static final int BASE_BUDGET = 10_000;
+    private static final int BUDGET_PER_CHAR = 200;
+
+    private final Pattern pattern;
+    private final boolean validWithoutPattern;
+    private final Integer maxLength;
+
+    private DocumentNumberValidator(Pattern pattern, boolean validWithoutPattern, Integer maxLength) {
+        this.pattern = pattern;
+        this.validWithoutPattern = validWithoutPattern;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Compile a validator for the pattern, without a length limit.
+     */
+    public static DocumentNumberValidator compile(String regex) {
+        return compile(regex, null);
+    }
+
+    /**
+     * Compile a validator for the pattern. No pattern accepts any number;
+     * a pattern that does not compile rejects every number.
+     * Numbers longer than maxLength are rejected; null means no limit.
+     */
+    public static DocumentNumberValidator compile(String regex, Integer maxLength) {
+        if (regex == null || regex.isBlank()) {
+            return new DocumentNumberValidator(null, true, maxLength);
+        }
+        try {
+            return new DocumentNumberValidator(Pattern.compile(regex), false, maxLength);
+        } catch (PatternSyntaxException e) {
+            return new DocumentNumberValidator(null, false, maxLength);
+        }
+    }
+
+    public boolean isValid(String documentNumber) {
+        if (documentNumber == null || documentNumber.isBlank()
+                || (maxLength != null && documentNumber.length() > maxLength)) {
+            return false;
+        }
+        if (pattern == null) {
+            return validWithoutPattern;
+        }
+        BudgetedCharSequence input = new BudgetedCharSequence(documentNumber,
+            BASE_BUDGET + BUDGET_PER_CHAR * documentNumber.length());
+        try {
+            return pattern.matcher(input).matches();
+        } catch (MatchBudgetExceededException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Character sequence that fails once the matcher has read more characters than allowed.
+     */
+    private static final class BudgetedCharSequence implements CharSequence {
+
+        private final String value;
+        private int remaining;
+
+        private BudgetedCharSequence(String value, int budget) {
+            this.value = Objects.requireNonNull(value);
+            this.remaining = budget;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remaining < 0) {
+                throw new MatchBudgetExceededException();
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return value.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    private static final class MatchBudgetExceededException extends RuntimeException {
+
+        private MatchBudgetExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.daboerp.gestion.domain.validation;
+
+import com.daboerp.gestion.domain.valueobject.DocumentTypeId;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled document number validators per document type.
+ * An entry is reused while the document type's update time, pattern and length limit are unchanged,
+ * so an updated document type gets a freshly compiled validator on its next check.
+ * No framework dependencies - pure domain model.
+ */
+public class DocumentNumberValidatorCache {
+
+    private final Map<DocumentTypeId, Entry> entries = new ConcurrentHashMap<>();
+
+    public DocumentNumberValidator validatorFor(DocumentTypeId id, LocalDateTime updatedAt, String regex,
+                                                Integer maxLength) {
+        Objects.requireNonNull(id, "Document type ID cannot be null");
+        Entry entry = entries.get(id);
+        if (entry != null && Objects.equals(entry.updatedAt(), updatedAt) && Objects.equals(entry.regex(), regex)
+                && Objects.equals(entry.maxLength(), maxLength)) {
+            return entry.validator();
+        }
+        DocumentNumberValidator validator = DocumentNumberValidator.compile(regex, maxLength);
+        entries.put(id, new Entry(updatedAt, regex, maxLength, validator));
+        return validator;
+    }
+
+    public void invalidate(DocumentTypeId id) {
+        entries.remove(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(LocalDateTime updatedAt, String regex, Integer maxLength, DocumentNumberValidator validator) {}
+}
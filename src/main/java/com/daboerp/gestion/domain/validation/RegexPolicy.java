@@ -0,0 +1,138 @@
+package com.daboerp.gestion.domain.validation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Rules for user-supplied validation patterns.
+ * Rejects patterns that do not compile, are too long, use back-references or repeat a group
+ * that itself contains a repetition, such as {@code (a+)+} - the shapes that make a backtracking
+ * engine take exponential time on inputs that almost match.
+ * No framework dependencies - pure domain model.
+ */
+public final class RegexPolicy {
+
+    public static final int MAX_PATTERN_LENGTH = 200;
+
+    private RegexPolicy() {
+    }
+
+    /**
+     * Compile the pattern, or throw {@link IllegalArgumentException} explaining why it is not accepted.
+     */
+    public static Pattern requireSafe(String regex) {
+        if (regex == null || regex.isBlank()) {
+            throw new IllegalArgumentException("Validation pattern cannot be blank");
+        }
+        if (regex.length() > MAX_PATTERN_LENGTH) {
+            throw new IllegalArgumentException("Validation pattern cannot exceed " + MAX_PATTERN_LENGTH + " characters");
+        }
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid validation pattern: " + e.getDescription());
+        }
+        checkStructure(regex);
+        return pattern;
+    }
+
+    /**
+     * Walk the pattern tracking, per open group, whether it contains a repetition.
+     * A repeated group that contains a repetition is a nested quantifier.
+     */
+    private static void checkStructure(String regex) {
+        Deque<boolean[]> groups = new ArrayDeque<>();
+        groups.push(new boolean[1]);
+        int classDepth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (classDepth == 0 && i + 1 < regex.length() && isBackReference(regex, i + 1)) {
+                    throw new IllegalArgumentException("Validation pattern cannot use back-references");
+                }
+                i += 2;
+                continue;
+            }
+            if (classDepth > 0) {
+                if (c == '[') {
+                    classDepth++;
+                } else if (c == ']') {
+                    classDepth--;
+                }
+                i++;
+                continue;
+            }
+            switch (c) {
+                case '[' -> {
+                    classDepth = 1;
+                    // A leading ']' (after an optional '^') is a literal, not the end of the class
+                    if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                        i++;
+                    }
+                    if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                        i++;
+                    }
+                }
+                case '(' -> groups.push(new boolean[1]);
+                case ')' -> {
+                    boolean innerRepeats = groups.size() > 1 ? groups.pop()[0] : false;
+                    int quantifierLength = repetitionLength(regex, i + 1);
+                    if (quantifierLength > 0 && innerRepeats) {
+                        throw new IllegalArgumentException(
+                            "Validation pattern cannot repeat a group that already contains a repetition");
+                    }
+                    if (innerRepeats || quantifierLength > 0) {
+                        groups.peek()[0] = true;
+                    }
+                    i += quantifierLength;
+                }
+                default -> {
+                    if (repetitionLength(regex, i) > 0) {
+                        groups.peek()[0] = true;
+                    }
+                }
+            }
+            i++;
+        }
+    }
+
+    private static boolean isBackReference(String regex, int index) {
+        char next = regex.charAt(index);
+        return (next >= '1' && next <= '9') || next == 'k';
+    }
+
+    /**
+     * Length of the repeating quantifier starting at the index, or 0 if there is none.
+     * {@code ?}, exact counts and bounds of at most one occurrence are not repetitions.
+     */
+    private static int repetitionLength(String regex, int index) {
+        if (index >= regex.length()) {
+            return 0;
+        }
+        char c = regex.charAt(index);
+        if (c == '*' || c == '+') {
+            return 1;
+        }
+        if (c != '{') {
+            return 0;
+        }
+        int close = regex.indexOf('}', index);
+        if (close < 0) {
+            return 0;
+        }
+        String[] bounds = regex.substring(index + 1, close).split(",", -1);
+        try {
+            int min = Integer.parseInt(bounds[0].trim());
+            // An exact count such as {3} matches a fixed length, so it cannot backtrack
+            boolean repeats = bounds.length > 1
+                && (bounds[1].isBlank() || Integer.parseInt(bounds[1].trim()) > Math.max(min, 1));
+            return repeats ? close - index : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
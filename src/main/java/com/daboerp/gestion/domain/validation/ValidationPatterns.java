@@ -0,0 +1,25 @@
+package com.daboerp.gestion.domain.validation;
+
+import java.util.regex.Pattern;
+
+/**
+ * Fixed validation patterns, compiled once instead of on every {@code String.matches} call.
+ * No framework dependencies - pure domain model.
+ */
+public final class ValidationPatterns {
+
+    public static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    public static final Pattern CODE = Pattern.compile("^[A-Z0-9_]+$");
+
+    private ValidationPatterns() {
+    }
+
+    public static boolean isEmail(String value) {
+        return value != null && EMAIL.matcher(value).matches();
+    }
+
+    public static boolean isCode(String value) {
+        return value != null && CODE.matcher(value).matches();
+    }
+}
@@ -0,0 +1,15 @@
+package com.daboerp.gestion.domain.valueobject;
+
+/**
+ * Amenity search criteria as catalog bitmasks (see AmenityDefinition ordinals).
+ * A room matches when its mask has every bit of {@code allOf} and, unless {@code anyOf}
+ * is empty, at least one bit of {@code anyOf}.
+ */
+public record AmenityFilter(long allOf, long anyOf) {
+
+    public static final AmenityFilter NONE = new AmenityFilter(0L, 0L);
+
+    public boolean isEmpty() {
+        return allOf == 0L && anyOf == 0L;
+    }
+}
@@ -4,21 +4,32 @@ import com.daboerp.gestion.application.command.CommandHandler;
 import com.daboerp.gestion.application.command.guest.CreateGuestCommand;
 import com.daboerp.gestion.application.decorator.LoggingCommandHandlerDecorator;
 import com.daboerp.gestion.application.decorator.ValidationCommandHandlerDecorator;
+import com.daboerp.gestion.application.imports.CsvImporter;
+import com.daboerp.gestion.application.imports.ImportJobRegistry;
+import com.daboerp.gestion.application.usecase.imports.GetImportJobUseCase;
 import com.daboerp.gestion.application.usecase.documenttype.*;
 import com.daboerp.gestion.application.usecase.guest.*;
 import com.daboerp.gestion.application.usecase.payment.*;
 import com.daboerp.gestion.application.usecase.reservation.*;
 import com.daboerp.gestion.application.usecase.room.*;
+import com.daboerp.gestion.domain.availability.OccupancyEngine;
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
 import com.daboerp.gestion.domain.entity.Guest;
-import com.daboerp.gestion.domain.event.DomainEventPublisher;
 import com.daboerp.gestion.domain.factory.guest.GuestFactory;
 import com.daboerp.gestion.domain.repository.*;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
 import com.daboerp.gestion.domain.strategy.pricing.*;
+import com.daboerp.gestion.domain.validation.DocumentNumberValidatorCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
 public class ApplicationConfig {
@@ -26,16 +37,14 @@ public class ApplicationConfig {
     // Guest use cases
 
     @Bean
-    public CreateGuestUseCase createGuestUseCase(GuestRepository guestRepository,
-                                               DomainEventPublisher eventPublisher) {
-        return new CreateGuestUseCase(guestRepository, eventPublisher);
+    public CreateGuestUseCase createGuestUseCase(GuestRepository guestRepository) {
+        return new CreateGuestUseCase(guestRepository);
     }
 
     @Bean
     public CommandHandler<CreateGuestCommand, Guest> createGuestCommandHandler(GuestRepository guestRepository,
-                                               DomainEventPublisher eventPublisher,
                                                Validator validator) {
-        CreateGuestUseCase baseUseCase = new CreateGuestUseCase(guestRepository, eventPublisher);
+        CreateGuestUseCase baseUseCase = new CreateGuestUseCase(guestRepository);
         var validationDecorator = new ValidationCommandHandlerDecorator<>(baseUseCase, validator);
         return new LoggingCommandHandlerDecorator<CreateGuestCommand, Guest>(validationDecorator);
     }
@@ -50,15 +59,76 @@ public class ApplicationConfig {
     // Strategy Pattern Configuration for Pricing
 
     @Bean
-    public PricingContext pricingContext() {
+    public NightlyRateEngine nightlyRateEngine() {
+        return new NightlyRateEngine();
+    }
+
+    @Bean
+    public PricingContext pricingContext(NightlyRateEngine nightlyRateEngine) {
         List<PricingStrategy> strategies = List.of(
-            new PeakSeasonPricingStrategy(),
+            new SeasonalRatePricingStrategy(nightlyRateEngine),
             new LongStayPricingStrategy(),
             new StandardPricingStrategy()
         );
         return new PricingContext(strategies);
     }
 
+    // Search
+
+    @Bean
+    public GuestSearchIndex guestSearchIndex() {
+        return new GuestSearchIndex();
+    }
+
+    // Availability
+
+    @Bean
+    public RoomAvailabilityIndex roomAvailabilityIndex() {
+        return new RoomAvailabilityIndex();
+    }
+
+    @Bean
+    public OccupancyEngine occupancyEngine() {
+        return new OccupancyEngine();
+    }
+
+    // Imports
+
+    @Bean
+    public ImportJobRegistry importJobRegistry(@Value("${gestion.imports.retained-jobs:50}") int retainedJobs) {
+        return new ImportJobRegistry(retainedJobs);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor importJobExecutor(@Value("${gestion.imports.concurrent-jobs:2}") int concurrentJobs,
+                                                    @Value("${gestion.imports.queue-capacity:8}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrentJobs);
+        executor.setMaxPoolSize(concurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("csv-import-");
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool importValidationPool(@Value("${gestion.imports.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public CsvImporter csvImporter(ImportJobRegistry importJobRegistry,
+                                   ThreadPoolTaskExecutor importJobExecutor,
+                                   ForkJoinPool importValidationPool,
+                                   @Value("${gestion.imports.chunk-size:1000}") int chunkSize) {
+        return new CsvImporter(importJobRegistry, importJobExecutor, importValidationPool, chunkSize,
+            importValidationPool.getParallelism());
+    }
+
+    @Bean
+    public GetImportJobUseCase getImportJobUseCase(ImportJobRegistry importJobRegistry) {
+        return new GetImportJobUseCase(importJobRegistry);
+    }
+
     @Bean
     public GetGuestUseCase getGuestUseCase(GuestRepository guestRepository) {
         return new GetGuestUseCase(guestRepository);
@@ -69,6 +139,24 @@ public class ApplicationConfig {
         return new ListGuestsUseCase(guestRepository);
     }
 
+    @Bean
+    public ExportGuestsUseCase exportGuestsUseCase(ExportRepository exportRepository,
+                                                  @Value("${gestion.export.fetch-size:500}") int fetchSize,
+                                                  @Value("${gestion.export.flush-rows:1000}") int flushRows) {
+        return new ExportGuestsUseCase(exportRepository, fetchSize, flushRows);
+    }
+
+    @Bean
+    public ImportGuestsUseCase importGuestsUseCase(CsvImporter csvImporter, ImportRepository importRepository,
+                                                  GuestFactory guestFactory) {
+        return new ImportGuestsUseCase(csvImporter, importRepository, guestFactory);
+    }
+
+    @Bean
+    public SearchGuestsUseCase searchGuestsUseCase(GuestSearchIndex guestSearchIndex, GuestRepository guestRepository) {
+        return new SearchGuestsUseCase(guestSearchIndex, guestRepository);
+    }
+
     @Bean
     public UpdateGuestUseCase updateGuestUseCase(GuestRepository guestRepository) {
         return new UpdateGuestUseCase(guestRepository);
@@ -83,13 +171,41 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public ListRoomsUseCase listRoomsUseCase(RoomRepository roomRepository) {
-        return new ListRoomsUseCase(roomRepository);
+    public ListRoomsUseCase listRoomsUseCase(ListingRepository listingRepository) {
+        return new ListRoomsUseCase(listingRepository);
+    }
+
+    @Bean
+    public FindAvailableRoomsUseCase findAvailableRoomsUseCase(RoomRepository roomRepository,
+                                                              OccupancyRepository occupancyRepository,
+                                                              AmenityDefinitionRepository amenityDefinitionRepository,
+                                                              RoomAvailabilityIndex roomAvailabilityIndex,
+                                                              @Value("${gestion.availability.verify:false}") boolean verifyAvailability) {
+        return new FindAvailableRoomsUseCase(roomRepository, occupancyRepository, amenityDefinitionRepository,
+            roomAvailabilityIndex, verifyAvailability);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool quotePricingPool(@Value("${gestion.quotes.pool-size:0}") int poolSize) {
+        return new ForkJoinPool(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public QuoteStaysUseCase quoteStaysUseCase(RoomRepository roomRepository,
+                                               RoomAvailabilityIndex roomAvailabilityIndex,
+                                               PricingContext pricingContext,
+                                               ForkJoinPool quotePricingPool,
+                                               @Value("${gestion.quotes.max-parallelism:4}") int maxParallelism,
+                                               MeterRegistry meterRegistry) {
+        return new QuoteStaysUseCase(roomRepository, roomAvailabilityIndex, pricingContext,
+            quotePricingPool, maxParallelism, meterRegistry);
     }
 
     @Bean
-    public FindAvailableRoomsUseCase findAvailableRoomsUseCase(RoomRepository roomRepository) {
-        return new FindAvailableRoomsUseCase(roomRepository);
+    public GetOccupancyMatrixUseCase getOccupancyMatrixUseCase(RoomRepository roomRepository,
+                                                              OccupancyRepository occupancyRepository,
+                                                              OccupancyEngine occupancyEngine) {
+        return new GetOccupancyMatrixUseCase(roomRepository, occupancyRepository, occupancyEngine);
     }
 
     @Bean
@@ -108,8 +224,9 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public UpdateRoomTypeUseCase updateRoomTypeUseCase(RoomTypeRepository roomTypeRepository) {
-        return new UpdateRoomTypeUseCase(roomTypeRepository);
+    public UpdateRoomTypeUseCase updateRoomTypeUseCase(RoomTypeRepository roomTypeRepository,
+                                                       RoomRepository roomRepository) {
+        return new UpdateRoomTypeUseCase(roomTypeRepository, roomRepository);
     }
 
     @Bean
@@ -117,6 +234,12 @@ public class ApplicationConfig {
         return new DeleteRoomTypeUseCase(roomTypeRepository);
     }
 
+    @Bean
+    public AddAmenityToRoomTypeUseCase addAmenityToRoomTypeUseCase(RoomTypeRepository roomTypeRepository,
+                                                                   RoomRepository roomRepository) {
+        return new AddAmenityToRoomTypeUseCase(roomTypeRepository, roomRepository);
+    }
+
     @Bean
     public UpdateRoomUseCase updateRoomUseCase(RoomRepository roomRepository,
                                               RoomTypeRepository roomTypeRepository) {
@@ -146,31 +269,62 @@ public class ApplicationConfig {
             ReservationRepository reservationRepository,
             GuestRepository guestRepository,
             RoomRepository roomRepository,
+            OccupancyRepository occupancyRepository,
+            RoomBlockRepository roomBlockRepository,
+            OccupancyEngine occupancyEngine,
+            PricingContext pricingContext,
+            ReservationOverlapConstraint overlapConstraint,
+            @Value("${gestion.reservations.overlap-constraint:false}") boolean overlapConstraintRequested) {
+        return new CreateReservationUseCase(reservationRepository, guestRepository, roomRepository,
+            occupancyRepository, roomBlockRepository, occupancyEngine, pricingContext,
+            overlapConstraint.isEnforced(overlapConstraintRequested));
+    }
+
+    @Bean
+    public CreateGroupReservationUseCase createGroupReservationUseCase(
+            ReservationRepository reservationRepository,
+            GuestRepository guestRepository,
+            RoomRepository roomRepository,
+            OccupancyRepository occupancyRepository,
+            OccupancyEngine occupancyEngine,
             PricingContext pricingContext) {
-        return new CreateReservationUseCase(reservationRepository, guestRepository, roomRepository, pricingContext);
+        return new CreateGroupReservationUseCase(reservationRepository, guestRepository, roomRepository,
+            occupancyRepository, occupancyEngine, pricingContext);
     }
 
     @Bean
-    public ListReservationsUseCase listReservationsUseCase(ReservationRepository reservationRepository) {
-        return new ListReservationsUseCase(reservationRepository);
+    public ListReservationsUseCase listReservationsUseCase(ListingRepository listingRepository) {
+        return new ListReservationsUseCase(listingRepository);
     }
 
     @Bean
     public CheckInReservationUseCase checkInReservationUseCase(ReservationRepository reservationRepository,
-                                                               RoomRepository roomRepository,
-                                                               PaymentRepository paymentRepository) {
-        return new CheckInReservationUseCase(reservationRepository, roomRepository, paymentRepository);
+                                                               ReservationBalanceRepository balanceRepository) {
+        return new CheckInReservationUseCase(reservationRepository, balanceRepository);
     }
 
     @Bean
-    public CheckOutReservationUseCase checkOutReservationUseCase(ReservationRepository reservationRepository,
-                                                                RoomRepository roomRepository) {
-        return new CheckOutReservationUseCase(reservationRepository, roomRepository);
+    public CheckOutReservationUseCase checkOutReservationUseCase(ReservationRepository reservationRepository) {
+        return new CheckOutReservationUseCase(reservationRepository);
     }
 
     @Bean
-    public FilterReservationsUseCase filterReservationsUseCase(ReservationRepository reservationRepository) {
-        return new FilterReservationsUseCase(reservationRepository);
+    public FilterReservationsUseCase filterReservationsUseCase(ListingRepository listingRepository,
+                                                              @Value("${gestion.reservations.filter.total-count-ttl:30s}") Duration totalCountTtl) {
+        return new FilterReservationsUseCase(listingRepository, totalCountTtl);
+    }
+
+    @Bean
+    public ExportReservationsUseCase exportReservationsUseCase(ExportRepository exportRepository,
+                                                              @Value("${gestion.export.fetch-size:500}") int fetchSize,
+                                                              @Value("${gestion.export.flush-rows:1000}") int flushRows) {
+        return new ExportReservationsUseCase(exportRepository, fetchSize, flushRows);
+    }
+
+    @Bean
+    public ImportReservationsUseCase importReservationsUseCase(CsvImporter csvImporter,
+                                                              ImportRepository importRepository) {
+        return new ImportReservationsUseCase(csvImporter, importRepository);
     }
 
     @Bean
@@ -181,22 +335,25 @@ public class ApplicationConfig {
     @Bean
     public UpdateReservationUseCase updateReservationUseCase(ReservationRepository reservationRepository,
                                                              GuestRepository guestRepository,
-                                                             RoomRepository roomRepository) {
-        return new UpdateReservationUseCase(reservationRepository, guestRepository, roomRepository);
+                                                             RoomRepository roomRepository,
+                                                             OccupancyRepository occupancyRepository,
+                                                             OccupancyEngine occupancyEngine) {
+        return new UpdateReservationUseCase(reservationRepository, guestRepository, roomRepository,
+            occupancyRepository, occupancyEngine);
     }
 
     @Bean
-    public CancelReservationUseCase cancelReservationUseCase(ReservationRepository reservationRepository,
-                                                             RoomRepository roomRepository) {
-        return new CancelReservationUseCase(reservationRepository, roomRepository);
+    public CancelReservationUseCase cancelReservationUseCase(ReservationRepository reservationRepository) {
+        return new CancelReservationUseCase(reservationRepository);
     }
 
     // Payment use cases
 
     @Bean
     public RegisterPaymentUseCase registerPaymentUseCase(PaymentRepository paymentRepository,
-                                                         ReservationRepository reservationRepository) {
-        return new RegisterPaymentUseCase(paymentRepository, reservationRepository);
+                                                         ReservationRepository reservationRepository,
+                                                         ReservationBalanceRepository balanceRepository) {
+        return new RegisterPaymentUseCase(paymentRepository, reservationRepository, balanceRepository);
     }
 
     @Bean
@@ -206,8 +363,15 @@ public class ApplicationConfig {
 
     @Bean
     public VoidPaymentUseCase voidPaymentUseCase(PaymentRepository paymentRepository,
-                                                  ReservationRepository reservationRepository) {
-        return new VoidPaymentUseCase(paymentRepository, reservationRepository);
+                                                  ReservationRepository reservationRepository,
+                                                  ReservationBalanceRepository balanceRepository) {
+        return new VoidPaymentUseCase(paymentRepository, reservationRepository, balanceRepository);
+    }
+
+    @Bean
+    public GetReservationBalancesUseCase getReservationBalancesUseCase(ReservationRepository reservationRepository,
+                                                                       ReservationBalanceRepository balanceRepository) {
+        return new GetReservationBalancesUseCase(reservationRepository, balanceRepository);
     }
 
     // Document Type use cases
@@ -237,6 +401,17 @@ public class ApplicationConfig {
         return new ListDocumentTypesWithPaginationUseCase(documentTypeRepository);
     }
 
+    @Bean
+    public DocumentNumberValidatorCache documentNumberValidatorCache() {
+        return new DocumentNumberValidatorCache();
+    }
+
+    @Bean
+    public DocumentNumberValidationService documentNumberValidationService(DocumentTypeRepository documentTypeRepository,
+                                                                           DocumentNumberValidatorCache documentNumberValidatorCache) {
+        return new DocumentNumberValidationService(documentTypeRepository, documentNumberValidatorCache);
+    }
+
     // Amenity Definition use cases
 
     @Bean
@@ -245,14 +420,14 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public CreateAmenityDefinitionUseCase createAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository) {
-        return new CreateAmenityDefinitionUseCase(amenityDefinitionRepository);
+    public CreateAmenityDefinitionUseCase createAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository,
+                                                                         RoomRepository roomRepository) {
+        return new CreateAmenityDefinitionUseCase(amenityDefinitionRepository, roomRepository);
     }
 
     @Bean
-    public DeleteAmenityDefinitionUseCase deleteAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository,
-                                                                         RoomRepository roomRepository) {
-        return new DeleteAmenityDefinitionUseCase(amenityDefinitionRepository, roomRepository);
+    public DeleteAmenityDefinitionUseCase deleteAmenityDefinitionUseCase(AmenityDefinitionRepository amenityDefinitionRepository) {
+        return new DeleteAmenityDefinitionUseCase(amenityDefinitionRepository);
     }
 
     // Room Block use cases
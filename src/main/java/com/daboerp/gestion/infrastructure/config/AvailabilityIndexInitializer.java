@@ -0,0 +1,40 @@
+package com.daboerp.gestion.infrastructure.config;
+
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
+import com.daboerp.gestion.domain.repository.ReservationRepository;
+import com.daboerp.gestion.domain.repository.RoomBlockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the room availability index from active reservations and room blocks once the
+ * application is ready. Until then availability searches go to the database.
+ */
+@Component
+public class AvailabilityIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndexInitializer.class);
+
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
+    private final RoomBlockRepository roomBlockRepository;
+
+    public AvailabilityIndexInitializer(RoomAvailabilityIndex availabilityIndex,
+                                        ReservationRepository reservationRepository,
+                                        RoomBlockRepository roomBlockRepository) {
+        this.availabilityIndex = availabilityIndex;
+        this.reservationRepository = reservationRepository;
+        this.roomBlockRepository = roomBlockRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        availabilityIndex.rebuild(reservationRepository::findActiveReservations, roomBlockRepository::findAll);
+        logger.info("Availability index warmed with {} intervals in {}ms",
+            availabilityIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -1,25 +1,35 @@
 package com.daboerp.gestion.infrastructure.config;
 
+import com.daboerp.gestion.domain.entity.RateSeason;
 import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.repository.RateSeasonRepository;
 import com.daboerp.gestion.domain.repository.RoomTypeRepository;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Component
 @Profile("!test")
 public class DataInitializer {
 
+    private static final BigDecimal PEAK_MULTIPLIER = new BigDecimal("1.25");
+
     private final RoomTypeRepository roomTypeRepository;
+    private final RateSeasonRepository rateSeasonRepository;
 
-    public DataInitializer(RoomTypeRepository roomTypeRepository) {
+    public DataInitializer(RoomTypeRepository roomTypeRepository, RateSeasonRepository rateSeasonRepository) {
         this.roomTypeRepository = roomTypeRepository;
+        this.rateSeasonRepository = rateSeasonRepository;
     }
 
     @PostConstruct
     public void init() {
+        initRateSeasons();
         if (!roomTypeRepository.findAll().isEmpty()) {
             return;
         }
@@ -44,4 +54,20 @@ public class DataInitializer {
             "Family Room", "Spacious room for families", 4,
             new BigDecimal("120.00")));
     }
+
+    private void initRateSeasons() {
+        if (!rateSeasonRepository.findAll().isEmpty()) {
+            return;
+        }
+
+        // Peak months, every year: December, January, July and August
+        int year = LocalDate.now().getYear();
+        saveRecurringSeason("Summer peak", LocalDate.of(year, 7, 1), LocalDate.of(year, 9, 1));
+        saveRecurringSeason("Winter peak", LocalDate.of(year, 12, 1), LocalDate.of(year + 1, 2, 1));
+    }
+
+    private void saveRecurringSeason(String name, LocalDate startDate, LocalDate endDate) {
+        rateSeasonRepository.save(new RateSeason(
+            UUID.randomUUID().toString(), name, startDate, endDate, PEAK_MULTIPLIER, LocalDateTime.now(), true));
+    }
 }
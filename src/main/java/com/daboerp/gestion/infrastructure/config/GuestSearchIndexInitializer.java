@@ -0,0 +1,35 @@
+package com.daboerp.gestion.infrastructure.config;
+
+import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the guest search index from a projection of all guests once the application is ready.
+ * Until then typeahead searches go to the database.
+ */
+@Component
+public class GuestSearchIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GuestSearchIndexInitializer.class);
+
+    private final GuestSearchIndex searchIndex;
+    private final GuestRepository guestRepository;
+
+    public GuestSearchIndexInitializer(GuestSearchIndex searchIndex, GuestRepository guestRepository) {
+        this.searchIndex = searchIndex;
+        this.guestRepository = guestRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        searchIndex.rebuild(guestRepository::findAllSearchEntries);
+        logger.info("Guest search index warmed with {} guests in {}ms",
+            searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
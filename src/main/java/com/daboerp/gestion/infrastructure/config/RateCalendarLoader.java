@@ -0,0 +1,91 @@
+package com.daboerp.gestion.infrastructure.config;
+
+import com.daboerp.gestion.domain.repository.RateSeasonRepository;
+import com.daboerp.gestion.domain.strategy.pricing.NightlyRateEngine;
+import com.daboerp.gestion.domain.strategy.pricing.RateCalendar;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Compiles the rate seasons stored in the database into a rate calendar and swaps it into the
+ * nightly rate engine, once the application is ready and then periodically so rate changes
+ * are picked up. A calendar that fails to compile is logged and the previous one is kept.
+ * Recurring seasons are expanded from last year through {@code recurring-years-ahead} years from
+ * now, so each reload rolls the calendar forward. Dated seasons still run out: the days of
+ * coverage left are published as a gauge and a warning is logged once it drops below the horizon.
+ */
+@Component
+public class RateCalendarLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateCalendarLoader.class);
+
+    private final NightlyRateEngine rateEngine;
+    private final RateSeasonRepository rateSeasonRepository;
+    private final Duration seasonHorizon;
+    private final int recurringYearsAhead;
+    private volatile RateCalendar loaded = RateCalendar.empty();
+
+    public RateCalendarLoader(NightlyRateEngine rateEngine, RateSeasonRepository rateSeasonRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${gestion.pricing.calendar.season-horizon:365d}") Duration seasonHorizon,
+                              @Value("${gestion.pricing.calendar.recurring-years-ahead:3}") int recurringYearsAhead) {
+        if (recurringYearsAhead < 1) {
+            throw new IllegalArgumentException("Recurring seasons must be expanded at least one year ahead");
+        }
+        this.rateEngine = rateEngine;
+        this.rateSeasonRepository = rateSeasonRepository;
+        this.seasonHorizon = seasonHorizon;
+        this.recurringYearsAhead = recurringYearsAhead;
+        Gauge.builder("gestion.pricing.calendar.horizon", this, RateCalendarLoader::daysOfSeasonsAhead)
+            .description("Days until the last rate season ends")
+            .baseUnit("days")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${gestion.pricing.calendar.refresh-interval:5m}",
+               initialDelayString = "${gestion.pricing.calendar.refresh-interval:5m}")
+    public void reload() {
+        try {
+            int year = Year.now().getValue();
+            RateCalendar calendar = RateCalendar.compile(rateSeasonRepository.findAll(),
+                year - 1, year + recurringYearsAhead);
+            rateEngine.replaceCalendar(calendar);
+            loaded = calendar;
+            logger.debug("Rate calendar loaded with {} seasons", calendar.size());
+            warnIfRunningOut();
+        } catch (IllegalArgumentException e) {
+            logger.error("Rate calendar not reloaded, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    private void warnIfRunningOut() {
+        long daysAhead = daysOfSeasonsAhead();
+        if (daysAhead < seasonHorizon.toDays()) {
+            logger.warn("Rate seasons end in {} days ({}); later nights get no seasonal pricing until seasons are added",
+                daysAhead, loaded.lastSeasonEnd().map(LocalDate::toString).orElse("no seasons"));
+        }
+    }
+
+    private long daysOfSeasonsAhead() {
+        return loaded.lastSeasonEnd()
+            .map(end -> Math.max(0, ChronoUnit.DAYS.between(LocalDate.now(), end)))
+            .orElse(0L);
+    }
+}
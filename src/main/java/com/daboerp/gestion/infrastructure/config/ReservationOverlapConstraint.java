@@ -0,0 +1,58 @@
+package com.daboerp.gestion.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Startup check for the exclusion constraint that refuses overlapping stays (V014).
+ * Only migrated PostgreSQL databases have it; schemas built by Hibernate ({@code ddl-auto}) or
+ * created before V014 do not, and must keep the application's overlap check.
+ */
+@Component
+public class ReservationOverlapConstraint {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationOverlapConstraint.class);
+
+    static final String CONSTRAINT_NAME = "ex_reservations_room_stay";
+
+    private static final String EXISTS_SQL =
+        "SELECT COUNT(*) FROM pg_constraint WHERE conname = ? AND contype = 'x'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationOverlapConstraint(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Whether bookings may rely on the constraint: it must be both requested and present.
+     */
+    public boolean isEnforced(boolean requested) {
+        if (!requested) {
+            return false;
+        }
+        if (exists()) {
+            logger.info("Overlapping stays are refused by {}; bookings skip the overlap query", CONSTRAINT_NAME);
+            return true;
+        }
+        logger.warn("gestion.reservations.overlap-constraint is on but {} does not exist; "
+            + "keeping the application overlap check", CONSTRAINT_NAME);
+        return false;
+    }
+
+    private boolean exists() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, CONSTRAINT_NAME);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            // Not PostgreSQL, or the catalog is not readable
+            logger.debug("Could not look up {}: {}", CONSTRAINT_NAME, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.daboerp.gestion.infrastructure.event;
+
+import com.daboerp.gestion.domain.event.DomainEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hands domain events to their listeners on background worker lanes instead of the request thread.
+ * Each event type is pinned to one lane, so events of the same type are handled in publication order.
+ * Lanes have bounded queues; when a lane is full the {@link OverflowPolicy} decides what happens.
+ * An overflowing event is never delivered out of turn: it is either dropped or refused with an
+ * {@link EventQueueFullException}, which leaves it in the outbox for the relay to redeliver in order.
+ * Queue depth, dispatch lag, handler latency and overflow counts are published as metrics.
+ * Only created when {@code gestion.events.dispatch.mode} is {@code async}.
+ */
+@Component
+@ConditionalOnProperty(name = "gestion.events.dispatch.mode", havingValue = "async")
+public class AsyncDomainEventDispatcher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncDomainEventDispatcher.class);
+
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(10);
+
+    /**
+     * What to do with an event when its lane's queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to the block timeout for space, then refuse the event. */
+        BLOCK,
+        /** Discard the event and count it. */
+        DROP,
+        /** Refuse the event straight away, leaving it in the outbox until the lane has room. */
+        SPILL
+    }
+
+    private final Consumer<DomainEvent> delivery;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final List<Lane> lanes;
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Counter spilledCounter;
+    private volatile boolean running = true;
+
+    @Autowired
+    public AsyncDomainEventDispatcher(ApplicationEventPublisher applicationEventPublisher,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${gestion.events.dispatch.workers:4}") int workers,
+                                      @Value("${gestion.events.dispatch.queue-capacity:1000}") int queueCapacity,
+                                      @Value("${gestion.events.dispatch.overflow:block}") String overflowPolicy,
+                                      @Value("${gestion.events.dispatch.block-timeout:2s}") Duration blockTimeout) {
+        this(applicationEventPublisher::publishEvent, meterRegistry, workers, queueCapacity,
+            OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT)), blockTimeout);
+    }
+
+    AsyncDomainEventDispatcher(Consumer<DomainEvent> delivery, MeterRegistry meterRegistry,
+                               int workers, int queueCapacity,
+                               OverflowPolicy overflowPolicy, Duration blockTimeout) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Event dispatch needs at least one worker");
+        }
+        if (queueCapacity < workers) {
+            throw new IllegalArgumentException("Event queue capacity must be at least the number of workers");
+        }
+        this.delivery = Objects.requireNonNull(delivery);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.blockTimeout = Objects.requireNonNull(blockTimeout);
+
+        this.lagTimer = Timer.builder("gestion.events.dispatch.lag")
+            .description("Time events wait in the dispatch queue")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gestion.events.overflow")
+            .tag("outcome", "dropped")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("gestion.events.overflow")
+            .tag("outcome", "rejected")
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder("gestion.events.overflow")
+            .tag("outcome", "spilled")
+            .register(meterRegistry);
+
+        int laneCapacity = queueCapacity / workers;
+        this.lanes = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            Lane lane = new Lane(i, laneCapacity);
+            lanes.add(lane);
+            lane.thread.start();
+        }
+        Gauge.builder("gestion.events.queue.depth", this, AsyncDomainEventDispatcher::queueDepth)
+            .description("Events waiting to be dispatched")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue the event for its lane, applying the overflow policy if the lane is full.
+     *
+     * @throws EventQueueFullException if the lane stays full under the BLOCK or SPILL policy
+     */
+    public void dispatch(DomainEvent event) {
+        enqueue(event, null);
+    }
+
+    /**
+     * Queue the event like {@link #dispatch}, and report when its listeners have finished with it.
+     * The future fails with the listener's exception if one throws, and never completes if the
+     * process stops first. The caller still holds the event, so a full lane refuses it with
+     * {@link EventQueueFullException} under every policy, DROP included.
+     */
+    public CompletableFuture<Void> dispatchTracked(DomainEvent event) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        enqueue(event, completion);
+        return completion;
+    }
+
+    private void enqueue(DomainEvent event, CompletableFuture<Void> completion) {
+        Objects.requireNonNull(event, "Domain event cannot be null");
+        Envelope envelope = new Envelope(event, System.nanoTime(), completion);
+        if (!running) {
+            handle(envelope);
+            return;
+        }
+        Lane lane = laneFor(event);
+        if (lane.queue.offer(envelope)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (lane.queue.offer(envelope, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rejectedCounter.increment();
+                throw new EventQueueFullException(event);
+            }
+            case DROP -> {
+                if (completion != null) {
+                    rejectedCounter.increment();
+                    throw new EventQueueFullException(event);
+                }
+                droppedCounter.increment();
+                logger.warn("Event queue full, dropping domain event: {} with ID: {}",
+                    event.getEventType(), event.getEventId());
+            }
+            case SPILL -> {
+                spilledCounter.increment();
+                logger.debug("Event queue full, leaving domain event for redelivery: {} with ID: {}",
+                    event.getEventType(), event.getEventId());
+                throw new EventQueueFullException(event);
+            }
+        }
+    }
+
+    public int queueDepth() {
+        return lanes.stream().mapToInt(lane -> lane.queue.size()).sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + SHUTDOWN_GRACE.toNanos();
+        for (Lane lane : lanes) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            lane.thread.join(Math.max(remainingMillis, 1));
+        }
+        int abandoned = queueDepth();
+        if (abandoned > 0) {
+            logger.warn("Event dispatcher stopped with {} undelivered domain events", abandoned);
+        }
+    }
+
+    private Lane laneFor(DomainEvent event) {
+        return lanes.get(Math.floorMod(event.getEventType().hashCode(), lanes.size()));
+    }
+
+    private void handle(Envelope envelope) {
+        Exception failure = deliver(envelope.event());
+        if (envelope.completion() == null) {
+            return;
+        }
+        if (failure == null) {
+            envelope.completion().complete(null);
+        } else {
+            envelope.completion().completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Run the listeners, returning what they threw or null if they succeeded.
+     */
+    private Exception deliver(DomainEvent event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            delivery.accept(event);
+            return null;
+        } catch (Exception e) {
+            meterRegistry.counter("gestion.events.handler.failures", "type", event.getEventType()).increment();
+            logger.error("Domain event handler failed: {} with ID: {} - {}",
+                event.getEventType(), event.getEventId(), e.getMessage(), e);
+            return e;
+        } finally {
+            sample.stop(meterRegistry.timer("gestion.events.handler.latency", "type", event.getEventType()));
+        }
+    }
+
+    /**
+     * Thrown when an event's lane has no room for it. The event has not been delivered.
+     */
+    public static class EventQueueFullException extends RuntimeException {
+        public EventQueueFullException(DomainEvent event) {
+            super("Event queue full for " + event.getEventType() + " with ID: " + event.getEventId());
+        }
+    }
+
+    private record Envelope(DomainEvent event, long enqueuedAtNanos, CompletableFuture<Void> completion) {}
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Envelope> queue;
+        private final Thread thread;
+
+        private Lane(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "domain-events-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                Envelope envelope;
+                try {
+                    envelope = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (envelope != null) {
+                    lagTimer.record(System.nanoTime() - envelope.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                    handle(envelope);
+                }
+            }
+        }
+    }
+}
@@ -5,14 +5,21 @@ import com.daboerp.gestion.domain.event.DomainEventPublisher;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Spring-based implementation of DomainEventPublisher.
  * Bridges domain events to Spring's application event mechanism.
+ * Events published inside a transaction are held back until it commits (and discarded on rollback).
+ * In async mode listeners run on the {@link AsyncDomainEventDispatcher} workers instead of the caller's thread.
+ * A full async lane surfaces as {@link AsyncDomainEventDispatcher.EventQueueFullException}.
  */
 @Component
 public class SpringDomainEventPublisher implements DomainEventPublisher {
@@ -20,16 +27,58 @@ public class SpringDomainEventPublisher implements DomainEventPublisher {
     private static final Logger logger = LoggerFactory.getLogger(SpringDomainEventPublisher.class);
     
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final AsyncDomainEventDispatcher asyncDispatcher;
     
-    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                      ObjectProvider<AsyncDomainEventDispatcher> asyncDispatcher) {
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher, 
             "Application event publisher cannot be null");
+        this.asyncDispatcher = asyncDispatcher.getIfAvailable();
     }
     
     @Override
     public void publish(DomainEvent event) {
         Objects.requireNonNull(event, "Domain event cannot be null");
         
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            logger.debug("Deferring domain event until commit: {} with ID: {}",
+                        event.getEventType(), event.getEventId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+            return;
+        }
+        dispatch(event);
+    }
+    
+    /**
+     * Deliver straight away. In async mode the future completes on the worker lane once the
+     * listeners have run; a full lane throws {@link AsyncDomainEventDispatcher.EventQueueFullException}.
+     */
+    @Override
+    public CompletableFuture<Void> publishAndTrack(DomainEvent event) {
+        Objects.requireNonNull(event, "Domain event cannot be null");
+        if (asyncDispatcher != null) {
+            return asyncDispatcher.dispatchTracked(event);
+        }
+        try {
+            applicationEventPublisher.publishEvent(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            logger.error("Failed to publish domain event: {} - {}", event.getEventType(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private void dispatch(DomainEvent event) {
+        if (asyncDispatcher != null) {
+            asyncDispatcher.dispatch(event);
+            return;
+        }
+        
         logger.debug("Publishing domain event: {} with ID: {}", 
                     event.getEventType(), event.getEventId());
         
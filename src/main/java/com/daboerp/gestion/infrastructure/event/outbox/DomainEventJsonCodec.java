@@ -0,0 +1,90 @@
+package com.daboerp.gestion.infrastructure.event.outbox;
+
+import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.domain.event.guest.GuestCreatedEvent;
+import com.daboerp.gestion.domain.event.reservation.ReservationCreatedEvent;
+import com.daboerp.gestion.domain.valueobject.GuestId;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+import com.daboerp.gestion.domain.valueobject.RoomId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Converts domain events to and from the JSON payload stored in the outbox.
+ * The mapping is explicit per event type so the domain events stay free of serialization concerns.
+ */
+@Component
+public class DomainEventJsonCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public DomainEventJsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    public String encode(DomainEvent event) {
+        ObjectNode node = objectMapper.createObjectNode();
+        if (event instanceof GuestCreatedEvent guestCreated) {
+            node.put("guestId", guestCreated.getGuestId().getValue());
+            node.put("email", guestCreated.getEmail());
+            node.put("firstName", guestCreated.getFirstName());
+            node.put("lastName", guestCreated.getLastName());
+        } else if (event instanceof ReservationCreatedEvent reservationCreated) {
+            node.put("reservationId", reservationCreated.getReservationId().getValue());
+            node.put("reservationCode", reservationCreated.getReservationCode());
+            node.put("guestId", reservationCreated.getGuestId().getValue());
+            node.put("roomId", reservationCreated.getRoomId().getValue());
+            node.put("checkIn", reservationCreated.getCheckIn().toString());
+            node.put("checkOut", reservationCreated.getCheckOut().toString());
+            node.put("quotedAmount", reservationCreated.getQuotedAmount().toPlainString());
+        } else {
+            throw new IllegalArgumentException("No outbox encoding for event type: " + event.getEventType());
+        }
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode event " + event.getEventId(), e);
+        }
+    }
+
+    public DomainEvent decode(String eventType, UUID eventId, LocalDateTime occurredOn, String payload) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed outbox payload for event " + eventId, e);
+        }
+        return switch (eventType) {
+            case "guest.created" -> new GuestCreatedEvent(
+                eventId, occurredOn,
+                GuestId.of(node.get("guestId").asText()),
+                text(node, "email"),
+                text(node, "firstName"),
+                text(node, "lastName"));
+            case "reservation.created" -> new ReservationCreatedEvent(
+                eventId, occurredOn,
+                ReservationId.of(node.get("reservationId").asText()),
+                text(node, "reservationCode"),
+                GuestId.of(node.get("guestId").asText()),
+                RoomId.of(node.get("roomId").asText()),
+                LocalDate.parse(node.get("checkIn").asText()),
+                LocalDate.parse(node.get("checkOut").asText()),
+                new BigDecimal(node.get("quotedAmount").asText()));
+            default -> throw new IllegalArgumentException("Unknown outbox event type: " + eventType);
+        };
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
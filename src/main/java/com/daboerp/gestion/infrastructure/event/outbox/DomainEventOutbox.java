@@ -0,0 +1,45 @@
+package com.daboerp.gestion.infrastructure.event.outbox;
+
+import com.daboerp.gestion.domain.event.DomainEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends domain events to the outbox table.
+ * Called from repository saves so the events commit or roll back with the aggregate;
+ * all events of one save go out as a single JDBC batch.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO domain_event_outbox (id, event_type, payload, occurred_on, created_at, attempts) " +
+        "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventJsonCodec codec;
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, DomainEventJsonCodec codec) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.codec = Objects.requireNonNull(codec);
+    }
+
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getEventId().toString());
+            ps.setString(2, event.getEventType());
+            ps.setString(3, codec.encode(event));
+            ps.setTimestamp(4, Timestamp.valueOf(event.getOccurredOn()));
+            ps.setTimestamp(5, now);
+        });
+    }
+}
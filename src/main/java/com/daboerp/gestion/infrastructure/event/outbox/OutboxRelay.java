@@ -0,0 +1,248 @@
+package com.daboerp.gestion.infrastructure.event.outbox;
+
+import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.domain.event.DomainEventPublisher;
+import com.daboerp.gestion.infrastructure.event.AsyncDomainEventDispatcher.EventQueueFullException;
+import com.daboerp.gestion.infrastructure.persistence.entity.DomainEventOutboxJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.jpa.DomainEventOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the domain event outbox in batches and hands each event to the {@link DomainEventPublisher},
+ * so the configured dispatch mode (synchronous or async lanes) applies to relayed events.
+ * A batch is claimed with {@code FOR UPDATE SKIP LOCKED} and a claim timeout in its own short
+ * transaction, delivered with no transaction or row locks held, then marked in a second transaction
+ * once the listeners have finished - in async mode the relay waits for the worker lanes. Rows whose
+ * listeners succeeded are marked delivered with one bulk update, failing rows one attempt further
+ * each. Rows still unfinished after half the claim timeout, or lost to a crash, stay claimed and
+ * are redelivered once the claim expires (listeners must tolerate duplicates).
+ * When the async lanes are full the undelivered rest of the batch is released for the next poll,
+ * in order and without counting an attempt.
+ */
+@Component
+@ConditionalOnProperty(name = "gestion.events.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DomainEventOutboxJpaRepository outboxRepository;
+    private final DomainEventJsonCodec codec;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final Duration retention;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public OutboxRelay(DomainEventOutboxJpaRepository outboxRepository,
+                       DomainEventJsonCodec codec,
+                       DomainEventPublisher domainEventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${gestion.events.outbox.batch-size:500}") int batchSize,
+                       @Value("${gestion.events.outbox.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                       @Value("${gestion.events.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${gestion.events.outbox.claim-timeout:5m}") Duration claimTimeout,
+                       @Value("${gestion.events.outbox.retention:7d}") Duration retention) {
+        if (batchSize < 1 || maxBatchesPerPoll < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Outbox batch size, batches per poll and attempts must be positive");
+        }
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.codec = Objects.requireNonNull(codec);
+        this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+        this.retention = Objects.requireNonNull(retention);
+
+        this.relayedCounter = Counter.builder("gestion.events.outbox.relayed")
+            .description("Outbox events delivered to their listeners")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("gestion.events.outbox.failed")
+            .description("Outbox event deliveries that threw and will be retried")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("gestion.events.outbox.lag")
+            .description("Time from outbox insert to delivery")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("gestion.events.outbox.batch.size")
+            .description("Events claimed per relay batch")
+            .register(meterRegistry);
+        Gauge.builder("gestion.events.outbox.pending", outboxRepository, DomainEventOutboxJpaRepository::countPending)
+            .description("Outbox events not yet delivered")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relay full batches back to back until the outbox is drained or the per-poll budget is spent.
+     */
+    @Scheduled(fixedDelayString = "${gestion.events.outbox.poll-interval:200ms}")
+    public void poll() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Claim, deliver and mark one batch. Returns the number of events delivered or failed;
+     * less than the batch size when the outbox ran dry or part of it was left for later.
+     */
+    public int relayBatch() {
+        List<DomainEventOutboxJpaEntity> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        Map<DomainEventOutboxJpaEntity, CompletableFuture<Void>> published = new LinkedHashMap<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+        List<String> deferred = new ArrayList<>();
+        for (DomainEventOutboxJpaEntity row : batch) {
+            if (!deferred.isEmpty()) {
+                deferred.add(row.getId());
+                continue;
+            }
+            try {
+                DomainEvent event = codec.decode(row.getEventType(), UUID.fromString(row.getId()),
+                    row.getOccurredOn(), row.getPayload());
+                published.put(row, domainEventPublisher.publishAndTrack(event));
+            } catch (EventQueueFullException e) {
+                logger.debug("Event lanes full, leaving {} outbox events for the next poll",
+                    batch.size() - published.size() - failed.size());
+                deferred.add(row.getId());
+            } catch (Exception e) {
+                recordFailure(row, e, failed);
+            }
+        }
+        awaitListeners(published.values());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> delivered = new ArrayList<>(published.size());
+        int unfinished = 0;
+        for (Map.Entry<DomainEventOutboxJpaEntity, CompletableFuture<Void>> entry : published.entrySet()) {
+            DomainEventOutboxJpaEntity row = entry.getKey();
+            CompletableFuture<Void> completion = entry.getValue();
+            if (!completion.isDone()) {
+                unfinished++;
+            } else if (completion.isCompletedExceptionally()) {
+                recordFailure(row, failureOf(completion), failed);
+            } else {
+                delivered.add(row.getId());
+                lagTimer.record(Duration.between(row.getCreatedAt(), now));
+            }
+        }
+        if (unfinished > 0) {
+            logger.warn("{} outbox events still being handled; they stay claimed and are redelivered "
+                + "when the claim expires", unfinished);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxRepository.markDelivered(delivered, now);
+            }
+            failed.forEach(outboxRepository::markFailed);
+            if (!deferred.isEmpty()) {
+                outboxRepository.releaseClaims(deferred);
+            }
+        });
+        relayedCounter.increment(delivered.size());
+        batchSizeSummary.record(batch.size());
+        return delivered.size() + failed.size();
+    }
+
+    /**
+     * Wait for every listener to finish, leaving some margin before the batch's claim expires.
+     */
+    private void awaitListeners(Collection<CompletableFuture<Void>> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new))
+                .get(claimTimeout.toMillis() / 2, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed and unfinished events are told apart per row afterwards
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordFailure(DomainEventOutboxJpaEntity row, Throwable failure, Map<String, String> failed) {
+        failedCounter.increment();
+        logger.warn("Outbox delivery failed for event {} ({}), attempt {}: {}",
+            row.getId(), row.getEventType(), row.getAttempts() + 1, failure.getMessage());
+        failed.put(row.getId(), truncate(String.valueOf(failure.getMessage())));
+    }
+
+    private static Throwable failureOf(CompletableFuture<Void> completion) {
+        try {
+            completion.join();
+            return new IllegalStateException("Listener completed normally");
+        } catch (CompletionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private List<DomainEventOutboxJpaEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainEventOutboxJpaEntity> batch = outboxRepository.claimPending(maxAttempts, now, batchSize);
+        if (!batch.isEmpty()) {
+            outboxRepository.markClaimed(batch.stream().map(DomainEventOutboxJpaEntity::getId).toList(),
+                now.plus(claimTimeout));
+        }
+        return batch;
+    }
+
+    @Scheduled(fixedDelayString = "${gestion.events.outbox.purge-interval:1h}")
+    public void purgeDelivered() {
+        Integer purged = transactionTemplate.execute(status ->
+            outboxRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            logger.debug("Purged {} delivered outbox events", purged);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,100 @@
+package com.daboerp.gestion.infrastructure.persistence.cache;
+
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.infrastructure.persistence.mapper.RoomMapper;
+import com.daboerp.gestion.infrastructure.persistence.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of mapped Room aggregates keyed by id, with a secondary
+ * room number → id index. Rooms are mutable, so entries are stored and handed out as
+ * copies; callers can never change what another request reads.
+ * Writes made inside a transaction only reach the cache once it commits: the entry is evicted
+ * straight away and again after commit, and puts are applied after commit, so a rollback never
+ * leaves uncommitted rooms behind and concurrent reads cannot re-cache the old row for the TTL.
+ * Hit, miss and eviction counters are published as the "rooms" cache metrics.
+ */
+@Component
+public class RoomCache {
+
+    private final Cache<String, Room> roomsById;
+    private final Cache<Integer, String> idsByNumber;
+    private final RoomMapper mapper;
+
+    public RoomCache(RoomMapper mapper,
+                     MeterRegistry meterRegistry,
+                     @Value("${gestion.cache.rooms.max-size:10000}") long maxSize,
+                     @Value("${gestion.cache.rooms.ttl:10m}") Duration ttl) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.roomsById = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.idsByNumber = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roomsById, "rooms");
+    }
+
+    public Optional<Room> getById(String id) {
+        return Optional.ofNullable(roomsById.getIfPresent(id)).map(this::copy);
+    }
+
+    public Optional<Room> getByNumber(Integer roomNumber) {
+        String id = idsByNumber.getIfPresent(roomNumber);
+        if (id == null) {
+            return Optional.empty();
+        }
+        // The number index may outlive or predate the entry it points to
+        return getById(id).filter(room -> room.getRoomNumber().equals(roomNumber));
+    }
+
+    public void put(Room room) {
+        Room copy = copy(room);
+        String id = copy.getId().getValue();
+        evictNow(id);
+        AfterCommit.run(() -> store(id, copy));
+    }
+
+    public void evict(String id) {
+        evictNow(id);
+        AfterCommit.run(() -> evictNow(id));
+    }
+
+    public void invalidateAll() {
+        roomsById.invalidateAll();
+        idsByNumber.invalidateAll();
+    }
+
+    private void store(String id, Room room) {
+        Room previous = roomsById.getIfPresent(id);
+        if (previous != null && !previous.getRoomNumber().equals(room.getRoomNumber())) {
+            idsByNumber.invalidate(previous.getRoomNumber());
+        }
+        roomsById.put(id, room);
+        idsByNumber.put(room.getRoomNumber(), id);
+    }
+
+    private void evictNow(String id) {
+        Room previous = roomsById.getIfPresent(id);
+        roomsById.invalidate(id);
+        if (previous != null) {
+            idsByNumber.invalidate(previous.getRoomNumber());
+        }
+    }
+
+    private Room copy(Room room) {
+        return mapper.toDomainEntity(mapper.toJpaEntity(room));
+    }
+}
@@ -17,4 +17,7 @@ public class AmenityDefinitionJpaEntity {
 
     @Column(name = "name", nullable = false, unique = true, length = 100)
     private String name;
+
+    @Column(name = "ordinal", nullable = false, unique = true)
+    private Integer ordinal;
 }
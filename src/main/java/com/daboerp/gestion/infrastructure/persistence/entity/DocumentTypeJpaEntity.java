@@ -36,6 +36,9 @@ public class DocumentTypeJpaEntity {
     @Column(name = "validation_regex", length = 255)
     private String validationRegex;
     
+    @Column(name = "max_number_length")
+    private Integer maxNumberLength;
+    
     @Column(name = "active", nullable = false)
     private boolean active;
     
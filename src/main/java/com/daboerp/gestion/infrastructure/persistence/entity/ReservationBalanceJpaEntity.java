@@ -0,0 +1,33 @@
+package com.daboerp.gestion.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservation_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBalanceJpaEntity {
+
+    @Id
+    @Column(name = "reservation_id", nullable = false, length = 36)
+    private String reservationId;
+
+    @Column(name = "total_paid", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPaid;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
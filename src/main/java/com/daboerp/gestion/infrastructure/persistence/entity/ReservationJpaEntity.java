@@ -7,16 +7,18 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * JPA entity for Reservation persistence.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "reservations")
 @Getter
 @Setter
@@ -63,7 +65,7 @@ public class ReservationJpaEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "reservation_guests", joinColumns = @JoinColumn(name = "reservation_id"))
     @Column(name = "guest_id")
-    private List<String> guestIds = new ArrayList<>();
+    private Set<String> guestIds = new LinkedHashSet<>();
     
     @Column(name = "room_id", nullable = false, length = 36)
     private String roomId;
@@ -6,13 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
+@DynamicUpdate
 @Table(name = "rooms")
 @Getter
 @Setter
@@ -52,7 +56,7 @@ public class RoomJpaEntity {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "room_amenities", joinColumns = @JoinColumn(name = "room_id"))
     @Column(name = "amenity", length = 50)
-    private List<String> amenities = new ArrayList<>();
+    private Set<String> amenities = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "room_images", joinColumns = @JoinColumn(name = "room_id"))
@@ -67,4 +71,9 @@ public class RoomJpaEntity {
 
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
+
+    // Catalog bits of the listed amenities; maintained in SQL by RoomJpaRepository, never written from here
+    @Column(name = "amenity_mask", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
+    private long amenityMask;
 }
@@ -0,0 +1,150 @@
+package com.daboerp.gestion.infrastructure.persistence.identity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Aggregates already loaded or saved during the current request, keyed by type and id, so a
+ * repository hands out the instance it has instead of reading and mapping the rows again.
+ * A scope is opened per request by {@link IdentityMapFilter}; outside one (startup, scheduled
+ * and event-handler threads) lookups miss and nothing is kept.
+ * When a scope closes, the number of aggregates built from the database is recorded per type as
+ * the "persistence.hydrations" summary, and any aggregate built twice in one request - after an
+ * eviction - counts towards "persistence.rehydrations".
+ */
+@Component
+public class IdentityMap {
+
+    private static final Logger log = LoggerFactory.getLogger(IdentityMap.class);
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public IdentityMap(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Open a scope on this thread; a scope already open is kept.
+     *
+     * @return whether this call opened the scope, and so must close it
+     */
+    public boolean begin() {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new Scope());
+        return true;
+    }
+
+    /**
+     * Close this thread's scope and record its hydration counts.
+     *
+     * @param label what the scope covered, for the debug log
+     */
+    public void end(String label) {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        if (scope == null || scope.hydrations.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> counts = new TreeMap<>();
+        scope.hydrations.forEach((type, count) -> {
+            counts.put(type.getSimpleName(), count);
+            DistributionSummary.builder("persistence.hydrations")
+                .description("Aggregates built from the database per request")
+                .tag("aggregate", type.getSimpleName())
+                .register(meterRegistry)
+                .record(count);
+        });
+        scope.rehydrations.forEach((type, count) ->
+            Counter.builder("persistence.rehydrations")
+                .description("Aggregates built from the database more than once in a request")
+                .tag("aggregate", type.getSimpleName())
+                .register(meterRegistry)
+                .increment(count));
+        log.debug("{} hydrated {}", label, counts);
+    }
+
+    public <T> Optional<T> find(Class<T> type, String id) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(type.cast(scope.aggregates(type).get(id)));
+    }
+
+    /**
+     * The aggregate held for this id, or the one {@code hydrate} builds, which is then held
+     * and counted as a hydration.
+     */
+    public <T> T resolve(Class<T> type, String id, Supplier<T> hydrate) {
+        Optional<T> held = find(type, id);
+        if (held.isPresent()) {
+            return held.get();
+        }
+        T aggregate = hydrate.get();
+        hydrated(type, id, aggregate);
+        return aggregate;
+    }
+
+    /**
+     * Hold an aggregate that was just built from the database.
+     */
+    public <T> void hydrated(Class<T> type, String id, T aggregate) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.aggregates(type).put(id, aggregate);
+        scope.hydrations.merge(type, 1, Integer::sum);
+        if (!scope.hydrated.add(type.getSimpleName() + ':' + id)) {
+            scope.rehydrations.merge(type, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Hold an aggregate that did not come from the database, such as one just saved.
+     */
+    public <T> void register(Class<T> type, String id, T aggregate) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.aggregates(type).put(id, aggregate);
+        }
+    }
+
+    /**
+     * Forget an aggregate whose rows were changed or removed behind its back.
+     */
+    public void evict(Class<?> type, String id) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.aggregates(type).remove(id);
+        }
+    }
+
+    private static final class Scope {
+        private final Map<Class<?>, Map<String, Object>> aggregates = new HashMap<>();
+        private final Map<Class<?>, Integer> hydrations = new HashMap<>();
+        private final Map<Class<?>, Integer> rehydrations = new HashMap<>();
+        private final Set<String> hydrated = new HashSet<>();
+
+        private Map<String, Object> aggregates(Class<?> type) {
+            return aggregates.computeIfAbsent(type, key -> new HashMap<>());
+        }
+    }
+}
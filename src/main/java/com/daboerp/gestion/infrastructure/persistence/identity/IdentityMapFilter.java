@@ -0,0 +1,37 @@
+package com.daboerp.gestion.infrastructure.persistence.identity;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Opens an {@link IdentityMap} scope for the length of each HTTP request.
+ */
+@Component
+public class IdentityMapFilter extends OncePerRequestFilter {
+
+    private final IdentityMap identityMap;
+
+    public IdentityMapFilter(IdentityMap identityMap) {
+        this.identityMap = Objects.requireNonNull(identityMap);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean opened = identityMap.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (opened) {
+                identityMap.end(request.getMethod() + " " + request.getRequestURI());
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.daboerp.gestion.infrastructure.persistence.jpa;
+
+import com.daboerp.gestion.infrastructure.persistence.entity.DomainEventOutboxJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the domain event outbox.
+ */
+@Repository
+public interface DomainEventOutboxJpaRepository extends JpaRepository<DomainEventOutboxJpaEntity, String> {
+
+    /**
+     * Lock the oldest pending, unclaimed events. Rows locked by another relay are skipped rather than
+     * waited for, so several relays can drain the outbox in parallel.
+     */
+    @Query(value = "SELECT * FROM domain_event_outbox " +
+           "WHERE delivered_at IS NULL AND attempts < :maxAttempts " +
+           "AND (claimed_until IS NULL OR claimed_until < :now) " +
+           "ORDER BY created_at " +
+           "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<DomainEventOutboxJpaEntity> claimPending(@Param("maxAttempts") int maxAttempts,
+                                                  @Param("now") LocalDateTime now,
+                                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE DomainEventOutboxJpaEntity e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int markClaimed(@Param("ids") Collection<String> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Hand claimed events back without counting an attempt.
+     */
+    @Modifying
+    @Query("UPDATE DomainEventOutboxJpaEntity e SET e.claimedUntil = NULL WHERE e.id IN :ids")
+    int releaseClaims(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("UPDATE DomainEventOutboxJpaEntity e SET e.deliveredAt = :deliveredAt WHERE e.id IN :ids")
+    int markDelivered(@Param("ids") Collection<String> ids, @Param("deliveredAt") LocalDateTime deliveredAt);
+
+    @Modifying
+    @Query("UPDATE DomainEventOutboxJpaEntity e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+           "e.claimedUntil = NULL WHERE e.id = :id")
+    int markFailed(@Param("id") String id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM DomainEventOutboxJpaEntity e WHERE e.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+
+    @Query("SELECT COUNT(e) FROM DomainEventOutboxJpaEntity e WHERE e.deliveredAt IS NULL")
+    long countPending();
+}
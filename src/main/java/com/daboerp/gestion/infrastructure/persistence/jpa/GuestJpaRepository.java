@@ -1,6 +1,8 @@
 package com.daboerp.gestion.infrastructure.persistence.jpa;
 
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
 import com.daboerp.gestion.infrastructure.persistence.entity.GuestJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +27,16 @@ public interface GuestJpaRepository extends JpaRepository<GuestJpaEntity, String
            "LOWER(g.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
            "LOWER(g.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<GuestJpaEntity> searchByName(@Param("name") String name);
+    
+    @Query("SELECT new com.daboerp.gestion.domain.search.GuestSearchEntry(" +
+           "g.id, g.firstName, g.lastName, g.email, g.documentNumber) FROM GuestJpaEntity g")
+    List<GuestSearchEntry> findAllSearchEntries();
+    
+    @Query("SELECT new com.daboerp.gestion.domain.search.GuestSearchEntry(" +
+           "g.id, g.firstName, g.lastName, g.email, g.documentNumber) FROM GuestJpaEntity g WHERE " +
+           "LOWER(g.firstName) LIKE CONCAT('%', :term, '%') OR " +
+           "LOWER(g.lastName) LIKE CONCAT('%', :term, '%') OR " +
+           "LOWER(g.email) LIKE CONCAT('%', :term, '%') OR " +
+           "LOWER(g.documentNumber) LIKE CONCAT('%', :term, '%')")
+    List<GuestSearchEntry> findSearchEntries(@Param("term") String term, Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.daboerp.gestion.infrastructure.persistence.jpa;
+
+import com.daboerp.gestion.infrastructure.persistence.entity.RateSeasonJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RateSeasonJpaRepository extends JpaRepository<RateSeasonJpaEntity, String> {
+}
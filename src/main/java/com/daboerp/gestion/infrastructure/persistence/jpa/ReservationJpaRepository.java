@@ -1,24 +1,26 @@
 package com.daboerp.gestion.infrastructure.persistence.jpa;
 
 import com.daboerp.gestion.domain.entity.StatusType;
-import com.daboerp.gestion.domain.valueobject.Source;
 import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA repository for Reservation persistence.
+ * Filtered searches go through {@link JpaSpecificationExecutor} with predicates built
+ * from domain specifications.
  */
 @Repository
-public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEntity, String> {
+public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEntity, String>,
+                                                  JpaSpecificationExecutor<ReservationJpaEntity> {
     
     Optional<ReservationJpaEntity> findByReservationCode(String reservationCode);
     
@@ -28,6 +30,12 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
     
     List<ReservationJpaEntity> findByStatusType(StatusType statusType);
     
+    /**
+     * Columns: reservation id, quoted amount.
+     */
+    @Query("SELECT r.id, r.quotedAmount FROM ReservationJpaEntity r WHERE r.id IN :ids")
+    List<Object[]> findQuotedAmounts(@Param("ids") Collection<String> ids);
+    
     @Query("SELECT r FROM ReservationJpaEntity r WHERE " +
            "r.checkIn <= :endDate AND r.checkOut >= :startDate")
     List<ReservationJpaEntity> findByDateRange(@Param("startDate") LocalDate startDate,
@@ -52,55 +60,37 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
                                                            @Param("checkOut") LocalDate checkOut);
     
     /**
-     * Find reservations by multiple optional filters.
-     * Dynamic query based on which parameters are not null.
+     * Active reservations and room blocks overlapping the range, in a single round trip.
+     * Columns: owner id, room id, start date, end date, kind (RESERVATION or BLOCK).
      */
-    @Query("SELECT r FROM ReservationJpaEntity r WHERE " +
-           "(:status IS NULL OR r.statusType = :status) AND " +
-           "(:source IS NULL OR r.source = :source) AND " +
-           "(:checkInStart IS NULL OR r.checkIn >= :checkInStart) AND " +
-           "(:checkInEnd IS NULL OR r.checkIn <= :checkInEnd) AND " +
-           "(:stayStart IS NULL OR r.checkOut >= :stayStart) AND " +
-           "(:stayEnd IS NULL OR r.checkIn <= :stayEnd)")
-    List<ReservationJpaEntity> findByFilters(@Param("status") StatusType status,
-                                            @Param("source") Source source,
-                                            @Param("checkInStart") LocalDate checkInStart,
-                                            @Param("checkInEnd") LocalDate checkInEnd,
-                                            @Param("stayStart") LocalDate stayStart,
-                                            @Param("stayEnd") LocalDate stayEnd);
+    @Query(value = "SELECT r.id, r.room_id, r.check_in, r.check_out, 'RESERVATION' FROM reservations r " +
+           "WHERE r.status_type IN ('CONFIRMED', 'CHECKED_IN') AND r.check_in < :endDate AND r.check_out > :startDate " +
+           "UNION ALL " +
+           "SELECT b.id, b.room_id, b.start_date, b.end_date, 'BLOCK' FROM room_blocks b " +
+           "WHERE b.start_date < :endDate AND b.end_date > :startDate",
+           nativeQuery = true)
+    List<Object[]> findOccupancyIntervals(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
     
-    /**
-     * Find reservations by multiple optional filters with pagination.
-     */
-    @Query("SELECT r FROM ReservationJpaEntity r WHERE " +
-           "(:status IS NULL OR r.statusType = :status) AND " +
-           "(:source IS NULL OR r.source = :source) AND " +
-           "(:checkInStart IS NULL OR r.checkIn >= :checkInStart) AND " +
-           "(:checkInEnd IS NULL OR r.checkIn <= :checkInEnd) AND " +
-           "(:stayStart IS NULL OR r.checkOut >= :stayStart) AND " +
-           "(:stayEnd IS NULL OR r.checkIn <= :stayEnd)")
-    Page<ReservationJpaEntity> findByFiltersWithPagination(@Param("status") StatusType status,
-                                                          @Param("source") Source source,
-                                                          @Param("checkInStart") LocalDate checkInStart,
-                                                          @Param("checkInEnd") LocalDate checkInEnd,
-                                                          @Param("stayStart") LocalDate stayStart,
-                                                          @Param("stayEnd") LocalDate stayEnd,
-                                                          Pageable pageable);
+    @Query(value = "SELECT r.id, r.room_id, r.check_in, r.check_out, 'RESERVATION' FROM reservations r " +
+           "WHERE r.room_id = :roomId AND r.status_type IN ('CONFIRMED', 'CHECKED_IN') " +
+           "AND r.check_in < :endDate AND r.check_out > :startDate " +
+           "UNION ALL " +
+           "SELECT b.id, b.room_id, b.start_date, b.end_date, 'BLOCK' FROM room_blocks b " +
+           "WHERE b.room_id = :roomId AND b.start_date < :endDate AND b.end_date > :startDate",
+           nativeQuery = true)
+    List<Object[]> findRoomOccupancyIntervals(@Param("roomId") String roomId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
     
-    /**
-     * Count reservations by multiple optional filters.
-     */
-    @Query("SELECT COUNT(r) FROM ReservationJpaEntity r WHERE " +
-           "(:status IS NULL OR r.statusType = :status) AND " +
-           "(:source IS NULL OR r.source = :source) AND " +
-           "(:checkInStart IS NULL OR r.checkIn >= :checkInStart) AND " +
-           "(:checkInEnd IS NULL OR r.checkIn <= :checkInEnd) AND " +
-           "(:stayStart IS NULL OR r.checkOut >= :stayStart) AND " +
-           "(:stayEnd IS NULL OR r.checkIn <= :stayEnd)")
-    long countByFilters(@Param("status") StatusType status,
-                       @Param("source") Source source,
-                       @Param("checkInStart") LocalDate checkInStart,
-                       @Param("checkInEnd") LocalDate checkInEnd,
-                       @Param("stayStart") LocalDate stayStart,
-                       @Param("stayEnd") LocalDate stayEnd);
+    @Query(value = "SELECT r.id, r.room_id, r.check_in, r.check_out, 'RESERVATION' FROM reservations r " +
+           "WHERE r.room_id IN (:roomIds) AND r.status_type IN ('CONFIRMED', 'CHECKED_IN') " +
+           "AND r.check_in < :endDate AND r.check_out > :startDate " +
+           "UNION ALL " +
+           "SELECT b.id, b.room_id, b.start_date, b.end_date, 'BLOCK' FROM room_blocks b " +
+           "WHERE b.room_id IN (:roomIds) AND b.start_date < :endDate AND b.end_date > :startDate",
+           nativeQuery = true)
+    List<Object[]> findRoomsOccupancyIntervals(@Param("roomIds") Collection<String> roomIds,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
 }
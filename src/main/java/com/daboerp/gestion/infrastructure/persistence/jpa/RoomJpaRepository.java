@@ -3,11 +3,14 @@ package com.daboerp.gestion.infrastructure.persistence.jpa;
 import com.daboerp.gestion.domain.valueobject.RoomStatus;
 import com.daboerp.gestion.infrastructure.persistence.entity.RoomJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +19,11 @@ import java.util.Optional;
  */
 @Repository
 public interface RoomJpaRepository extends JpaRepository<RoomJpaEntity, String> {
+
+    // Sum of the catalog bits of a room's amenities; each amenity is listed once, so sum and OR agree
+    String AMENITY_MASK_OF_ROOM =
+        "SELECT COALESCE(SUM(CAST(POWER(2, d.ordinal) AS BIGINT)), 0) FROM room_amenities ra " +
+        "JOIN amenity_definitions d ON d.name = ra.amenity WHERE ra.room_id = rooms.id";
     
     Optional<RoomJpaEntity> findByRoomNumber(Integer roomNumber);
 
@@ -38,6 +46,10 @@ public interface RoomJpaRepository extends JpaRepository<RoomJpaEntity, String>
            "  SELECT res.roomId FROM ReservationJpaEntity res WHERE " +
            "  res.statusType IN ('CONFIRMED', 'CHECKED_IN') AND " +
            "  NOT (res.checkOut <= :checkIn OR res.checkIn >= :checkOut)" +
+           ") AND " +
+           "r.id NOT IN (" +
+           "  SELECT b.roomId FROM RoomBlockJpaEntity b WHERE " +
+           "  b.startDate < :checkOut AND b.endDate > :checkIn" +
            ")")
     List<RoomJpaEntity> findAvailableRooms(@Param("checkIn") LocalDate checkIn, 
                                            @Param("checkOut") LocalDate checkOut);
@@ -48,8 +60,85 @@ public interface RoomJpaRepository extends JpaRepository<RoomJpaEntity, String>
            "  SELECT res.roomId FROM ReservationJpaEntity res WHERE " +
            "  res.statusType IN ('CONFIRMED', 'CHECKED_IN') AND " +
            "  NOT (res.checkOut <= :checkIn OR res.checkIn >= :checkOut)" +
+           ") AND " +
+           "r.id NOT IN (" +
+           "  SELECT b.roomId FROM RoomBlockJpaEntity b WHERE " +
+           "  b.startDate < :checkOut AND b.endDate > :checkIn" +
            ")")
     List<RoomJpaEntity> findAvailableByCapacity(@Param("minCapacity") int minCapacity,
                                                 @Param("checkIn") LocalDate checkIn,
                                                 @Param("checkOut") LocalDate checkOut);
+
+    // Parameters are cast because H2 cannot type a bare parameter inside BITAND
+    @Query("SELECT r FROM RoomJpaEntity r WHERE r.deleted = false AND r.roomStatus = :status AND " +
+           "bitand(r.amenityMask, cast(:allOf as Long)) = :allOf AND " +
+           "(cast(:anyOf as Long) = 0L OR bitand(r.amenityMask, cast(:anyOf as Long)) <> 0L)")
+    List<RoomJpaEntity> findActiveByStatusAndAmenities(@Param("status") RoomStatus status,
+                                                       @Param("allOf") long allOf,
+                                                       @Param("anyOf") long anyOf);
+
+    @Query("SELECT r FROM RoomJpaEntity r WHERE r.deleted = false AND r.roomStatus = 'AVAILABLE' AND " +
+           "r.roomTypeMaxOccupancy >= :minCapacity AND " +
+           "bitand(r.amenityMask, cast(:allOf as Long)) = :allOf AND " +
+           "(cast(:anyOf as Long) = 0L OR bitand(r.amenityMask, cast(:anyOf as Long)) <> 0L) AND " +
+           "r.id NOT IN (" +
+           "  SELECT res.roomId FROM ReservationJpaEntity res WHERE " +
+           "  res.statusType IN ('CONFIRMED', 'CHECKED_IN') AND " +
+           "  NOT (res.checkOut <= :checkIn OR res.checkIn >= :checkOut)" +
+           ") AND " +
+           "r.id NOT IN (" +
+           "  SELECT b.roomId FROM RoomBlockJpaEntity b WHERE " +
+           "  b.startDate < :checkOut AND b.endDate > :checkIn" +
+           ")")
+    List<RoomJpaEntity> findAvailableWithAmenities(@Param("minCapacity") int minCapacity,
+                                                   @Param("checkIn") LocalDate checkIn,
+                                                   @Param("checkOut") LocalDate checkOut,
+                                                   @Param("allOf") long allOf,
+                                                   @Param("anyOf") long anyOf);
+
+    @Query("SELECT r.id FROM RoomJpaEntity r WHERE r.roomTypeId = :roomTypeId")
+    List<String> findIdsByRoomTypeId(@Param("roomTypeId") String roomTypeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RoomJpaEntity r SET r.roomTypeName = :name, r.roomTypeDescription = :description, " +
+           "r.roomTypeMaxOccupancy = :maxOccupancy, r.roomTypeBasePrice = :basePrice " +
+           "WHERE r.roomTypeId = :roomTypeId")
+    int updateRoomTypeColumns(@Param("roomTypeId") String roomTypeId,
+                              @Param("name") String name,
+                              @Param("description") String description,
+                              @Param("maxOccupancy") Integer maxOccupancy,
+                              @Param("basePrice") BigDecimal basePrice);
+
+    @Query(value = "SELECT ra.room_id FROM room_amenities ra JOIN rooms r ON r.id = ra.room_id " +
+                   "WHERE ra.amenity = :amenity AND r.deleted = false", nativeQuery = true)
+    List<String> findActiveIdsWithAmenity(@Param("amenity") String amenity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM room_amenities WHERE amenity = :amenity AND room_id IN (" +
+                   "SELECT r.id FROM rooms r WHERE r.deleted = false)", nativeQuery = true)
+    int deleteAmenityFromActiveRooms(@Param("amenity") String amenity);
+
+    @Query(value = "SELECT r.id FROM rooms r WHERE r.room_type_id = :roomTypeId AND r.deleted = false " +
+                   "AND NOT EXISTS (SELECT 1 FROM room_amenities ra WHERE ra.room_id = r.id AND ra.amenity = :amenity)",
+           nativeQuery = true)
+    List<String> findActiveIdsOfTypeWithoutAmenity(@Param("roomTypeId") String roomTypeId,
+                                                   @Param("amenity") String amenity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO room_amenities (room_id, amenity) " +
+                   "SELECT r.id, :amenity FROM rooms r WHERE r.room_type_id = :roomTypeId AND r.deleted = false " +
+                   "AND NOT EXISTS (SELECT 1 FROM room_amenities ra WHERE ra.room_id = r.id AND ra.amenity = :amenity)",
+           nativeQuery = true)
+    int insertAmenityForActiveRoomsOfType(@Param("roomTypeId") String roomTypeId,
+                                          @Param("amenity") String amenity);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE rooms SET amenity_mask = (" + AMENITY_MASK_OF_ROOM + ") WHERE id IN (:ids)",
+           nativeQuery = true)
+    int refreshAmenityMasks(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE rooms SET amenity_mask = (" + AMENITY_MASK_OF_ROOM + ") WHERE id IN (" +
+                   "SELECT ra.room_id FROM room_amenities ra WHERE ra.amenity = :amenity)", nativeQuery = true)
+    int refreshAmenityMasksHolding(@Param("amenity") String amenity);
 }
@@ -12,6 +12,7 @@ public class AmenityDefinitionMapper {
         AmenityDefinitionJpaEntity entity = new AmenityDefinitionJpaEntity();
         entity.setId(definition.getId().getValue());
         entity.setName(definition.getName());
+        entity.setOrdinal(definition.getOrdinal());
         return entity;
     }
 
@@ -19,7 +20,8 @@ public class AmenityDefinitionMapper {
         if (entity == null) return null;
         return AmenityDefinition.reconstitute(
             AmenityDefinitionId.of(entity.getId()),
-            entity.getName()
+            entity.getName(),
+            entity.getOrdinal()
         );
     }
 }
@@ -19,6 +19,7 @@ public class DocumentTypeMapper {
         entity.setName(documentType.getName());
         entity.setDescription(documentType.getDescription());
         entity.setValidationRegex(documentType.getValidationRegex());
+        entity.setMaxNumberLength(documentType.getMaxNumberLength());
         entity.setActive(documentType.isActive());
         entity.setCreatedAt(documentType.getCreatedAt());
         entity.setUpdatedAt(documentType.getUpdatedAt());
@@ -33,6 +34,7 @@ public class DocumentTypeMapper {
             entity.getName(),
             entity.getDescription(),
             entity.getValidationRegex(),
+            entity.getMaxNumberLength(),
             entity.isActive(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
@@ -0,0 +1,36 @@
+package com.daboerp.gestion.infrastructure.persistence.mapper;
+
+import com.daboerp.gestion.domain.entity.RateSeason;
+import com.daboerp.gestion.infrastructure.persistence.entity.RateSeasonJpaEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RateSeasonMapper {
+
+    public RateSeason toDomain(RateSeasonJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new RateSeason(
+            entity.getId(),
+            entity.getName(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            entity.getMultiplier(),
+            entity.getCreatedAt(),
+            entity.isRecurring()
+        );
+    }
+
+    public RateSeasonJpaEntity toJpa(RateSeason domain) {
+        RateSeasonJpaEntity entity = new RateSeasonJpaEntity();
+        entity.setId(domain.getId());
+        entity.setName(domain.getName());
+        entity.setStartDate(domain.getStartDate());
+        entity.setEndDate(domain.getEndDate());
+        entity.setMultiplier(domain.getMultiplier());
+        entity.setCreatedAt(domain.getCreatedAt());
+        entity.setRecurring(domain.isRecurring());
+        return entity;
+    }
+}
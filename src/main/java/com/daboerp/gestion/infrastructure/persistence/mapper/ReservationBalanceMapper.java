@@ -0,0 +1,29 @@
+package com.daboerp.gestion.infrastructure.persistence.mapper;
+
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationBalanceJpaEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ReservationBalanceMapper {
+
+    public ReservationBalanceJpaEntity toJpaEntity(ReservationBalance balance) {
+        ReservationBalanceJpaEntity entity = new ReservationBalanceJpaEntity();
+        entity.setReservationId(balance.getReservationId().getValue());
+        entity.setTotalPaid(balance.getTotalPaid());
+        entity.setVersion(balance.getVersion());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+
+    public ReservationBalance toDomainEntity(ReservationBalanceJpaEntity entity) {
+        return ReservationBalance.reconstitute(
+            ReservationId.of(entity.getReservationId()),
+            entity.getTotalPaid(),
+            entity.getVersion()
+        );
+    }
+}
@@ -9,7 +9,11 @@ import com.daboerp.gestion.domain.valueobject.RoomId;
 import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +32,15 @@ public class ReservationMapper {
     
     public ReservationJpaEntity toJpaEntity(Reservation reservation) {
         ReservationJpaEntity entity = new ReservationJpaEntity();
+        updateJpaEntity(reservation, entity);
+        return entity;
+    }
+    
+    /**
+     * Copy the reservation onto an entity, touching only what differs. Called on a managed entity,
+     * Hibernate then writes just the changed columns and guest rows.
+     */
+    public void updateJpaEntity(Reservation reservation, ReservationJpaEntity entity) {
         entity.setId(reservation.getId().getValue());
         entity.setReservationCode(reservation.getReservationCode());
         entity.setCheckIn(reservation.getCheckIn());
@@ -46,38 +59,67 @@ public class ReservationMapper {
         entity.setGuestPrincipalId(reservation.getGuestPrincipal().getId().getValue());
         
         // Map all guests
-        List<String> guestIds = reservation.getGuests().stream()
+        Set<String> guestIds = reservation.getGuests().stream()
             .map(guest -> guest.getId().getValue())
-            .collect(Collectors.toList());
-        entity.setGuestIds(guestIds);
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        entity.getGuestIds().retainAll(guestIds);
+        entity.getGuestIds().addAll(guestIds);
         
         // Map room
         entity.setRoomId(reservation.getRoom().getId().getValue());
         
         // Map stay if present
-        if (reservation.getStay() != null) {
-            Stay stay = reservation.getStay();
-            entity.setStayId(stay.getId());
-            entity.setStayCheckIn(stay.getCheckIn());
-            entity.setStayCheckOut(stay.getCheckOut());
+        Stay stay = reservation.getStay();
+        entity.setStayId(stay != null ? stay.getId() : null);
+        entity.setStayCheckIn(stay != null ? stay.getCheckIn() : null);
+        entity.setStayCheckOut(stay != null ? stay.getCheckOut() : null);
+    }
+    
+    public Reservation toDomainEntity(ReservationJpaEntity entity) {
+        return toDomainEntities(List.of(entity)).get(0);
+    }
+    
+    /**
+     * Maps a page of reservations, hydrating guests and rooms with one lookup each
+     * instead of one lookup per reservation.
+     */
+    public List<Reservation> toDomainEntities(List<ReservationJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
         }
         
-        return entity;
+        // Collect distinct guest and room ids across the whole page
+        Set<GuestId> guestIds = new LinkedHashSet<>();
+        Set<RoomId> roomIds = new LinkedHashSet<>();
+        for (ReservationJpaEntity entity : entities) {
+            guestIds.add(GuestId.of(entity.getGuestPrincipalId()));
+            entity.getGuestIds().forEach(guestId -> guestIds.add(GuestId.of(guestId)));
+            roomIds.add(RoomId.of(entity.getRoomId()));
+        }
+        
+        Map<String, Guest> guestsById = guestRepository.findAllByIds(guestIds).stream()
+            .collect(Collectors.toMap(guest -> guest.getId().getValue(), Function.identity()));
+        Map<String, Room> roomsById = roomRepository.findAllByIds(roomIds).stream()
+            .collect(Collectors.toMap(room -> room.getId().getValue(), Function.identity()));
+        
+        return entities.stream()
+            .map(entity -> assemble(entity, guestsById, roomsById))
+            .collect(Collectors.toList());
     }
     
-    public Reservation toDomainEntity(ReservationJpaEntity entity) {
-        // Load guest principal
-        Guest guestPrincipal = guestRepository.findById(GuestId.of(entity.getGuestPrincipalId()))
-            .orElseThrow(() -> new IllegalStateException("Guest not found: " + entity.getGuestPrincipalId()));
+    private Reservation assemble(ReservationJpaEntity entity, Map<String, Guest> guestsById, Map<String, Room> roomsById) {
+        // Resolve guest principal
+        Guest guestPrincipal = resolveGuest(entity.getGuestPrincipalId(), guestsById);
         
-        // Load room
-        Room room = roomRepository.findById(RoomId.of(entity.getRoomId()))
-            .orElseThrow(() -> new IllegalStateException("Room not found: " + entity.getRoomId()));
+        // Resolve room
+        Room room = roomsById.get(entity.getRoomId());
+        if (room == null) {
+            throw new IllegalStateException("Room not found: " + entity.getRoomId());
+        }
         
-        // Load all guests
+        // Resolve all guests
         List<Guest> guests = entity.getGuestIds().stream()
-            .map(guestId -> guestRepository.findById(GuestId.of(guestId))
-                .orElseThrow(() -> new IllegalStateException("Guest not found: " + guestId)))
+            .map(guestId -> resolveGuest(guestId, guestsById))
             .collect(Collectors.toList());
         
         // Reconstitute status
@@ -112,4 +154,12 @@ public class ReservationMapper {
             entity.getCreatedAt()
         );
     }
+    
+    private Guest resolveGuest(String guestId, Map<String, Guest> guestsById) {
+        Guest guest = guestsById.get(guestId);
+        if (guest == null) {
+            throw new IllegalStateException("Guest not found: " + guestId);
+        }
+        return guest;
+    }
 }
@@ -6,7 +6,12 @@ import com.daboerp.gestion.infrastructure.persistence.entity.BedJpaEntity;
 import com.daboerp.gestion.infrastructure.persistence.entity.RoomJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -15,6 +20,16 @@ public class RoomMapper {
 
     public RoomJpaEntity toJpaEntity(Room room) {
         RoomJpaEntity entity = new RoomJpaEntity();
+        updateJpaEntity(room, entity);
+        return entity;
+    }
+
+    /**
+     * Copy the room onto an entity, touching only what differs. Called on a managed entity,
+     * Hibernate then writes just the changed columns, amenity rows and beds; image rows carry
+     * no identity of their own, so they are rewritten only when the image list changed.
+     */
+    public void updateJpaEntity(Room room, RoomJpaEntity entity) {
         entity.setId(room.getId().getValue());
         entity.setRoomNumber(room.getRoomNumber());
         entity.setRoomStatus(room.getRoomStatus());
@@ -27,23 +42,36 @@ public class RoomMapper {
         entity.setRoomTypeMaxOccupancy(roomType.getMaxOccupancy());
         entity.setRoomTypeBasePrice(roomType.getBasePrice());
 
-        entity.setAmenities(room.getAmenities().stream().map(Amenity::getValue).collect(Collectors.toList()));
-        entity.setImageUrls(room.getImageUrls());
+        Set<String> amenities = room.getAmenities().stream()
+            .map(Amenity::getValue)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        entity.getAmenities().retainAll(amenities);
+        entity.getAmenities().addAll(amenities);
+
+        // Hibernate's bag compares by identity, so compare the contents
+        if (!List.copyOf(entity.getImageUrls()).equals(room.getImageUrls())) {
+            entity.getImageUrls().clear();
+            entity.getImageUrls().addAll(room.getImageUrls());
+        }
 
-        List<BedJpaEntity> bedEntities = room.getBeds().stream()
-            .map(bed -> {
-                BedJpaEntity bedEntity = new BedJpaEntity();
-                bedEntity.setId(bed.getId().getValue());
-                bedEntity.setBedNumber(bed.getBedNumber());
+        Map<String, BedJpaEntity> existingBeds = entity.getBeds().stream()
+            .collect(Collectors.toMap(BedJpaEntity::getId, Function.identity()));
+        Set<String> bedIds = new HashSet<>();
+        for (Bed bed : room.getBeds()) {
+            String bedId = bed.getId().getValue();
+            bedIds.add(bedId);
+            BedJpaEntity bedEntity = existingBeds.get(bedId);
+            if (bedEntity == null) {
+                bedEntity = new BedJpaEntity();
+                bedEntity.setId(bedId);
                 bedEntity.setRoomId(room.getId().getValue());
-                return bedEntity;
-            })
-            .collect(Collectors.toList());
-        entity.setBeds(bedEntities);
+                entity.getBeds().add(bedEntity);
+            }
+            bedEntity.setBedNumber(bed.getBedNumber());
+        }
+        entity.getBeds().removeIf(bedEntity -> !bedIds.contains(bedEntity.getId()));
 
         entity.setDeleted(room.isDeleted());
-
-        return entity;
     }
 
     public Room toDomainEntity(RoomJpaEntity entity) {
@@ -2,10 +2,13 @@ package com.daboerp.gestion.infrastructure.persistence.repository;
 
 import com.daboerp.gestion.domain.entity.AmenityDefinition;
 import com.daboerp.gestion.domain.repository.AmenityDefinitionRepository;
+import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.valueobject.Amenity;
 import com.daboerp.gestion.domain.valueobject.AmenityDefinitionId;
 import com.daboerp.gestion.infrastructure.persistence.jpa.AmenityDefinitionJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.AmenityDefinitionMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -17,10 +20,13 @@ public class AmenityDefinitionRepositoryImpl implements AmenityDefinitionReposit
 
     private final AmenityDefinitionJpaRepository jpaRepository;
     private final AmenityDefinitionMapper mapper;
+    private final RoomRepository roomRepository;
 
-    public AmenityDefinitionRepositoryImpl(AmenityDefinitionJpaRepository jpaRepository, AmenityDefinitionMapper mapper) {
+    public AmenityDefinitionRepositoryImpl(AmenityDefinitionJpaRepository jpaRepository, AmenityDefinitionMapper mapper,
+                                           RoomRepository roomRepository) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.roomRepository = Objects.requireNonNull(roomRepository);
     }
 
     @Override
@@ -51,4 +57,15 @@ public class AmenityDefinitionRepositoryImpl implements AmenityDefinitionReposit
     public void delete(AmenityDefinitionId id) {
         jpaRepository.deleteById(id.getValue());
     }
+
+    @Override
+    @Transactional
+    public int deleteAndRemoveFromRooms(AmenityDefinitionId id, Amenity amenity) {
+        // The room writes join this transaction, so a failure leaves the catalog and the rooms untouched
+        int affectedRooms = roomRepository.removeAmenityFromActiveRooms(amenity);
+        jpaRepository.deleteById(id.getValue());
+        // Deleted rooms keep the amenity by name; their masks must lose the freed bit
+        roomRepository.refreshAmenityMasks(amenity);
+        return affectedRooms;
+    }
 }
@@ -0,0 +1,101 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.export.GuestExportRow;
+import com.daboerp.gestion.domain.export.ReservationExportRow;
+import com.daboerp.gestion.domain.repository.ExportRepository;
+import com.daboerp.gestion.domain.specification.reservation.ReservationFilterSpecifications;
+import com.daboerp.gestion.domain.valueobject.Source;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.specification.ReservationSpecificationTranslator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ExportRepository over forward-only Hibernate result streams.
+ * Rows are selected as constructor expressions, so nothing enters the persistence context,
+ * and the read-only transaction keeps the JDBC cursor open while the driver fetches
+ * {@code fetchSize} rows per round trip.
+ * Reservation filters go through the same {@link ReservationSpecificationTranslator} as searches.
+ */
+@Repository
+public class ExportRepositoryImpl implements ExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReservationSpecificationTranslator translator;
+
+    public ExportRepositoryImpl(ReservationSpecificationTranslator translator) {
+        this.translator = Objects.requireNonNull(translator);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamReservations(StatusType status, Source source,
+                                   LocalDate checkInStart, LocalDate checkInEnd,
+                                   LocalDate stayStart, LocalDate stayEnd,
+                                   int fetchSize, Consumer<ReservationExportRow> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationExportRow> query = cb.createQuery(ReservationExportRow.class);
+        Root<ReservationJpaEntity> root = query.from(ReservationJpaEntity.class);
+        query.select(cb.construct(ReservationExportRow.class,
+            root.get("id"),
+            root.get("reservationCode"),
+            root.get("roomId"),
+            root.get("guestPrincipalId"),
+            root.get("checkIn"),
+            root.get("checkOut"),
+            root.get("statusType"),
+            root.get("source"),
+            root.get("quotedAmount"),
+            root.get("createdAt")
+        ));
+        ReservationFilterSpecifications.of(status, source, checkInStart, checkInEnd, stayStart, stayEnd)
+            .map(translator::translate)
+            .map(specification -> specification.toPredicate(root, query, cb))
+            .ifPresent(query::where);
+        query.orderBy(cb.asc(root.get("checkIn")), cb.asc(root.get("id")));
+
+        return stream(entityManager.createQuery(query), fetchSize, consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamGuests(int fetchSize, Consumer<GuestExportRow> consumer) {
+        TypedQuery<GuestExportRow> query = entityManager.createQuery(
+            "SELECT new com.daboerp.gestion.domain.export.GuestExportRow(" +
+            "g.id, g.firstName, g.lastName, g.email, g.phone, g.dateOfBirth, " +
+            "g.nationality, g.documentType, g.documentNumber, g.createdAt) " +
+            "FROM GuestJpaEntity g ORDER BY g.id",
+            GuestExportRow.class);
+        return stream(query, fetchSize, consumer);
+    }
+
+    private static <T> long stream(TypedQuery<T> query, int fetchSize, Consumer<T> consumer) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        long count = 0;
+        try (Stream<T> rows = query.getResultStream()) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -2,13 +2,22 @@ package com.daboerp.gestion.infrastructure.persistence.repository;
 
 import com.daboerp.gestion.domain.entity.Guest;
 import com.daboerp.gestion.domain.repository.GuestRepository;
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
 import com.daboerp.gestion.domain.valueobject.GuestId;
+import com.daboerp.gestion.infrastructure.event.outbox.DomainEventOutbox;
 import com.daboerp.gestion.infrastructure.persistence.entity.GuestJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.identity.IdentityMap;
 import com.daboerp.gestion.infrastructure.persistence.jpa.GuestJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.GuestMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -16,64 +25,114 @@ import java.util.stream.Collectors;
 /**
  * Implementation of GuestRepository using Spring Data JPA.
  * Bridges domain and infrastructure layers.
+ * Pending domain events are written to the outbox in the same transaction as the guest.
+ * Saved and deleted guests are reflected in the typeahead search index.
+ * Guests already loaded or saved in the current request are served from the {@link IdentityMap}.
  */
 @Repository
 public class GuestRepositoryImpl implements GuestRepository {
     
     private final GuestJpaRepository jpaRepository;
     private final GuestMapper mapper;
+    private final DomainEventOutbox outbox;
+    private final GuestSearchIndex searchIndex;
+    private final IdentityMap identityMap;
     
-    public GuestRepositoryImpl(GuestJpaRepository jpaRepository, GuestMapper mapper) {
+    public GuestRepositoryImpl(GuestJpaRepository jpaRepository, GuestMapper mapper, DomainEventOutbox outbox,
+                               GuestSearchIndex searchIndex, IdentityMap identityMap) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.identityMap = Objects.requireNonNull(identityMap);
     }
     
     @Override
+    @Transactional
     public Guest save(Guest guest) {
-        GuestJpaEntity entity = mapper.toJpaEntity(guest);
-        GuestJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        jpaRepository.save(mapper.toJpaEntity(guest));
+        outbox.append(guest.getDomainEvents());
+        guest.clearDomainEvents();
+        identityMap.register(Guest.class, guest.getId().getValue(), guest);
+        searchIndex.record(GuestSearchEntry.of(guest));
+        return guest;
     }
     
     @Override
     public Optional<Guest> findById(GuestId id) {
+        Optional<Guest> held = identityMap.find(Guest.class, id.getValue());
+        if (held.isPresent()) {
+            return held;
+        }
         return jpaRepository.findById(id.getValue())
-            .map(mapper::toDomainEntity);
+            .map(this::hydrate);
+    }
+    
+    @Override
+    public List<Guest> findAllByIds(Collection<GuestId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Guest> guests = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String value : ids.stream().map(GuestId::getValue).distinct().collect(Collectors.toList())) {
+            identityMap.find(Guest.class, value).ifPresentOrElse(guests::add, () -> misses.add(value));
+        }
+        if (!misses.isEmpty()) {
+            jpaRepository.findAllById(misses).forEach(entity -> guests.add(hydrate(entity)));
+        }
+        return guests;
     }
     
     @Override
     public Optional<Guest> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
-            .map(mapper::toDomainEntity);
+            .map(this::hydrate);
     }
     
     @Override
     public Optional<Guest> findByDocumentNumber(String documentNumber) {
         return jpaRepository.findByDocumentNumber(documentNumber)
-            .map(mapper::toDomainEntity);
+            .map(this::hydrate);
     }
     
     @Override
     public List<Guest> findAll() {
         return jpaRepository.findAll().stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Guest> searchByName(String name) {
         return jpaRepository.searchByName(name).stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<GuestSearchEntry> findAllSearchEntries() {
+        return jpaRepository.findAllSearchEntries();
+    }
+    
+    @Override
+    public List<GuestSearchEntry> findSearchEntries(String term, int limit) {
+        return jpaRepository.findSearchEntries(term.toLowerCase(Locale.ROOT), PageRequest.of(0, limit));
+    }
+    
     @Override
     public void delete(GuestId id) {
         jpaRepository.deleteById(id.getValue());
+        identityMap.evict(Guest.class, id.getValue());
+        searchIndex.remove(id.getValue());
     }
     
     @Override
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
+    
+    private Guest hydrate(GuestJpaEntity entity) {
+        return identityMap.resolve(Guest.class, entity.getId(), () -> mapper.toDomainEntity(entity));
+    }
 }
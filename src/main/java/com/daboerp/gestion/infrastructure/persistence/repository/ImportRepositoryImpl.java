@@ -0,0 +1,187 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.domain.imports.HistoricalReservation;
+import com.daboerp.gestion.domain.repository.ImportRepository;
+import com.daboerp.gestion.domain.search.GuestSearchEntry;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
+import com.daboerp.gestion.infrastructure.event.outbox.DomainEventOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of ImportRepository over plain JDBC.
+ * Inserts bypass the JPA merge path - ids are preassigned, so a JPA save would select every row
+ * before inserting it - and go out as a single JDBC batch per table.
+ * Imported guests are added to the typeahead search index once written.
+ */
+@Repository
+public class ImportRepositoryImpl implements ImportRepository {
+
+    private static final String INSERT_GUEST_SQL =
+        "INSERT INTO guests (id, first_name, last_name, email, phone, date_of_birth, nationality, " +
+        "document_number, document_type, notes_id, notes_text, notes_level, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_RESERVATION_SQL =
+        "INSERT INTO reservations (id, reservation_code, check_in, check_out, status_id, status_type, " +
+        "status_note, quoted_amount, source, created_at, guest_principal_id, room_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_RESERVATION_GUEST_SQL =
+        "INSERT INTO reservation_guests (reservation_id, guest_id) VALUES (?, ?)";
+
+    private static final String IMPORTED_STATUS_NOTE = "Imported";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final DomainEventOutbox outbox;
+    private final GuestSearchIndex searchIndex;
+
+    public ImportRepositoryImpl(JdbcTemplate jdbcTemplate, DomainEventOutbox outbox, GuestSearchIndex searchIndex) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    @Override
+    public Set<String> findExistingGuestEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT email FROM guests WHERE email IN (:values)", Map.of("values", emails), String.class));
+    }
+
+    @Override
+    public Set<String> findExistingGuestDocumentNumbers(Collection<String> documentNumbers) {
+        if (documentNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT DISTINCT document_number FROM guests WHERE document_number IN (:values)",
+            Map.of("values", documentNumbers), String.class));
+    }
+
+    @Override
+    @Transactional
+    public void insertGuests(List<Guest> guests) {
+        if (guests.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_GUEST_SQL, guests, guests.size(), (ps, guest) -> {
+            ps.setString(1, guest.getId().getValue());
+            ps.setString(2, guest.getFirstName());
+            ps.setString(3, guest.getLastName());
+            ps.setString(4, guest.getEmail());
+            ps.setString(5, guest.getPhone());
+            ps.setObject(6, guest.getDateOfBirth() != null ? Date.valueOf(guest.getDateOfBirth()) : null, Types.DATE);
+            ps.setString(7, guest.getNationality().name());
+            ps.setString(8, guest.getDocumentNumber());
+            ps.setString(9, guest.getDocumentType().name());
+            if (guest.getNotes() != null) {
+                ps.setString(10, guest.getNotes().getId());
+                ps.setString(11, guest.getNotes().getText());
+                ps.setString(12, guest.getNotes().getLevel().name());
+            } else {
+                ps.setNull(10, Types.VARCHAR);
+                ps.setNull(11, Types.VARCHAR);
+                ps.setNull(12, Types.VARCHAR);
+            }
+            ps.setDate(13, Date.valueOf(guest.getCreatedAt()));
+        });
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (Guest guest : guests) {
+            events.addAll(guest.getDomainEvents());
+        }
+        outbox.append(events);
+        for (Guest guest : guests) {
+            guest.clearDomainEvents();
+            searchIndex.record(GuestSearchEntry.of(guest));
+        }
+    }
+
+    @Override
+    public Map<String, String> findGuestIdsByDocumentNumbers(Collection<String> documentNumbers) {
+        if (documentNumbers.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> ids = new HashMap<>();
+        namedJdbcTemplate.query(
+            "SELECT document_number, MIN(id) AS id FROM guests WHERE document_number IN (:values) " +
+            "GROUP BY document_number HAVING COUNT(*) = 1",
+            Map.of("values", documentNumbers),
+            rs -> {
+                ids.put(rs.getString("document_number"), rs.getString("id"));
+            });
+        return ids;
+    }
+
+    @Override
+    public Map<Integer, String> findRoomIdsByNumbers(Collection<Integer> roomNumbers) {
+        if (roomNumbers.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, String> ids = new HashMap<>();
+        namedJdbcTemplate.query(
+            "SELECT room_number, id FROM rooms WHERE room_number IN (:values)",
+            Map.of("values", roomNumbers),
+            rs -> {
+                ids.put(rs.getInt("room_number"), rs.getString("id"));
+            });
+        return ids;
+    }
+
+    @Override
+    public Set<String> findExistingReservationCodes(Collection<String> reservationCodes) {
+        if (reservationCodes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT reservation_code FROM reservations WHERE reservation_code IN (:values)",
+            Map.of("values", reservationCodes), String.class));
+    }
+
+    @Override
+    @Transactional
+    public void insertReservations(List<HistoricalReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.id());
+            ps.setString(2, reservation.reservationCode());
+            ps.setDate(3, Date.valueOf(reservation.checkIn()));
+            ps.setDate(4, Date.valueOf(reservation.checkOut()));
+            ps.setString(5, UUID.randomUUID().toString());
+            ps.setString(6, reservation.status().name());
+            ps.setString(7, IMPORTED_STATUS_NOTE);
+            ps.setBigDecimal(8, reservation.quotedAmount());
+            ps.setString(9, reservation.source().name());
+            ps.setDate(10, Date.valueOf(reservation.createdAt()));
+            ps.setString(11, reservation.principalGuestId());
+            ps.setString(12, reservation.roomId());
+        });
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_GUEST_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.id());
+            ps.setString(2, reservation.principalGuestId());
+        });
+    }
+}
@@ -0,0 +1,255 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.listing.ReservationListRow;
+import com.daboerp.gestion.domain.listing.RoomListRow;
+import com.daboerp.gestion.domain.repository.ListingRepository;
+import com.daboerp.gestion.domain.specification.reservation.ReservationFilterSpecifications;
+import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import com.daboerp.gestion.domain.valueobject.Source;
+import com.daboerp.gestion.infrastructure.persistence.entity.GuestJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.entity.RoomJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.specification.ReservationSpecificationTranslator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ListingRepository over constructor expressions.
+ * Reservations are selected joined to their principal guest and room, so a row carries the name
+ * and room number without either aggregate being hydrated; rooms carry their type's columns and a
+ * bed count. The few collection values a list shows - additional guests, amenities, images - are
+ * read afterwards with one query per collection for the whole list.
+ * Reservation filters go through the same {@link ReservationSpecificationTranslator} as searches.
+ */
+@Repository
+public class ListingRepositoryImpl implements ListingRepository {
+
+    // Keeps IN lists well below driver bind-parameter limits on full listings
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private static final List<StatusType> ACTIVE_STATUSES = List.of(StatusType.CONFIRMED, StatusType.CHECKED_IN);
+
+    private static final String ROOMS_SELECT =
+        "SELECT new com.daboerp.gestion.domain.listing.RoomListRow(" +
+        "r.id, r.roomNumber, r.roomTypeId, r.roomTypeName, r.roomTypeDescription, " +
+        "r.roomTypeMaxOccupancy, r.roomTypeBasePrice, r.roomStatus, " +
+        "(SELECT COUNT(b) FROM BedJpaEntity b WHERE b.roomId = r.id), r.createdAt) " +
+        "FROM RoomJpaEntity r WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReservationSpecificationTranslator translator;
+
+    public ListingRepositoryImpl(ReservationSpecificationTranslator translator) {
+        this.translator = Objects.requireNonNull(translator);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findActiveReservations() {
+        return reservations((root, query, cb) -> root.get("statusType").in(ACTIVE_STATUSES), false, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservationsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return reservations((root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("checkIn"), endDate),
+            cb.greaterThanOrEqualTo(root.get("checkOut"), startDate)
+        ), false, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservationsCheckingIn(LocalDate date) {
+        return reservations((root, query, cb) -> cb.equal(root.get("checkIn"), date), false, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservationsCheckingOut(LocalDate date) {
+        return reservations((root, query, cb) -> cb.equal(root.get("checkOut"), date), false, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservations(StatusType status, Source source,
+                                                     LocalDate checkInStart, LocalDate checkInEnd,
+                                                     LocalDate stayStart, LocalDate stayEnd) {
+        return reservations(filters(status, source, checkInStart, checkInEnd, stayStart, stayEnd), false, 0, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservationsPage(StatusType status, Source source,
+                                                         LocalDate checkInStart, LocalDate checkInEnd,
+                                                         LocalDate stayStart, LocalDate stayEnd,
+                                                         int page, int size) {
+        return reservations(filters(status, source, checkInStart, checkInEnd, stayStart, stayEnd),
+            false, page * size, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservationListRow> findReservationsAfter(StatusType status, Source source,
+                                                          LocalDate checkInStart, LocalDate checkInEnd,
+                                                          LocalDate stayStart, LocalDate stayEnd,
+                                                          LocalDate afterCheckIn, String afterId,
+                                                          int limit) {
+        Specification<ReservationJpaEntity> spec =
+            filters(status, source, checkInStart, checkInEnd, stayStart, stayEnd);
+        if (afterCheckIn != null) {
+            // Seek past the (checkIn, id) position instead of using OFFSET
+            spec = spec.and((root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("checkIn"), afterCheckIn),
+                cb.and(cb.equal(root.get("checkIn"), afterCheckIn), cb.greaterThan(root.get("id"), afterId))
+            ));
+        }
+        return reservations(spec, true, 0, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countReservations(StatusType status, Source source,
+                                  LocalDate checkInStart, LocalDate checkInEnd,
+                                  LocalDate stayStart, LocalDate stayEnd) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ReservationJpaEntity> root = query.from(ReservationJpaEntity.class);
+        query.select(cb.count(root));
+        Predicate predicate = filters(status, source, checkInStart, checkInEnd, stayStart, stayEnd)
+            .toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomListRow> findRooms(RoomStatus status, boolean includeDeleted) {
+        String jpql = ROOMS_SELECT
+            + (includeDeleted ? "" : " AND r.deleted = false")
+            + (status != null ? " AND r.roomStatus = :status" : "")
+            + " ORDER BY r.roomNumber";
+        TypedQuery<RoomListRow> query = entityManager.createQuery(jpql, RoomListRow.class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        List<RoomListRow> rows = query.getResultList();
+
+        List<String> ids = rows.stream().map(RoomListRow::id).toList();
+        Map<String, List<String>> amenities = valuesByOwner(
+            "SELECT r.id, a FROM RoomJpaEntity r JOIN r.amenities a WHERE r.id IN :ids", ids);
+        Map<String, List<String>> images = valuesByOwner(
+            "SELECT r.id, i FROM RoomJpaEntity r JOIN r.imageUrls i WHERE r.id IN :ids", ids);
+        return rows.stream()
+            .map(row -> row.withCollections(
+                amenities.getOrDefault(row.id(), List.of()),
+                images.getOrDefault(row.id(), List.of())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Reservation rows joined to their principal guest and room, then given their additional guests.
+     *
+     * @param keysetOrder whether to order by (check-in, id); otherwise the order is the database's
+     */
+    private List<ReservationListRow> reservations(Specification<ReservationJpaEntity> filter,
+                                                  boolean keysetOrder, int offset, Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationListRow> query = cb.createQuery(ReservationListRow.class);
+        Root<ReservationJpaEntity> root = query.from(ReservationJpaEntity.class);
+        Root<GuestJpaEntity> guest = query.from(GuestJpaEntity.class);
+        Root<RoomJpaEntity> room = query.from(RoomJpaEntity.class);
+        query.select(cb.construct(ReservationListRow.class,
+            root.get("id"),
+            root.get("reservationCode"),
+            root.get("checkIn"),
+            root.get("checkOut"),
+            root.get("statusType"),
+            root.get("quotedAmount"),
+            root.get("source"),
+            root.get("guestPrincipalId"),
+            cb.concat(cb.concat(guest.get("firstName"), " "), guest.get("lastName")),
+            root.get("roomId"),
+            room.get("roomNumber"),
+            root.get("createdAt")
+        ));
+        query.where(and(cb,
+            cb.equal(guest.get("id"), root.get("guestPrincipalId")),
+            cb.equal(room.get("id"), root.get("roomId")),
+            filter.toPredicate(root, query, cb)));
+        if (keysetOrder) {
+            query.orderBy(cb.asc(root.get("checkIn")), cb.asc(root.get("id")));
+        }
+
+        TypedQuery<ReservationListRow> typed = entityManager.createQuery(query);
+        if (offset > 0) {
+            typed.setFirstResult(offset);
+        }
+        if (limit != null) {
+            typed.setMaxResults(limit);
+        }
+        List<ReservationListRow> rows = typed.getResultList();
+
+        Map<String, List<String>> additionalGuests = valuesByOwner(
+            "SELECT r.id, g FROM ReservationJpaEntity r JOIN r.guestIds g " +
+            "WHERE r.id IN :ids AND g <> r.guestPrincipalId",
+            rows.stream().map(ReservationListRow::id).toList());
+        return rows.stream()
+            .map(row -> row.withAdditionalGuestIds(additionalGuests.getOrDefault(row.id(), List.of())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Run a two-column (owner id, value) query over the ids in chunks and group the values by owner.
+     */
+    private Map<String, List<String>> valuesByOwner(String jpql, List<String> ids) {
+        Map<String, List<String>> values = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+            List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("ids", chunk)
+                .getResultList();
+            for (Object[] row : rows) {
+                values.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Criteria for the supplied filters only; no filters means no restriction.
+     */
+    private Specification<ReservationJpaEntity> filters(StatusType status, Source source,
+                                                        LocalDate checkInStart, LocalDate checkInEnd,
+                                                        LocalDate stayStart, LocalDate stayEnd) {
+        return ReservationFilterSpecifications.of(status, source, checkInStart, checkInEnd, stayStart, stayEnd)
+            .map(translator::translate)
+            .orElse((root, query, cb) -> null);
+    }
+
+    private static Predicate and(CriteriaBuilder cb, Predicate... predicates) {
+        return cb.and(Arrays.stream(predicates).filter(Objects::nonNull).toArray(Predicate[]::new));
+    }
+}
@@ -0,0 +1,68 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.availability.OccupancyInterval;
+import com.daboerp.gestion.domain.repository.OccupancyRepository;
+import com.daboerp.gestion.infrastructure.persistence.jpa.ReservationJpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of OccupancyRepository over a single UNION ALL of reservations and room blocks.
+ */
+@Repository
+public class OccupancyRepositoryImpl implements OccupancyRepository {
+
+    private final ReservationJpaRepository jpaRepository;
+
+    public OccupancyRepositoryImpl(ReservationJpaRepository jpaRepository) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository);
+    }
+
+    @Override
+    public List<OccupancyInterval> findOverlapping(LocalDate from, LocalDate to) {
+        return jpaRepository.findOccupancyIntervals(from, to).stream()
+            .map(OccupancyRepositoryImpl::toInterval)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OccupancyInterval> findOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return jpaRepository.findRoomOccupancyIntervals(roomId, from, to).stream()
+            .map(OccupancyRepositoryImpl::toInterval)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OccupancyInterval> findOverlapping(Collection<String> roomIds, LocalDate from, LocalDate to) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findRoomsOccupancyIntervals(roomIds, from, to).stream()
+            .map(OccupancyRepositoryImpl::toInterval)
+            .collect(Collectors.toList());
+    }
+
+    private static OccupancyInterval toInterval(Object[] row) {
+        return new OccupancyInterval(
+            (String) row[0],
+            (String) row[1],
+            toLocalDate(row[2]),
+            toLocalDate(row[3]),
+            OccupancyInterval.Kind.valueOf(row[4].toString().trim())
+        );
+    }
+
+    // Native queries return java.sql.Date or LocalDate depending on the driver
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        return ((Date) value).toLocalDate();
+    }
+}
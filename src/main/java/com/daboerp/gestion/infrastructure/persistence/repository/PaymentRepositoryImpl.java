@@ -1,12 +1,19 @@
 package com.daboerp.gestion.infrastructure.persistence.repository;
 
 import com.daboerp.gestion.domain.entity.Payment;
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.exception.ConcurrentUpdateException;
 import com.daboerp.gestion.domain.repository.PaymentRepository;
 import com.daboerp.gestion.domain.valueobject.PaymentId;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 import com.daboerp.gestion.infrastructure.persistence.jpa.PaymentJpaRepository;
+import com.daboerp.gestion.infrastructure.persistence.jpa.ReservationBalanceJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.PaymentMapper;
+import com.daboerp.gestion.infrastructure.persistence.mapper.ReservationBalanceMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -18,10 +25,16 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     private final PaymentJpaRepository jpaRepository;
     private final PaymentMapper mapper;
+    private final ReservationBalanceJpaRepository balanceJpaRepository;
+    private final ReservationBalanceMapper balanceMapper;
 
-    public PaymentRepositoryImpl(PaymentJpaRepository jpaRepository, PaymentMapper mapper) {
+    public PaymentRepositoryImpl(PaymentJpaRepository jpaRepository, PaymentMapper mapper,
+                                 ReservationBalanceJpaRepository balanceJpaRepository,
+                                 ReservationBalanceMapper balanceMapper) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.balanceJpaRepository = Objects.requireNonNull(balanceJpaRepository);
+        this.balanceMapper = Objects.requireNonNull(balanceMapper);
     }
 
     @Override
@@ -31,6 +44,23 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return mapper.toDomainEntity(saved);
     }
 
+    /**
+     * The balance row is flushed first so a stale version (or a concurrent first payment)
+     * fails before the payment is written, and both roll back together.
+     */
+    @Override
+    @Transactional
+    public Payment save(Payment payment, ReservationBalance balance) {
+        try {
+            balanceJpaRepository.saveAndFlush(balanceMapper.toJpaEntity(balance));
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            throw new ConcurrentUpdateException(
+                "Balance of reservation " + balance.getReservationId().getValue() + " was modified concurrently", e);
+        }
+        var saved = jpaRepository.save(mapper.toJpaEntity(payment));
+        return mapper.toDomainEntity(saved);
+    }
+
     @Override
     public Optional<Payment> findById(PaymentId id) {
         return jpaRepository.findById(id.getValue())
@@ -0,0 +1,36 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.entity.RateSeason;
+import com.daboerp.gestion.domain.repository.RateSeasonRepository;
+import com.daboerp.gestion.infrastructure.persistence.jpa.RateSeasonJpaRepository;
+import com.daboerp.gestion.infrastructure.persistence.mapper.RateSeasonMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Repository
+public class RateSeasonRepositoryImpl implements RateSeasonRepository {
+
+    private final RateSeasonJpaRepository jpaRepository;
+    private final RateSeasonMapper mapper;
+
+    public RateSeasonRepositoryImpl(RateSeasonJpaRepository jpaRepository, RateSeasonMapper mapper) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public List<RateSeason> findAll() {
+        return jpaRepository.findAll().stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public RateSeason save(RateSeason season) {
+        Objects.requireNonNull(season, "Season cannot be null");
+        return mapper.toDomain(jpaRepository.save(mapper.toJpa(season)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.daboerp.gestion.infrastructure.persistence.repository;
+
+import com.daboerp.gestion.domain.entity.ReservationBalance;
+import com.daboerp.gestion.domain.repository.ReservationBalanceRepository;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+import com.daboerp.gestion.infrastructure.persistence.jpa.ReservationBalanceJpaRepository;
+import com.daboerp.gestion.infrastructure.persistence.mapper.ReservationBalanceMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+public class ReservationBalanceRepositoryImpl implements ReservationBalanceRepository {
+
+    private final ReservationBalanceJpaRepository jpaRepository;
+    private final ReservationBalanceMapper mapper;
+
+    public ReservationBalanceRepositoryImpl(ReservationBalanceJpaRepository jpaRepository,
+                                            ReservationBalanceMapper mapper) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public Optional<ReservationBalance> findByReservationId(ReservationId reservationId) {
+        return jpaRepository.findById(reservationId.getValue())
+            .map(mapper::toDomainEntity);
+    }
+
+    @Override
+    public List<ReservationBalance> findByReservationIds(Collection<ReservationId> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = reservationIds.stream().map(ReservationId::getValue).distinct().toList();
+        return jpaRepository.findAllById(ids).stream()
+            .map(mapper::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+}
@@ -1,150 +1,396 @@
 package com.daboerp.gestion.infrastructure.persistence.repository;
 
+import com.daboerp.gestion.application.exception.BusinessRuleViolationException;
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
 import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.ReservationSnapshot;
+import com.daboerp.gestion.domain.entity.ReservationTransition;
+import com.daboerp.gestion.domain.entity.ReservationTransition.RoomMove;
+import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.entity.StatusType;
 import com.daboerp.gestion.domain.repository.ReservationRepository;
 import com.daboerp.gestion.domain.valueobject.GuestId;
 import com.daboerp.gestion.domain.valueobject.ReservationId;
 import com.daboerp.gestion.domain.valueobject.RoomId;
 import com.daboerp.gestion.domain.valueobject.Source;
+import com.daboerp.gestion.infrastructure.event.outbox.DomainEventOutbox;
+import com.daboerp.gestion.infrastructure.persistence.cache.RoomCache;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.identity.IdentityMap;
 import com.daboerp.gestion.infrastructure.persistence.jpa.ReservationJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.ReservationMapper;
-import org.springframework.data.domain.PageRequest;
+import com.daboerp.gestion.infrastructure.persistence.transaction.AfterCommit;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of ReservationRepository using Spring Data JPA.
+ * List queries hydrate guests and rooms in bulk through {@link ReservationMapper#toDomainEntities}.
+ * Pending domain events are written to the outbox in the same transaction as the reservation.
+ * Saves update the managed entity in place, so only changed columns and guest rows are written,
+ * and hand back the aggregate they were given rather than reading it again.
+ * Reservations, like their guests and rooms, are loaded at most once per request through the
+ * {@link IdentityMap}.
+ * Status transitions skip the aggregate entirely: one joined read, then conditional updates of the
+ * reservation and room rows.
+ * New reservations inserted together bypass JPA and go out as one JDBC batch per table.
+ * Overlapping active stays in one room are refused by the database's exclusion constraint;
+ * such a refusal is reported as a {@link BusinessRuleViolationException}.
  */
 @Repository
 public class ReservationRepositoryImpl implements ReservationRepository {
     
+    private static final String INSERT_SQL =
+        "INSERT INTO reservations (id, reservation_code, check_in, check_out, status_id, status_type, " +
+        "status_note, quoted_amount, source, created_at, guest_principal_id, room_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String INSERT_GUEST_SQL =
+        "INSERT INTO reservation_guests (reservation_id, guest_id) VALUES (?, ?)";
+    
+    private static final String SNAPSHOT_SQL =
+        "SELECT r.id, r.reservation_code, r.check_in, r.check_out, r.status_id, r.status_type, r.status_note, " +
+        "r.quoted_amount, r.source, r.created_at, r.guest_principal_id, g.first_name, g.last_name, " +
+        "r.room_id, ro.room_number, r.stay_id, r.stay_check_in, r.stay_check_out, rg.guest_id " +
+        "FROM reservations r " +
+        "JOIN guests g ON g.id = r.guest_principal_id " +
+        "JOIN rooms ro ON ro.id = r.room_id " +
+        "LEFT JOIN reservation_guests rg ON rg.reservation_id = r.id " +
+        "WHERE r.id = ?";
+    
+    private static final String TRANSITION_SQL =
+        "UPDATE reservations SET status_id = ?, status_type = ?, status_note = ?, " +
+        "stay_id = ?, stay_check_in = ?, stay_check_out = ? " +
+        "WHERE id = ? AND status_type = ?";
+    
+    private static final int[] TRANSITION_TYPES = {
+        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR
+    };
+    
+    private static final String MOVE_ROOM_SQL =
+        "UPDATE rooms SET room_status = :to WHERE id = :id AND room_status IN (:from)";
+    
+    private static final String OVERLAP_CONSTRAINT = "ex_reservations_room_stay";
+    
+    // PostgreSQL's SQLSTATE for exclusion_violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    
     private final ReservationJpaRepository jpaRepository;
     private final ReservationMapper mapper;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final DomainEventOutbox outbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final RoomCache roomCache;
+    private final IdentityMap identityMap;
     
-    public ReservationRepositoryImpl(ReservationJpaRepository jpaRepository, ReservationMapper mapper) {
+    public ReservationRepositoryImpl(ReservationJpaRepository jpaRepository, ReservationMapper mapper,
+                                     RoomAvailabilityIndex availabilityIndex,
+                                     DomainEventOutbox outbox,
+                                     JdbcTemplate jdbcTemplate,
+                                     RoomCache roomCache,
+                                     IdentityMap identityMap) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.availabilityIndex = Objects.requireNonNull(availabilityIndex);
+        this.outbox = Objects.requireNonNull(outbox);
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.roomCache = Objects.requireNonNull(roomCache);
+        this.identityMap = Objects.requireNonNull(identityMap);
     }
     
     @Override
+    @Transactional
     public Reservation save(Reservation reservation) {
-        var entity = mapper.toJpaEntity(reservation);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        ReservationJpaEntity entity = jpaRepository.findById(reservation.getId().getValue()).orElse(null);
+        try {
+            if (entity == null) {
+                entity = jpaRepository.save(mapper.toJpaEntity(reservation));
+            } else {
+                mapper.updateJpaEntity(reservation, entity);
+            }
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                throw new BusinessRuleViolationException(
+                    "Room " + reservation.getRoom().getRoomNumber() + " is already reserved for the selected dates", e);
+            }
+            throw e;
+        }
+        outbox.append(reservation.getDomainEvents());
+        reservation.clearDomainEvents();
+        identityMap.register(Reservation.class, reservation.getId().getValue(), reservation);
+        AfterCommit.run(() -> availabilityIndex.record(reservation));
+        return reservation;
+    }
+    
+    @Override
+    @Transactional
+    public List<Reservation> insertAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (ps, reservation) -> {
+                ps.setString(1, reservation.getId().getValue());
+                ps.setString(2, reservation.getReservationCode());
+                ps.setDate(3, Date.valueOf(reservation.getCheckIn()));
+                ps.setDate(4, Date.valueOf(reservation.getCheckOut()));
+                ps.setString(5, reservation.getStatus().getId());
+                ps.setString(6, reservation.getStatus().getStatusType().name());
+                ps.setString(7, reservation.getStatus().getNote());
+                ps.setBigDecimal(8, reservation.getQuotedAmount());
+                ps.setString(9, reservation.getSource().name());
+                ps.setDate(10, Date.valueOf(reservation.getCreatedAt()));
+                ps.setString(11, reservation.getGuestPrincipal().getId().getValue());
+                ps.setString(12, reservation.getRoom().getId().getValue());
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                throw new BusinessRuleViolationException(
+                    "One of the requested rooms was reserved for the selected dates in the meantime", e);
+            }
+            throw e;
+        }
+        
+        List<String[]> guestRows = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            reservation.getGuests().forEach(guest ->
+                guestRows.add(new String[] {reservation.getId().getValue(), guest.getId().getValue()}));
+        }
+        jdbcTemplate.batchUpdate(INSERT_GUEST_SQL, guestRows, guestRows.size(), (ps, row) -> {
+            ps.setString(1, row[0]);
+            ps.setString(2, row[1]);
+        });
+        
+        outbox.append(reservations.stream()
+            .flatMap(reservation -> reservation.getDomainEvents().stream())
+            .toList());
+        for (Reservation reservation : reservations) {
+            reservation.clearDomainEvents();
+            identityMap.register(Reservation.class, reservation.getId().getValue(), reservation);
+        }
+        AfterCommit.run(() -> reservations.forEach(availabilityIndex::record));
+        return reservations;
+    }
+    
+    /**
+     * Whether the failure is the exclusion constraint refusing an overlapping stay.
+     * Batched inserts report the driver's error through the next-exception chain.
+     */
+    private static boolean isOverlapViolation(DataIntegrityViolationException failure) {
+        for (Throwable cause = failure.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlFailure) {
+                for (SQLException e = sqlFailure; e != null; e = e.getNextException()) {
+                    if (EXCLUSION_VIOLATION.equals(e.getSQLState())
+                            || (e.getMessage() != null && e.getMessage().contains(OVERLAP_CONSTRAINT))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
     
     @Override
     public Optional<Reservation> findById(ReservationId id) {
+        Optional<Reservation> held = identityMap.find(Reservation.class, id.getValue());
+        if (held.isPresent()) {
+            return held;
+        }
         return jpaRepository.findById(id.getValue())
-            .map(mapper::toDomainEntity);
+            .map(entity -> hydrate(List.of(entity)).get(0));
+    }
+    
+    @Override
+    public Optional<ReservationSnapshot> findSnapshot(ReservationId id) {
+        // One row per guest on the reservation
+        List<ReservationSnapshot> rows = new ArrayList<>();
+        List<String> guestIds = new ArrayList<>();
+        jdbcTemplate.query(SNAPSHOT_SQL, rs -> {
+            if (rows.isEmpty()) {
+                rows.add(new ReservationSnapshot(
+                    rs.getString("id"),
+                    rs.getString("reservation_code"),
+                    rs.getObject("check_in", LocalDate.class),
+                    rs.getObject("check_out", LocalDate.class),
+                    StatusType.valueOf(rs.getString("status_type")),
+                    rs.getString("status_id"),
+                    rs.getString("status_note"),
+                    rs.getBigDecimal("quoted_amount"),
+                    Source.valueOf(rs.getString("source")),
+                    rs.getString("guest_principal_id"),
+                    rs.getString("first_name") + " " + rs.getString("last_name"),
+                    null,
+                    rs.getString("room_id"),
+                    rs.getInt("room_number"),
+                    rs.getString("stay_id"),
+                    rs.getObject("stay_check_in", LocalDate.class),
+                    rs.getObject("stay_check_out", LocalDate.class),
+                    rs.getObject("created_at", LocalDate.class)
+                ));
+            }
+            String guestId = rs.getString("guest_id");
+            if (guestId != null) {
+                guestIds.add(guestId);
+            }
+        }, id.getValue());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        ReservationSnapshot row = rows.get(0);
+        return Optional.of(new ReservationSnapshot(row.id(), row.reservationCode(), row.checkIn(), row.checkOut(),
+            row.statusType(), row.statusId(), row.statusNote(), row.quotedAmount(), row.source(),
+            row.guestPrincipalId(), row.guestPrincipalName(), guestIds, row.roomId(), row.roomNumber(),
+            row.stayId(), row.stayCheckIn(), row.stayCheckOut(), row.createdAt()));
+    }
+    
+    @Override
+    @Transactional
+    public ReservationSnapshot transition(ReservationSnapshot current, ReservationTransition transition,
+                                          String note, LocalDate date) {
+        ReservationSnapshot next = current.apply(transition, note, date);
+        int updated = jdbcTemplate.update(TRANSITION_SQL, new Object[] {
+                next.statusId(),
+                next.statusType().name(),
+                next.statusNote(),
+                next.stayId(),
+                next.stayCheckIn() != null ? Date.valueOf(next.stayCheckIn()) : null,
+                next.stayCheckOut() != null ? Date.valueOf(next.stayCheckOut()) : null,
+                current.id(),
+                current.statusType().name()
+            }, TRANSITION_TYPES);
+        if (updated == 0) {
+            throw new BusinessRuleViolationException(
+                "Reservation " + current.reservationCode() + " is no longer " + current.statusType());
+        }
+        
+        Optional<RoomMove> move = transition.roomMove(current.statusType());
+        if (move.isPresent()) {
+            int moved = namedJdbcTemplate.update(MOVE_ROOM_SQL, Map.of(
+                "to", move.get().to().name(),
+                "id", current.roomId(),
+                "from", move.get().from().stream().map(Enum::name).toList()));
+            if (moved == 0 && move.get().required()) {
+                throw new BusinessRuleViolationException(move.get().refusal());
+            }
+            roomCache.evict(current.roomId());
+            identityMap.evict(Room.class, current.roomId());
+        }
+        identityMap.evict(Reservation.class, current.id());
+        
+        if (!next.isActive()) {
+            AfterCommit.run(() -> availabilityIndex.remove(current.id()));
+        }
+        return next;
     }
     
     @Override
     public Optional<Reservation> findByReservationCode(String reservationCode) {
         return jpaRepository.findByReservationCode(reservationCode)
-            .map(mapper::toDomainEntity);
+            .map(entity -> hydrate(List.of(entity)).get(0));
+    }
+    
+    @Override
+    public Map<ReservationId, BigDecimal> findQuotedAmounts(Collection<ReservationId> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = ids.stream().map(ReservationId::getValue).distinct().toList();
+        Map<ReservationId, BigDecimal> quoted = new HashMap<>();
+        for (Object[] row : jpaRepository.findQuotedAmounts(values)) {
+            quoted.put(ReservationId.of((String) row[0]), (BigDecimal) row[1]);
+        }
+        return quoted;
     }
     
     @Override
     public List<Reservation> findAll() {
-        return jpaRepository.findAll().stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findAll());
     }
     
     @Override
     public List<Reservation> findByGuest(GuestId guestId) {
-        return jpaRepository.findByGuestPrincipalId(guestId.getValue()).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByGuestPrincipalId(guestId.getValue()));
     }
     
     @Override
     public List<Reservation> findByRoom(RoomId roomId) {
-        return jpaRepository.findByRoomId(roomId.getValue()).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByRoomId(roomId.getValue()));
     }
     
     @Override
     public List<Reservation> findByStatus(StatusType statusType) {
-        return jpaRepository.findByStatusType(statusType).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByStatusType(statusType));
     }
     
     @Override
     public List<Reservation> findByDateRange(LocalDate startDate, LocalDate endDate) {
-        return jpaRepository.findByDateRange(startDate, endDate).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByDateRange(startDate, endDate));
     }
     
     @Override
     public List<Reservation> findActiveReservations() {
-        return jpaRepository.findActiveReservations().stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findActiveReservations());
     }
     
     @Override
     public List<Reservation> findCheckInsForDate(LocalDate date) {
-        return jpaRepository.findByCheckIn(date).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByCheckIn(date));
     }
     
     @Override
     public List<Reservation> findCheckOutsForDate(LocalDate date) {
-        return jpaRepository.findByCheckOut(date).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findByCheckOut(date));
     }
     
     @Override
     public List<Reservation> findOverlappingReservations(RoomId roomId, LocalDate checkIn, LocalDate checkOut) {
-        return jpaRepository.findOverlappingReservations(roomId.getValue(), checkIn, checkOut).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return hydrate(jpaRepository.findOverlappingReservations(roomId.getValue(), checkIn, checkOut));
     }
     
     @Override
-    public List<Reservation> findByFilters(StatusType status, Source source,
-                                          LocalDate checkInStart, LocalDate checkInEnd,
-                                          LocalDate stayStart, LocalDate stayEnd) {
-        return jpaRepository.findByFilters(status, source, checkInStart, checkInEnd, stayStart, stayEnd).stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+    public void delete(ReservationId id) {
+        jpaRepository.deleteById(id.getValue());
+        identityMap.evict(Reservation.class, id.getValue());
+        AfterCommit.run(() -> availabilityIndex.remove(id.getValue()));
     }
     
-    @Override
-    public List<Reservation> findByFiltersWithPagination(StatusType status, Source source,
-                                                        LocalDate checkInStart, LocalDate checkInEnd,
-                                                        LocalDate stayStart, LocalDate stayEnd,
-                                                        int page, int size) {
-        PageRequest pageable = PageRequest.of(page, size);
-        return jpaRepository.findByFiltersWithPagination(
-            status, source, checkInStart, checkInEnd, stayStart, stayEnd, pageable
-        ).stream()
-            .map(mapper::toDomainEntity)
+    /**
+     * Map a page of reservations, reusing those already held for this request and
+     * hydrating the rest together.
+     */
+    private List<Reservation> hydrate(List<ReservationJpaEntity> entities) {
+        List<ReservationJpaEntity> misses = entities.stream()
+            .filter(entity -> identityMap.find(Reservation.class, entity.getId()).isEmpty())
+            .toList();
+        Map<String, Reservation> loaded = new HashMap<>();
+        for (Reservation reservation : mapper.toDomainEntities(misses)) {
+            identityMap.hydrated(Reservation.class, reservation.getId().getValue(), reservation);
+            loaded.put(reservation.getId().getValue(), reservation);
+        }
+        return entities.stream()
+            .map(entity -> loaded.containsKey(entity.getId())
+                ? loaded.get(entity.getId())
+                : identityMap.find(Reservation.class, entity.getId()).orElseThrow())
             .collect(Collectors.toList());
     }
-    
-    @Override
-    public long countByFilters(StatusType status, Source source,
-                              LocalDate checkInStart, LocalDate checkInEnd,
-                              LocalDate stayStart, LocalDate stayEnd) {
-        return jpaRepository.countByFilters(status, source, checkInStart, checkInEnd, stayStart, stayEnd);
-    }
-    
-    @Override
-    public void delete(ReservationId id) {
-        jpaRepository.deleteById(id.getValue());
-    }
 }
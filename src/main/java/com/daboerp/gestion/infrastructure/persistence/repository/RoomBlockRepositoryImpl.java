@@ -1,9 +1,11 @@
 package com.daboerp.gestion.infrastructure.persistence.repository;
 
+import com.daboerp.gestion.domain.availability.RoomAvailabilityIndex;
 import com.daboerp.gestion.domain.entity.RoomBlock;
 import com.daboerp.gestion.domain.repository.RoomBlockRepository;
 import com.daboerp.gestion.infrastructure.persistence.jpa.RoomBlockJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.RoomBlockMapper;
+import com.daboerp.gestion.infrastructure.persistence.transaction.AfterCommit;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -17,10 +19,20 @@ public class RoomBlockRepositoryImpl implements RoomBlockRepository {
 
     private final RoomBlockJpaRepository jpaRepository;
     private final RoomBlockMapper mapper;
+    private final RoomAvailabilityIndex availabilityIndex;
 
-    public RoomBlockRepositoryImpl(RoomBlockJpaRepository jpaRepository, RoomBlockMapper mapper) {
+    public RoomBlockRepositoryImpl(RoomBlockJpaRepository jpaRepository, RoomBlockMapper mapper,
+                                   RoomAvailabilityIndex availabilityIndex) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.availabilityIndex = Objects.requireNonNull(availabilityIndex);
+    }
+
+    @Override
+    public List<RoomBlock> findAll() {
+        return jpaRepository.findAll().stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -48,12 +60,15 @@ public class RoomBlockRepositoryImpl implements RoomBlockRepository {
     public RoomBlock save(RoomBlock block) {
         var entity = mapper.toJpa(block);
         var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        RoomBlock result = mapper.toDomain(saved);
+        AfterCommit.run(() -> availabilityIndex.record(result));
+        return result;
     }
 
     @Override
     public void deleteById(String id) {
         jpaRepository.deleteById(id);
+        AfterCommit.run(() -> availabilityIndex.remove(id));
     }
 
     @Override
@@ -1,97 +1,251 @@
 package com.daboerp.gestion.infrastructure.persistence.repository;
 
 import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.entity.RoomType;
 import com.daboerp.gestion.domain.repository.RoomRepository;
+import com.daboerp.gestion.domain.valueobject.Amenity;
+import com.daboerp.gestion.domain.valueobject.AmenityFilter;
 import com.daboerp.gestion.domain.valueobject.RoomId;
 import com.daboerp.gestion.domain.valueobject.RoomStatus;
+import com.daboerp.gestion.domain.valueobject.RoomTypeId;
+import com.daboerp.gestion.infrastructure.persistence.cache.RoomCache;
+import com.daboerp.gestion.infrastructure.persistence.entity.RoomJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.identity.IdentityMap;
 import com.daboerp.gestion.infrastructure.persistence.jpa.RoomJpaRepository;
 import com.daboerp.gestion.infrastructure.persistence.mapper.RoomMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of RoomRepository using Spring Data JPA.
+ * Single-room lookups are served from {@link RoomCache}; saves write through and deletes evict.
+ * Saves update the managed entity in place, so only changed columns and collection rows are written.
+ * Within a request, rooms already loaded or saved are served from the {@link IdentityMap} first.
+ * Room type changes and property-wide amenity changes are written with one bulk statement each,
+ * after which the affected rooms are evicted from both.
+ * Whenever a room's amenities change, its amenity mask column is recomputed from the catalog.
  */
 @Repository
 public class RoomRepositoryImpl implements RoomRepository {
     
     private final RoomJpaRepository jpaRepository;
     private final RoomMapper mapper;
+    private final RoomCache cache;
+    private final IdentityMap identityMap;
     
-    public RoomRepositoryImpl(RoomJpaRepository jpaRepository, RoomMapper mapper) {
+    public RoomRepositoryImpl(RoomJpaRepository jpaRepository, RoomMapper mapper, RoomCache cache,
+                              IdentityMap identityMap) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository);
         this.mapper = Objects.requireNonNull(mapper);
+        this.cache = Objects.requireNonNull(cache);
+        this.identityMap = Objects.requireNonNull(identityMap);
     }
     
     @Override
+    @Transactional
     public Room save(Room room) {
-        var entity = mapper.toJpaEntity(room);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        RoomJpaEntity entity = jpaRepository.findById(room.getId().getValue()).orElse(null);
+        boolean amenitiesChanged;
+        if (entity == null) {
+            entity = jpaRepository.save(mapper.toJpaEntity(room));
+            amenitiesChanged = !entity.getAmenities().isEmpty();
+        } else {
+            Set<String> before = Set.copyOf(entity.getAmenities());
+            mapper.updateJpaEntity(room, entity);
+            amenitiesChanged = !before.equals(entity.getAmenities());
+        }
+        if (amenitiesChanged) {
+            jpaRepository.refreshAmenityMasks(List.of(entity.getId()));
+        }
+        cache.put(room);
+        identityMap.register(Room.class, room.getId().getValue(), room);
+        return room;
     }
     
     @Override
     public Optional<Room> findById(RoomId id) {
-        return jpaRepository.findById(id.getValue())
-            .map(mapper::toDomainEntity);
+        Optional<Room> held = identityMap.find(Room.class, id.getValue());
+        if (held.isPresent()) {
+            return held;
+        }
+        Optional<Room> cached = cache.getById(id.getValue());
+        if (cached.isPresent()) {
+            identityMap.register(Room.class, id.getValue(), cached.get());
+            return cached;
+        }
+        Optional<Room> loaded = jpaRepository.findById(id.getValue())
+            .map(this::hydrate);
+        loaded.ifPresent(cache::put);
+        return loaded;
+    }
+    
+    @Override
+    public List<Room> findAllByIds(Collection<RoomId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Room> rooms = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String value : ids.stream().map(RoomId::getValue).distinct().collect(Collectors.toList())) {
+            Optional<Room> held = identityMap.find(Room.class, value);
+            if (held.isPresent()) {
+                rooms.add(held.get());
+                continue;
+            }
+            cache.getById(value).ifPresentOrElse(room -> {
+                identityMap.register(Room.class, value, room);
+                rooms.add(room);
+            }, () -> misses.add(value));
+        }
+        if (!misses.isEmpty()) {
+            for (var entity : jpaRepository.findAllById(misses)) {
+                Room room = hydrate(entity);
+                cache.put(room);
+                rooms.add(room);
+            }
+        }
+        return rooms;
     }
     
     @Override
     public Optional<Room> findByRoomNumber(Integer roomNumber) {
-        return jpaRepository.findByRoomNumber(roomNumber)
-            .map(mapper::toDomainEntity);
+        Optional<Room> cached = cache.getByNumber(roomNumber);
+        if (cached.isPresent()) {
+            String id = cached.get().getId().getValue();
+            Optional<Room> held = identityMap.find(Room.class, id);
+            if (held.isPresent()) {
+                return held;
+            }
+            identityMap.register(Room.class, id, cached.get());
+            return cached;
+        }
+        Optional<Room> loaded = jpaRepository.findByRoomNumber(roomNumber)
+            .map(this::hydrate);
+        loaded.ifPresent(cache::put);
+        return loaded;
     }
     
     @Override
     public List<Room> findAll() {
         return jpaRepository.findAll().stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Room> findAllActive() {
         return jpaRepository.findByDeletedFalse().stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Room> findByStatus(RoomStatus status) {
         return jpaRepository.findByRoomStatus(status).stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
 
     @Override
     public List<Room> findActiveByStatus(RoomStatus status) {
         return jpaRepository.findByDeletedFalseAndRoomStatus(status).stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Room> findActiveByStatus(RoomStatus status, AmenityFilter amenities) {
+        return jpaRepository.findActiveByStatusAndAmenities(status, amenities.allOf(), amenities.anyOf()).stream()
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Room> findAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
         return jpaRepository.findAvailableRooms(checkIn, checkOut).stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Room> findAvailableRooms(LocalDate checkIn, LocalDate checkOut, int minCapacity,
+                                         AmenityFilter amenities) {
+        return jpaRepository.findAvailableWithAmenities(minCapacity, checkIn, checkOut,
+                amenities.allOf(), amenities.anyOf()).stream()
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<Room> findAvailableByCapacity(int minCapacity, LocalDate checkIn, LocalDate checkOut) {
         return jpaRepository.findAvailableByCapacity(minCapacity, checkIn, checkOut).stream()
-            .map(mapper::toDomainEntity)
+            .map(this::hydrate)
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional
+    public int applyRoomType(RoomType roomType) {
+        String roomTypeId = roomType.getId().getValue();
+        List<String> affected = jpaRepository.findIdsByRoomTypeId(roomTypeId);
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        int updated = jpaRepository.updateRoomTypeColumns(roomTypeId, roomType.getName(),
+            roomType.getDescription(), roomType.getMaxOccupancy(), roomType.getBasePrice());
+        evictAll(affected);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int removeAmenityFromActiveRooms(Amenity amenity) {
+        List<String> affected = jpaRepository.findActiveIdsWithAmenity(amenity.getValue());
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        // Amenities are a set, so each deleted row is one room
+        int removed = jpaRepository.deleteAmenityFromActiveRooms(amenity.getValue());
+        jpaRepository.refreshAmenityMasks(affected);
+        evictAll(affected);
+        return removed;
+    }
+
+    @Override
+    @Transactional
+    public int addAmenityToActiveRoomsOfType(RoomTypeId roomTypeId, Amenity amenity) {
+        List<String> affected = jpaRepository.findActiveIdsOfTypeWithoutAmenity(
+            roomTypeId.getValue(), amenity.getValue());
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        int added = jpaRepository.insertAmenityForActiveRoomsOfType(roomTypeId.getValue(), amenity.getValue());
+        jpaRepository.refreshAmenityMasks(affected);
+        evictAll(affected);
+        return added;
+    }
+
+    @Override
+    @Transactional
+    public int refreshAmenityMasks(Amenity amenity) {
+        // The mask is not part of the mapped aggregate, so cached rooms stay valid
+        return jpaRepository.refreshAmenityMasksHolding(amenity.getValue());
+    }
+    
     @Override
     public void delete(RoomId id) {
         jpaRepository.deleteById(id.getValue());
+        cache.evict(id.getValue());
+        identityMap.evict(Room.class, id.getValue());
     }
     
     @Override
@@ -107,6 +261,20 @@ public class RoomRepositoryImpl implements RoomRepository {
     @Override
     public Optional<Room> findDeletedByRoomNumber(Integer roomNumber) {
         return jpaRepository.findByRoomNumberAndDeletedTrue(roomNumber)
-            .map(mapper::toDomainEntity);
+            .map(this::hydrate);
+    }
+    
+    /**
+     * Bulk statements bypass the mapped aggregates, so none of their copies may be served again.
+     */
+    private void evictAll(Collection<String> ids) {
+        for (String id : ids) {
+            cache.evict(id);
+            identityMap.evict(Room.class, id);
+        }
+    }
+    
+    private Room hydrate(RoomJpaEntity entity) {
+        return identityMap.resolve(Room.class, entity.getId(), () -> mapper.toDomainEntity(entity));
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,10 +19,16 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RoomTypeRepositoryImpl implements RoomTypeRepository {
     
     private final ConcurrentHashMap<String, RoomType> storage = new ConcurrentHashMap<>();
+    // Lower-cased name → id, so name lookups do not scan every room type
+    private final ConcurrentHashMap<String, String> idsByName = new ConcurrentHashMap<>();
     
     @Override
-    public RoomType save(RoomType roomType) {
-        storage.put(roomType.getId().getValue(), roomType);
+    public synchronized RoomType save(RoomType roomType) {
+        String id = roomType.getId().getValue();
+        storage.put(id, roomType);
+        // Room types are renamed in place, so drop whatever key pointed at this id before
+        idsByName.values().removeIf(id::equals);
+        idsByName.put(nameKey(roomType.getName()), id);
         return roomType;
     }
     
@@ -32,9 +39,9 @@ public class RoomTypeRepositoryImpl implements RoomTypeRepository {
     
     @Override
     public Optional<RoomType> findByName(String name) {
-        return storage.values().stream()
-            .filter(rt -> rt.getName().equalsIgnoreCase(name))
-            .findFirst();
+        String id = idsByName.get(nameKey(name));
+        return Optional.ofNullable(id != null ? storage.get(id) : null)
+            .filter(rt -> rt.getName().equalsIgnoreCase(name));
     }
     
     @Override
@@ -43,13 +50,17 @@ public class RoomTypeRepositoryImpl implements RoomTypeRepository {
     }
     
     @Override
-    public void delete(RoomTypeId id) {
+    public synchronized void delete(RoomTypeId id) {
         storage.remove(id.getValue());
+        idsByName.values().removeIf(id.getValue()::equals);
     }
     
     @Override
     public boolean existsByName(String name) {
-        return storage.values().stream()
-            .anyMatch(rt -> rt.getName().equalsIgnoreCase(name));
+        return findByName(name).isPresent();
+    }
+    
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,113 @@
+package com.daboerp.gestion.infrastructure.persistence.specification;
+
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.specification.AndSpecification;
+import com.daboerp.gestion.domain.specification.NotSpecification;
+import com.daboerp.gestion.domain.specification.OrSpecification;
+import com.daboerp.gestion.domain.specification.Specification;
+import com.daboerp.gestion.domain.specification.reservation.ActiveReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.CheckInWindowReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.DateRangeReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.LongStayReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.SourceReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.StatusReservationSpecification;
+import com.daboerp.gestion.domain.specification.reservation.StayWindowReservationSpecification;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Translates domain reservation specifications into JPA Criteria predicates.
+ * The same specification objects that are evaluated in memory produce the SQL,
+ * and only the filters actually present end up in the WHERE clause, so the
+ * database can pick the matching index for each combination.
+ */
+@Component
+public class ReservationSpecificationTranslator {
+    
+    /**
+     * Translate a domain specification into a Spring Data specification over the JPA entity.
+     *
+     * @throws IllegalArgumentException if the specification has no SQL translation
+     */
+    public org.springframework.data.jpa.domain.Specification<ReservationJpaEntity> translate(
+            Specification<Reservation> specification) {
+        Objects.requireNonNull(specification, "Specification cannot be null");
+        return (root, query, cb) -> toPredicate(specification, root, cb);
+    }
+    
+    private Predicate toPredicate(Specification<Reservation> specification,
+                                  Root<ReservationJpaEntity> root, CriteriaBuilder cb) {
+        if (specification instanceof AndSpecification<Reservation> and) {
+            return cb.and(toPredicate(and.getLeft(), root, cb), toPredicate(and.getRight(), root, cb));
+        }
+        if (specification instanceof OrSpecification<Reservation> or) {
+            return cb.or(toPredicate(or.getLeft(), root, cb), toPredicate(or.getRight(), root, cb));
+        }
+        if (specification instanceof NotSpecification<Reservation> not) {
+            return cb.not(toPredicate(not.getSpecification(), root, cb));
+        }
+        if (specification instanceof StatusReservationSpecification status) {
+            return cb.equal(root.get("statusType"), status.getStatusType());
+        }
+        if (specification instanceof SourceReservationSpecification source) {
+            return cb.equal(root.get("source"), source.getSource());
+        }
+        if (specification instanceof ActiveReservationSpecification) {
+            return root.get("statusType").in(StatusType.CONFIRMED, StatusType.CHECKED_IN);
+        }
+        if (specification instanceof CheckInWindowReservationSpecification window) {
+            return between(cb, root.get("checkIn"), window.getFrom(), window.getTo());
+        }
+        if (specification instanceof StayWindowReservationSpecification window) {
+            return overlapping(cb, root, window.getFrom(), window.getTo());
+        }
+        if (specification instanceof DateRangeReservationSpecification range) {
+            return overlapping(cb, root, range.getStartDate(), range.getEndDate());
+        }
+        if (specification instanceof LongStayReservationSpecification longStay) {
+            // nights >= n  <=>  checkOut >= checkIn + n days
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            Path<LocalDate> checkIn = root.get("checkIn");
+            Path<LocalDate> checkOut = root.get("checkOut");
+            return cb.greaterThanOrEqualTo(checkOut,
+                hcb.addDuration(checkIn, Duration.ofDays(longStay.getMinimumNights())));
+        }
+        throw new IllegalArgumentException(
+            "Specification cannot be translated to SQL: " + specification.getClass().getSimpleName());
+    }
+    
+    private static Predicate between(CriteriaBuilder cb, Path<LocalDate> path, LocalDate from, LocalDate to) {
+        List<Predicate> predicates = new ArrayList<>(2);
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, to));
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+    
+    private static Predicate overlapping(CriteriaBuilder cb, Root<ReservationJpaEntity> root,
+                                         LocalDate from, LocalDate to) {
+        List<Predicate> predicates = new ArrayList<>(2);
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("checkOut"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("checkIn"), to));
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+}
@@ -0,0 +1,28 @@
+package com.daboerp.gestion.infrastructure.persistence.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Applies in-memory side effects of a write, such as availability index or cache updates,
+ * only once the write is durable: after the surrounding transaction commits, or straight away
+ * when there is none. A rolled-back transaction leaves the in-memory state untouched.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
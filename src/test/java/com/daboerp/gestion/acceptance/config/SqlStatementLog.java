@@ -0,0 +1,36 @@
+package com.daboerp.gestion.acceptance.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every SQL statement Hibernate prepares, so scenarios can count the queries
+ * issued against a given table. Registered through the test profile's JPA properties.
+ */
+public class SqlStatementLog implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Statements selecting from the table; background jobs never read the tables scenarios count.
+     */
+    public static long selectsFrom(String table) {
+        String from = " from " + table.toLowerCase(Locale.ROOT) + " ";
+        return STATEMENTS.stream()
+            .filter(sql -> sql.startsWith("select") && sql.contains(from))
+            .count();
+    }
+}
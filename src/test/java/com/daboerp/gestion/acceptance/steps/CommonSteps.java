@@ -1,12 +1,16 @@
 package com.daboerp.gestion.acceptance.steps;
 
 import com.daboerp.gestion.acceptance.context.TestContext;
+import com.daboerp.gestion.domain.search.GuestSearchIndex;
+import com.daboerp.gestion.infrastructure.persistence.cache.RoomCache;
 import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.List;
+
 /**
  * Common step definitions shared across all feature files.
  * Contains setup and background steps.
@@ -19,6 +23,12 @@ public class CommonSteps {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private RoomCache roomCache;
+
+    @Autowired
+    private GuestSearchIndex guestSearchIndex;
+
     @LocalServerPort
     private int port;
 
@@ -39,6 +49,8 @@ public class CommonSteps {
     public void theDatabaseIsClean() {
         // Clean tables in correct order to handle foreign key constraints
         jdbcTemplate.execute("DELETE FROM payments");
+        jdbcTemplate.execute("DELETE FROM reservation_balances");
+        jdbcTemplate.execute("DELETE FROM domain_event_outbox");
         jdbcTemplate.execute("DELETE FROM reservation_guests");
         jdbcTemplate.execute("DELETE FROM reservations");
         jdbcTemplate.execute("DELETE FROM beds");
@@ -47,5 +59,9 @@ public class CommonSteps {
         jdbcTemplate.execute("DELETE FROM room_types");
         jdbcTemplate.execute("DELETE FROM guests");
         jdbcTemplate.execute("DELETE FROM document_types");
+
+        // Rows were removed behind the repositories' back
+        roomCache.invalidateAll();
+        guestSearchIndex.rebuild(List::of);
     }
 }
\ No newline at end of file
@@ -55,6 +55,7 @@ public class DocumentTypeManagementSteps {
                 documentTypeData.get("name"), 
                 description,
                 validationRegex,
+                null,
                 Boolean.parseBoolean(documentTypeData.get("active"))
             );
             
@@ -69,6 +70,7 @@ public class DocumentTypeManagementSteps {
             "Existing Type",
             "An existing document type",
             "^[A-Z0-9]+$",
+            null,
             true
         );
         
@@ -84,6 +86,7 @@ public class DocumentTypeManagementSteps {
             docTypeData.get("name"),
             docTypeData.get("description"),
             docTypeData.get("validationRegex"),
+            null,
             Boolean.parseBoolean(docTypeData.get("active"))
         );
         
@@ -106,6 +109,7 @@ public class DocumentTypeManagementSteps {
                 "Document Type " + i,
                 "Description for type " + i,
                 "^[A-Z0-9]{" + (i + 4) + "}$",
+                null,
                 true
             );
             
@@ -166,6 +170,7 @@ public class DocumentTypeManagementSteps {
             docTypeData.get("name"),
             docTypeData.get("description"),
             docTypeData.get("validationRegex"),
+            null,
             Boolean.parseBoolean(docTypeData.get("active"))
         );
         
@@ -189,6 +194,7 @@ public class DocumentTypeManagementSteps {
             "New Type",
             "A new document type",
             "^[A-Z0-9]+$",
+            null,
             true
         );
         
@@ -201,6 +207,49 @@ public class DocumentTypeManagementSteps {
         testContext.setLastResponse(response);
     }
 
+    @When("I create a document type with code {string} and validation pattern {string}")
+    public void iCreateADocumentTypeWithCodeAndValidationPattern(String code, String validationRegex) {
+        CreateDocumentTypeRequest request = new CreateDocumentTypeRequest(
+            code,
+            "Patterned Type",
+            "A document type with a custom pattern",
+            validationRegex,
+            null,
+            true
+        );
+        
+        ResponseEntity<String> response = restTemplate.postForEntity(
+            DOCUMENT_TYPES_API_URL, 
+            request, 
+            String.class
+        );
+        
+        testContext.setLastResponse(response);
+    }
+
+    @When("I create a document type with code {string} and maximum document number length {int}")
+    public void iCreateADocumentTypeWithCodeAndMaximumDocumentNumberLength(String code, int maxNumberLength) {
+        CreateDocumentTypeRequest request = new CreateDocumentTypeRequest(
+            code,
+            "Limited Type",
+            "A document type with a length limit",
+            "^[A-Z0-9]+$",
+            maxNumberLength,
+            true
+        );
+        
+        ResponseEntity<DocumentTypeResponse> response = restTemplate.postForEntity(
+            DOCUMENT_TYPES_API_URL, 
+            request, 
+            DocumentTypeResponse.class
+        );
+        
+        testContext.setLastResponse(response);
+        if (response.getStatusCode().is2xxSuccessful()) {
+            createdDocumentType = response.getBody();
+        }
+    }
+
     @When("I request the document type by code {string}")
     public void iRequestTheDocumentTypeByCode(String code) {
         String url = DOCUMENT_TYPES_API_URL + "/" + code;
@@ -365,6 +414,16 @@ public class DocumentTypeManagementSteps {
         assertThat(createdDocumentType.active()).isTrue();
     }
 
+    @Then("the document type should accept document numbers of at most {int} characters")
+    public void theDocumentTypeShouldAcceptDocumentNumbersOfAtMost(int maxNumberLength) {
+        assertThat(createdDocumentType.maxNumberLength()).isEqualTo(maxNumberLength);
+    }
+
+    @Then("the document type should not limit the document number length")
+    public void theDocumentTypeShouldNotLimitTheDocumentNumberLength() {
+        assertThat(createdDocumentType.maxNumberLength()).isNull();
+    }
+
     @Then("the document type creation should fail")
     public void theDocumentTypeCreationShouldFail() {
         assertThat(testContext.getLastResponse().getStatusCode()).isIn(
@@ -381,6 +440,12 @@ public class DocumentTypeManagementSteps {
         );
     }
 
+    @Then("I should receive an error about the validation pattern")
+    public void iShouldReceiveAnErrorAboutTheValidationPattern() {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(String.valueOf(testContext.getLastResponse().getBody())).containsIgnoringCase("pattern");
+    }
+
     @Then("I should receive the document type details")
     public void iShouldReceiveTheDocumentTypeDetails() {
         assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
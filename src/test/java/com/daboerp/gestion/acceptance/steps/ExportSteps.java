@@ -0,0 +1,102 @@
+package com.daboerp.gestion.acceptance.steps;
+
+import com.daboerp.gestion.acceptance.context.TestContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for the streaming reservation and guest exports.
+ */
+public class ExportSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String RESERVATIONS_EXPORT_URL = "/api/v1/reservations/export";
+    private static final String GUESTS_EXPORT_URL = "/api/v1/guests/export";
+
+    @When("I export reservations with status {string} as {string}")
+    public void iExportReservationsWithStatusAs(String status, String format) {
+        export(UriComponentsBuilder.fromPath(RESERVATIONS_EXPORT_URL)
+            .queryParam("format", format)
+            .queryParam("status", status)
+            .toUriString());
+    }
+
+    @When("I export guests as {string}")
+    public void iExportGuestsAs(String format) {
+        export(UriComponentsBuilder.fromPath(GUESTS_EXPORT_URL)
+            .queryParam("format", format)
+            .toUriString());
+    }
+
+    private void export(String url) {
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the export should be a {string} attachment")
+    public void theExportShouldBeAnAttachment(String extension) {
+        ResponseEntity<?> response = testContext.getLastResponse();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+            .startsWith("attachment")
+            .endsWith("." + extension + "\"");
+    }
+
+    @Then("the CSV export should have columns {string} and {int} rows")
+    public void theCsvExportShouldHaveColumnsAndRows(String header, int rows) {
+        List<String> lines = lines();
+        assertThat(lines.get(0)).isEqualTo(header);
+        assertThat(lines).hasSize(rows + 1);
+    }
+
+    @Then("the exported reservations should have check-in dates {string}")
+    public void theExportedReservationsShouldHaveCheckInDates(String checkIns) {
+        List<String> lines = lines();
+        int checkInColumn = Arrays.asList(lines.get(0).split(",")).indexOf("checkIn");
+        List<String> actual = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            actual.add(line.split(",")[checkInColumn]);
+        }
+        assertThat(actual).containsExactly(checkIns.split(", "));
+    }
+
+    @Then("the NDJSON export should contain {int} objects with field {string}")
+    public void theNdjsonExportShouldContainObjectsWithField(int objects, String field) throws Exception {
+        List<String> lines = lines();
+        assertThat(lines).hasSize(objects);
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.has(field)).isTrue();
+        }
+    }
+
+    private List<String> lines() {
+        String body = (String) testContext.getLastResponse().getBody();
+        assertThat(body).isNotNull();
+        return Arrays.stream(body.split("\r?\n"))
+            .filter(line -> !line.isEmpty())
+            .toList();
+    }
+}
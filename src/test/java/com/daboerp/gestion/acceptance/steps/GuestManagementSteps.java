@@ -2,7 +2,9 @@ package com.daboerp.gestion.acceptance.steps;
 
 import com.daboerp.gestion.acceptance.context.TestContext;
 import com.daboerp.gestion.api.dto.CreateGuestRequest;
+import com.daboerp.gestion.api.dto.CursorPageResponse;
 import com.daboerp.gestion.api.dto.GuestResponse;
+import com.daboerp.gestion.api.dto.GuestSummaryResponse;
 import com.daboerp.gestion.domain.valueobject.DocumentType;
 import com.daboerp.gestion.domain.valueobject.Nationality;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -15,8 +17,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,8 +39,13 @@ public class GuestManagementSteps {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final String GUESTS_API_URL = "/api/v1/guests";
 
+    private CursorPageResponse<GuestSummaryResponse> searchPage;
+
     @When("I create a new guest with the following details:")
     public void iCreateANewGuestWithTheFollowingDetails(DataTable dataTable) {
         Map<String, String> guestData = dataTable.asMap();
@@ -231,6 +240,39 @@ public class GuestManagementSteps {
         }
     }
 
+    @When("I search guests for {string} with limit {int}")
+    public void iSearchGuestsForWithLimit(String query, int limit) {
+        searchGuests(query, limit, null);
+    }
+
+    @When("I request the next page of the guest search for {string} with limit {int}")
+    public void iRequestTheNextPageOfTheGuestSearch(String query, int limit) {
+        assertThat(searchPage.nextCursor()).isNotNull();
+        searchGuests(query, limit, searchPage.nextCursor());
+    }
+
+    private void searchGuests(String query, int limit, String cursor) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromPath(GUESTS_API_URL + "/search")
+            .queryParam("q", query)
+            .queryParam("limit", limit);
+        if (cursor != null) {
+            uri.queryParam("cursor", cursor);
+        }
+        ResponseEntity<String> response = restTemplate.getForEntity(uri.encode().toUriString(), String.class);
+        testContext.setLastResponse(response);
+        
+        if (response.getStatusCode().is2xxSuccessful()) {
+            try {
+                searchPage = objectMapper.readValue(
+                    response.getBody(),
+                    new TypeReference<CursorPageResponse<GuestSummaryResponse>>() {}
+                );
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to parse guest search response", e);
+            }
+        }
+    }
+
     @When("I update the guest's contact information:")
     public void iUpdateTheGuestsContactInformation(DataTable dataTable) {
         Map<String, String> updateData = dataTable.asMap();
@@ -277,10 +319,29 @@ public class GuestManagementSteps {
     }
 
     @Then("the guest creation event should be published")
-    public void theGuestCreationEventShouldBePublished() {
-        // This would typically check event publication through test event listeners
-        // For now, we'll verify the guest was created successfully as evidence
+    public void theGuestCreationEventShouldBePublished() throws InterruptedException {
         assertThat(testContext.getCreatedGuest()).isNotNull();
+        assertThat(outboxEventDelivered("guest.created", testContext.getCreatedGuest().id()))
+            .as("guest.created event should be relayed from the outbox")
+            .isTrue();
+    }
+
+    /**
+     * Wait for the outbox relay to deliver the event raised for the given aggregate.
+     */
+    private boolean outboxEventDelivered(String eventType, String aggregateId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer delivered = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM domain_event_outbox " +
+                "WHERE event_type = ? AND payload LIKE ? AND delivered_at IS NOT NULL",
+                Integer.class, eventType, "%" + aggregateId + "%");
+            if (delivered != null && delivered > 0) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
     }
 
     @Then("the guest creation should fail")
@@ -334,6 +395,27 @@ public class GuestManagementSteps {
         // Additional verification could check specific guest details
     }
 
+    @Then("the guest search should return {string}")
+    public void theGuestSearchShouldReturn(String expectedNames) {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> names = searchPage.content().stream()
+            .map(guest -> guest.firstName() + " " + guest.lastName())
+            .toList();
+        assertThat(names).containsExactly(expectedNames.split(", "));
+    }
+
+    @Then("the guest search should have more results")
+    public void theGuestSearchShouldHaveMoreResults() {
+        assertThat(searchPage.hasNext()).isTrue();
+        assertThat(searchPage.nextCursor()).isNotBlank();
+    }
+
+    @Then("the guest search should have no more results")
+    public void theGuestSearchShouldHaveNoMoreResults() {
+        assertThat(searchPage.hasNext()).isFalse();
+        assertThat(searchPage.nextCursor()).isNull();
+    }
+
     @Then("the guest's contact information should be updated")
     public void theGuestsContactInformationShouldBeUpdated() {
         ResponseEntity<?> response = testContext.getLastResponse();
@@ -0,0 +1,112 @@
+package com.daboerp.gestion.acceptance.steps;
+
+import com.daboerp.gestion.acceptance.context.TestContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for bulk CSV imports of guests and past reservations.
+ */
+public class ImportSteps {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TestContext testContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String GUESTS_IMPORT_URL = "/api/v1/guests/import";
+    private static final String RESERVATIONS_IMPORT_URL = "/api/v1/reservations/import";
+    private static final String IMPORTS_URL = "/api/v1/imports/";
+
+    private static final long IMPORT_TIMEOUT_MILLIS = 10_000;
+
+    private String importId;
+
+    @When("I import guests from CSV:")
+    public void iImportGuestsFromCsv(String csv) throws Exception {
+        upload(GUESTS_IMPORT_URL, csv);
+    }
+
+    @When("I import reservations from CSV:")
+    public void iImportReservationsFromCsv(String csv) throws Exception {
+        upload(RESERVATIONS_IMPORT_URL, csv);
+    }
+
+    private void upload(String url, String csv) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        ResponseEntity<String> response = restTemplate.postForEntity(url, new HttpEntity<>(csv, headers), String.class);
+        testContext.setLastResponse(response);
+        if (response.getStatusCode() == HttpStatus.ACCEPTED) {
+            importId = objectMapper.readTree(response.getBody()).get("id").asText();
+        }
+    }
+
+    @Then("the import should be rejected with message containing {string}")
+    public void theImportShouldBeRejectedWithMessageContaining(String message) {
+        ResponseEntity<?> response = testContext.getLastResponse();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat((String) response.getBody()).contains(message);
+    }
+
+    @Then("the import should finish with {int} imported and {int} rejected rows")
+    public void theImportShouldFinishWith(int imported, int rejected) throws Exception {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+
+        JsonNode job = awaitCompletion();
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("rowsRead").asLong()).isEqualTo(imported + rejected);
+        assertThat(job.get("imported").asLong()).isEqualTo(imported);
+        assertThat(job.get("rejected").asLong()).isEqualTo(rejected);
+    }
+
+    @Then("the import rejects should list lines {string}")
+    public void theImportRejectsShouldListLines(String lines) {
+        ResponseEntity<String> response = restTemplate.getForEntity(IMPORTS_URL + importId + "/rejects", String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        List<String> rows = Arrays.stream(response.getBody().split("\r?\n"))
+            .filter(row -> !row.isEmpty())
+            .toList();
+        assertThat(rows.get(0)).startsWith("line,error,");
+        List<String> actual = new ArrayList<>();
+        for (String row : rows.subList(1, rows.size())) {
+            actual.add(row.substring(0, row.indexOf(',')));
+        }
+        assertThat(actual).containsExactly(lines.split(", "));
+    }
+
+    private JsonNode awaitCompletion() throws Exception {
+        long deadline = System.currentTimeMillis() + IMPORT_TIMEOUT_MILLIS;
+        while (true) {
+            ResponseEntity<String> response = restTemplate.getForEntity(IMPORTS_URL + importId, String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode job = objectMapper.readTree(response.getBody());
+            String status = job.get("status").asText();
+            if (status.equals("COMPLETED") || status.equals("FAILED")) {
+                return job;
+            }
+            assertThat(System.currentTimeMillis()).as("import %s still %s", importId, status).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
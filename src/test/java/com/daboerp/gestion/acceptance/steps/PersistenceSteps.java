@@ -0,0 +1,90 @@
+package com.daboerp.gestion.acceptance.steps;
+
+import com.daboerp.gestion.acceptance.config.SqlStatementLog;
+import com.daboerp.gestion.infrastructure.persistence.entity.GuestJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.entity.ReservationJpaEntity;
+import com.daboerp.gestion.infrastructure.persistence.entity.RoomJpaEntity;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions asserting which rows a save wrote, read from Hibernate's statistics,
+ * how often aggregates were hydrated, read from the identity map's metrics, and how many
+ * queries hit a table, read from {@link SqlStatementLog}.
+ */
+public class PersistenceSteps {
+
+    private static final Map<String, String> ENTITIES_BY_TABLE = Map.of(
+        "guests", GuestJpaEntity.class.getName(),
+        "rooms", RoomJpaEntity.class.getName(),
+        "reservations", ReservationJpaEntity.class.getName()
+    );
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private double rehydrationsAtStart;
+
+    @Given("I start counting database statements")
+    public void iStartCountingDatabaseStatements() {
+        statistics().clear();
+        SqlStatementLog.clear();
+        rehydrationsAtStart = rehydrations();
+    }
+
+    @Then("the {word} table should have been queried at most {int} time(s)")
+    public void theTableShouldHaveBeenQueriedAtMost(String table, int expected) {
+        assertThat(SqlStatementLog.selectsFrom(table)).as("selects from %s", table).isLessThanOrEqualTo(expected);
+    }
+
+    @Then("no collection rows should have been rewritten")
+    public void noCollectionRowsShouldHaveBeenRewritten() {
+        Statistics statistics = statistics();
+        assertThat(statistics.getCollectionRecreateCount()).as("collections recreated").isZero();
+        assertThat(statistics.getCollectionRemoveCount()).as("collections removed").isZero();
+        assertThat(statistics.getCollectionUpdateCount()).as("collections updated").isZero();
+        assertThat(statistics.getEntityDeleteCount()).as("beds deleted").isZero();
+    }
+
+    @Then("the {word} table should have received {int} update(s)")
+    public void theTableShouldHaveReceivedUpdates(String table, int expected) {
+        String entityName = ENTITIES_BY_TABLE.get(table);
+        assertThat(entityName).as("Entity mapped to table %s", table).isNotNull();
+        assertThat(statistics().getEntityStatistics(entityName).getUpdateCount()).isEqualTo(expected);
+    }
+
+    @Then("the {word} table should have been loaded {int} time(s)")
+    public void theTableShouldHaveBeenLoaded(String table, int expected) {
+        String entityName = ENTITIES_BY_TABLE.get(table);
+        assertThat(entityName).as("Entity mapped to table %s", table).isNotNull();
+        assertThat(statistics().getEntityStatistics(entityName).getLoadCount()).isEqualTo(expected);
+    }
+
+    @Then("no aggregate should have been loaded twice in one request")
+    public void noAggregateShouldHaveBeenLoadedTwiceInOneRequest() {
+        assertThat(rehydrations() - rehydrationsAtStart).isZero();
+    }
+
+    private double rehydrations() {
+        return meterRegistry.find("persistence.rehydrations").counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -12,7 +12,9 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -20,6 +22,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +39,9 @@ public class ReservationManagementSteps {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final String RESERVATIONS_API_URL = "/api/v1/reservations";
     private static final String ROOM_TYPES_API_URL = "/api/v1/room-types";
     private static final String ROOMS_API_URL = "/api/v1/rooms";
@@ -43,6 +49,7 @@ public class ReservationManagementSteps {
     
     private PaginatedResponse<ReservationResponse> paginatedReservations;
     private List<ReservationResponse> filteredReservations;
+    private final List<CursorPageResponse<ReservationResponse>> cursorPages = new ArrayList<>();
 
     @When("I create a reservation with the following details:")
     public void iCreateAReservationWithTheFollowingDetails(DataTable dataTable) {
@@ -222,6 +229,74 @@ public class ReservationManagementSteps {
         testContext.setLastResponse(response);
     }
 
+    @When("I book rooms {string} as a group from {string} to {string}")
+    public void iBookRoomsAsAGroupFromTo(String roomNumbers, String checkIn, String checkOut) {
+        String guestId = testContext.getGuestIdByEmail("guest@email.com");
+        List<GroupRoomRequest> rooms = new ArrayList<>();
+        for (String roomNumber : roomNumbers.split(",\\s*")) {
+            String roomId = testContext.getRoomIdByNumber(Integer.parseInt(roomNumber));
+            assertThat(roomId)
+                .as("Room ID should be registered for room %s", roomNumber)
+                .isNotNull();
+            rooms.add(new GroupRoomRequest(roomId, List.of()));
+        }
+
+        CreateGroupReservationRequest request = new CreateGroupReservationRequest(
+            LocalDate.parse(checkIn),
+            LocalDate.parse(checkOut),
+            Source.DIRECT,
+            guestId,
+            rooms
+        );
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+            RESERVATIONS_API_URL + "/group",
+            request,
+            String.class
+        );
+
+        testContext.setLastResponse(response);
+    }
+
+    @Then("the group booking should create reservations for rooms {string}")
+    public void theGroupBookingShouldCreateReservationsForRooms(String roomNumbers) throws Exception {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        List<ReservationResponse> reservations = objectMapper.readValue(
+            testContext.getLastResponse().getBody().toString(),
+            new TypeReference<List<ReservationResponse>>() {}
+        );
+
+        assertThat(reservations)
+            .extracting(reservation -> String.valueOf(reservation.roomNumber()))
+            .containsExactly(roomNumbers.split(",\\s*"));
+        assertThat(reservations)
+            .allSatisfy(reservation -> assertThat(reservation.status()).isEqualTo("CONFIRMED"));
+        assertThat(reservations)
+            .extracting(ReservationResponse::reservationCode)
+            .doesNotHaveDuplicates();
+    }
+
+    @Then("the group booking should be rejected for rooms {string}")
+    public void theGroupBookingShouldBeRejectedForRooms(String roomNumbers) throws Exception {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        GroupReservationConflictResponse conflict = objectMapper.readValue(
+            testContext.getLastResponse().getBody().toString(),
+            GroupReservationConflictResponse.class
+        );
+
+        assertThat(conflict.conflicts())
+            .extracting(room -> String.valueOf(room.roomNumber()))
+            .containsExactly(roomNumbers.split(",\\s*"));
+    }
+
+    @Then("room {string} should have {int} reservation(s)")
+    public void roomShouldHaveReservations(String roomNumber, int expectedCount) {
+        String roomId = testContext.getRoomIdByNumber(Integer.parseInt(roomNumber));
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reservations WHERE room_id = ?", Integer.class, roomId);
+        assertThat(count).isEqualTo(expectedCount);
+    }
+
     @Given("a confirmed reservation exists for the guest")
     public void aConfirmedReservationExistsForTheGuest() {
         GuestResponse existingGuest = testContext.getExistingGuest();
@@ -396,6 +471,101 @@ public class ReservationManagementSteps {
         }
     }
 
+    @Given("the reservation is paid in full")
+    public void theReservationIsPaidInFull() {
+        ReservationResponse reservation = testContext.getExistingReservation();
+        ResponseEntity<PaymentResponse> response = restTemplate.postForEntity(
+            RESERVATIONS_API_URL + "/" + reservation.id() + "/payments",
+            new RegisterPaymentRequest(reservation.quotedAmount(), PaymentMethod.CASH, "Test payment"),
+            PaymentResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @When("I check-in the paid reservation")
+    public void iCheckInThePaidReservation() {
+        String reservationId = testContext.getExistingReservation().id();
+
+        ResponseEntity<ReservationResponse> response = restTemplate.exchange(
+            RESERVATIONS_API_URL + "/" + reservationId + "/check-in",
+            HttpMethod.POST,
+            null,
+            ReservationResponse.class
+        );
+
+        testContext.setLastResponse(response);
+        
+        if (response.getStatusCode().is2xxSuccessful()) {
+            testContext.setCheckedInReservation(response.getBody());
+        }
+    }
+
+    @When("I check-in the reservation again")
+    public void iCheckInTheReservationAgain() {
+        String reservationId = testContext.getCheckedInReservation().id();
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            RESERVATIONS_API_URL + "/" + reservationId + "/check-in",
+            HttpMethod.POST,
+            null,
+            String.class
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @When("I cancel the reservation")
+    public void iCancelTheReservation() {
+        ReservationResponse reservation = testContext.getCheckedInReservation() != null
+            ? testContext.getCheckedInReservation()
+            : testContext.getExistingReservation();
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            RESERVATIONS_API_URL + "/" + reservation.id(),
+            HttpMethod.DELETE,
+            null,
+            String.class
+        );
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Given("a payment of {string} is registered for the reservation")
+    public void aPaymentIsRegisteredForTheReservation(String amount) {
+        iRegisterAPaymentForTheReservation(amount);
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @When("I register a payment of {string} for the reservation")
+    public void iRegisterAPaymentForTheReservation(String amount) {
+        String reservationId = testContext.getExistingReservation().id();
+        RegisterPaymentRequest paymentReq = new RegisterPaymentRequest(
+            new BigDecimal(amount),
+            PaymentMethod.CASH,
+            "Test payment"
+        );
+        ResponseEntity<String> response = restTemplate.postForEntity(
+            RESERVATIONS_API_URL + "/" + reservationId + "/payments",
+            paymentReq,
+            String.class
+        );
+        testContext.setLastResponse(response);
+    }
+
+    @When("I request balances for the reservation and an unknown reservation")
+    public void iRequestBalancesForTheReservationAndAnUnknownReservation() {
+        String url = UriComponentsBuilder.fromUriString(RESERVATIONS_API_URL + "/balances")
+            .queryParam("ids", testContext.getExistingReservation().id(), "00000000-0000-0000-0000-000000000000")
+            .toUriString();
+        ResponseEntity<List<ReservationBalanceResponse>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<ReservationBalanceResponse>>() {}
+        );
+        testContext.setLastResponse(response);
+    }
+
     @When("I check-out the reservation")
     public void iCheckOutTheReservation() {
         String reservationId = testContext.getCheckedInReservation().id();
@@ -495,9 +665,29 @@ public class ReservationManagementSteps {
     }
 
     @Then("the reservation creation event should be published")
-    public void theReservationCreationEventShouldBePublished() {
-        // This would typically check event publication through test event listeners
+    public void theReservationCreationEventShouldBePublished() throws InterruptedException {
         assertThat(testContext.getCreatedReservation()).isNotNull();
+        assertThat(outboxEventDelivered("reservation.created", testContext.getCreatedReservation().id()))
+            .as("reservation.created event should be relayed from the outbox")
+            .isTrue();
+    }
+
+    /**
+     * Wait for the outbox relay to deliver the event raised for the given aggregate.
+     */
+    private boolean outboxEventDelivered(String eventType, String aggregateId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer delivered = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM domain_event_outbox " +
+                "WHERE event_type = ? AND payload LIKE ? AND delivered_at IS NOT NULL",
+                Integer.class, eventType, "%" + aggregateId + "%");
+            if (delivered != null && delivered > 0) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
     }
 
     @Then("the reservation creation should fail")
@@ -564,6 +754,19 @@ public class ReservationManagementSteps {
         }
     }
 
+    @Then("I should receive {int} balance with total paid {string} and remaining {string}")
+    public void iShouldReceiveBalanceWithTotalPaidAndRemaining(int expectedCount, String totalPaid, String remaining) {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        @SuppressWarnings("unchecked")
+        List<ReservationBalanceResponse> balances =
+            (List<ReservationBalanceResponse>) testContext.getLastResponse().getBody();
+        assertThat(balances).hasSize(expectedCount);
+        ReservationBalanceResponse balance = balances.get(0);
+        assertThat(balance.reservationId()).isEqualTo(testContext.getExistingReservation().id());
+        assertThat(balance.totalPaid()).isEqualByComparingTo(totalPaid);
+        assertThat(balance.remainingBalance()).isEqualByComparingTo(remaining);
+    }
+
     @Then("the reservation status should be CHECKED_OUT")
     public void theReservationStatusShouldBeCHECKED_OUT() {
         ReservationResponse reservation = testContext.getCheckedOutReservation();
@@ -865,6 +1068,64 @@ public class ReservationManagementSteps {
         }
     }
     
+    @When("I page through reservations with cursor page size {int}")
+    public void iPageThroughReservationsWithCursorPageSize(int pageSize) {
+        String cursor = "";
+        do {
+            String url = UriComponentsBuilder.fromUriString(RESERVATIONS_API_URL + "/filter")
+                .queryParam("cursor", cursor)
+                .queryParam("size", pageSize)
+                .queryParam("includeTotal", true)
+                .toUriString();
+            
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            testContext.setLastResponse(response);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            
+            try {
+                CursorPageResponse<ReservationResponse> page = objectMapper.readValue(
+                    response.getBody(),
+                    new TypeReference<CursorPageResponse<ReservationResponse>>() {}
+                );
+                cursorPages.add(page);
+                cursor = page.hasNext() ? page.nextCursor() : null;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to parse cursor page", e);
+            }
+        } while (cursor != null && cursorPages.size() < 100);
+    }
+    
+    @When("I filter reservations with cursor {string}")
+    public void iFilterReservationsWithCursor(String cursor) {
+        String url = UriComponentsBuilder.fromUriString(RESERVATIONS_API_URL + "/filter")
+            .queryParam("cursor", cursor)
+            .toUriString();
+        
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        testContext.setLastResponse(response);
+    }
+    
+    @Then("I should receive {int} cursor pages with {int} reservations in total")
+    public void iShouldReceiveCursorPagesWithReservationsInTotal(int expectedPages, int expectedTotal) {
+        assertThat(cursorPages).hasSize(expectedPages);
+        List<String> ids = cursorPages.stream()
+            .flatMap(page -> page.content().stream())
+            .map(ReservationResponse::id)
+            .toList();
+        assertThat(ids).hasSize(expectedTotal).doesNotHaveDuplicates();
+        assertThat(cursorPages.get(0).totalElements()).isEqualTo((long) expectedTotal);
+        assertThat(cursorPages.get(cursorPages.size() - 1).nextCursor()).isNull();
+    }
+    
+    @Then("the cursor pages should be ordered by check-in date")
+    public void theCursorPagesShouldBeOrderedByCheckInDate() {
+        List<LocalDate> checkIns = cursorPages.stream()
+            .flatMap(page -> page.content().stream())
+            .map(ReservationResponse::checkIn)
+            .toList();
+        assertThat(checkIns).isSorted();
+    }
+    
     @Then("the response should be successful")
     public void theResponseShouldBeSuccessful() {
         assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -892,6 +1153,19 @@ public class ReservationManagementSteps {
         }
     }
     
+    @Then("returned reservation for room {int} should belong to {string}")
+    public void returnedReservationForRoomShouldBelongTo(int roomNumber, String guestName) {
+        List<ReservationResponse> reservations = filteredReservations != null ? 
+            filteredReservations : 
+            (paginatedReservations != null ? paginatedReservations.content() : testContext.getReservationList());
+        
+        assertThat(reservations)
+            .filteredOn(reservation -> reservation.roomNumber() == roomNumber)
+            .singleElement()
+            .extracting(ReservationResponse::guestPrincipalName)
+            .isEqualTo(guestName);
+    }
+    
     @Then("all returned reservations should have source {string}")
     public void allReturnedReservationsShouldHaveSource(String expectedSource) {
         List<ReservationResponse> reservations = filteredReservations != null ? 
@@ -44,14 +44,21 @@ public class RoomManagementSteps {
     private static final String ROOMS_API_URL = "/api/v1/rooms";
     private static final String GUESTS_API_URL = "/api/v1/guests";
     private static final String RESERVATIONS_API_URL = "/api/v1/reservations";
+    private static final String AMENITY_DEFINITIONS_API_URL = "/api/v1/amenity-definitions";
     
     // Map to store room type names to their IDs
     private Map<String, String> roomTypeNameToIdMap = new HashMap<>();
     
+    private List<StayQuoteResponse> stayQuotes = List.of();
+
+    private final Map<String, String> amenityDefinitionIds = new HashMap<>();
+    
     @Before
     public void setUp() {
         // Clear the room type name to ID mapping before each scenario
         roomTypeNameToIdMap.clear();
+        stayQuotes = List.of();
+        amenityDefinitionIds.clear();
     }
 
     @When("I create a room type with the following details:")
@@ -528,10 +535,113 @@ public class RoomManagementSteps {
         }
     }
 
+    @When("I change the status of the created room to {string}")
+    public void iChangeTheStatusOfTheCreatedRoomTo(String status) {
+        String roomId = testContext.getCreatedRoom().id();
+
+        ResponseEntity<RoomResponse> response = restTemplate.exchange(
+            ROOMS_API_URL + "/" + roomId,
+            HttpMethod.PUT,
+            new HttpEntity<>(new UpdateRoomStatusRequest(status)),
+            RoomResponse.class
+        );
+
+        testContext.setLastResponse(response);
+        
+        if (response.getStatusCode().is2xxSuccessful()) {
+            testContext.setExistingRoom(response.getBody());
+        }
+    }
+
+    @When("I change the base price of room type {string} to {double}")
+    public void iChangeTheBasePriceOfRoomTypeTo(String roomTypeName, double basePrice) {
+        String roomTypeId = resolveRoomTypeId(roomTypeName);
+
+        ResponseEntity<RoomTypeResponse> response = restTemplate.exchange(
+            ROOM_TYPES_API_URL + "/" + roomTypeId,
+            HttpMethod.PUT,
+            new HttpEntity<>(new UpdateRoomTypeRequest(null, null, null, BigDecimal.valueOf(basePrice))),
+            RoomTypeResponse.class
+        );
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Given("the amenity {string} is defined")
+    public void theAmenityIsDefined(String amenity) {
+        ResponseEntity<AmenityDefinitionResponse> response = restTemplate.postForEntity(
+            AMENITY_DEFINITIONS_API_URL,
+            new CreateAmenityDefinitionRequest(amenity),
+            AmenityDefinitionResponse.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        amenityDefinitionIds.put(amenity, Objects.requireNonNull(response.getBody()).id());
+    }
+
+    @When("I add the amenity {string} to room type {string}")
+    public void iAddTheAmenityToRoomType(String amenity, String roomTypeName) {
+        String roomTypeId = resolveRoomTypeId(roomTypeName);
+
+        ResponseEntity<RoomTypeAmenityResponse> response = restTemplate.postForEntity(
+            ROOM_TYPES_API_URL + "/" + roomTypeId + "/amenities",
+            new AddRoomTypeAmenityRequest(amenity),
+            RoomTypeAmenityResponse.class
+        );
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @When("I delete the amenity definition {string}")
+    public void iDeleteTheAmenityDefinition(String amenity) {
+        String definitionId = amenityDefinitionIds.get(amenity);
+        assertThat(definitionId).as("Amenity definition ID for %s", amenity).isNotNull();
+
+        ResponseEntity<Void> response = restTemplate.exchange(
+            AMENITY_DEFINITIONS_API_URL + "/" + definitionId,
+            HttpMethod.DELETE,
+            null,
+            Void.class
+        );
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @When("I change the status of room {int} to {string}")
+    public void iChangeTheStatusOfRoomTo(int roomNumber, String status) {
+        String roomId = testContext.getRoomIdByNumber(roomNumber);
+
+        ResponseEntity<RoomResponse> response = restTemplate.exchange(
+            ROOMS_API_URL + "/" + roomId,
+            HttpMethod.PUT,
+            new HttpEntity<>(new UpdateRoomStatusRequest(status)),
+            RoomResponse.class
+        );
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        testContext.setExistingRoom(response.getBody());
+    }
+
     @When("I search for available rooms from {string} to {string}")
     public void iSearchForAvailableRoomsFromTo(String checkIn, String checkOut) {
-        String url = ROOMS_API_URL + "/available?checkIn=" + checkIn + "&checkOut=" + checkOut;
-        
+        searchAvailableRooms(ROOMS_API_URL + "/available?checkIn=" + checkIn + "&checkOut=" + checkOut);
+    }
+
+    @When("I search for available rooms from {string} to {string} with {word} of the amenities {string}")
+    public void iSearchForAvailableRoomsWithAmenities(String checkIn, String checkOut, String mode, String amenities) {
+        searchAvailableRooms(ROOMS_API_URL + "/available?checkIn=" + checkIn + "&checkOut=" + checkOut
+            + "&" + mode + "Amenities=" + amenities.replace(" ", ""));
+    }
+
+    @When("I search for available rooms with {word} of the amenities {string}")
+    public void iSearchForAvailableRoomsWithAmenities(String mode, String amenities) {
+        searchAvailableRooms(ROOMS_API_URL + "/available?" + mode + "Amenities=" + amenities.replace(" ", ""));
+    }
+
+    private void searchAvailableRooms(String url) {
         ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
 
         testContext.setLastResponse(response);
@@ -714,6 +824,57 @@ public class RoomManagementSteps {
         assertThat(room.roomStatus()).isEqualTo(RoomStatus.OUT_OF_SERVICE);
     }
 
+    @Then("the room should be priced at {double}")
+    public void theRoomShouldBePricedAt(double basePrice) {
+        RoomResponse room = testContext.getExistingRoom();
+        assertThat(room.roomType().basePrice()).isEqualByComparingTo(BigDecimal.valueOf(basePrice));
+    }
+
+    @Then("the amenity should have been added to {int} rooms")
+    public void theAmenityShouldHaveBeenAddedToRooms(int expected) {
+        RoomTypeAmenityResponse body = (RoomTypeAmenityResponse) testContext.getLastResponse().getBody();
+        assertThat(Objects.requireNonNull(body).affectedRooms()).isEqualTo(expected);
+    }
+
+    @Then("the room should list the amenity {string}")
+    public void theRoomShouldListTheAmenity(String amenity) {
+        assertThat(testContext.getExistingRoom().amenities()).contains(amenity);
+    }
+
+    @Then("the room should not list the amenity {string}")
+    public void theRoomShouldNotListTheAmenity(String amenity) {
+        assertThat(testContext.getExistingRoom().amenities()).doesNotContain(amenity);
+    }
+
+    @Then("the returned rooms with the amenity {string} should be {string}")
+    public void theReturnedRoomsWithTheAmenityShouldBe(String amenity, String roomNumbers) {
+        List<Integer> expected = roomNumbers.isBlank()
+            ? List.of()
+            : List.of(roomNumbers.split(",")).stream().map(String::strip).map(Integer::parseInt).toList();
+        List<Integer> actual = testContext.getAvailableRooms().stream()
+            .filter(room -> room.amenities().contains(amenity))
+            .map(RoomResponse::roomNumber)
+            .toList();
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Then("the available rooms should be {string}")
+    public void theAvailableRoomsShouldBe(String roomNumbers) {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Integer> expected = List.of(roomNumbers.split(",")).stream()
+            .map(String::strip)
+            .map(Integer::parseInt)
+            .toList();
+        assertThat(testContext.getAvailableRooms())
+            .extracting(RoomResponse::roomNumber)
+            .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Then("the room search should be rejected as invalid")
+    public void theRoomSearchShouldBeRejectedAsInvalid() {
+        assertThat(testContext.getLastResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Then("the room should not appear in available rooms list")
     public void theRoomShouldNotAppearInAvailableRoomsList() {
         // This would be verified by calling the available rooms endpoint
@@ -737,4 +898,49 @@ public class RoomManagementSteps {
         
         assertThat(roomFound).isFalse();
     }
-}
\ No newline at end of file
+
+    @When("I request quotes for stays from {string} to {string} and from {string} to {string}")
+    public void iRequestQuotesForStays(String firstCheckIn, String firstCheckOut,
+                                       String secondCheckIn, String secondCheckOut) {
+        QuoteStaysRequest request = new QuoteStaysRequest(
+            List.of(
+                new StayRangeRequest(LocalDate.parse(firstCheckIn), LocalDate.parse(firstCheckOut)),
+                new StayRangeRequest(LocalDate.parse(secondCheckIn), LocalDate.parse(secondCheckOut))
+            ),
+            null,
+            null
+        );
+
+        ResponseEntity<String> response = restTemplate.postForEntity(ROOMS_API_URL + "/quotes", request, String.class);
+
+        testContext.setLastResponse(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        try {
+            stayQuotes = objectMapper.readValue(response.getBody(), new TypeReference<List<StayQuoteResponse>>() {});
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse quote list response", e);
+        }
+    }
+
+    @Then("I should receive {int} quotes sorted from cheapest to most expensive")
+    public void iShouldReceiveQuotesSortedFromCheapest(int count) {
+        assertThat(stayQuotes).hasSize(count);
+        assertThat(stayQuotes)
+            .extracting(StayQuoteResponse::totalPrice)
+            .isSortedAccordingTo(BigDecimal::compareTo);
+    }
+
+    @Then("the cheapest quote should be room {string} for {double}")
+    public void theCheapestQuoteShouldBeRoomFor(String roomNumber, double totalPrice) {
+        StayQuoteResponse cheapest = stayQuotes.get(0);
+        assertThat(cheapest.roomNumber()).isEqualTo(Integer.parseInt(roomNumber));
+        assertThat(cheapest.totalPrice()).isEqualByComparingTo(BigDecimal.valueOf(totalPrice));
+    }
+
+    @Then("room {string} should not be quoted from {string}")
+    public void roomShouldNotBeQuotedFrom(String roomNumber, String checkIn) {
+        assertThat(stayQuotes)
+            .noneMatch(quote -> quote.roomNumber().equals(Integer.parseInt(roomNumber))
+                && quote.checkIn().equals(LocalDate.parse(checkIn)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.daboerp.gestion.domain.availability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the combined reservation and block occupancy engine.
+ */
+class OccupancyEngineTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 8);
+
+    private OccupancyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new OccupancyEngine();
+    }
+
+    @Test
+    void shouldReportBlocksAsConflicts() {
+        // Given
+        List<OccupancyInterval> intervals = List.of(
+            block("b1", "room-1", LocalDate.of(2026, 3, 3), LocalDate.of(2026, 3, 5))
+        );
+
+        // When
+        List<OccupancyInterval> conflicts = engine.findConflicts(intervals, "room-1", FROM, TO, null);
+
+        // Then
+        assertEquals(1, conflicts.size());
+        assertEquals(OccupancyInterval.Kind.BLOCK, conflicts.get(0).kind());
+    }
+
+    @Test
+    void shouldIgnoreReservationBeingUpdated() {
+        // Given
+        List<OccupancyInterval> intervals = List.of(
+            reservation("r1", "room-1", LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4))
+        );
+
+        // When
+        List<OccupancyInterval> conflicts = engine.findConflicts(intervals, "room-1", FROM, TO, "r1");
+
+        // Then
+        assertTrue(conflicts.isEmpty());
+    }
+
+    @Test
+    void shouldCollectOccupiedRooms() {
+        // Given
+        List<OccupancyInterval> intervals = List.of(
+            reservation("r1", "room-1", LocalDate.of(2026, 2, 25), LocalDate.of(2026, 3, 1)),
+            block("b1", "room-2", LocalDate.of(2026, 3, 7), LocalDate.of(2026, 3, 10))
+        );
+
+        // When
+        Set<String> occupied = engine.occupiedRoomIds(intervals, FROM, TO);
+
+        // Then - room-1 checks out on the first day, so only room-2 is taken
+        assertEquals(Set.of("room-2"), occupied);
+    }
+
+    @Test
+    void shouldBuildMatrixInOneSweep() {
+        // Given
+        List<OccupancyInterval> intervals = List.of(
+            reservation("r1", "room-1", LocalDate.of(2026, 2, 27), LocalDate.of(2026, 3, 3)),
+            block("b1", "room-1", LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4)),
+            reservation("r2", "room-2", LocalDate.of(2026, 3, 6), LocalDate.of(2026, 3, 12))
+        );
+
+        // When
+        OccupancyMatrix matrix = engine.buildMatrix(List.of("room-1", "room-2", "room-3"), intervals, FROM, TO);
+
+        // Then
+        assertEquals(3, matrix.rows().size());
+        assertEquals(List.of(
+            NightState.RESERVED, NightState.CONFLICT, NightState.BLOCKED,
+            NightState.FREE, NightState.FREE, NightState.FREE, NightState.FREE
+        ), matrix.rows().get(0).nights());
+        assertEquals(List.of(
+            NightState.FREE, NightState.FREE, NightState.FREE,
+            NightState.FREE, NightState.FREE, NightState.RESERVED, NightState.RESERVED
+        ), matrix.rows().get(1).nights());
+        assertTrue(matrix.rows().get(2).isFree());
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.buildMatrix(List.of("room-1"), List.of(), FROM, FROM));
+    }
+
+    private static OccupancyInterval reservation(String id, String roomId, LocalDate start, LocalDate end) {
+        return new OccupancyInterval(id, roomId, start, end, OccupancyInterval.Kind.RESERVATION);
+    }
+
+    private static OccupancyInterval block(String id, String roomId, LocalDate start, LocalDate end) {
+        return new OccupancyInterval(id, roomId, start, end, OccupancyInterval.Kind.BLOCK);
+    }
+}
@@ -0,0 +1,128 @@
+package com.daboerp.gestion.domain.availability;
+
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.entity.RoomBlock;
+import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory room availability index.
+ */
+class RoomAvailabilityIndexTest {
+
+    private Guest guest;
+    private Room room;
+    private String roomId;
+    private RoomAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        guest = Guest.create("John", "Doe", "john@example.com", "+123456789",
+                             LocalDate.of(1990, 1, 1), Nationality.UNITED_STATES,
+                             "PASSPORT123", DocumentType.PASSPORT);
+        RoomType roomType = RoomType.create("Standard", "Standard Room", 2, new BigDecimal("100.00"));
+        room = Room.create(101, roomType, List.of(Amenity.of("WIFI")));
+        roomId = room.getId().getValue();
+        index = new RoomAvailabilityIndex();
+    }
+
+    @Test
+    void shouldWarmFromReservationsAndBlocks() {
+        // Given
+        Reservation reservation = reservation(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15));
+        RoomBlock block = block(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 5));
+
+        // When
+        index.rebuild(() -> List.of(reservation), () -> List.of(block));
+
+        // Then
+        assertTrue(index.isReady());
+        assertFalse(index.isFree(roomId, LocalDate.of(2026, 3, 14), LocalDate.of(2026, 3, 16)));
+        assertFalse(index.isFree(roomId, LocalDate.of(2026, 4, 4), LocalDate.of(2026, 4, 6)));
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 3, 15), LocalDate.of(2026, 4, 1)));
+    }
+
+    @Test
+    void shouldTreatCheckOutDayAsFree() {
+        // Given
+        index.record(reservation(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15)));
+
+        // Then - back-to-back stays do not conflict
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 3, 15), LocalDate.of(2026, 3, 17)));
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 3, 8), LocalDate.of(2026, 3, 10)));
+    }
+
+    @Test
+    void shouldDetectOverlapHiddenBehindShorterInterval() {
+        // Given - a long block that starts before a short reservation
+        index.record(block(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 30)));
+        index.record(reservation(LocalDate.of(2026, 5, 2), LocalDate.of(2026, 5, 3)));
+
+        // Then
+        assertFalse(index.isFree(roomId, LocalDate.of(2026, 5, 20), LocalDate.of(2026, 5, 21)));
+        assertEquals(1, index.intervalsFor(roomId, LocalDate.of(2026, 5, 20), LocalDate.of(2026, 5, 21)).size());
+    }
+
+    @Test
+    void shouldReleaseDatesWhenReservationIsCancelled() {
+        // Given
+        Reservation reservation = reservation(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15));
+        index.record(reservation);
+
+        // When
+        reservation.cancel("Guest request");
+        index.record(reservation);
+
+        // Then
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldMoveIntervalWhenReservationDatesChange() {
+        // Given
+        Reservation reservation = reservation(LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15));
+        index.record(reservation);
+
+        // When
+        reservation.updateDates(LocalDate.of(2026, 3, 20), LocalDate.of(2026, 3, 22));
+        index.record(reservation);
+
+        // Then
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15)));
+        assertFalse(index.isFree(roomId, LocalDate.of(2026, 3, 21), LocalDate.of(2026, 3, 22)));
+    }
+
+    @Test
+    void shouldReleaseDatesWhenBlockIsRemoved() {
+        // Given
+        RoomBlock block = block(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 5));
+        index.record(block);
+
+        // When
+        index.remove(block.getId());
+
+        // Then
+        assertTrue(index.isFree(roomId, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 5)));
+    }
+
+    private Reservation reservation(LocalDate checkIn, LocalDate checkOut) {
+        return Reservation.create(checkIn, checkOut, new BigDecimal("100.00"), Source.DIRECT, guest, room);
+    }
+
+    private RoomBlock block(LocalDate start, LocalDate end) {
+        return new RoomBlock(UUID.randomUUID().toString(), roomId, start, end, "Maintenance", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,123 @@
+package com.daboerp.gestion.domain.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory guest typeahead index.
+ */
+class GuestSearchIndexTest {
+
+    private GuestSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GuestSearchIndex();
+        index.rebuild(() -> List.of(
+            entry("g1", "María", "López", "maria@email.com", "X1234567"),
+            entry("g2", "Mario", "Rossi", "mario@email.com", "Y7654321"),
+            entry("g3", "Ana", "Marín", "ana.marin@email.com", "Z1112223"),
+            entry("g4", "Tomas", "Salamar", "tomas@email.com", "W9998887"),
+            entry("g5", "Peter", "Jones", null, "MAR12345")
+        ));
+    }
+
+    @Test
+    void shouldRankPrefixMatchesBeforeSubstringMatches() {
+        // When
+        List<GuestSearchHit> hits = index.search("MAR", null, 10);
+
+        // Then - field prefixes ordered by last name, then substrings
+        assertEquals(List.of("g5", "g1", "g3", "g2", "g4"), ids(hits));
+        assertEquals(3, hits.get(hits.size() - 1).rank());
+    }
+
+    @Test
+    void shouldIgnoreAccentsAndCase() {
+        assertEquals(List.of("g1"), ids(index.search("lopez", null, 10)));
+        assertEquals(List.of("g3"), ids(index.search("ANA MARIN", null, 10)));
+        assertEquals(0, index.search("ana marín", null, 10).get(0).rank());
+    }
+
+    @Test
+    void shouldMatchEmailAndDocumentNumber() {
+        assertEquals(List.of("g2"), ids(index.search("mario@", null, 10)));
+        assertEquals(List.of("g2"), ids(index.search("y7654321", null, 10)));
+        assertEquals(List.of("g4"), ids(index.search("99988", null, 10)));
+    }
+
+    @Test
+    void shouldMatchWordPrefixesForShortQueries() {
+        assertEquals(List.of("g5", "g1", "g3", "g2"), ids(index.search("ma", null, 10)));
+        assertTrue(index.search("q", null, 10).isEmpty());
+    }
+
+    @Test
+    void shouldResumeAfterCursorPosition() {
+        // Given
+        List<GuestSearchHit> firstPage = index.search("mar", null, 2);
+
+        // When
+        List<GuestSearchHit> secondPage = index.search("mar", firstPage.get(1).position(), 2);
+        List<GuestSearchHit> lastPage = index.search("mar", secondPage.get(1).position(), 2);
+
+        // Then
+        assertEquals(List.of("g5", "g1"), ids(firstPage));
+        assertEquals(List.of("g3", "g2"), ids(secondPage));
+        assertEquals(List.of("g4"), ids(lastPage));
+    }
+
+    @Test
+    void shouldReflectUpdatesAndRemovals() {
+        // When
+        index.record(entry("g2", "Mario", "Bianchi", "mario@email.com", "Y7654321"));
+        index.remove("g4");
+
+        // Then
+        assertTrue(index.search("rossi", null, 10).isEmpty());
+        assertEquals(List.of("g2"), ids(index.search("bianchi", null, 10)));
+        assertTrue(index.search("salamar", null, 10).isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void shouldStayConsistentAcrossCompaction() {
+        // Given - enough updates to leave more dead slots than live ones
+        for (int round = 0; round < 2_100; round++) {
+            for (int guest = 0; guest < 5; guest++) {
+                index.record(entry("bulk-" + guest, "Guest" + guest, "Round" + round, null, "D" + guest));
+            }
+        }
+
+        // Then
+        assertEquals(10, index.size());
+        assertEquals(List.of("bulk-3"), ids(index.search("guest3 round2099", null, 10)));
+        assertTrue(index.search("round2098", null, 10).isEmpty());
+        assertEquals(List.of("g1"), ids(index.search("lópez", null, 10)));
+    }
+
+    @Test
+    void shouldReturnNothingForBlankOrUnknownTerms() {
+        assertTrue(index.search("  ", null, 10).isEmpty());
+        assertTrue(index.search("zzz", null, 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search("mar", null, 0));
+    }
+
+    private static List<String> ids(List<GuestSearchHit> hits) {
+        List<String> ids = new ArrayList<>();
+        for (GuestSearchHit hit : hits) {
+            ids.add(hit.entry().guestId());
+        }
+        return ids;
+    }
+
+    private static GuestSearchEntry entry(String id, String firstName, String lastName, String email,
+                                          String documentNumber) {
+        return new GuestSearchEntry(id, firstName, lastName, email, documentNumber);
+    }
+}
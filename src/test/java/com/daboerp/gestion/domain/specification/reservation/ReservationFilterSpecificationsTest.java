@@ -0,0 +1,120 @@
+package com.daboerp.gestion.domain.specification.reservation;
+
+import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.Reservation;
+import com.daboerp.gestion.domain.entity.Room;
+import com.daboerp.gestion.domain.entity.RoomType;
+import com.daboerp.gestion.domain.entity.StatusType;
+import com.daboerp.gestion.domain.specification.AndSpecification;
+import com.daboerp.gestion.domain.specification.Specification;
+import com.daboerp.gestion.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for building reservation filter specifications from optional criteria.
+ */
+class ReservationFilterSpecificationsTest {
+    
+    private Reservation directReservation;
+    private Reservation phoneReservation;
+    
+    @BeforeEach
+    void setUp() {
+        Guest guest = Guest.create("John", "Doe", "john@example.com", "+123456789",
+                                 LocalDate.of(1990, 1, 1), Nationality.UNITED_STATES,
+                                 "PASSPORT123", DocumentType.PASSPORT);
+        RoomType roomType = RoomType.create("Standard", "Standard Room",
+                                           2, new BigDecimal("100.00"));
+        Room room = Room.create(101, roomType, List.of(Amenity.of("WIFI")));
+        
+        directReservation = Reservation.create(
+            LocalDate.of(2024, 6, 15), LocalDate.of(2024, 6, 18),
+            new BigDecimal("300.00"), Source.DIRECT, guest, room
+        );
+        phoneReservation = Reservation.create(
+            LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 3),
+            new BigDecimal("200.00"), Source.PHONE, guest, room
+        );
+    }
+    
+    @Test
+    void shouldReturnEmptyWhenNoFilterIsSupplied() {
+        // When
+        Optional<Specification<Reservation>> spec =
+            ReservationFilterSpecifications.of(null, null, null, null, null, null);
+        
+        // Then
+        assertTrue(spec.isEmpty());
+    }
+    
+    @Test
+    void shouldUseSingleSpecificationForSingleFilter() {
+        // When
+        Specification<Reservation> spec =
+            ReservationFilterSpecifications.of(null, Source.PHONE, null, null, null, null).orElseThrow();
+        
+        // Then
+        assertInstanceOf(SourceReservationSpecification.class, spec);
+        assertTrue(spec.isSatisfiedBy(phoneReservation));
+        assertFalse(spec.isSatisfiedBy(directReservation));
+    }
+    
+    @Test
+    void shouldCombineSuppliedFiltersWithAnd() {
+        // Given
+        StatusType status = directReservation.getStatus().getStatusType();
+        
+        // When
+        Specification<Reservation> spec = ReservationFilterSpecifications.of(
+            status, Source.DIRECT, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30), null, null
+        ).orElseThrow();
+        
+        // Then
+        assertInstanceOf(AndSpecification.class, spec);
+        assertTrue(spec.isSatisfiedBy(directReservation));
+        assertFalse(spec.isSatisfiedBy(phoneReservation));
+    }
+    
+    @Test
+    void shouldMatchOpenEndedStayWindow() {
+        // When
+        Specification<Reservation> staysAfter =
+            ReservationFilterSpecifications.of(null, null, null, null, LocalDate.of(2024, 6, 20), null).orElseThrow();
+        Specification<Reservation> staysBefore =
+            ReservationFilterSpecifications.of(null, null, null, null, null, LocalDate.of(2024, 6, 20)).orElseThrow();
+        
+        // Then
+        assertFalse(staysAfter.isSatisfiedBy(directReservation));
+        assertTrue(staysAfter.isSatisfiedBy(phoneReservation));
+        assertTrue(staysBefore.isSatisfiedBy(directReservation));
+        assertFalse(staysBefore.isSatisfiedBy(phoneReservation));
+    }
+    
+    @Test
+    void shouldUseDateRangeWhenBothStayBoundsAreSupplied() {
+        // When
+        Specification<Reservation> spec = ReservationFilterSpecifications.of(
+            null, null, null, null, LocalDate.of(2024, 6, 17), LocalDate.of(2024, 6, 30)
+        ).orElseThrow();
+        
+        // Then
+        assertInstanceOf(DateRangeReservationSpecification.class, spec);
+        assertTrue(spec.isSatisfiedBy(directReservation));
+        assertFalse(spec.isSatisfiedBy(phoneReservation));
+    }
+    
+    @Test
+    void shouldRejectCheckInWindowWithoutBounds() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> new CheckInWindowReservationSpecification(null, null));
+    }
+}
@@ -1,6 +1,7 @@
 package com.daboerp.gestion.domain.strategy.pricing;
 
 import com.daboerp.gestion.domain.entity.Guest;
+import com.daboerp.gestion.domain.entity.RateSeason;
 import com.daboerp.gestion.domain.entity.Reservation;
 import com.daboerp.gestion.domain.entity.Room;
 import com.daboerp.gestion.domain.entity.RoomType;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,9 +38,16 @@ class PricingStrategyTest {
         testRoom = Room.create(101, roomType,
                               List.of(Amenity.of("WIFI"), Amenity.of("AIR_CONDITIONING")));
         
-        // Create pricing context with all strategies
+        // Create pricing context with all strategies, peak months as recurring seasons at +25%
+        NightlyRateEngine peakEngine = new NightlyRateEngine();
+        peakEngine.replaceCalendar(RateCalendar.compile(List.of(
+            new RateSeason("summer", "Summer peak", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1),
+                           new BigDecimal("1.25"), LocalDateTime.now(), true),
+            new RateSeason("winter", "Winter peak", LocalDate.of(2024, 12, 1), LocalDate.of(2025, 2, 1),
+                           new BigDecimal("1.25"), LocalDateTime.now(), true)
+        ), 2023, 2025));
         List<PricingStrategy> strategies = List.of(
-            new PeakSeasonPricingStrategy(),
+            new SeasonalRatePricingStrategy(peakEngine),
             new LongStayPricingStrategy(), 
             new StandardPricingStrategy()
         );
@@ -99,12 +108,12 @@ class PricingStrategyTest {
         
         // Then
         assertEquals(new BigDecimal("375.00"), price); // $300 × 1.25 = $375
-        assertEquals("PeakSeasonPricing", strategyName);
+        assertEquals("SeasonalRatePricing", strategyName);
     }
     
     @Test
     void shouldPrioritizePeakSeasonOverLongStay() {
-        // Given - 10 nights in peak season (should use PeakSeason, not LongStay)
+        // Given - 10 nights in peak season (should use SeasonalRate, not LongStay)
         LocalDate checkIn = LocalDate.of(2024, 7, 15);
         LocalDate checkOut = LocalDate.of(2024, 7, 25);
         
@@ -116,6 +125,32 @@ class PricingStrategyTest {
         String strategyName = pricingContext.getApplicableStrategyName(reservation);
         
         // Then
-        assertEquals("PeakSeasonPricing", strategyName); // Higher priority wins
+        assertEquals("SeasonalRatePricing", strategyName); // Higher priority wins
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldPriceOnlySeasonalNightsAtSeasonRate() {
+        // Given - a summer season from July 1st and a stay of 2 June nights plus 2 July nights
+        NightlyRateEngine rateEngine = new NightlyRateEngine();
+        rateEngine.replaceCalendar(RateCalendar.compile(List.of(
+            new RateSeason("summer", "Summer", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1),
+                           new BigDecimal("1.25"), LocalDateTime.now())
+        )));
+        PricingContext seasonalContext = new PricingContext(List.of(
+            new SeasonalRatePricingStrategy(rateEngine),
+            new LongStayPricingStrategy(),
+            new StandardPricingStrategy()
+        ));
+        Reservation reservation = Reservation.create(LocalDate.of(2024, 6, 29), LocalDate.of(2024, 7, 3),
+                                                   new BigDecimal("400.00"),
+                                                   Source.DIRECT, testGuest, testRoom);
+        
+        // When
+        BigDecimal price = seasonalContext.calculatePrice(reservation);
+        String strategyName = seasonalContext.getApplicableStrategyName(reservation);
+        
+        // Then
+        assertEquals(new BigDecimal("450.00"), price); // 2 × $100 + 2 × $125
+        assertEquals("SeasonalRatePricing", strategyName);
+    }
+}
@@ -0,0 +1,138 @@
+package com.daboerp.gestion.domain.strategy.pricing;
+
+import com.daboerp.gestion.domain.entity.RateSeason;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the precompiled rate calendar.
+ */
+class RateCalendarTest {
+    
+    private static final BigDecimal NIGHTLY_RATE = new BigDecimal("100.00");
+    
+    private final RateCalendar calendar = RateCalendar.compile(List.of(
+        season("Winter", LocalDate.of(2024, 12, 1), LocalDate.of(2025, 2, 1), "1.25"),
+        season("Summer", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1), "1.50"),
+        season("Low", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1), "0.80")
+    ));
+    
+    @Test
+    void shouldLookUpMultiplierForNight() {
+        assertEquals(new BigDecimal("0.80"), calendar.multiplierOn(LocalDate.of(2024, 3, 1)));
+        assertEquals(new BigDecimal("1.50"), calendar.multiplierOn(LocalDate.of(2024, 8, 31)));
+        assertEquals(BigDecimal.ONE, calendar.multiplierOn(LocalDate.of(2024, 9, 1))); // end is exclusive
+        assertEquals(BigDecimal.ONE, calendar.multiplierOn(LocalDate.of(2024, 5, 15)));
+        assertEquals(new BigDecimal("1.25"), calendar.multiplierOn(LocalDate.of(2025, 1, 31)));
+    }
+    
+    @Test
+    void shouldPriceStayNightByNight() {
+        // Given - 2 nights before summer, 3 in summer
+        LocalDate checkIn = LocalDate.of(2024, 6, 29);
+        LocalDate checkOut = LocalDate.of(2024, 7, 4);
+        
+        // When
+        BigDecimal price = calendar.priceStay(NIGHTLY_RATE, checkIn, checkOut);
+        
+        // Then
+        assertEquals(0, new BigDecimal("650.00").compareTo(price)); // 2 × $100 + 3 × $150
+        assertTrue(calendar.hasSeasonalNights(checkIn, checkOut));
+    }
+    
+    @Test
+    void shouldPriceStaySpanningSeveralSeasons() {
+        // Given - all of March through all of August
+        BigDecimal price = calendar.priceStay(NIGHTLY_RATE, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 9, 1));
+        
+        // Then - 31 low nights, 91 plain nights, 62 summer nights
+        BigDecimal expected = new BigDecimal("2480.00").add(new BigDecimal("9100.00")).add(new BigDecimal("9300.00"));
+        assertEquals(0, expected.compareTo(price));
+    }
+    
+    @Test
+    void shouldNotTreatCheckOutDayAsSeasonalNight() {
+        assertFalse(calendar.hasSeasonalNights(LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 1)));
+        assertEquals(0, new BigDecimal("600.00").compareTo(
+            calendar.priceStay(NIGHTLY_RATE, LocalDate.of(2024, 6, 25), LocalDate.of(2024, 7, 1))));
+    }
+    
+    @Test
+    void shouldChargePlainRateWhenEmpty() {
+        RateCalendar empty = RateCalendar.empty();
+        
+        assertTrue(empty.isEmpty());
+        assertTrue(empty.lastSeasonEnd().isEmpty());
+        assertFalse(empty.hasSeasonalNights(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 5)));
+        assertEquals(0, new BigDecimal("400.00").compareTo(
+            empty.priceStay(NIGHTLY_RATE, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 5))));
+    }
+    
+    @Test
+    void shouldReportEndOfLastSeason() {
+        assertEquals(LocalDate.of(2025, 2, 1), calendar.lastSeasonEnd().orElseThrow());
+    }
+    
+    @Test
+    void shouldRejectOverlappingSeasons() {
+        List<RateSeason> overlapping = List.of(
+            season("Summer", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1), "1.50"),
+            season("Festival", LocalDate.of(2024, 8, 15), LocalDate.of(2024, 8, 20), "2.00")
+        );
+        
+        assertThrows(IllegalArgumentException.class, () -> RateCalendar.compile(overlapping));
+    }
+    
+    @Test
+    void shouldExpandRecurringSeasonsOverEveryYear() {
+        // Given - a winter peak spanning the turn of the year, first seeded for 2024/25
+        RateSeason winter = new RateSeason("winter", "Winter", LocalDate.of(2024, 12, 1), LocalDate.of(2025, 2, 1),
+            new BigDecimal("1.25"), LocalDateTime.now(), true);
+        
+        // When
+        RateCalendar recurring = RateCalendar.compile(List.of(winter), 2030, 2040);
+        
+        // Then
+        assertEquals(11, recurring.size());
+        assertEquals(new BigDecimal("1.25"), recurring.multiplierOn(LocalDate.of(2035, 12, 24)));
+        assertEquals(new BigDecimal("1.25"), recurring.multiplierOn(LocalDate.of(2036, 1, 31)));
+        assertEquals(BigDecimal.ONE, recurring.multiplierOn(LocalDate.of(2036, 2, 1)));
+        assertEquals(LocalDate.of(2041, 2, 1), recurring.lastSeasonEnd().orElseThrow());
+    }
+    
+    @Test
+    void shouldRejectRecurringSeasonsWithoutYears() {
+        RateSeason summer = new RateSeason("summer", "Summer", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 9, 1),
+            new BigDecimal("1.50"), LocalDateTime.now(), true);
+        
+        assertThrows(IllegalArgumentException.class, () -> RateCalendar.compile(List.of(summer)));
+        assertThrows(IllegalArgumentException.class, () -> new RateSeason("long", "Long", LocalDate.of(2024, 1, 1),
+            LocalDate.of(2025, 1, 2), BigDecimal.ONE, LocalDateTime.now(), true));
+    }
+    
+    @Test
+    void shouldSwapCalendarInEngine() {
+        // Given
+        NightlyRateEngine engine = new NightlyRateEngine();
+        LocalDate checkIn = LocalDate.of(2024, 7, 10);
+        LocalDate checkOut = LocalDate.of(2024, 7, 12);
+        assertFalse(engine.hasSeasonalNights(checkIn, checkOut));
+        
+        // When
+        engine.replaceCalendar(calendar);
+        
+        // Then
+        assertTrue(engine.hasSeasonalNights(checkIn, checkOut));
+        assertEquals(0, new BigDecimal("300.00").compareTo(engine.priceStay(NIGHTLY_RATE, checkIn, checkOut)));
+    }
+    
+    private static RateSeason season(String name, LocalDate start, LocalDate end, String multiplier) {
+        return new RateSeason(name.toLowerCase(), name, start, end, new BigDecimal(multiplier), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,109 @@
+package com.daboerp.gestion.domain.validation;
+
+import com.daboerp.gestion.domain.entity.DocumentTypeEntity;
+import com.daboerp.gestion.domain.valueobject.DocumentTypeId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for precompiled document number validation and the pattern policy.
+ */
+class DocumentNumberValidatorTest {
+    
+    @Test
+    void shouldValidateAgainstCompiledPattern() {
+        DocumentNumberValidator validator = DocumentNumberValidator.compile("^[A-Z]{1,3}[0-9]{6,9}$");
+        
+        assertTrue(validator.isValid("AB1234567"));
+        assertFalse(validator.isValid("ab-12"));
+        assertFalse(validator.isValid(" "));
+        assertFalse(validator.isValid(null));
+    }
+    
+    @Test
+    void shouldAcceptAnyNumberWithoutPatternAndRejectAllWithInvalidPattern() {
+        assertTrue(DocumentNumberValidator.compile(null).isValid("anything"));
+        assertFalse(DocumentNumberValidator.compile("[unclosed").isValid("anything"));
+    }
+    
+    @Test
+    void shouldStopCatastrophicBacktrackingWithinBudget() {
+        // Given - a legacy pattern that backtracks exponentially on a near match
+        DocumentNumberValidator validator = DocumentNumberValidator.compile("^(A+)+$");
+        String nearMatch = "A".repeat(40) + "!";
+        
+        // When / Then
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> assertFalse(validator.isValid(nearMatch)));
+        assertTrue(validator.isValid("AAAA"));
+    }
+    
+    @Test
+    void shouldRejectPathologicalPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("^(a+)+$"));
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("^([A-Z]*[0-9]*)*$"));
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("^(\\d{2,})+$"));
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("^(a)\\1$"));
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("[unclosed"));
+        assertThrows(IllegalArgumentException.class, () -> RegexPolicy.requireSafe("a".repeat(RegexPolicy.MAX_PATTERN_LENGTH + 1)));
+    }
+    
+    @Test
+    void shouldAcceptOrdinaryPatterns() {
+        assertDoesNotThrow(() -> RegexPolicy.requireSafe("^[A-Z]{1,3}[0-9]{6,9}$"));
+        assertDoesNotThrow(() -> RegexPolicy.requireSafe("^V[0-9]{6,8}$"));
+        assertDoesNotThrow(() -> RegexPolicy.requireSafe("^(\\d{3}-)+\\d{4}$"));
+        assertDoesNotThrow(() -> RegexPolicy.requireSafe("^(AB|CD)?[0-9]+$"));
+        assertDoesNotThrow(() -> RegexPolicy.requireSafe("^[()+*]+$"));
+    }
+    
+    @Test
+    void shouldReuseValidatorUntilDocumentTypeChanges() {
+        // Given
+        DocumentNumberValidatorCache cache = new DocumentNumberValidatorCache();
+        DocumentTypeId id = DocumentTypeId.generate();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        
+        // When
+        DocumentNumberValidator first = cache.validatorFor(id, updatedAt, "^[0-9]{7,10}$", null);
+        DocumentNumberValidator second = cache.validatorFor(id, updatedAt, "^[0-9]{7,10}$", null);
+        DocumentNumberValidator afterUpdate = cache.validatorFor(id, updatedAt.plusMinutes(1), "^[0-9]{8}$", null);
+        
+        // Then
+        assertSame(first, second);
+        assertNotSame(first, afterUpdate);
+        assertFalse(afterUpdate.isValid("1234567"));
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void shouldRejectNumbersLongerThanTheLimitOnlyWhenOneIsSet() {
+        String longNumber = "1".repeat(100);
+        
+        assertTrue(DocumentNumberValidator.compile("^[0-9]+$").isValid(longNumber));
+        assertFalse(DocumentNumberValidator.compile("^[0-9]+$", 12).isValid(longNumber));
+        assertTrue(DocumentNumberValidator.compile("^[0-9]+$", 12).isValid("123456789012"));
+        assertFalse(DocumentNumberValidator.compile(null, 12).isValid(longNumber));
+    }
+    
+    @Test
+    void shouldValidateWithUpdatedPatternAfterDocumentTypeUpdate() {
+        // Given
+        DocumentNumberValidatorCache cache = new DocumentNumberValidatorCache();
+        DocumentTypeEntity documentType = DocumentTypeEntity.create("DNI", "National ID", "National identification card",
+                                                                    "^[0-9]{7,10}$", true);
+        assertTrue(documentType.isValidDocumentNumber("1234567", cache));
+        
+        // When
+        documentType.updateDetails("National ID", "National identification card", "^[0-9]{8}$");
+        
+        // Then
+        assertFalse(documentType.isValidDocumentNumber("1234567", cache));
+        assertTrue(documentType.isValidDocumentNumber("12345678", cache));
+        assertThrows(IllegalArgumentException.class,
+            () -> documentType.updateDetails("National ID", "National identification card", "^([0-9]+)+$"));
+    }
+}
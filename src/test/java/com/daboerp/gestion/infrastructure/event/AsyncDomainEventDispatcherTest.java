@@ -0,0 +1,244 @@
+package com.daboerp.gestion.infrastructure.event;
+
+import com.daboerp.gestion.domain.event.BaseDomainEvent;
+import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.infrastructure.event.AsyncDomainEventDispatcher.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded asynchronous domain event dispatcher.
+ */
+class AsyncDomainEventDispatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private AsyncDomainEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void shouldDeliverEventsOfSameTypeInOrderOffTheCallerThread() throws InterruptedException {
+        // Given
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(50);
+        dispatcher = create(event -> {
+            delivered.add(((TestEvent) event).sequence);
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        }, 4, 100, OverflowPolicy.BLOCK);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(new TestEvent("OrderedEvent", i));
+        }
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+        assertEquals(50, registry.get("gestion.events.dispatch.lag").timer().count());
+        assertEquals(50, registry.get("gestion.events.handler.latency").tag("type", "OrderedEvent").timer().count());
+    }
+
+    @Test
+    void shouldDropEventsWhenQueueIsFullAndPolicyIsDrop() throws InterruptedException {
+        // Given - the single worker is stuck on the first event
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher = create(event -> {
+            started.countDown();
+            await(release);
+        }, 1, 1, OverflowPolicy.DROP);
+        dispatcher.dispatch(new TestEvent("SlowEvent", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        dispatcher.dispatch(new TestEvent("SlowEvent", 1)); // fills the queue
+        dispatcher.dispatch(new TestEvent("SlowEvent", 2)); // overflows
+
+        // Then
+        assertEquals(1, dispatcher.queueDepth());
+        assertEquals(1.0, registry.get("gestion.events.overflow").tag("outcome", "dropped").counter().count());
+        assertEquals(1.0, registry.get("gestion.events.queue.depth").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void shouldRefuseWithoutDeliveringWhenQueueIsFullAndPolicyIsSpill() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+        dispatcher = create(event -> {
+            if (((TestEvent) event).sequence == 0) {
+                started.countDown();
+                await(release);
+            }
+            delivered.add(((TestEvent) event).sequence);
+            done.countDown();
+        }, 1, 1, OverflowPolicy.SPILL);
+        dispatcher.dispatch(new TestEvent("SlowEvent", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        dispatcher.dispatch(new TestEvent("SlowEvent", 1));
+        assertThrows(AsyncDomainEventDispatcher.EventQueueFullException.class,
+            () -> dispatcher.dispatch(new TestEvent("SlowEvent", 2)));
+        release.countDown();
+
+        // Then - the refused event never ran, and never ahead of the queued one
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1), delivered);
+        assertEquals(1.0, registry.get("gestion.events.overflow").tag("outcome", "spilled").counter().count());
+    }
+
+    @Test
+    void shouldRefuseAfterBlockTimeoutWhenQueueStaysFull() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> deliveredOn = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = create(event -> {
+            if (((TestEvent) event).sequence == 0) {
+                started.countDown();
+                await(release);
+            }
+            deliveredOn.add(Thread.currentThread().getName());
+        }, 1, 1, OverflowPolicy.BLOCK);
+        dispatcher.dispatch(new TestEvent("SlowEvent", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        dispatcher.dispatch(new TestEvent("SlowEvent", 1));
+        assertThrows(AsyncDomainEventDispatcher.EventQueueFullException.class,
+            () -> dispatcher.dispatch(new TestEvent("SlowEvent", 2)));
+
+        // Then
+        assertFalse(deliveredOn.contains(Thread.currentThread().getName()));
+        assertEquals(1.0, registry.get("gestion.events.overflow").tag("outcome", "rejected").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void shouldCompleteTrackedDispatchOnlyAfterHandlerRan() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher = create(event -> {
+            await(release);
+            if (((TestEvent) event).sequence == 1) {
+                throw new IllegalStateException("boom");
+            }
+        }, 1, 10, OverflowPolicy.BLOCK);
+
+        // When
+        CompletableFuture<Void> succeeded = dispatcher.dispatchTracked(new TestEvent("TrackedEvent", 0));
+        CompletableFuture<Void> failed = dispatcher.dispatchTracked(new TestEvent("TrackedEvent", 1));
+
+        // Then
+        assertFalse(succeeded.isDone());
+        release.countDown();
+        succeeded.get(5, TimeUnit.SECONDS);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertEquals("boom", error.getCause().getMessage());
+    }
+
+    @Test
+    void shouldRefuseTrackedDispatchInsteadOfDropping() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher = create(event -> {
+            started.countDown();
+            await(release);
+        }, 1, 1, OverflowPolicy.DROP);
+        dispatcher.dispatch(new TestEvent("SlowEvent", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(new TestEvent("SlowEvent", 1));
+
+        // When / Then
+        assertThrows(AsyncDomainEventDispatcher.EventQueueFullException.class,
+            () -> dispatcher.dispatchTracked(new TestEvent("SlowEvent", 2)));
+        assertEquals(0.0, registry.get("gestion.events.overflow").tag("outcome", "dropped").counter().count());
+        assertEquals(1.0, registry.get("gestion.events.overflow").tag("outcome", "rejected").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void shouldKeepWorkingAfterHandlerFailure() throws InterruptedException {
+        // Given
+        CountDownLatch done = new CountDownLatch(1);
+        dispatcher = create(event -> {
+            if (((TestEvent) event).sequence == 0) {
+                throw new IllegalStateException("boom");
+            }
+            done.countDown();
+        }, 1, 10, OverflowPolicy.BLOCK);
+
+        // When
+        dispatcher.dispatch(new TestEvent("FailingEvent", 0));
+        dispatcher.dispatch(new TestEvent("FailingEvent", 1));
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, registry.get("gestion.events.handler.failures").tag("type", "FailingEvent").counter().count());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+            () -> create(event -> { }, 0, 10, OverflowPolicy.BLOCK));
+        assertThrows(IllegalArgumentException.class,
+            () -> create(event -> { }, 4, 2, OverflowPolicy.BLOCK));
+    }
+
+    private AsyncDomainEventDispatcher create(Consumer<DomainEvent> delivery, int workers, int capacity,
+                                              OverflowPolicy policy) {
+        return new AsyncDomainEventDispatcher(delivery, registry, workers, capacity, policy, Duration.ofMillis(50));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestEvent extends BaseDomainEvent {
+
+        private final String type;
+        private final int sequence;
+
+        private TestEvent(String type, int sequence) {
+            this.type = type;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String getEventType() {
+            return type;
+        }
+    }
+}
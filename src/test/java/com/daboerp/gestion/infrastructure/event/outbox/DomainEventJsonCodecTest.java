@@ -0,0 +1,72 @@
+package com.daboerp.gestion.infrastructure.event.outbox;
+
+import com.daboerp.gestion.domain.event.DomainEvent;
+import com.daboerp.gestion.domain.event.guest.GuestCreatedEvent;
+import com.daboerp.gestion.domain.event.reservation.ReservationCreatedEvent;
+import com.daboerp.gestion.domain.valueobject.GuestId;
+import com.daboerp.gestion.domain.valueobject.ReservationId;
+import com.daboerp.gestion.domain.valueobject.RoomId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the outbox payload encoding of domain events.
+ */
+class DomainEventJsonCodecTest {
+
+    private final DomainEventJsonCodec codec = new DomainEventJsonCodec(new ObjectMapper());
+
+    @Test
+    void shouldRoundTripReservationCreatedEvent() {
+        // Given
+        ReservationCreatedEvent event = new ReservationCreatedEvent(
+            ReservationId.generate(), "RES-001", GuestId.generate(), RoomId.generate(),
+            LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 5), new BigDecimal("200.00"));
+
+        // When
+        DomainEvent decoded = codec.decode(event.getEventType(), event.getEventId(),
+            event.getOccurredOn(), codec.encode(event));
+
+        // Then
+        ReservationCreatedEvent copy = assertInstanceOf(ReservationCreatedEvent.class, decoded);
+        assertEquals(event.getEventId(), copy.getEventId());
+        assertEquals(event.getOccurredOn(), copy.getOccurredOn());
+        assertEquals(event.getReservationId(), copy.getReservationId());
+        assertEquals("RES-001", copy.getReservationCode());
+        assertEquals(event.getGuestId(), copy.getGuestId());
+        assertEquals(event.getRoomId(), copy.getRoomId());
+        assertEquals(LocalDate.of(2026, 3, 1), copy.getCheckIn());
+        assertEquals(LocalDate.of(2026, 3, 5), copy.getCheckOut());
+        assertEquals(new BigDecimal("200.00"), copy.getQuotedAmount());
+    }
+
+    @Test
+    void shouldRoundTripGuestCreatedEventWithoutEmail() {
+        // Given
+        GuestCreatedEvent event = new GuestCreatedEvent(GuestId.generate(), null, "John", "Doe");
+
+        // When
+        DomainEvent decoded = codec.decode(event.getEventType(), event.getEventId(),
+            event.getOccurredOn(), codec.encode(event));
+
+        // Then
+        GuestCreatedEvent copy = assertInstanceOf(GuestCreatedEvent.class, decoded);
+        assertEquals(event.getGuestId(), copy.getGuestId());
+        assertNull(copy.getEmail());
+        assertEquals("John", copy.getFirstName());
+        assertEquals("Doe", copy.getLastName());
+    }
+
+    @Test
+    void shouldRejectUnknownEventType() {
+        assertThrows(IllegalArgumentException.class,
+            () -> codec.decode("room.exploded", UUID.randomUUID(), LocalDateTime.now(), "{}"));
+    }
+}
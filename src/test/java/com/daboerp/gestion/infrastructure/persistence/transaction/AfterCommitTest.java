@@ -0,0 +1,61 @@
+package com.daboerp.gestion.infrastructure.persistence.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for deferring in-memory side effects until commit.
+ */
+class AfterCommitTest {
+
+    private final List<String> applied = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRunStraightAwayWithoutTransaction() {
+        AfterCommit.run(() -> applied.add("index"));
+
+        assertEquals(List.of("index"), applied);
+    }
+
+    @Test
+    void shouldRunOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(() -> applied.add("index"));
+
+        // Then
+        assertTrue(applied.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of("index"), applied);
+    }
+
+    @Test
+    void shouldNotRunOnRollback() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(() -> applied.add("index"));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertTrue(applied.isEmpty());
+    }
+}
@@ -92,4 +92,28 @@ Feature: Document Type Management
     When I request document types with page size 5 and page number 2
     Then I should receive 5 document types
     And the response should indicate page 2 of 3 total pages
-    And the response should include pagination metadata
\ No newline at end of file
+    And the response should include pagination metadata
+
+  Scenario: Reject a document type whose pattern can backtrack catastrophically
+    When I create a document type with code "RISKY" and validation pattern "^([A-Z0-9]+)+$"
+    Then the document type creation should fail
+    And I should receive an error about the validation pattern
+
+  Scenario: Create document type with a maximum document number length
+    When I create a document type with code "SHORTID" and maximum document number length 12
+    Then the document type should be created successfully
+    And the document type should accept document numbers of at most 12 characters
+
+  Scenario: Create document type without a maximum document number length
+    When I create a document type with the following details:
+      | code            | ANYLEN              |
+      | name            | Any Length ID       |
+      | description     | No length limit     |
+      | validationRegex | ^[0-9]+$            |
+      | active          | true                |
+    Then the document type should be created successfully
+    And the document type should not limit the document number length
+
+  Scenario: Reject a non-positive maximum document number length
+    When I create a document type with code "BADLEN" and maximum document number length 0
+    Then the document type creation should fail
@@ -62,4 +62,51 @@ Feature: Guest Management
       | email | newemail@email.com |
       | phone | +1555000123        |
     Then the guest's contact information should be updated
-    And the new information should be persisted
\ No newline at end of file
+    And the new information should be persisted
+
+  Scenario: Search guests as you type with ranked cursor pages
+    Given the following guests exist:
+      | firstName | lastName | email                |
+      | Maria     | Lopez    | maria@email.com      |
+      | Mario     | Rossi    | mario@email.com      |
+      | Ana       | Marin    | ana.marin@email.com  |
+      | Tomas     | Salamar  | tomas@email.com      |
+    When I search guests for "mar" with limit 2
+    Then the guest search should return "Maria Lopez, Ana Marin"
+    And the guest search should have more results
+    When I request the next page of the guest search for "mar" with limit 2
+    Then the guest search should return "Mario Rossi, Tomas Salamar"
+    And the guest search should have no more results
+
+  Scenario: Export all guests as NDJSON
+    Given the following guests exist:
+      | firstName | lastName | email           |
+      | Alice     | Johnson  | alice@email.com |
+      | Bob       | Wilson   | bob@email.com   |
+    When I export guests as "ndjson"
+    Then the export should be a "ndjson" attachment
+    And the NDJSON export should contain 2 objects with field "documentNumber"
+
+  Scenario: Import guests from CSV, rejecting invalid and duplicate rows
+    Given a guest exists with email "existing@email.com"
+    When I import guests from CSV:
+      """
+      firstName,lastName,email,phone,dateOfBirth,nationality,documentType,documentNumber
+      Ana,Lopez,ana@email.com,+573001112233,1988-04-12,COLOMBIA,PASSPORT,PA1234567
+      Luis,Perez,existing@email.com,,1990-01-01,SPAIN,PASSPORT,PB7654321
+      Eva,Ruiz,eva@email.com,,1990-01-01,ATLANTIS,PASSPORT,PC1111111
+      "Mora, Jr.",Diaz,,,,MEXICO,NATIONAL_ID,MX12345678
+      Ines,Gil,ines@email.com,,1991-02-03,SPAIN,PASSPORT,PA1234567
+      """
+    Then the import should finish with 2 imported and 3 rejected rows
+    And the import rejects should list lines "3, 4, 6"
+    When I search guests for "lopez" with limit 5
+    Then the guest search should return "Ana Lopez"
+
+  Scenario: Reject a guest import without the required columns
+    When I import guests from CSV:
+      """
+      firstName,lastName,email
+      Ana,Lopez,ana@email.com
+      """
+    Then the import should be rejected with message containing "documentNumber"
@@ -31,6 +31,32 @@ Feature: Filter Reservations
     And I should receive 2 reservations
     And all returned reservations should have status "CONFIRMED"
 
+  Scenario: Filtered reservations are read without loading guests or rooms
+    Given the following guests exist:
+      | firstName | lastName | email                | phone         | dateOfBirth | nationality     | documentNumber | documentType |
+      | John      | Doe      | john@example.com     | +1234567890   | 1985-05-15  | UNITED_STATES  | A12345678      | PASSPORT     |
+      | Jane      | Smith    | jane@example.com     | +1234567891   | 1990-08-20  | CANADA         | B98765432      | PASSPORT     |
+    And the following room types exist:
+      | name           | description         | basePrice | maxOccupancy |
+      | Single Room P  | Single bed room P   | 100.00    | 1            |
+      | Double Room P  | Double bed room P   | 150.00    | 2            |
+    And the following rooms exist:
+      | number | roomType       | status    |
+      | 101    | Single Room P  | AVAILABLE |
+      | 102    | Double Room P  | AVAILABLE |
+    And the following reservations exist:
+      | guestEmail           | roomNumber | checkIn    | checkOut   | status      | source       | quotedAmount |
+      | john@example.com     | 101        | 2026-03-01 | 2026-03-05 | CONFIRMED   | DIRECT       | 400.00       |
+      | jane@example.com     | 102        | 2026-03-10 | 2026-03-15 | CONFIRMED   | BOOKING      | 750.00       |
+    And I start counting database statements
+    When I filter reservations by status "CONFIRMED"
+    Then I should receive 2 reservations
+    And returned reservation for room 101 should belong to "John Doe"
+    And returned reservation for room 102 should belong to "Jane Smith"
+    And the reservations table should have been loaded 0 times
+    And the guests table should have been loaded 0 times
+    And the rooms table should have been loaded 0 times
+
   Scenario: Filter reservations by status - CHECKED_IN
     Given the following guests exist:
       | firstName | lastName | email                | phone         | dateOfBirth | nationality     | documentNumber | documentType |
@@ -56,6 +82,63 @@ Feature: Filter Reservations
     And I should receive 2 reservations
     And all returned reservations should have status "CHECKED_IN"
 
+  Scenario: Page through filtered reservations with a cursor
+    Given the following guests exist:
+      | firstName | lastName | email                | phone         | dateOfBirth | nationality     | documentNumber | documentType |
+      | John      | Doe      | john@example.com     | +1234567890   | 1985-05-15  | UNITED_STATES  | A12345678      | PASSPORT     |
+      | Jane      | Smith    | jane@example.com     | +1234567891   | 1990-08-20  | CANADA         | B98765432      | PASSPORT     |
+      | Carlos    | Garcia   | carlos@example.com   | +1234567892   | 1988-03-10  | SPAIN          | C11223344      | PASSPORT     |
+    And the following room types exist:
+      | name           | description         | basePrice | maxOccupancy |
+      | Single Room 3  | Single bed room 3   | 100.00    | 1            |
+      | Double Room 3  | Double bed room 3   | 150.00    | 2            |
+    And the following rooms exist:
+      | number | roomType       | status    |
+      | 101    | Single Room 3  | AVAILABLE |
+      | 102    | Double Room 3  | AVAILABLE |
+      | 201    | Double Room 3  | AVAILABLE |
+    And the following reservations exist:
+      | guestEmail           | roomNumber | checkIn    | checkOut   | status      | source       | quotedAmount |
+      | john@example.com     | 101        | 2026-03-01 | 2026-03-05 | CONFIRMED   | DIRECT       | 400.00       |
+      | jane@example.com     | 102        | 2026-03-10 | 2026-03-15 | CONFIRMED   | BOOKING      | 750.00       |
+      | carlos@example.com   | 201        | 2026-03-08 | 2026-03-12 | CHECKED_IN  | HOSTELWORLD  | 600.00       |
+    When I page through reservations with cursor page size 2
+    Then I should receive 2 cursor pages with 3 reservations in total
+    And the cursor pages should be ordered by check-in date
+
+  Scenario: Export filtered reservations as CSV
+    Given the following guests exist:
+      | firstName | lastName | email                | phone         | dateOfBirth | nationality     | documentNumber | documentType |
+      | John      | Doe      | john@example.com     | +1234567890   | 1985-05-15  | UNITED_STATES  | A12345678      | PASSPORT     |
+      | Jane      | Smith    | jane@example.com     | +1234567891   | 1990-08-20  | CANADA         | B98765432      | PASSPORT     |
+      | Carlos    | Garcia   | carlos@example.com   | +1234567892   | 1988-03-10  | SPAIN          | C11223344      | PASSPORT     |
+    And the following room types exist:
+      | name           | description         | basePrice | maxOccupancy |
+      | Single Room 4  | Single bed room 4   | 100.00    | 1            |
+      | Double Room 4  | Double bed room 4   | 150.00    | 2            |
+    And the following rooms exist:
+      | number | roomType       | status    |
+      | 101    | Single Room 4  | AVAILABLE |
+      | 102    | Double Room 4  | AVAILABLE |
+      | 201    | Double Room 4  | AVAILABLE |
+    And the following reservations exist:
+      | guestEmail           | roomNumber | checkIn    | checkOut   | status      | source       | quotedAmount |
+      | jane@example.com     | 102        | 2026-03-10 | 2026-03-15 | CONFIRMED   | BOOKING      | 750.00       |
+      | john@example.com     | 101        | 2026-03-01 | 2026-03-05 | CONFIRMED   | DIRECT       | 400.00       |
+      | carlos@example.com   | 201        | 2026-03-08 | 2026-03-12 | CHECKED_IN  | HOSTELWORLD  | 600.00       |
+    When I export reservations with status "CONFIRMED" as "csv"
+    Then the export should be a "csv" attachment
+    And the CSV export should have columns "id,reservationCode,roomId,principalGuestId,checkIn,checkOut,nights,status,source,quotedAmount,createdAt" and 2 rows
+    And the exported reservations should have check-in dates "2026-03-01, 2026-03-10"
+
+  Scenario: Reject an unsupported export format
+    When I export reservations with status "CONFIRMED" as "xlsx"
+    Then the response should fail with status code 400
+
+  Scenario: Reject a malformed reservation cursor
+    When I filter reservations with cursor "not-a-cursor"
+    Then the response should fail with status code 400
+
   @ignore
   Scenario: Filter reservations by source - BOOKING
     Given the following reservations exist:
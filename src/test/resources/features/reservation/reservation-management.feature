@@ -31,6 +31,20 @@ Feature: Reservation Management
     And the reservation status should be CONFIRMED
     And the reservation creation event should be published
 
+  Scenario: Creating a reservation loads its guest once
+    Given a guest exists with email "identity@email.com"
+    And I start counting database statements
+    When I create a reservation with the following details:
+      | guestEmail  | identity@email.com |
+      | checkIn     | 2026-03-10         |
+      | checkOut    | 2026-03-12         |
+      | roomNumber  | 102                |
+      | totalAmount | 160.00             |
+      | source      | DIRECT             |
+    Then the reservation should be created successfully
+    And the guests table should have been loaded 1 time
+    And no aggregate should have been loaded twice in one request
+
   Scenario: Create reservation with invalid dates
     Given a guest exists with email "guest@email.com"
     When I create a reservation with check-out date before check-in date
@@ -49,6 +63,21 @@ Feature: Reservation Management
     Then the reservation creation should fail
     And I should receive an error about room availability
 
+  Scenario: Book several rooms for a group
+    Given a guest exists with email "guest@email.com"
+    When I book rooms "101, 102, 201" as a group from "2026-04-10" to "2026-04-12"
+    Then the group booking should create reservations for rooms "101, 102, 201"
+    And room "102" should have 1 reservation
+
+  Scenario: Group booking lists every unavailable room and books none
+    Given a guest exists with email "guest@email.com"
+    And room "101" is occupied from "2026-04-01" to "2026-04-05"
+    And room "201" is occupied from "2026-04-03" to "2026-04-08"
+    When I book rooms "101, 102, 201" as a group from "2026-04-04" to "2026-04-06"
+    Then the group booking should be rejected for rooms "101, 201"
+    And room "102" should have 0 reservations
+    And room "101" should have 1 reservation
+
   Scenario: Check-in a confirmed reservation
     Given a guest exists with email "checkin@email.com"
     And a confirmed reservation exists for the guest
@@ -57,6 +86,30 @@ Feature: Reservation Management
     And the check-in date should be recorded
     And the room status should be OCCUPIED
 
+  Scenario: Check-in moves the reservation and room without loading either
+    Given a guest exists with email "statements@email.com"
+    And a confirmed reservation exists for the guest
+    And the reservation is paid in full
+    And I start counting database statements
+    When I check-in the paid reservation
+    Then the reservation status should be CHECKED_IN
+    And no collection rows should have been rewritten
+    And the reservations table should have been loaded 0 times
+    And the rooms table should have been loaded 0 times
+    And the room status should be OCCUPIED
+
+  Scenario: Checking in twice is refused
+    Given a guest exists with email "twice@email.com"
+    And a checked-in reservation exists for the guest
+    When I check-in the reservation again
+    Then the response should fail with status code 409
+
+  Scenario: Cancelling a checked-in reservation frees the room
+    Given a guest exists with email "cancel@email.com"
+    And a checked-in reservation exists for the guest
+    When I cancel the reservation
+    Then the room status should be AVAILABLE
+
   Scenario: Check-out a checked-in reservation
     Given a guest exists with email "checkout@email.com"
     And a checked-in reservation exists for the guest
@@ -65,6 +118,15 @@ Feature: Reservation Management
     And the check-out date should be recorded
     And the room status should be AVAILABLE
 
+  Scenario: Get payment balances for several reservations
+    Given a guest exists with email "balance@email.com"
+    And a confirmed reservation exists for the guest
+    And a payment of "50.00" is registered for the reservation
+    When I register a payment of "200.00" for the reservation
+    Then the response should fail with status code 400
+    When I request balances for the reservation and an unknown reservation
+    Then I should receive 1 balance with total paid "50.00" and remaining "150.00"
+
   Scenario: List reservations for a date range
     Given a guest exists with email "list@email.com"
     And the following reservations exist:
@@ -80,4 +142,25 @@ Feature: Reservation Management
     Given a guest exists with email "pricing@email.com"
     When I create a reservation for 7 nights in a Single room
     Then the system should apply long stay discount
-    And the total amount should reflect the discounted price
\ No newline at end of file
+    And the total amount should reflect the discounted price
+
+  Scenario: Import past reservations from CSV
+    Given I import guests from CSV:
+      """
+      firstName,lastName,nationality,documentType,documentNumber
+      Ana,Lopez,COLOMBIA,PASSPORT,PA1234567
+      """
+    And the import should finish with 1 imported and 0 rejected rows
+    When I import reservations from CSV:
+      """
+      reservationCode,roomNumber,guestDocumentNumber,checkIn,checkOut,status,source,quotedAmount
+      RES-HIST0001,101,PA1234567,2024-03-01,2024-03-04,CHECKED_OUT,BOOKING,150.00
+      ,102,PA1234567,2024-04-10,2024-04-12,NO_SHOW,DIRECT,160.00
+      RES-HIST0003,101,PA1234567,2024-05-10,2024-05-12,CONFIRMED,DIRECT,100.00
+      RES-HIST0004,999,PA1234567,2024-06-01,2024-06-02,CANCELLED,DIRECT,0
+      RES-HIST0001,102,PA1234567,2024-07-01,2024-07-02,CANCELLED,PHONE,0
+      """
+    Then the import should finish with 2 imported and 3 rejected rows
+    And the import rejects should list lines "4, 5, 6"
+    When I export reservations with status "CHECKED_OUT" as "csv"
+    Then the exported reservations should have check-in dates "2024-03-01"
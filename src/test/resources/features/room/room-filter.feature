@@ -37,3 +37,13 @@ Feature: Room Filtering
 		When I filter rooms by status "OUT_OF_SERVICE"
 		Then I should receive 1 rooms
 		And all returned rooms should have status "OUT_OF_SERVICE"
+
+	Scenario: Listed rooms are read without loading the room aggregates
+		Given the following rooms exist:
+			| number | roomType | status    |
+			| 531    | Single   | AVAILABLE |
+			| 532    | Double   | AVAILABLE |
+		And I start counting database statements
+		When I filter rooms by status "AVAILABLE"
+		Then I should receive 2 rooms
+		And the rooms table should have been loaded 0 times
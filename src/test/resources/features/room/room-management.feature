@@ -62,6 +62,20 @@ Feature: Room Management
     Then the room status should be updated to MAINTENANCE
     And the room should not appear in available rooms list
 
+  Scenario: Changing a room's status writes only the room row
+    Given a room type "Single" exists with base price 50.00
+    And I create a room with the following details:
+      | number      | 206          |
+      | roomType    | Single       |
+      | floor       | 2            |
+      | description | Quiet room   |
+      | amenities   | WIFI, TV     |
+    And I start counting database statements
+    When I change the status of the created room to "OUT_OF_SERVICE"
+    Then the room status should be updated to MAINTENANCE
+    And no collection rows should have been rewritten
+    And the rooms table should have received 1 update
+
   Scenario: Search rooms by date availability
     Given the following rooms exist:
       | number | roomType | status    |
@@ -70,4 +84,100 @@ Feature: Room Management
     And room "301" has reservation from "2026-03-01" to "2026-03-05"
     When I search for available rooms from "2026-03-02" to "2026-03-04"
     Then I should receive only room "302"
-    And room "301" should not be included due to existing reservation
\ No newline at end of file
+    And room "301" should not be included due to existing reservation
+
+  Scenario: Quote available rooms for several date ranges
+    Given a room type "Budget" exists with base price 40.00
+    And a room type "Premium" exists with base price 90.00
+    And the following rooms exist:
+      | number | roomType | status    |
+      | 401    | Premium  | AVAILABLE |
+      | 402    | Budget   | AVAILABLE |
+    And room "402" has reservation from "2026-03-10" to "2026-03-12"
+    When I request quotes for stays from "2026-03-01" to "2026-03-03" and from "2026-03-10" to "2026-03-13"
+    Then I should receive 3 quotes sorted from cheapest to most expensive
+    And the cheapest quote should be room "402" for 80.00
+    And room "402" should not be quoted from "2026-03-10"
+
+  Scenario: Repricing a room type reprices its rooms without loading them
+    Given a room type "Single" exists with base price 50.00
+    When I create a room with the following details:
+      | number      | 207          |
+      | roomType    | Single       |
+      | floor       | 2            |
+      | description | Quiet room   |
+      | amenities   | WIFI         |
+    And I start counting database statements
+    And I change the base price of room type "Single" to 95.00
+    Then the rooms table should have been loaded 0 times
+    And the rooms table should have received 0 updates
+    When I change the status of the created room to "OUT_OF_SERVICE"
+    Then the room should be priced at 95.00
+
+  Scenario: Adding an amenity to a room type writes it to every room of the type at once
+    Given the following rooms exist:
+      | number | roomType | status    |
+      | 551    | Single   | AVAILABLE |
+      | 552    | Single   | AVAILABLE |
+      | 553    | Double   | AVAILABLE |
+    And I start counting database statements
+    When I add the amenity "BALCONY" to room type "Single"
+    Then the amenity should have been added to 2 rooms
+    And the rooms table should have been loaded 0 times
+    When I change the status of room 551 to "OUT_OF_SERVICE"
+    Then the room should list the amenity "BALCONY"
+    When I filter rooms by status "AVAILABLE"
+    Then the returned rooms with the amenity "BALCONY" should be "552"
+
+  Scenario: Deleting an amenity definition removes it from every room at once
+    Given the amenity "TERRACE" is defined
+    And the following rooms exist:
+      | number | roomType | status    |
+      | 561    | Single   | AVAILABLE |
+      | 562    | Double   | AVAILABLE |
+    And I add the amenity "TERRACE" to room type "Single"
+    And I add the amenity "TERRACE" to room type "Double"
+    And I change the status of room 561 to "OUT_OF_SERVICE"
+    And I start counting database statements
+    When I delete the amenity definition "TERRACE"
+    Then the rooms table should have been loaded 0 times
+    When I change the status of room 561 to "AVAILABLE"
+    Then the room should not list the amenity "TERRACE"
+    When I filter rooms by status "AVAILABLE"
+    Then the returned rooms with the amenity "TERRACE" should be ""
+
+  Scenario: Available rooms can be filtered by catalog amenities
+    Given the amenity "JACUZZI" is defined
+    And the amenity "FIREPLACE" is defined
+    And the following rooms exist:
+      | number | roomType | status    |
+      | 571    | Single   | AVAILABLE |
+      | 572    | Double   | AVAILABLE |
+      | 573    | Suite    | AVAILABLE |
+    And I add the amenity "JACUZZI" to room type "Single"
+    And I add the amenity "JACUZZI" to room type "Suite"
+    And I add the amenity "FIREPLACE" to room type "Double"
+    And I add the amenity "FIREPLACE" to room type "Suite"
+    And the amenity "WIFI" is defined
+    When I search for available rooms from "2027-03-01" to "2027-03-03" with all of the amenities "JACUZZI, FIREPLACE"
+    Then the available rooms should be "573"
+    When I search for available rooms from "2027-03-01" to "2027-03-03" with any of the amenities "JACUZZI"
+    Then the available rooms should be "571, 573"
+    When I search for available rooms with all of the amenities "WIFI, FIREPLACE"
+    Then the available rooms should be "572, 573"
+    When I search for available rooms with any of the amenities "HOT_TUB"
+    Then the room search should be rejected as invalid
+
+  Scenario: Listing available rooms reads each room collection in one query
+    Given the following rooms exist:
+      | number | roomType | status    |
+      | 581    | Single   | AVAILABLE |
+      | 582    | Double   | AVAILABLE |
+      | 583    | Single   | AVAILABLE |
+      | 584    | Double   | AVAILABLE |
+    And I start counting database statements
+    When I request all available rooms
+    Then I should receive 4 rooms
+    And the room_amenities table should have been queried at most 1 time
+    And the room_images table should have been queried at most 1 time
+    And the beds table should have been queried at most 1 time
@@ -79,4 +79,19 @@ CREATE TABLE IF NOT EXISTS payments (
     created_at TIMESTAMP NOT NULL,
     voided BOOLEAN NOT NULL DEFAULT FALSE,
     FOREIGN KEY (reservation_id) REFERENCES reservations(id)
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS reservation_balances (
+    reservation_id VARCHAR(255) PRIMARY KEY,
+    total_paid DECIMAL(10, 2) NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL
+);
+CREATE TABLE IF NOT EXISTS rate_seasons (
+    id VARCHAR(255) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    multiplier DECIMAL(6, 4) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);